@@ -0,0 +1,324 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+import com.vladsch.flexmark.ext.emoji.EmojiExtension;
+import com.vladsch.flexmark.html.HtmlRenderer;
+import com.vladsch.flexmark.parser.Parser;
+import com.vladsch.flexmark.util.data.MutableDataSet;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.extras.okhttp3.OkHttpConnector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.repositories.LocalRepository;
+import org.terasology.launcher.settings.Settings;
+import org.terasology.launcher.ui.ChangelogViewController;
+import org.terasology.launcher.util.FileUtils;
+import org.terasology.launcher.util.I18N;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Support for the class data sharing (CDS) archive shipped with the launcher, which spares the JVM from loading and
+ * verifying the same classes from the jars on every start.
+ * <p>
+ * At build time, a training run ({@link #main(String[])}) records the classes it loads into {@value #CLASS_LIST_FILE},
+ * which is shipped next to the launcher jar. The archive {@value #ARCHIVE_FILE} is not shipped: the JVM only maps an
+ * archive that was dumped with the same class path, so {@link #rebuildIfStale()} dumps it from the class list in the
+ * background on the first start, to be used from the next start on. The start scripts pass the archive to the JVM
+ * with {@code -XX:SharedArchiveFile} if it exists.
+ * <p>
+ * The JVM silently ignores an archive that does not match the runtime or the class path, e.g., after an update.
+ * {@link #rebuildIfStale()} detects this as well and dumps a new archive.
+ */
+final class ClassDataSharing {
+
+    static final String ARCHIVE_FILE = "launcher.jsa";
+    static final String CLASS_LIST_FILE = "launcher.classlist";
+
+    private static final Logger logger = LoggerFactory.getLogger(ClassDataSharing.class);
+
+    private static final String LAUNCHER_PACKAGE = "org/terasology/launcher/";
+    private static final long DUMP_TIMEOUT_MINUTES = 5;
+    private static final List<String> VIEWS = List.of("application", "settings", "update_dialog");
+
+    private static final Pattern FXML_IMPORT = Pattern.compile("<\\?import\\s+([\\w.]+?)(\\.\\*)?\\s*\\?>");
+    private static final Pattern FXML_ELEMENT = Pattern.compile("<([A-Z]\\w*)[\\s/>]");
+    private static final Pattern FXML_INCLUDE = Pattern.compile("<fx:include\\s[^>]*source=\"([^\"]+)\"");
+
+    private ClassDataSharing() {
+    }
+
+    /**
+     * Training run to record the classes for the archive, see {@link #train()}.
+     * <p>
+     * This is a main class of its own, as the one of the launcher is a JavaFX application, which would start JavaFX
+     * and require a display right away. Usage: {@code -XX:DumpLoadedClassList=launcher.classlist}
+     */
+    public static void main(String[] args) {
+        try {
+            train();
+        } catch (IOException e) {
+            logger.error("The class data sharing training run failed!", e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Load the classes the launcher needs on startup, for recording them with {@code -XX:DumpLoadedClassList}.
+     * <p>
+     * This needs to run without display, so it cannot start the UI. Instead, it loads all launcher classes and the
+     * JavaFX classes the views are made of, and runs the code paths of the libraries used during startup.
+     */
+    @SuppressWarnings("deprecation") // the same connector as the GitHub repository uses
+    static void train() throws IOException {
+        final List<String> classNames = launcherClassNames();
+        classNames.addAll(viewClassNames());
+        int loaded = 0;
+        for (String className : classNames) {
+            try {
+                Class.forName(className, false, ClassDataSharing.class.getClassLoader());
+                loaded++;
+            } catch (ClassNotFoundException | LinkageError e) {
+                logger.debug("Could not load {}", className, e);
+            }
+        }
+
+        final Path directory = Files.createTempDirectory("launcher-training");
+        try {
+            Settings.store(Settings.getDefault(), directory);
+            Settings.load(directory);
+            I18N.getLabel("launcher_download");
+
+            Files.writeString(directory.resolve("terasology-omega-5.3.0-stable.zip"), "");
+            Files.writeString(directory.resolve("terasology-omega-5.3.0-stable.zip.json"),
+                    "{\"changelog\": \"- fixed things\", \"timestamp\": 1700000000000}");
+            try (LocalRepository repository = new LocalRepository(directory)) {
+                repository.fetchReleases();
+            }
+        } finally {
+            FileUtils.delete(directory);
+        }
+
+        final OkHttpClient client = new OkHttpClient.Builder().build();
+        client.newCall(new Request.Builder().url("https://example.org/").build());
+        GitHubBuilder.fromEnvironment().withConnector(new OkHttpConnector(client)).build();
+        client.dispatcher().executorService().shutdown();
+
+        new ChangelogViewController();
+        final MutableDataSet options = new MutableDataSet();
+        options.set(Parser.EXTENSIONS, Arrays.asList(EmojiExtension.create()));
+        HtmlRenderer.builder(options).build().render(Parser.builder(options).build()
+                .parse("# Changes\n\n- fixed `things` :tada:\n- [more](https://terasology.org)\n"));
+
+        logger.info("Loaded {} of {} classes for the class data sharing archive.", loaded, classNames.size());
+    }
+
+    /**
+     * Start creating a new archive in the background, if there is a class list next to the launcher jar, but the
+     * archive next to it is missing or was not used by this JVM.
+     */
+    static void rebuildIfStale() {
+        final Optional<Path> libDirectory = getLibDirectory();
+        if (libDirectory.isEmpty()) {
+            return;
+        }
+        final Path classList = libDirectory.get().resolve(CLASS_LIST_FILE);
+        final Path archive = libDirectory.get().resolve(ARCHIVE_FILE);
+        final boolean archiveRequested = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .anyMatch(argument -> argument.startsWith("-XX:SharedArchiveFile="));
+        if (!isStale(classList, archive, archiveRequested, isSharingEnabled())) {
+            return;
+        }
+        logger.info("Class data sharing archive '{}' is missing or outdated, creating a new one.", archive);
+        final Thread thread = new Thread(() -> dump(classList, archive), "ClassDataSharing-dump");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * @param archiveRequested whether the JVM was started with {@code -XX:SharedArchiveFile}
+     * @param sharingEnabled   whether the JVM uses class data sharing, i.e., could map the requested archive
+     */
+    static boolean isStale(Path classList, Path archive, boolean archiveRequested, boolean sharingEnabled) {
+        if (!Files.isRegularFile(classList) || !Files.isWritable(classList.getParent())) {
+            return false;
+        }
+        // if the archive is not requested, e.g., when not started by the start scripts, we cannot tell if it is usable
+        return !Files.exists(archive) || (archiveRequested && !sharingEnabled);
+    }
+
+    private static boolean isSharingEnabled() {
+        final HotSpotDiagnosticMXBean hotSpot = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        return hotSpot != null && Boolean.parseBoolean(hotSpot.getVMOption("UseSharedSpaces").getValue());
+    }
+
+    private static void dump(Path classList, Path archive) {
+        final Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        try {
+            final Path tempArchive = Files.createTempFile(archive.getParent(), ARCHIVE_FILE, ".tmp");
+            final Process process = new ProcessBuilder(java.toString(),
+                    "-Xshare:dump",
+                    "-XX:SharedClassListFile=" + classList,
+                    "-XX:SharedArchiveFile=" + tempArchive,
+                    "-cp", System.getProperty("java.class.path"))
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (process.waitFor(DUMP_TIMEOUT_MINUTES, TimeUnit.MINUTES) && process.exitValue() == 0) {
+                Files.move(tempArchive, archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                logger.info("Created class data sharing archive '{}' for faster startup.", archive);
+            } else {
+                process.destroyForcibly();
+                Files.deleteIfExists(tempArchive);
+                logger.warn("Could not create class data sharing archive '{}'.", archive);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not create class data sharing archive '{}'.", archive, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The directory of the launcher jar, if the launcher runs from a jar.
+     */
+    private static Optional<Path> getLibDirectory() {
+        try {
+            final Path location = getCodeLocation();
+            return Files.isRegularFile(location) ? Optional.of(location.getParent()) : Optional.empty();
+        } catch (IOException | SecurityException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The jar or class directory the launcher classes are loaded from.
+     */
+    private static Path getCodeLocation() throws IOException {
+        try {
+            return Paths.get(ClassDataSharing.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static List<String> launcherClassNames() throws IOException {
+        final Path location = getCodeLocation();
+        final List<String> classNames = new ArrayList<>();
+        if (Files.isDirectory(location)) {
+            try (Stream<Path> files = Files.walk(location)) {
+                files.map(file -> location.relativize(file).toString().replace('\\', '/'))
+                        .filter(ClassDataSharing::isLauncherClass)
+                        .map(ClassDataSharing::toClassName)
+                        .forEach(classNames::add);
+            }
+        } else {
+            try (JarFile jar = new JarFile(location.toFile())) {
+                final Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    final String name = entries.nextElement().getName();
+                    if (isLauncherClass(name)) {
+                        classNames.add(toClassName(name));
+                    }
+                }
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * The classes of the elements in the views, and the views they include. Elements imported with a wildcard are
+     * looked up in the imported packages.
+     */
+    private static Set<String> viewClassNames() throws IOException {
+        final Set<String> classNames = new LinkedHashSet<>();
+        final Set<URL> visited = new HashSet<>();
+        final Deque<URL> views = new ArrayDeque<>();
+        for (String view : VIEWS) {
+            views.add(I18N.getFXMLUrl(view));
+        }
+        while (!views.isEmpty()) {
+            final URL view = views.remove();
+            if (view == null || !visited.add(view)) {
+                continue;
+            }
+            final String content;
+            try (InputStream in = view.openStream()) {
+                content = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            final Map<String, String> imports = new HashMap<>();
+            final List<String> packages = new ArrayList<>();
+            final Matcher importMatcher = FXML_IMPORT.matcher(content);
+            while (importMatcher.find()) {
+                final String name = importMatcher.group(1);
+                if (importMatcher.group(2) != null) {
+                    packages.add(name);
+                } else {
+                    imports.put(name.substring(name.lastIndexOf('.') + 1), name);
+                    classNames.add(name);
+                }
+            }
+            final Matcher elementMatcher = FXML_ELEMENT.matcher(content);
+            while (elementMatcher.find()) {
+                final String element = elementMatcher.group(1);
+                if (!imports.containsKey(element)) {
+                    packages.stream()
+                            .map(pkg -> pkg + '.' + element)
+                            .filter(ClassDataSharing::exists)
+                            .findFirst()
+                            .ifPresent(classNames::add);
+                }
+            }
+            final Matcher includeMatcher = FXML_INCLUDE.matcher(content);
+            while (includeMatcher.find()) {
+                views.add(new URL(view, includeMatcher.group(1)));
+            }
+        }
+        return classNames;
+    }
+
+    private static boolean exists(String className) {
+        return ClassDataSharing.class.getClassLoader().getResource(className.replace('.', '/') + ".class") != null;
+    }
+
+    private static boolean isLauncherClass(String path) {
+        return path.startsWith(LAUNCHER_PACKAGE) && path.endsWith(".class") && !path.endsWith("module-info.class");
+    }
+
+    private static String toClassName(String path) {
+        return path.substring(0, path.length() - ".class".length()).replace('/', '.');
+    }
+}
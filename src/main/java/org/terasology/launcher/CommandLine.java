@@ -0,0 +1,649 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.game.GameManager;
+import org.terasology.launcher.game.GameService;
+import org.terasology.launcher.game.GameVersionNotSupportedException;
+import org.terasology.launcher.game.LaunchMode;
+import org.terasology.launcher.jre.JreManager;
+import org.terasology.launcher.model.Build;
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.model.Profile;
+import org.terasology.launcher.platform.Platform;
+import org.terasology.launcher.platform.UnsupportedPlatformException;
+import org.terasology.launcher.remote.DownloadException;
+import org.terasology.launcher.repositories.ReleaseRepository;
+import org.terasology.launcher.settings.LauncherSettingsValidator;
+import org.terasology.launcher.settings.Settings;
+import org.terasology.launcher.tasks.ProgressListener;
+import org.terasology.launcher.util.FileUtils;
+import org.terasology.launcher.util.LauncherDirectoryUtils;
+import org.terasology.launcher.util.LauncherManagedDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Headless mode of the launcher for scripted provisioning, which needs neither JavaFX nor a display.
+ * <p>
+ * Usage: {@code <command> [--json] [options] [<release>...]}, with the commands
+ * <ul>
+ *     <li>{@code list [--installed]}: the available releases, and whether they are installed</li>
+ *     <li>{@code install [--parallel=<n>] <release>...}: download and install releases, n at a time</li>
+ *     <li>{@code verify [<release>...]}: check that installed games are complete, all of them by default</li>
+ *     <li>{@code prune [--keep=<n>] [--dry-run]}: remove all but the newest n installed games of each profile and
+ *     build, and the last played one</li>
+ *     <li>{@code launch [--server] [--wait] <release>}: start an installed game with the launcher settings</li>
+ * </ul>
+ * Releases are given as {@code <profile>:<build>:<version>}, e.g., {@code omega:stable:5.3.0}, or as
+ * {@code <profile>:<build>} for the newest one. The results are written to standard output, as JSON with
+ * {@code --json}, while the log goes to standard error. The exit code is {@value #OK} on success, {@value #FAILED} if
+ * anything failed, and {@value #USAGE} for wrong usage.
+ * <p>
+ * This is a main class of its own, started with the {@code -cli} scripts, as the Java launcher starts JavaFX, which
+ * needs a display, before it runs the main method of a JavaFX application like {@link TerasologyLauncher}.
+ */
+public final class CommandLine {
+
+    static final int OK = 0;
+    static final int FAILED = 1;
+    static final int USAGE = 2;
+
+    static final String JSON = "json";
+    static final String INSTALLED = "installed";
+    static final String PARALLEL = "parallel";
+    static final String KEEP = "keep";
+    static final String DRY_RUN = "dry-run";
+    static final String SERVER = "server";
+    static final String WAIT = "wait";
+
+    private static final String USAGE_TEXT = String.join(System.lineSeparator(),
+            "Usage: <command> [--json] [options] [<release>...]",
+            "  list [--installed]",
+            "  install [--parallel=<n>] <release>...",
+            "  verify [<release>...]",
+            "  prune [--keep=<n>] [--dry-run]",
+            "  launch [--server] [--wait] <release>",
+            "Releases are given as <profile>:<build>[:<version>], e.g., omega:stable:5.3.0.");
+
+    private static final Set<String> COMMANDS = Set.of("list", "install", "verify", "prune", "launch");
+    private static final Set<String> OPTIONS = Set.of(JSON, INSTALLED, PARALLEL, KEEP, DRY_RUN, SERVER, WAIT);
+    private static final int DEFAULT_PARALLEL_INSTALLS = 2;
+    private static final int DEFAULT_KEEP = 1;
+
+    private final Settings settings;
+    private final GameManager gameManager;
+    private final Supplier<List<GameRelease>> releases;
+    private final Supplier<GameService> gameService;
+    private final PrintStream out;
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    /**
+     * @param settings    the launcher settings, used to start games
+     * @param gameManager manages the installed games
+     * @param releases    fetches the available releases, when needed
+     * @param gameService starts games, created when needed
+     * @param out         where to write the results to
+     */
+    CommandLine(Settings settings, GameManager gameManager, Supplier<List<GameRelease>> releases,
+                Supplier<GameService> gameService, PrintStream out) {
+        this.settings = settings;
+        this.gameManager = gameManager;
+        this.releases = releases;
+        this.gameService = gameService;
+        this.out = out;
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(Arrays.asList(args)));
+    }
+
+    /**
+     * Whether the arguments start with a known command.
+     */
+    static boolean isCommand(List<String> arguments) {
+        return !arguments.isEmpty() && COMMANDS.contains(arguments.get(0));
+    }
+
+    /**
+     * Run the command given by the arguments with the directories and settings of this launcher installation.
+     *
+     * @return the exit code
+     */
+    static int run(List<String> arguments) {
+        // keep standard output for the results, and let the log go to standard error instead;
+        // this must come before the first use of the logger, as setting up the logging may print to standard output
+        final PrintStream out = System.out;
+        System.setOut(System.err);
+
+        final Command command;
+        try {
+            command = Command.parse(arguments);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE_TEXT);
+            return USAGE;
+        }
+        try {
+            return create(out).execute(command);
+        } catch (IOException | UnsupportedPlatformException e) {
+            Log.logger.error("The launcher could not be set up!", e);
+            return FAILED;
+        }
+    }
+
+    private static CommandLine create(PrintStream out) throws IOException, UnsupportedPlatformException {
+        final Platform platform = Platform.getPlatform();
+        final Path launcherDirectory = LauncherDirectoryUtils.getApplicationDirectory(
+                platform, LauncherDirectoryUtils.LAUNCHER_APPLICATION_DIR_NAME);
+        FileUtils.ensureWritableDir(launcherDirectory);
+        final Path cacheDirectory = prepare(LauncherManagedDirectory.CACHE, launcherDirectory);
+        final Path gameDirectory =
+                prepare(LauncherManagedDirectory.GAMES, LauncherDirectoryUtils.getInstallationDirectory());
+
+        final Settings settings = Optional.ofNullable(Settings.load(launcherDirectory)).orElse(Settings.getDefault());
+        LauncherSettingsValidator.validate(settings);
+        settings.gameDirectory.set(gameDirectory);
+        if (settings.gameDataDirectory.get() == null) {
+            settings.gameDataDirectory.set(LauncherDirectoryUtils.getGameDataDirectory(platform));
+        }
+        FileUtils.ensureWritableDir(settings.gameDataDirectory.get());
+
+        final Supplier<List<GameRelease>> releases = Suppliers.memoize(() -> {
+            final var client = new OkHttpClient.Builder()
+                    .cache(new Cache(cacheDirectory.toFile(), 10L * 1024L * 1024L /*10 MiB*/))
+                    .callTimeout(10, TimeUnit.SECONDS)
+                    .build();
+            final ReleaseRepository repository = LauncherInitTask.getReleaseRepository(client,
+                    settings.releaseMirror.get(), settings.localReleaseDirectory.get());
+            try {
+                return repository.fetchReleases();
+            } finally {
+                if (repository instanceof Closeable) {
+                    try {
+                        ((Closeable) repository).close();
+                    } catch (IOException e) {
+                        Log.logger.debug("Could not close the release repository", e);
+                    }
+                }
+            }
+        });
+        final Supplier<GameService> gameService = Suppliers.memoize(() -> {
+            final JreManager jreManager = JreManager.create(platform, launcherDirectory, cacheDirectory);
+            jreManager.discover();
+            final GameService service = new GameService();
+            service.setJreManager(jreManager);
+            service.setCacheDirectory(cacheDirectory);
+            return service;
+        });
+        // no JavaFX application thread to change the installed games on
+        final GameManager gameManager = new GameManager(cacheDirectory, gameDirectory, Runnable::run);
+        return new CommandLine(settings, gameManager, releases, gameService, out);
+    }
+
+    private static Path prepare(LauncherManagedDirectory directoryType, Path parent) throws IOException {
+        final Path directory = directoryType.getDirectoryPath(parent);
+        for (var creator : directoryType.getCreators()) {
+            creator.apply(directory);
+        }
+        return directory;
+    }
+
+    /**
+     * Run the given command, and write its results.
+     *
+     * @return the exit code
+     */
+    int execute(Command command) {
+        final List<Entry> entries;
+        switch (command.name) {
+            case "list":
+                entries = list(command.has(INSTALLED));
+                break;
+            case "install":
+                entries = install(command.selectors, command.getInt(PARALLEL, DEFAULT_PARALLEL_INSTALLS));
+                break;
+            case "verify":
+                entries = verify(command.selectors);
+                break;
+            case "prune":
+                entries = prune(command.getInt(KEEP, DEFAULT_KEEP), command.has(DRY_RUN));
+                break;
+            case "launch":
+                entries = List.of(launch(command.selectors.get(0),
+                        command.has(SERVER) ? LaunchMode.SERVER : LaunchMode.CLIENT, command.has(WAIT)));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown command " + command.name);
+        }
+        if (command.has(JSON)) {
+            out.println(gson.toJson(entries));
+        } else {
+            entries.forEach(out::println);
+        }
+        out.flush();
+        return entries.stream().anyMatch(entry -> entry.error != null) ? FAILED : OK;
+    }
+
+    private List<Entry> list(boolean installedOnly) {
+        final Set<GameIdentifier> installed = Set.copyOf(gameManager.getInstalledGames());
+        final Map<GameIdentifier, Entry> entries = new LinkedHashMap<>();
+        if (!installedOnly) {
+            releases.get().stream()
+                    .sorted(Comparator.comparing((GameRelease release) -> release.getId().getProfile())
+                            .thenComparing(release -> release.getId().getBuild())
+                            .thenComparing(GameRelease::getTimestamp, Comparator.reverseOrder()))
+                    .forEach(release -> entries.putIfAbsent(release.getId(),
+                            new Entry(release.getId()).installed(installed.contains(release.getId()))));
+        }
+        // games that are installed, but not available (anymore), e.g., when offline
+        installed.stream()
+                .filter(id -> !entries.containsKey(id))
+                .sorted(Comparator.comparing(GameIdentifier::getProfile)
+                        .thenComparing(GameIdentifier::getBuild)
+                        .thenComparing(gameManager::getInstallationDate, Comparator.reverseOrder()))
+                .forEach(id -> entries.put(id, new Entry(id).installed(true)));
+        entries.values().stream()
+                .filter(entry -> entry.installed)
+                .forEach(entry -> entry.path = gameManager.getInstallDirectory(entry.getId()).toString());
+        return new ArrayList<>(entries.values());
+    }
+
+    private List<Entry> install(List<Selector> selectors, int parallel) {
+        final List<GameRelease> catalog = releases.get();
+        final Set<GameIdentifier> installed = Set.copyOf(gameManager.getInstalledGames());
+        final List<Entry> entries = new ArrayList<>();
+        // the same release may be asked for twice, e.g., by version and as the newest one, but must be installed once
+        final Map<GameIdentifier, GameRelease> toInstall = new LinkedHashMap<>();
+        for (Selector selector : selectors) {
+            final Optional<GameRelease> release = catalog.stream()
+                    .filter(candidate -> selector.matches(candidate.getId()))
+                    .max(Comparator.comparing(GameRelease::getTimestamp));
+            if (release.isEmpty()) {
+                entries.add(new Entry(selector).failed("No such release"));
+            } else if (installed.contains(release.get().getId())) {
+                entries.add(new Entry(release.get().getId()).status("already installed"));
+            } else {
+                toInstall.putIfAbsent(release.get().getId(), release.get());
+            }
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(parallel, new ThreadFactoryBuilder()
+                .setNameFormat("CommandLine-install-%d")
+                .setDaemon(true)
+                .build());
+        try {
+            final Map<GameRelease, Future<Entry>> installs = new LinkedHashMap<>();
+            toInstall.values().forEach(release -> installs.put(release, executor.submit(() -> install(release))));
+            installs.forEach((release, install) -> entries.add(await(release, install)));
+        } finally {
+            executor.shutdownNow();
+        }
+        return entries;
+    }
+
+    private static Entry await(GameRelease release, Future<Entry> install) {
+        try {
+            return install.get();
+        } catch (ExecutionException e) {
+            Log.logger.warn("Could not install {}", release.getId(), e.getCause());
+            return new Entry(release.getId()).failed(e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Entry(release.getId()).failed("Interrupted");
+        }
+    }
+
+    private Entry install(GameRelease release) {
+        final Entry entry = new Entry(release.getId());
+        try {
+            Log.logger.info("Installing {} ...", release.getId());
+            gameManager.install(release, new LoggingProgress(release.getId()));
+            entry.path = gameManager.getInstallDirectory(release.getId()).toString();
+            return entry.installed(true);
+        } catch (IOException | DownloadException e) {
+            Log.logger.warn("Could not install {}", release.getId(), e);
+            return entry.failed(e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return entry.failed("Interrupted");
+        }
+    }
+
+    private List<Entry> verify(List<Selector> selectors) {
+        final List<Entry> entries = new ArrayList<>();
+        final Set<GameIdentifier> games = new LinkedHashSet<>();
+        if (selectors.isEmpty()) {
+            games.addAll(gameManager.getInstalledGames());
+        }
+        for (Selector selector : selectors) {
+            final Optional<GameIdentifier> game = findInstalled(selector);
+            if (game.isPresent()) {
+                games.add(game.get());
+            } else {
+                entries.add(new Entry(selector).failed("Not installed"));
+            }
+        }
+        for (GameIdentifier game : games) {
+            final Entry entry = new Entry(game).installed(true);
+            entry.path = gameManager.getInstallDirectory(game).toString();
+            try {
+                gameManager.verify(game);
+                entries.add(entry.status("ok"));
+            } catch (IOException e) {
+                Log.logger.warn("Installation of {} is damaged", game, e);
+                entries.add(entry.status("damaged").failed(e.getMessage()));
+            }
+        }
+        return entries;
+    }
+
+    private List<Entry> prune(int keep, boolean dryRun) {
+        final Map<GameIdentifier, Long> installationTimes = gameManager.getInstalledGames().stream()
+                .collect(Collectors.toMap(Function.identity(), id -> gameManager.getInstallationDate(id).getTime()));
+        final Set<GameIdentifier> toRemove =
+                selectToPrune(installationTimes, keep, settings.lastPlayedGameVersion.get());
+
+        final List<GameIdentifier> games = installationTimes.keySet().stream()
+                .sorted(Comparator.comparing(GameIdentifier::getProfile)
+                        .thenComparing(GameIdentifier::getBuild)
+                        .thenComparing(installationTimes::get, Comparator.reverseOrder()))
+                .collect(Collectors.toList());
+        final List<Entry> entries = new ArrayList<>();
+        for (GameIdentifier game : games) {
+            final Entry entry = new Entry(game).installed(true);
+            entry.path = gameManager.getInstallDirectory(game).toString();
+            if (!toRemove.contains(game)) {
+                entries.add(entry.status("kept"));
+            } else if (dryRun) {
+                entries.add(entry.status("to remove"));
+            } else {
+                try {
+                    gameManager.remove(game);
+                    entries.add(entry.installed(false).status("removed"));
+                } catch (IOException e) {
+                    Log.logger.warn("Could not remove {}", game, e);
+                    entries.add(entry.failed(e.toString()));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * The games to remove so that only the newest installed ones of each profile and build are left, and the last
+     * played one.
+     *
+     * @param installationTimes when each installed game was installed, in milliseconds since the epoch
+     * @param keep              how many games to keep of each profile and build
+     * @param lastPlayed        the game to keep in any case, or null
+     */
+    static Set<GameIdentifier> selectToPrune(Map<GameIdentifier, Long> installationTimes, int keep,
+                                             GameIdentifier lastPlayed) {
+        final Map<String, List<GameIdentifier>> lines = new HashMap<>();
+        installationTimes.keySet().forEach(game ->
+                lines.computeIfAbsent(game.getProfile() + ":" + game.getBuild(), line -> new ArrayList<>()).add(game));
+        return lines.values().stream()
+                .flatMap(games -> games.stream()
+                        .sorted(Comparator.comparing(installationTimes::get, Comparator.reverseOrder()))
+                        .skip(keep))
+                .filter(game -> !game.equals(lastPlayed))
+                .collect(Collectors.toSet());
+    }
+
+    private Entry launch(Selector selector, LaunchMode mode, boolean wait) {
+        final Optional<GameIdentifier> game = findInstalled(selector);
+        if (game.isEmpty()) {
+            return new Entry(selector).failed("Not installed");
+        }
+        final Entry entry = new Entry(game.get()).installed(true);
+        entry.path = gameManager.getInstallDirectory(game.get()).toString();
+        try {
+            final Process process =
+                    gameService.get().startDetached(gameManager.getInstallation(game.get()), settings, mode);
+            entry.pid = process.pid();
+            if (!wait) {
+                return entry.status("started");
+            }
+            entry.exitValue = process.waitFor();
+            entry.status("exited");
+            return entry.exitValue == 0 ? entry : entry.failed("Exited with code " + entry.exitValue);
+        } catch (IOException | GameVersionNotSupportedException e) {
+            Log.logger.warn("Could not start {}", game.get(), e);
+            return entry.failed(e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return entry.failed("Interrupted");
+        }
+    }
+
+    private Optional<GameIdentifier> findInstalled(Selector selector) {
+        return gameManager.getInstalledGames().stream()
+                .filter(selector::matches)
+                .max(Comparator.comparing(gameManager::getInstallationDate));
+    }
+
+    /**
+     * A parsed command line.
+     */
+    static final class Command {
+        final String name;
+        final Map<String, String> options;
+        final List<Selector> selectors;
+
+        private Command(String name, Map<String, String> options, List<Selector> selectors) {
+            this.name = name;
+            this.options = options;
+            this.selectors = selectors;
+        }
+
+        /**
+         * @throws IllegalArgumentException describing what is wrong with the arguments
+         */
+        static Command parse(List<String> arguments) {
+            if (!isCommand(arguments)) {
+                throw new IllegalArgumentException("Unknown command: " + String.join(" ", arguments));
+            }
+            final Map<String, String> options = new HashMap<>();
+            final List<Selector> selectors = new ArrayList<>();
+            for (String argument : arguments.subList(1, arguments.size())) {
+                if (argument.startsWith("--")) {
+                    final String[] option = argument.substring(2).split("=", 2);
+                    if (!OPTIONS.contains(option[0])) {
+                        throw new IllegalArgumentException("Unknown option: " + argument);
+                    }
+                    options.put(option[0], option.length > 1 ? option[1] : "");
+                } else {
+                    selectors.add(Selector.parse(argument));
+                }
+            }
+            final Command command = new Command(arguments.get(0), options, selectors);
+            if (command.name.equals("install") && selectors.isEmpty()) {
+                throw new IllegalArgumentException("No release to install");
+            }
+            if (command.name.equals("launch") && selectors.size() != 1) {
+                throw new IllegalArgumentException("Exactly one release to launch expected");
+            }
+            if ((command.name.equals("list") || command.name.equals("prune")) && !selectors.isEmpty()) {
+                throw new IllegalArgumentException("No releases expected: " + selectors);
+            }
+            if (command.getInt(PARALLEL, DEFAULT_PARALLEL_INSTALLS) < 1 || command.getInt(KEEP, DEFAULT_KEEP) < 0) {
+                throw new IllegalArgumentException("Out of range: " + options);
+            }
+            return command;
+        }
+
+        boolean has(String option) {
+            return options.containsKey(option);
+        }
+
+        /**
+         * @throws NumberFormatException if the option is not a number
+         */
+        int getInt(String option, int defaultValue) {
+            return options.containsKey(option) ? Integer.parseInt(options.get(option)) : defaultValue;
+        }
+    }
+
+    /**
+     * Selects a release by profile, build, and optionally version, like {@code omega:stable:5.3.0}.
+     */
+    static final class Selector {
+        final Profile profile;
+        final Build build;
+        final String version;
+
+        private Selector(Profile profile, Build build, String version) {
+            this.profile = profile;
+            this.build = build;
+            this.version = version;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the profile or build is unknown, or something else is missing
+         */
+        static Selector parse(String spec) {
+            final String[] parts = spec.split(":", 3);
+            if (parts.length < 2) {
+                throw new IllegalArgumentException("Expected <profile>:<build>[:<version>] instead of " + spec);
+            }
+            return new Selector(Profile.valueOf(parts[0].toUpperCase(Locale.ROOT)),
+                    Build.valueOf(parts[1].toUpperCase(Locale.ROOT)), parts.length > 2 ? parts[2] : null);
+        }
+
+        boolean matches(GameIdentifier id) {
+            return id.getProfile() == profile && id.getBuild() == build
+                    && (version == null || version.equals(id.getDisplayVersion()));
+        }
+
+        @Override
+        public String toString() {
+            return Joiner.on(':').skipNulls().join(profile, build, version);
+        }
+    }
+
+    /**
+     * One line of the results, written as JSON with {@code --json}. Fields that do not apply are left out.
+     */
+    static final class Entry {
+        Profile profile;
+        Build build;
+        String version;
+        boolean installed;
+        String path;
+        String status;
+        Long pid;
+        Integer exitValue;
+        String error;
+
+        Entry(GameIdentifier id) {
+            profile = id.getProfile();
+            build = id.getBuild();
+            version = id.getDisplayVersion();
+        }
+
+        Entry(Selector selector) {
+            profile = selector.profile;
+            build = selector.build;
+            version = selector.version;
+        }
+
+        GameIdentifier getId() {
+            return new GameIdentifier(version, build, profile);
+        }
+
+        Entry installed(boolean isInstalled) {
+            installed = isInstalled;
+            return this;
+        }
+
+        Entry status(String newStatus) {
+            status = newStatus;
+            return this;
+        }
+
+        Entry failed(String message) {
+            if (status == null) {
+                status = "failed";
+            }
+            error = message;
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return Joiner.on("  ").skipNulls().join(Joiner.on(':').skipNulls().join(profile, build, version),
+                    installed ? "installed" : null, status, pid != null ? "pid " + pid : null,
+                    exitValue != null ? "exit code " + exitValue : null, path, error);
+        }
+    }
+
+    /**
+     * Logs the progress of an install in steps of ten percent.
+     */
+    private static final class LoggingProgress implements ProgressListener {
+        private final GameIdentifier game;
+        private int logged = -1;
+
+        LoggingProgress(GameIdentifier game) {
+            this.game = game;
+        }
+
+        @Override
+        public void update() {
+        }
+
+        @Override
+        public synchronized void update(int progress) {
+            if (progress / 10 > logged) {
+                logged = progress / 10;
+                Log.logger.info("Downloading {}: {}%", game, progress);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    }
+
+    /**
+     * Holds the logger, so that the logging is only set up when it is first used, after standard output was redirected.
+     */
+    private static final class Log {
+        private static final Logger logger = LoggerFactory.getLogger(CommandLine.class);
+    }
+}
@@ -4,6 +4,7 @@
 package org.terasology.launcher;
 
 import org.terasology.launcher.game.GameManager;
+import org.terasology.launcher.jre.JreManager;
 import org.terasology.launcher.repositories.ReleaseRepository;
 import org.terasology.launcher.settings.Settings;
 
@@ -23,16 +24,19 @@ public class LauncherConfiguration {
     private final Settings launcherSettings;
     private final GameManager gameManager;
     private final ReleaseRepository releaseRepository;
+    private final JreManager jreManager;
 
     public LauncherConfiguration(final Path launcherDirectory,
                                  final Path downloadDirectory,
                                  final Settings launcherSettings,
-                                 GameManager gameManager, ReleaseRepository releaseRepository) {
+                                 GameManager gameManager, ReleaseRepository releaseRepository,
+                                 JreManager jreManager) {
         this.launcherDirectory = launcherDirectory;
         this.downloadDirectory = downloadDirectory;
         this.launcherSettings = launcherSettings;
         this.gameManager = gameManager;
         this.releaseRepository = releaseRepository;
+        this.jreManager = jreManager;
     }
 
     public Path getLauncherDirectory() {
@@ -54,4 +58,8 @@ public class LauncherConfiguration {
     public ReleaseRepository getReleaseRepository() {
         return releaseRepository;
     }
+
+    public JreManager getJreManager() {
+        return jreManager;
+    }
 }
@@ -3,36 +3,47 @@
 
 package org.terasology.launcher;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import javafx.concurrent.Task;
 import javafx.stage.Stage;
 import okhttp3.Cache;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
-import org.kohsuke.github.GHRelease;
+import okhttp3.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.launcher.game.GameManager;
-import org.terasology.launcher.model.LauncherVersion;
+import org.terasology.launcher.jre.JreManager;
 import org.terasology.launcher.platform.UnsupportedPlatformException;
+import org.terasology.launcher.remote.PeerCache;
 import org.terasology.launcher.repositories.CombinedRepository;
+import org.terasology.launcher.repositories.LayeredRepository;
+import org.terasology.launcher.repositories.LocalRepository;
+import org.terasology.launcher.repositories.MirrorRepository;
+import org.terasology.launcher.repositories.ReleaseRepository;
 import org.terasology.launcher.settings.LauncherSettingsValidator;
 import org.terasology.launcher.settings.Settings;
+import org.terasology.launcher.tasks.TaskGraph;
 import org.terasology.launcher.ui.Dialogs;
-import org.terasology.launcher.updater.LauncherUpdater;
 import org.terasology.launcher.util.I18N;
 import org.terasology.launcher.util.DirectoryCreator;
 import org.terasology.launcher.util.FileUtils;
-import org.terasology.launcher.util.HostServices;
 import org.terasology.launcher.util.LauncherDirectoryUtils;
 import org.terasology.launcher.util.LauncherManagedDirectory;
 import org.terasology.launcher.util.LauncherStartFailedException;
+import org.terasology.launcher.util.Timings;
 import org.terasology.launcher.platform.Platform;
 
 import java.io.IOException;
-import java.net.URI;
-import java.net.URISyntaxException;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 public class LauncherInitTask extends Task<LauncherConfiguration> {
@@ -40,88 +51,176 @@ public class LauncherInitTask extends Task<LauncherConfiguration> {
     private static final Logger logger = LoggerFactory.getLogger(LauncherInitTask.class);
 
     private final Stage owner;
-    private final HostServices hostServices;
 
-    public LauncherInitTask(final Stage newOwner, HostServices hostServices) {
+    public LauncherInitTask(final Stage newOwner) {
         this.owner = newOwner;
-        this.hostServices = hostServices;
     }
 
     /**
      * Assembles a {@link LauncherConfiguration}.
+     * <p>
+     * The initialization is split into phases which run concurrently as soon as the phases they depend on are done.
+     * Most notably, fetching the game releases and scanning for installed games only need the launcher directories
+     * and settings, so the slower of them determines how long the splash screen is shown, instead of both added up.
+     * The check for launcher updates is done later, in the background, once the main window is shown.
      *
      * @return a complete launcher configuration or {@code null} if the initialization failed
      */
     @Override
     protected LauncherConfiguration call() {
         // TODO: Use idiomatic JavaFX error handling.
+        final ExecutorService executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("LauncherInit-%d")
+                .setDaemon(true)
+                .build());
+        final TaskGraph graph = new TaskGraph(executor);
+        boolean initialized = false;
 
         try {
             // get OS info
-            final Platform platform = getPlatform();
+            final CompletableFuture<Platform> platform = graph.add("platform", this::getPlatform);
 
             // init directories
-            updateMessage(I18N.getLabel("splash_initLauncherDirs"));
-            final Path installationDirectory = LauncherDirectoryUtils.getInstallationDirectory();
-            final Path userDataDirectory = getLauncherDirectory(platform);
-
-            final Path downloadDirectory = getDirectoryFor(LauncherManagedDirectory.DOWNLOAD, userDataDirectory);
-            final Path tempDirectory = getDirectoryFor(LauncherManagedDirectory.TEMP, userDataDirectory);
-            final Path cacheDirectory = getDirectoryFor(LauncherManagedDirectory.CACHE, userDataDirectory);
+            final CompletableFuture<Path> userDataDirectory =
+                    graph.add("launcherDirectory", () -> getLauncherDirectory(platform.join()), platform);
+            final CompletableFuture<Path> downloadDirectory = graph.add("downloadDirectory",
+                    () -> getDirectoryFor(LauncherManagedDirectory.DOWNLOAD, userDataDirectory.join()), userDataDirectory);
+            final CompletableFuture<Path> tempDirectory = graph.add("tempDirectory",
+                    () -> getDirectoryFor(LauncherManagedDirectory.TEMP, userDataDirectory.join()), userDataDirectory);
+            final CompletableFuture<Path> cacheDirectory = graph.add("cacheDirectory",
+                    () -> getDirectoryFor(LauncherManagedDirectory.CACHE, userDataDirectory.join()), userDataDirectory);
 
             // launcher settings
-            final Settings launcherSettings = getLauncherSettings(userDataDirectory);
-            // By default, we initialize the launcher with the host system's default locale (if supported).
-            // The user may have chosen a different locale in the launcher settings, so apply that as soon as possible.
-            I18N.setLocale(launcherSettings.locale.get());
-
-            // validate the settings
-            LauncherSettingsValidator.validate(launcherSettings);
+            final CompletableFuture<Settings> settings =
+                    graph.add("settings", () -> getLauncherSettings(userDataDirectory.join()), userDataDirectory);
+            // may ask the user to choose a directory
+            final CompletableFuture<Path> gameDataDirectory = graph.add("gameDataDirectory",
+                    () -> getGameDataDirectory(platform.join(), settings.join().gameDataDirectory.get()), settings);
 
-            // looking for launcher updates (first network communication)
-            final var client = new OkHttpClient.Builder()
-                    .cache(new Cache(cacheDirectory.toFile(), 10L * 1024L * 1024L /*10 MiB*/))
-                    .callTimeout(10, TimeUnit.SECONDS)
-                    .build();
-            checkForLauncherUpdates(downloadDirectory, tempDirectory, launcherSettings.keepDownloadedFiles.get());
+            // implicitly fetches game releases and cache them
+            final CompletableFuture<ReleaseRepository> releaseRepository = graph.add("releases", () -> {
+                updateMessage(I18N.getLabel("splash_fetchReleases"));
+                logger.info("Fetching game releases ...");
+                final var client = new OkHttpClient.Builder()
+                        .cache(new Cache(cacheDirectory.join().toFile(), 10L * 1024L * 1024L /*10 MiB*/))
+                        .callTimeout(10, TimeUnit.SECONDS)
+                        .addInterceptor(LauncherInitTask::timeRequest)
+                        .build();
+                return getReleaseRepository(client, settings.join().releaseMirror.get(),
+                        settings.join().localReleaseDirectory.get());
+            }, cacheDirectory, settings);
 
             // game directories
-            updateMessage(I18N.getLabel("splash_initGameDirs"));
-            final Path gameDirectory = getDirectoryFor(LauncherManagedDirectory.GAMES, installationDirectory);
-            final Path gameDataDirectory = getGameDataDirectory(platform, launcherSettings.gameDataDirectory.get());
-
-            updateMessage(I18N.getLabel("splash_fetchReleases"));
-            logger.info("Fetching game releases ...");
-            // implicitly fetches game releases and cache them
-            final CombinedRepository releaseRepository = new CombinedRepository(client);
+            final CompletableFuture<Path> gameDirectory = graph.add("gameDirectory", () -> {
+                updateMessage(I18N.getLabel("splash_initGameDirs"));
+                final Path installationDirectory = LauncherDirectoryUtils.getInstallationDirectory();
+                return getDirectoryFor(LauncherManagedDirectory.GAMES, installationDirectory);
+            });
 
             // implicitly scans the game directory for installed games and cache them
-            final GameManager gameManager = new GameManager(cacheDirectory, gameDirectory);
-
+            final CompletableFuture<GameManager> gameManager = graph.add("installedGames", () -> {
+                final PeerCache peerCache =
+                        settings.join().shareDownloadsOnLan.get() ? startPeerCache(cacheDirectory.join()) : null;
+                return new GameManager(cacheDirectory.join(), gameDirectory.join(), peerCache,
+                        javafx.application.Platform::runLater);
+            }, cacheDirectory, gameDirectory, settings);
+
+            // looks for the Java runtimes to run games with
+            final CompletableFuture<JreManager> jreManager = graph.add("runtimes", () -> {
+                final JreManager manager =
+                        JreManager.create(platform.join(), userDataDirectory.join(), cacheDirectory.join());
+                manager.discover();
+                return manager;
+            }, platform, userDataDirectory, cacheDirectory);
+
+            final Settings launcherSettings = TaskGraph.await(settings);
             logger.trace("Change LauncherSettings...");
-            launcherSettings.gameDirectory.set(gameDirectory);
-            launcherSettings.gameDataDirectory.set(gameDataDirectory);
+            launcherSettings.gameDirectory.set(TaskGraph.await(gameDirectory));
+            launcherSettings.gameDataDirectory.set(TaskGraph.await(gameDataDirectory));
             // TODO: Rewrite gameVersions.fixSettingsBuildVersion(launcherSettings);
+            TaskGraph.await(tempDirectory);
 
-            storeLauncherSettingsAfterInit(launcherSettings, userDataDirectory);
+            storeLauncherSettingsAfterInit(launcherSettings, TaskGraph.await(userDataDirectory));
 
-            logger.trace("Creating launcher frame...");
-
-            return new LauncherConfiguration(
-                    userDataDirectory,
-                    downloadDirectory,
+            final LauncherConfiguration configuration = new LauncherConfiguration(
+                    TaskGraph.await(userDataDirectory),
+                    TaskGraph.await(downloadDirectory),
                     launcherSettings,
-                    gameManager,
-                    releaseRepository);
+                    TaskGraph.await(gameManager),
+                    TaskGraph.await(releaseRepository),
+                    TaskGraph.await(jreManager));
+
+            logger.trace("Creating launcher frame...");
+            initialized = true;
+            return configuration;
         } catch (LauncherStartFailedException e) {
             logger.warn("Could not configure launcher.");
         } catch (UnsupportedPlatformException e) {
             logger.error("Unsupported OS or architecture: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            // a phase failed with a checked exception, handled like the ones above
+            logger.error("Could not initialize the launcher.", e);
+        } finally {
+            if (!initialized) {
+                // e.g., do not leave the peer cache of the game manager running
+                graph.cancel();
+            }
+            executor.shutdownNow();
+            graph.logTimings();
         }
 
         return null;
     }
 
+    /**
+     * The repository to get game releases from: the mirror if one is set, or the upstream repositories otherwise, in
+     * both cases after the local release directory, if any.
+     */
+    static ReleaseRepository getReleaseRepository(OkHttpClient client, URL mirror, Path localDirectory) {
+        final ReleaseRepository online = getOnlineRepository(client, mirror);
+        if (localDirectory == null) {
+            return online;
+        }
+        if (!Files.isDirectory(localDirectory)) {
+            logger.warn("Local release directory '{}' does not exist, ignoring it.", localDirectory);
+            return online;
+        }
+        logger.info("Using local releases from '{}'.", localDirectory);
+        final LocalRepository local = new LocalRepository(localDirectory);
+        local.scan();
+        return new LayeredRepository(List.of(local, online));
+    }
+
+    private static ReleaseRepository getOnlineRepository(OkHttpClient client, URL mirror) {
+        if (mirror != null) {
+            try {
+                logger.info("Using release mirror '{}'.", mirror);
+                return new MirrorRepository(client, mirror);
+            } catch (MalformedURLException e) {
+                logger.warn("Invalid release mirror '{}', using upstream repositories.", mirror, e);
+            }
+        }
+        return new CombinedRepository(client);
+    }
+
+    private static Response timeRequest(Interceptor.Chain chain) throws IOException {
+        return Timings.time(Timings.Kind.HTTP, chain.request().url().toString(), () -> chain.proceed(chain.request()));
+    }
+
+    private PeerCache startPeerCache(Path cacheDirectory) {
+        final PeerCache peerCache = new PeerCache(cacheDirectory);
+        try {
+            peerCache.start();
+            return peerCache;
+        } catch (IOException e) {
+            logger.warn("Could not share the download cache on the local network.", e);
+            peerCache.close();
+            return null;
+        }
+    }
+
     private Platform getPlatform() throws UnsupportedPlatformException {
         logger.trace("Init Platform...");
         updateMessage(I18N.getLabel("splash_checkOS"));
@@ -165,49 +264,18 @@ public class LauncherInitTask extends Task<LauncherConfiguration> {
         updateMessage(I18N.getLabel("splash_retrieveLauncherSettings"));
 
         final Settings settings = Optional.ofNullable(Settings.load(settingsPath)).orElse(Settings.getDefault());
+        // By default, we initialize the launcher with the host system's default locale (if supported).
+        // The user may have chosen a different locale in the launcher settings, so apply that as soon as possible.
+        I18N.setLocale(settings.locale.get());
+
+        // validate the settings
+        LauncherSettingsValidator.validate(settings);
 
         logger.debug("Launcher Settings: {}", settings);
 
         return settings;
     }
 
-    private void checkForLauncherUpdates(Path downloadDirectory, Path tempDirectory, boolean saveDownloadedFiles) {
-        logger.trace("Check for launcher updates...");
-        updateMessage(I18N.getLabel("splash_launcherUpdateCheck"));
-        final LauncherUpdater updater = new LauncherUpdater(LauncherVersion.getInstance());
-        final GHRelease release = updater.updateAvailable();
-        if (release != null) {
-            logger.info("Launcher update available: {}", release.getTagName());
-            updateMessage(I18N.getLabel("splash_launcherUpdateAvailable"));
-            boolean foundLauncherInstallationDirectory = false;
-            try {
-                final Path installationDir = LauncherDirectoryUtils.getInstallationDirectory();
-                FileUtils.ensureWritableDir(installationDir);
-                logger.trace("Launcher installation directory: {}", installationDir);
-                foundLauncherInstallationDirectory = true;
-            } catch (IOException e) {
-                logger.error("The launcher installation directory can not be detected or used!", e);
-                Dialogs.showError(owner, I18N.getLabel("message_error_launcherInstallationDirectory"));
-                // Run launcher without an update. Don't throw a LauncherStartFailedException.
-            }
-            if (foundLauncherInstallationDirectory) {
-                final boolean update = updater.showUpdateDialog(owner, release);
-                if (update) {
-                    showDownloadPage();
-                }
-            }
-        }
-    }
-
-    private void showDownloadPage() {
-        final String downloadPage = "https://terasology.org/downloads/";
-        try {
-            hostServices.tryOpenUri(new URI(downloadPage));
-        } catch (URISyntaxException e) {
-            logger.info("Could not open '{}': {}", downloadPage, e.getMessage());
-        }
-    }
-
     private Path getGameDataDirectory(Platform os, Path settingsGameDataDirectory) throws LauncherStartFailedException {
         logger.trace("Init GameDataDirectory...");
         Path gameDataDirectory = settingsGameDataDirectory;
@@ -31,6 +31,7 @@ import org.terasology.launcher.ui.ApplicationController;
 import org.terasology.launcher.util.I18N;
 import org.terasology.launcher.util.HostServices;
 import org.terasology.launcher.util.LauncherStartFailedException;
+import org.terasology.launcher.util.Timings;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -45,6 +46,8 @@ public final class TerasologyLauncher extends Application {
     private static final int SPLASH_WIDTH = 800;
     private static final int SPLASH_HEIGHT = 223;
 
+    private static final String STARTUP_REPORT_OPTION = "--startup-report";
+
     private Pane splashLayout;
     private ProgressBar loadProgress;
     private Label progressText;
@@ -52,11 +55,16 @@ public final class TerasologyLauncher extends Application {
     private HostServices hostServices;
 
     public static void main(String[] args) {
+        final List<String> arguments = Arrays.asList(args);
+        if (arguments.contains(STARTUP_REPORT_OPTION)) {
+            Timings.reportOnExit();
+        }
         launch(args);
     }
 
     @Override
     public void init() {
+        Timings.mark("javafx init");
         ImageView splash = new ImageView(I18N.getFxImage("splash"));
         loadProgress = new ProgressBar();
         loadProgress.setPrefWidth(SPLASH_WIDTH);
@@ -76,7 +84,7 @@ public final class TerasologyLauncher extends Application {
 
         initProxy();
 
-        final Task<LauncherConfiguration> launcherInitTask = new LauncherInitTask(initialStage, hostServices);
+        final Task<LauncherConfiguration> launcherInitTask = new LauncherInitTask(initialStage);
 
         showSplashStage(initialStage, launcherInitTask);
         Thread initThread = new Thread(launcherInitTask);
@@ -116,21 +124,28 @@ public final class TerasologyLauncher extends Application {
         System.setProperty("java.net.useSystemProxies", "true");
     }
 
-    private void showMainStage(final LauncherConfiguration launcherConfiguration) throws IOException {
-        mainStage = new Stage(StageStyle.DECORATED);
-
-        // launcher frame
-        FXMLLoader fxmlLoader;
-        Parent root;
+    private static FXMLLoader loadApplicationView() throws IOException {
         /* Fall back to default language if loading the FXML file fails with the current locale */
         try {
-            fxmlLoader = I18N.getFXMLLoader("application");
-            root = (Parent) fxmlLoader.load();
+            final FXMLLoader fxmlLoader = I18N.getFXMLLoader("application");
+            fxmlLoader.load();
+            return fxmlLoader;
         } catch (IOException e) {
-            fxmlLoader = I18N.getFXMLLoader("application");
-            fxmlLoader.setResources(ResourceBundle.getBundle("org.terasology.launcher.bundle.LabelsBundle", I18N.getDefaultLocale()));
-            root = (Parent) fxmlLoader.load();
+            final FXMLLoader fxmlLoader = I18N.getFXMLLoader("application");
+            fxmlLoader.setResources(
+                    ResourceBundle.getBundle("org.terasology.launcher.bundle.LabelsBundle", I18N.getDefaultLocale()));
+            fxmlLoader.load();
+            return fxmlLoader;
         }
+    }
+
+    private void showMainStage(final LauncherConfiguration launcherConfiguration) throws IOException {
+        mainStage = new Stage(StageStyle.DECORATED);
+
+        // launcher frame
+        final FXMLLoader fxmlLoader =
+                Timings.time(Timings.Kind.FXML, "application", TerasologyLauncher::loadApplicationView);
+        final Parent root = fxmlLoader.getRoot();
         final ApplicationController controller = fxmlLoader.getController();
         controller.update(launcherConfiguration, mainStage, hostServices);
 
@@ -143,7 +158,9 @@ public final class TerasologyLauncher extends Application {
         mainStage.setResizable(true);
         mainStage.show();
 
+        Timings.mark("main stage shown");
         logger.info("The TerasologyLauncher was successfully started.");
+        ClassDataSharing.rebuildIfStale();
     }
 
     private void showSplashStage(final Stage initialStage, final Task<LauncherConfiguration> task) {
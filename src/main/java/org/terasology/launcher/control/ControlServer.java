@@ -0,0 +1,642 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.control;
+
+import com.google.common.base.Throwables;
+import com.google.common.io.BaseEncoding;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.game.GameInstance;
+import org.terasology.launcher.game.GameManager;
+import org.terasology.launcher.game.GameService;
+import org.terasology.launcher.game.GameVersionNotSupportedException;
+import org.terasology.launcher.game.LaunchMode;
+import org.terasology.launcher.game.LaunchTimings;
+import org.terasology.launcher.game.ResourceHistory;
+import org.terasology.launcher.model.Build;
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.model.Profile;
+import org.terasology.launcher.remote.DownloadException;
+import org.terasology.launcher.settings.Settings;
+import org.terasology.launcher.tasks.ProgressListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * HTTP API to watch and control a running launcher from other programs on the same computer, e.g., dashboards and
+ * automation, enabled in the settings.
+ * <p>
+ * The server only listens on the loopback interface, and every request must carry the token from {@value #TOKEN_FILE}
+ * in the launcher directory as {@code Authorization: Bearer <token>}, so that neither other users nor web pages open in
+ * a browser can use it. The token changes each time the server starts. All responses are JSON:
+ * <ul>
+ *     <li>{@code GET /api/releases}: the release catalog, and whether each release is installed</li>
+ *     <li>{@code GET /api/games}: the installed games</li>
+ *     <li>{@code GET /api/jobs}, {@code GET /api/jobs/<id>}: the install and remove jobs, with their download
+ *     progress</li>
+ *     <li>{@code GET /api/instances}: the started games, with the latest resource metrics of their process</li>
+ *     <li>{@code POST /api/install}, {@code POST /api/remove}: queue a job for the release given in the body, e.g.,
+ *     {@code {"profile": "OMEGA", "build": "STABLE", "version": "5.3.0"}}, or the newest one without version</li>
+ *     <li>{@code POST /api/launch}: start an installed game like the play button does, as dedicated server with
+ *     {@code "mode": "SERVER"} in the body</li>
+ * </ul>
+ * Jobs run one after the other, in the order they were queued.
+ */
+public final class ControlServer implements Closeable {
+
+    public static final int DEFAULT_PORT = 28773;
+
+    static final String TOKEN_FILE = "control-api.token";
+    static final String API_PATH = "/api/";
+
+    /**
+     * The number of finished jobs kept for their status to be asked for.
+     */
+    static final int MAX_FINISHED_JOBS = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(ControlServer.class);
+
+    private static final Duration FX_TIMEOUT = Duration.ofSeconds(10);
+    private static final int SERVER_THREADS = 4;
+
+    private final GameManager gameManager;
+    private final GameService gameService;
+    private final Settings settings;
+    private final Supplier<List<GameRelease>> releases;
+    private final Path tokenFile;
+    private final InetSocketAddress address;
+    private final Gson gson = new Gson();
+
+    private final Map<Integer, Job> jobs = new LinkedHashMap<>();
+    private final AtomicInteger nextJobId = new AtomicInteger(1);
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("ControlServer-jobs-%d")
+                    .setDaemon(true)
+                    .build());
+
+    private byte[] token;
+    private HttpServer server;
+
+    /**
+     * @param gameManager       installs and removes games
+     * @param gameService       starts games
+     * @param settings          the launcher settings, used to start games
+     * @param releases          the current release catalog
+     * @param launcherDirectory the directory to write the token file to
+     * @param port              the port to listen on, on the loopback interface
+     */
+    public ControlServer(GameManager gameManager, GameService gameService, Settings settings,
+                         Supplier<List<GameRelease>> releases, Path launcherDirectory, int port) {
+        this.gameManager = gameManager;
+        this.gameService = gameService;
+        this.settings = settings;
+        this.releases = releases;
+        this.tokenFile = launcherDirectory.resolve(TOKEN_FILE);
+        this.address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+    }
+
+    /**
+     * Write a new token, and start serving requests.
+     *
+     * @throws IOException if the token cannot be written or the port is in use
+     */
+    public synchronized void start() throws IOException {
+        final byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        token = BaseEncoding.base64Url().omitPadding().encode(random).getBytes(StandardCharsets.US_ASCII);
+        writeToken();
+
+        server = HttpServer.create(address, 0);
+        server.createContext(API_PATH, this::handle);
+        server.setExecutor(Executors.newFixedThreadPool(SERVER_THREADS, new ThreadFactoryBuilder()
+                .setNameFormat("ControlServer-http-%d")
+                .setDaemon(true)
+                .build()));
+        // the server's dispatcher thread inherits the daemon flag from the thread starting it, so it does not keep the
+        // launcher alive after the main window is closed
+        try {
+            jobExecutor.submit(server::start).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while starting the control server", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Could not start the control server", e.getCause());
+        }
+        logger.info("Control API listening at http://{}:{}{}, token in '{}'.", server.getAddress().getHostString(),
+                server.getAddress().getPort(), API_PATH, tokenFile);
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    Path getTokenFile() {
+        return tokenFile;
+    }
+
+    @Override
+    public synchronized void close() {
+        jobExecutor.shutdownNow();
+        if (server != null) {
+            server.stop(0);
+            ((ExecutorService) server.getExecutor()).shutdownNow();
+        }
+        try {
+            Files.deleteIfExists(tokenFile);
+        } catch (IOException e) {
+            logger.warn("Could not remove the control API token '{}'.", tokenFile, e);
+        }
+    }
+
+    private void writeToken() throws IOException {
+        Files.deleteIfExists(tokenFile);
+        if (Files.getFileStore(tokenFile.getParent()).supportsFileAttributeView("posix")) {
+            Files.createFile(tokenFile,
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        Files.write(tokenFile, token);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!isAuthorized(exchange)) {
+                send(exchange, 401, new Error("Missing or wrong token"));
+                return;
+            }
+            final String method = exchange.getRequestMethod();
+            final String path = exchange.getRequestURI().getPath().substring(API_PATH.length());
+            if ("GET".equals(method)) {
+                send(exchange, 200, get(path));
+            } else if ("POST".equals(method)) {
+                post(exchange, path);
+            } else {
+                send(exchange, 405, new Error("Method not allowed"));
+            }
+        } catch (ApiException e) {
+            send(exchange, e.status, new Error(e.getMessage()));
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Control API request '{}' failed.", exchange.getRequestURI(), e);
+            send(exchange, 500, new Error(e.toString()));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private boolean isAuthorized(HttpExchange exchange) {
+        final String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return false;
+        }
+        final byte[] given = authorization.substring("Bearer ".length()).trim().getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(token, given);
+    }
+
+    private Object get(String path) throws ApiException, IOException {
+        switch (path) {
+            case "releases":
+                return listReleases();
+            case "games":
+                return onFxThread(() -> gameManager.getInstalledGames().stream()
+                        .map(this::toInstalledGame)
+                        .collect(Collectors.toList()));
+            case "jobs":
+                synchronized (jobs) {
+                    return new ArrayList<>(jobs.values());
+                }
+            case "instances":
+                return onFxThread(() -> gameService.getInstances().stream()
+                        .map(ControlServer::toInstance)
+                        .collect(Collectors.toList()));
+            default:
+                if (path.startsWith("jobs/")) {
+                    return getJob(path.substring("jobs/".length()));
+                }
+                throw new ApiException(404, "Not found: " + path);
+        }
+    }
+
+    private void post(HttpExchange exchange, String path) throws ApiException, IOException {
+        final ReleaseRequest request = readRequest(exchange);
+        switch (path) {
+            case "install":
+                final GameRelease release = findRelease(request);
+                send(exchange, 202, queue(Job.Kind.INSTALL, release.getId(), job -> gameManager.install(release, job)));
+                break;
+            case "remove":
+                final GameIdentifier game = findInstalled(request);
+                if (onFxThread(() -> isRunning(game))) {
+                    throw new ApiException(409, "The game is running");
+                }
+                send(exchange, 202, queue(Job.Kind.REMOVE, game, job -> {
+                    gameService.cancelWarmUp();
+                    gameManager.remove(game);
+                }));
+                break;
+            case "launch":
+                final LaunchMode mode = request.mode != null ? request.mode : LaunchMode.CLIENT;
+                send(exchange, 201, launch(findInstalled(request), mode));
+                break;
+            default:
+                throw new ApiException(404, "Not found: " + path);
+        }
+    }
+
+    private List<Release> listReleases() throws IOException {
+        final Set<GameIdentifier> installed = onFxThread(() -> Set.copyOf(gameManager.getInstalledGames()));
+        return releases.get().stream()
+                .sorted(Comparator.comparing(GameRelease::getTimestamp).reversed())
+                .map(release -> new Release(release, installed.contains(release.getId())))
+                .collect(Collectors.toList());
+    }
+
+    private Job getJob(String id) throws ApiException {
+        final Job job;
+        synchronized (jobs) {
+            job = jobs.get(parseId(id));
+        }
+        if (job == null) {
+            throw new ApiException(404, "No such job: " + id);
+        }
+        return job;
+    }
+
+    private static int parseId(String id) throws ApiException {
+        try {
+            return Integer.parseInt(id);
+        } catch (NumberFormatException e) {
+            throw new ApiException(400, "Not a job id: " + id);
+        }
+    }
+
+    private Job queue(Job.Kind kind, GameIdentifier game, Job.Action action) {
+        final Job job = new Job(nextJobId.getAndIncrement(), kind, game);
+        synchronized (jobs) {
+            final List<Integer> finished = jobs.values().stream()
+                    .filter(Job::isFinished)
+                    .map(finishedJob -> finishedJob.id)
+                    .collect(Collectors.toList());
+            finished.subList(0, Math.max(0, finished.size() - MAX_FINISHED_JOBS + 1)).forEach(jobs::remove);
+            jobs.put(job.id, job);
+        }
+        jobExecutor.execute(() -> job.run(action));
+        logger.info("Queued control API job {}: {} {}", job.id, kind, game);
+        return job;
+    }
+
+    private Instance launch(GameIdentifier game, LaunchMode mode) throws ApiException, IOException {
+        final FxResult<Instance> result = onFxThread(() -> {
+            if (gameService.isRunning() && !settings.concurrentGames.get()) {
+                return FxResult.failed(new ApiException(409, "Another game is running"));
+            }
+            try {
+                return FxResult.of(toInstance(gameService.start(gameManager.getInstallation(game), settings, mode)));
+            } catch (GameVersionNotSupportedException e) {
+                return FxResult.failed(new ApiException(409, e.getMessage()));
+            }
+        });
+        return result.get();
+    }
+
+    private boolean isRunning(GameIdentifier game) {
+        final Path directory = gameManager.getInstallDirectory(game);
+        return gameService.getInstances().stream()
+                .anyMatch(instance -> instance.isAlive() && instance.getInstallation().getPath().equals(directory));
+    }
+
+    private GameRelease findRelease(ReleaseRequest request) throws ApiException {
+        return releases.get().stream()
+                .filter(release -> request.matches(release.getId()))
+                .max(Comparator.comparing(GameRelease::getTimestamp))
+                .orElseThrow(() -> new ApiException(404, "No such release: " + request));
+    }
+
+    private GameIdentifier findInstalled(ReleaseRequest request) throws ApiException, IOException {
+        final Optional<GameIdentifier> game = onFxThread(() -> gameManager.getInstalledGames().stream()
+                .filter(request::matches)
+                .max(Comparator.comparing(gameManager::getInstallationDate)));
+        return game.orElseThrow(() -> new ApiException(404, "Not installed: " + request));
+    }
+
+    private ReleaseRequest readRequest(HttpExchange exchange) throws ApiException, IOException {
+        try (Reader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            final ReleaseRequest request = gson.fromJson(reader, ReleaseRequest.class);
+            if (request == null || request.profile == null || request.build == null) {
+                throw new ApiException(400, "Expected a JSON object with profile and build");
+            }
+            return request;
+        } catch (JsonParseException e) {
+            throw new ApiException(400, "Invalid JSON: " + e.getMessage());
+        }
+    }
+
+    private InstalledGame toInstalledGame(GameIdentifier game) {
+        return new InstalledGame(game, gameManager.getInstallDirectory(game), gameManager.getInstallationDate(game));
+    }
+
+    private static Instance toInstance(GameInstance instance) {
+        return new Instance(instance);
+    }
+
+    private void send(HttpExchange exchange, int status, Object response) throws IOException {
+        final byte[] body = gson.toJson(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Run the given action on the JavaFX application thread, which owns the installed games and the started games,
+     * and wait for its result.
+     */
+    private static <T> T onFxThread(Callable<T> action) throws IOException {
+        final FutureTask<T> task = new FutureTask<>(action);
+        Platform.runLater(task);
+        try {
+            return task.get(FX_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IOException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IOException("The launcher did not respond in time", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the launcher");
+        }
+    }
+
+    /**
+     * A failure to report with the given HTTP status.
+     */
+    private static final class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    /**
+     * The value or the failure of an action on the JavaFX application thread.
+     */
+    private static final class FxResult<T> {
+        private final T value;
+        private final ApiException failure;
+
+        private FxResult(T value, ApiException failure) {
+            this.value = value;
+            this.failure = failure;
+        }
+
+        static <T> FxResult<T> of(T value) {
+            return new FxResult<>(value, null);
+        }
+
+        static <T> FxResult<T> failed(ApiException failure) {
+            return new FxResult<>(null, failure);
+        }
+
+        T get() throws ApiException {
+            if (failure != null) {
+                throw failure;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * The body of the requests for actions on a release.
+     */
+    static final class ReleaseRequest {
+        Profile profile;
+        Build build;
+        String version;
+        LaunchMode mode;
+
+        boolean matches(GameIdentifier id) {
+            return id.getProfile() == profile && id.getBuild() == build
+                    && (version == null || version.equals(id.getDisplayVersion()));
+        }
+
+        @Override
+        public String toString() {
+            return profile + ":" + build + (version != null ? ":" + version : "");
+        }
+    }
+
+    static final class Error {
+        final String error;
+
+        Error(String error) {
+            this.error = error;
+        }
+    }
+
+    static final class Release {
+        final Profile profile;
+        final Build build;
+        final String version;
+        final long timestamp;
+        final String changelog;
+        final boolean installed;
+
+        Release(GameRelease release, boolean installed) {
+            this.profile = release.getId().getProfile();
+            this.build = release.getId().getBuild();
+            this.version = release.getId().getDisplayVersion();
+            this.timestamp = release.getTimestamp().getTime();
+            this.changelog = release.getChangelog();
+            this.installed = installed;
+        }
+    }
+
+    static final class InstalledGame {
+        final Profile profile;
+        final Build build;
+        final String version;
+        final String path;
+        final long installed;
+
+        InstalledGame(GameIdentifier game, Path path, Date installed) {
+            this.profile = game.getProfile();
+            this.build = game.getBuild();
+            this.version = game.getDisplayVersion();
+            this.path = path.toString();
+            this.installed = installed.getTime();
+        }
+    }
+
+    /**
+     * A started game, with the latest resource metrics of its process.
+     */
+    static final class Instance {
+        final int id;
+        final Profile profile;
+        final Build build;
+        final String version;
+        final LaunchMode mode;
+        final boolean alive;
+        final long started;
+        final Long pid;
+        final Long readyMillis;
+        final String dataDirectory;
+        final Map<ResourceHistory.Metric, Long> metrics = new EnumMap<>(ResourceHistory.Metric.class);
+        final Double cpuLoad;
+        final Double gcLoad;
+
+        Instance(GameInstance instance) {
+            final GameIdentifier game = instance.getInstallation().getInfo();
+            this.id = instance.getId();
+            this.profile = game != null ? game.getProfile() : null;
+            this.build = game != null ? game.getBuild() : null;
+            this.version = game != null ? game.getDisplayVersion() : null;
+            this.mode = instance.getMode();
+            this.alive = instance.isAlive();
+            this.started = instance.getStarted().toEpochMilli();
+            this.pid = instance.getProcess().map(ProcessHandle::pid).orElse(null);
+            this.readyMillis = instance.getLaunchTimings()
+                    .flatMap(LaunchTimings::getTimeToReady)
+                    .map(Duration::toMillis)
+                    .orElse(null);
+            this.dataDirectory = instance.getGameDataDirectory().toString();
+
+            final ResourceHistory history = instance.getResourceMonitor().getHistory();
+            for (ResourceHistory.Metric metric : ResourceHistory.Metric.values()) {
+                final long value = history.latest(metric);
+                if (value != ResourceHistory.UNKNOWN) {
+                    metrics.put(metric, value);
+                }
+            }
+            this.cpuLoad = known(history.rate(ResourceHistory.Metric.CPU_TIME, 5));
+            this.gcLoad = known(history.rate(ResourceHistory.Metric.GC_TIME, 5));
+        }
+
+        private static Double known(double rate) {
+            return Double.isNaN(rate) ? null : rate;
+        }
+    }
+
+    /**
+     * An install or remove job, also reporting the download progress of an install.
+     */
+    static final class Job implements ProgressListener {
+
+        enum Kind {
+            INSTALL,
+            REMOVE
+        }
+
+        enum State {
+            QUEUED,
+            RUNNING,
+            SUCCEEDED,
+            FAILED
+        }
+
+        interface Action {
+            void run(Job job) throws IOException, DownloadException, InterruptedException, ApiException;
+        }
+
+        final int id;
+        final Kind kind;
+        final Profile profile;
+        final Build build;
+        final String version;
+        final long queued = System.currentTimeMillis();
+        volatile State state = State.QUEUED;
+        volatile Integer progress;
+        volatile Long started;
+        volatile Long finished;
+        volatile String error;
+
+        Job(int id, Kind kind, GameIdentifier game) {
+            this.id = id;
+            this.kind = kind;
+            this.profile = game.getProfile();
+            this.build = game.getBuild();
+            this.version = game.getDisplayVersion();
+        }
+
+        boolean isFinished() {
+            return state == State.SUCCEEDED || state == State.FAILED;
+        }
+
+        void run(Action action) {
+            started = System.currentTimeMillis();
+            state = State.RUNNING;
+            try {
+                action.run(this);
+                state = State.SUCCEEDED;
+            } catch (IOException | ApiException | RuntimeException e) {
+                logger.warn("Control API job {} failed: {} {}:{}:{}", id, kind, profile, build, version, e);
+                error = e.toString();
+                state = State.FAILED;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                error = "Interrupted";
+                state = State.FAILED;
+            } finally {
+                finished = System.currentTimeMillis();
+            }
+        }
+
+        @Override
+        public void update() {
+        }
+
+        @Override
+        public void update(int percent) {
+            progress = percent;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes the crash reports of the launcher, with the last output of a game that crashed, next to its game output log.
+ * <p>
+ * Only the last {@link #MAX_REPORTS} reports in a directory are kept.
+ */
+final class CrashReports {
+
+    static final String PREFIX = "launcher-crash-";
+    static final String SUFFIX = ".log";
+    static final int MAX_REPORTS = 20;
+
+    private static final DateTimeFormatter TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS").withZone(ZoneId.systemDefault());
+
+    private CrashReports() {
+    }
+
+    /**
+     * Write a new crash report, and delete the oldest ones beyond the limit.
+     *
+     * @param directory the directory to write the report to
+     * @param time      when the game crashed
+     * @param summary   what happened, and what the launcher does about it
+     * @param output    the last output of the game
+     * @return the new report
+     */
+    static Path write(Path directory, Instant time, String summary, byte[] output) throws IOException {
+        Files.createDirectories(directory);
+        final Path report = directory.resolve(PREFIX + TIMESTAMP.format(time) + SUFFIX);
+        try (OutputStream out = Files.newOutputStream(report)) {
+            out.write((summary + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+            out.write(("--- last " + output.length + " bytes of output ---" + System.lineSeparator())
+                    .getBytes(StandardCharsets.UTF_8));
+            out.write(output);
+        }
+        prune(directory);
+        return report;
+    }
+
+    /**
+     * The crash reports in the directory, oldest first.
+     */
+    static List<Path> list(Path directory) throws IOException {
+        final List<Path> reports = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(reports::add);
+        }
+        // the timestamps in the names sort in order
+        Collections.sort(reports);
+        return reports;
+    }
+
+    private static void prune(Path directory) throws IOException {
+        final List<Path> reports = list(directory);
+        for (Path report : reports.subList(0, Math.max(0, reports.size() - MAX_REPORTS))) {
+            Files.deleteIfExists(report);
+        }
+    }
+}
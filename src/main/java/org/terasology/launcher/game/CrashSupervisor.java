@@ -0,0 +1,83 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Decides whether and when to restart a game after it crashed.
+ * <p>
+ * The delay before a restart doubles with each crash within the {@link #CRASH_LOOP_WINDOW}, starting at
+ * {@link #INITIAL_DELAY} and capped at {@link #MAX_DELAY}. A game that crashes more than {@link #MAX_CRASHES} times
+ * within the window is in a crash loop and is not restarted again. A game that ran well for longer than the window
+ * starts over with the initial delay. (These are the defaults, tests choose their own.)
+ * <p>
+ * Games stopped on purpose by a hangup, interrupt, or termination signal are not restarted, as systemd does.
+ */
+final class CrashSupervisor {
+
+    static final Duration INITIAL_DELAY = Duration.ofSeconds(2);
+    static final Duration MAX_DELAY = Duration.ofMinutes(1);
+    static final Duration CRASH_LOOP_WINDOW = Duration.ofMinutes(10);
+    static final int MAX_CRASHES = 5;
+
+    /**
+     * Exit values of processes ended by SIGHUP, SIGINT, SIGPIPE, or SIGTERM.
+     */
+    private static final Set<Integer> STOP_EXIT_VALUES = Set.of(128 + 1, 128 + 2, 128 + 13, 128 + 15);
+
+    private final Duration initialDelay;
+    private final Duration maxDelay;
+    private final Duration window;
+    private final int maxCrashes;
+
+    private final Deque<Instant> crashes = new ArrayDeque<>();
+    private int restarts;
+
+    CrashSupervisor() {
+        this(INITIAL_DELAY, MAX_DELAY, CRASH_LOOP_WINDOW, MAX_CRASHES);
+    }
+
+    CrashSupervisor(Duration initialDelay, Duration maxDelay, Duration window, int maxCrashes) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        this.window = window;
+        this.maxCrashes = maxCrashes;
+    }
+
+    /**
+     * Record a crash.
+     *
+     * @param now       when the game exited
+     * @param exitValue the exit value of the game process
+     * @return how long to wait before starting the game again, or empty if it should not be restarted
+     */
+    Optional<Duration> crashed(Instant now, int exitValue) {
+        if (STOP_EXIT_VALUES.contains(exitValue)) {
+            return Optional.empty();
+        }
+        crashes.addLast(now);
+        while (crashes.getFirst().isBefore(now.minus(window))) {
+            crashes.removeFirst();
+        }
+        if (crashes.size() > maxCrashes) {
+            return Optional.empty();
+        }
+        restarts++;
+        final Duration delay = initialDelay.multipliedBy(1L << Math.min(crashes.size() - 1, 30));
+        return Optional.of(delay.compareTo(maxDelay) < 0 ? delay : maxDelay);
+    }
+
+    /**
+     * The number of restarts allowed so far.
+     */
+    int getRestarts() {
+        return restarts;
+    }
+}
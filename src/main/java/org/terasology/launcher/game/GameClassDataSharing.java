@@ -0,0 +1,243 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.semver4j.Semver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A dynamic class data sharing (CDS) archive for one game installation and runtime, which spares the game JVM from
+ * loading and verifying the engine and library classes from the jars on every start.
+ * <p>
+ * On the first start, the JVM is asked to write the classes it loaded to a temporary file on exit
+ * ({@code -XX:ArchiveClassesAtExit}). Once the game {@linkplain #archived(int) exited normally}, the file is moved into
+ * place and marked valid with a key for the installed jars and the runtime, and is used for all later starts
+ * ({@code -XX:SharedArchiveFile}). If the installation or the runtime changes, the key does not match anymore, and the
+ * archive is created again. While one instance of the game creates the archive, other instances of the same
+ * installation run without it; instances started by other launchers dump to their own temporary file.
+ * <p>
+ * The key is computed when the {@link LaunchPlan} is resolved, so that starting the game again does not look at all
+ * jars again. The archive lives in {@value #DIRECTORY} inside the installation, so it is removed with it.
+ */
+final class GameClassDataSharing {
+
+    static final String DIRECTORY = ".cds";
+    static final String ARCHIVE_FILE = "game.jsa";
+    static final String KEY_FILE = "game.key";
+
+    private static final Logger logger = LoggerFactory.getLogger(GameClassDataSharing.class);
+
+    /**
+     * Dynamic archives are supported since Java 13.
+     */
+    private static final int MIN_JAVA_VERSION = 13;
+
+    private static final String TEMP_SUFFIX = ".tmp";
+    /**
+     * Temporary archives left behind, e.g., by a launcher that exited before the game, are removed after this time.
+     */
+    private static final Duration STALE_TEMP_AGE = Duration.ofDays(1);
+
+    /**
+     * The archives an instance of the game is currently creating.
+     */
+    private static final Set<Path> CREATING = ConcurrentHashMap.newKeySet();
+
+    private final Path archive;
+    private final Path keyFile;
+    private final String key;
+    private volatile Path tempArchive;
+
+    private GameClassDataSharing(Path directory, String key) {
+        this.archive = directory.resolve(ARCHIVE_FILE);
+        this.keyFile = directory.resolve(KEY_FILE);
+        this.key = key;
+    }
+
+    /**
+     * The archive for running the given installation, if the installation is writable.
+     *
+     * @param installation the directory of the game installation
+     * @param key          the key of the installation and runtime, see {@link #keyFor(Path, Path)}
+     * @param javaParams   the user's java options, which might already configure class data sharing
+     */
+    static Optional<GameClassDataSharing> of(Path installation, String key, List<String> javaParams) {
+        if (!Files.isDirectory(installation) || !Files.isWritable(installation)) {
+            return Optional.empty();
+        }
+        if (javaParams.stream().anyMatch(param -> param.startsWith("-Xshare")
+                || param.startsWith("-XX:SharedArchiveFile") || param.startsWith("-XX:ArchiveClassesAtExit"))) {
+            logger.debug("Class data sharing is configured by the java parameters, not managing an archive.");
+            return Optional.empty();
+        }
+        return Optional.of(new GameClassDataSharing(installation.resolve(DIRECTORY), key));
+    }
+
+    /**
+     * The key for an archive of the given game run with the given runtime, if the runtime supports dynamic archives.
+     *
+     * @param gameJar the main game jar, next to the libraries on its class path
+     * @param runtime the {@code java} executable the game is run with
+     */
+    static Optional<String> keyFor(Path gameJar, Path runtime) {
+        try {
+            final Optional<Properties> release = getRuntimeRelease(runtime);
+            if (release.isEmpty() || !supportsDynamicArchive(release.get())) {
+                return Optional.empty();
+            }
+            return Optional.of(computeKey(gameJar, runtime, release.get()));
+        } catch (IOException e) {
+            logger.warn("Cannot use a class data sharing archive for '{}'.", gameJar, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The java options to use the archive, or to create it if there is no valid one and no other instance of the game
+     * is creating it already.
+     */
+    List<String> getJavaParameters() {
+        try {
+            if (isValid()) {
+                logger.debug("Using class data sharing archive '{}'.", archive);
+                return List.of("-XX:SharedArchiveFile=" + archive);
+            }
+        } catch (IOException e) {
+            logger.warn("Cannot use class data sharing archive '{}'.", archive, e);
+            return List.of();
+        }
+        if (!CREATING.add(archive)) {
+            logger.debug("Class data sharing archive '{}' is being created by another instance.", archive);
+            return List.of();
+        }
+        try {
+            Files.createDirectories(archive.getParent());
+            removeStaleTempArchives();
+            tempArchive = Files.createTempFile(archive.getParent(), ARCHIVE_FILE, TEMP_SUFFIX);
+        } catch (IOException e) {
+            CREATING.remove(archive);
+            logger.warn("Cannot create class data sharing archive '{}'.", archive, e);
+            return List.of();
+        }
+        logger.info("Creating class data sharing archive '{}' on game exit.", archive);
+        return List.of("-XX:ArchiveClassesAtExit=" + tempArchive);
+    }
+
+    /**
+     * Move a newly created archive into place and mark it as valid, after the game process exited.
+     *
+     * @param exitValue the exit value of the game process; the archive is only written on a normal exit
+     */
+    void archived(int exitValue) {
+        final Path created = tempArchive;
+        if (created == null) {
+            return;
+        }
+        tempArchive = null;
+        try {
+            if (exitValue == 0 && Files.isRegularFile(created) && Files.size(created) > 0) {
+                // never pair a new key with the old archive, or the other way round
+                Files.deleteIfExists(keyFile);
+                Files.move(created, archive, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                Files.writeString(keyFile, key);
+                logger.info("Created class data sharing archive '{}' for faster game starts.", archive);
+            } else {
+                Files.deleteIfExists(created);
+            }
+        } catch (IOException e) {
+            // e.g., on Windows, while another instance of the game still maps the old archive
+            logger.warn("Could not store class data sharing archive '{}'.", archive, e);
+            try {
+                Files.deleteIfExists(created);
+            } catch (IOException ignored) {
+                // removed as stale later
+            }
+        } finally {
+            CREATING.remove(archive);
+        }
+    }
+
+    private void removeStaleTempArchives() throws IOException {
+        final long staleBefore = Instant.now().minus(STALE_TEMP_AGE).toEpochMilli();
+        final List<Path> stale;
+        try (Stream<Path> files = Files.list(archive.getParent())) {
+            stale = files.filter(file -> file.getFileName().toString().startsWith(ARCHIVE_FILE))
+                    .filter(file -> file.getFileName().toString().endsWith(TEMP_SUFFIX))
+                    .filter(file -> file.toFile().lastModified() < staleBefore)
+                    .collect(Collectors.toList());
+        }
+        for (Path file : stale) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    boolean isValid() throws IOException {
+        return Files.isRegularFile(archive) && Files.isRegularFile(keyFile) && Files.readString(keyFile).equals(key);
+    }
+
+    /**
+     * The {@code release} file of the runtime's Java home, e.g., {@code JAVA_VERSION="17.0.2"}.
+     */
+    private static Optional<Properties> getRuntimeRelease(Path runtime) throws IOException {
+        final Path javaHome = runtime.toAbsolutePath().getParent().getParent();
+        final Path releaseFile = javaHome.resolve("release");
+        if (!Files.isRegularFile(releaseFile)) {
+            return Optional.empty();
+        }
+        final Properties release = new Properties();
+        try (var reader = Files.newBufferedReader(releaseFile, StandardCharsets.UTF_8)) {
+            release.load(reader);
+        }
+        return Optional.of(release);
+    }
+
+    static boolean supportsDynamicArchive(Properties release) {
+        final String version = release.getProperty("JAVA_VERSION", "").replace("\"", "");
+        final Semver semver = Semver.coerce(version);
+        return semver != null && semver.getMajor() >= MIN_JAVA_VERSION;
+    }
+
+    /**
+     * A hash over everything the archive depends on: the jars next to the game jar, and the runtime.
+     */
+    static String computeKey(Path gameJar, Path runtime, Properties release) throws IOException {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(runtime.toRealPath().toString(), StandardCharsets.UTF_8);
+        release.stringPropertyNames().stream().sorted().forEach(name -> hasher
+                .putString(name, StandardCharsets.UTF_8)
+                .putString(release.getProperty(name), StandardCharsets.UTF_8));
+        final List<Path> jars;
+        try (Stream<Path> files = Files.list(gameJar.getParent())) {
+            jars = files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        for (Path jar : jars) {
+            final BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+            hasher.putString(jar.getFileName().toString(), StandardCharsets.UTF_8)
+                    .putLong(attributes.size())
+                    .putLong(attributes.lastModifiedTime().toMillis());
+        }
+        return hasher.hash().toString();
+    }
+}
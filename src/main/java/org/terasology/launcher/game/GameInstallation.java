@@ -24,6 +24,8 @@ import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -59,6 +61,24 @@ public class GameInstallation implements Installation<GameIdentifier> {
         return getEngineVersion(path);
     }
 
+    /**
+     * Check that the installation is complete: the game jar and the engine version can be found, and all jars can be
+     * opened, e.g., after an extraction that was cut short.
+     *
+     * @throws IOException if something is missing or a jar is damaged
+     */
+    void verify() throws IOException {
+        getGameJarPath();
+        getEngineVersion();
+        for (Path jar : PageCacheWarmer.findJars(path)) {
+            try (ZipFile zip = new ZipFile(jar.toFile())) {
+                logger.trace("{} has {} entries", jar, zip.size());
+            } catch (ZipException e) {
+                throw new IOException("Damaged jar " + jar, e);
+            }
+        }
+    }
+
     /**
      * Locate the main game jar.
      * <p>
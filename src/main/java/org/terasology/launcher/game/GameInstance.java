@@ -0,0 +1,112 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import com.google.common.base.MoreObjects;
+import javafx.concurrent.Worker;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * A game started by the {@link GameService}, with the task that runs it and the resources it uses.
+ * <p>
+ * Instances are kept by the service after their game has exited, so that their state and resources can still be
+ * looked at.
+ */
+public class GameInstance {
+
+    private final int id;
+    private final GameInstallation installation;
+    private final LaunchMode mode;
+    private final Path gameDataDirectory;
+    private final Instant started;
+    private final RunGameTask task;
+    private final ResourceMonitor resourceMonitor;
+
+    GameInstance(int id, GameInstallation installation, LaunchMode mode, Path gameDataDirectory, RunGameTask task,
+                 ResourceMonitor resourceMonitor) {
+        this.id = id;
+        this.installation = installation;
+        this.mode = mode;
+        this.gameDataDirectory = gameDataDirectory;
+        this.started = Instant.now();
+        this.task = task;
+        this.resourceMonitor = resourceMonitor;
+    }
+
+    /**
+     * The number of this instance, counting from 1 for each run of the launcher.
+     */
+    public int getId() {
+        return id;
+    }
+
+    public GameInstallation getInstallation() {
+        return installation;
+    }
+
+    public LaunchMode getMode() {
+        return mode;
+    }
+
+    /**
+     * The {@code -homedir} of this game, where its saves, configuration, and logs go.
+     */
+    public Path getGameDataDirectory() {
+        return gameDataDirectory;
+    }
+
+    public Instant getStarted() {
+        return started;
+    }
+
+    /**
+     * The task running the game, see {@link GameService} for the meaning of its state and value.
+     */
+    public Worker<Boolean> getWorker() {
+        return task;
+    }
+
+    /**
+     * The process of the game, once it was started.
+     */
+    public Optional<ProcessHandle> getProcess() {
+        return Optional.ofNullable(task.getProcess()).map(Process::toHandle);
+    }
+
+    /**
+     * How long the game took to start, once it is ready or has exited; a restarted game has the times of its last
+     * start.
+     */
+    public Optional<LaunchTimings> getLaunchTimings() {
+        return Optional.ofNullable(task.getLaunchTimings());
+    }
+
+    public ResourceMonitor getResourceMonitor() {
+        return resourceMonitor;
+    }
+
+    /**
+     * Whether the game has not exited yet, safe to call from any thread.
+     */
+    public boolean isAlive() {
+        return !task.isDone();
+    }
+
+    RunGameTask getTask() {
+        return task;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("id", id)
+                .add("installation", installation)
+                .add("mode", mode)
+                .add("gameDataDirectory", gameDataDirectory)
+                .toString();
+    }
+}
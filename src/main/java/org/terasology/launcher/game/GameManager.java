@@ -3,7 +3,6 @@
 
 package org.terasology.launcher.game;
 
-import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableSet;
 import org.slf4j.Logger;
@@ -12,29 +11,42 @@ import org.terasology.launcher.model.GameIdentifier;
 import org.terasology.launcher.model.GameRelease;
 import org.terasology.launcher.remote.DownloadException;
 import org.terasology.launcher.remote.DownloadUtils;
+import org.terasology.launcher.remote.PeerCache;
 import org.terasology.launcher.remote.RemoteResource;
 import org.terasology.launcher.tasks.ProgressListener;
 import org.terasology.launcher.util.FileUtils;
+import org.terasology.launcher.util.Timings;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
-public class GameManager {
+public class GameManager implements Closeable {
 
     private static final Logger logger = LoggerFactory.getLogger(GameManager.class);
 
     private final Path cacheDirectory;
     private final Path installDirectory;
+    private final ReleasePrefetcher prefetcher;
+    private final PeerCache peerCache;
+    private final Executor updates;
 
     //TODO: should this be a map to installation metadata (install date, path, ...)?
+    // backed by a concurrent set, so that it can be read while games are installed in parallel without JavaFX
     private final ObservableSet<GameIdentifier> installedGames;
 
     /**
@@ -42,15 +54,40 @@ public class GameManager {
      *
      * @param cacheDirectory directory for cached downloads
      * @param installDirectory directory for installed games
+     * @param updates runs the changes to the installed games, e.g., {@code Platform::runLater} to change them on the
+     *                JavaFX application thread, or {@code Runnable::run} to change them right away
      */
-    public GameManager(Path cacheDirectory, Path installDirectory) {
+    public GameManager(Path cacheDirectory, Path installDirectory, Executor updates) {
+        this(cacheDirectory, installDirectory, null, updates);
+    }
+
+    /**
+     * Create a game manager that tries to get releases from other launchers on the local network first, and
+     * immediately scan the installation directory for installed games.
+     *
+     * @param cacheDirectory directory for cached downloads
+     * @param installDirectory directory for installed games
+     * @param peerCache the peer cache to fetch releases from, or {@code null} to always download from upstream
+     * @param updates runs the changes to the installed games, see {@link #GameManager(Path, Path, Executor)}
+     */
+    public GameManager(Path cacheDirectory, Path installDirectory, PeerCache peerCache, Executor updates) {
         this.cacheDirectory = cacheDirectory;
         this.installDirectory = installDirectory;
-        installedGames = FXCollections.observableSet();
+        this.prefetcher = new ReleasePrefetcher(cacheDirectory, this::download);
+        this.peerCache = peerCache;
+        this.updates = updates;
+        installedGames = FXCollections.observableSet(ConcurrentHashMap.newKeySet());
         //TODO: separate IO operation/remote call from construction of the manager object?
         scanInstallationDir();
     }
 
+    /**
+     * The directory for cached downloads and other data the launcher can recreate.
+     */
+    public Path getCacheDirectory() {
+        return cacheDirectory;
+    }
+
     /**
      * Installs the given release to the local file system.
      *
@@ -58,28 +95,65 @@ public class GameManager {
      * @param listener the object which is to be informed about task progress
      */
     public void install(GameRelease release, ProgressListener listener) throws IOException, DownloadException, InterruptedException {
-        final Path cachedZip = cacheDirectory.resolve(release.getFilename());
+        // releases from a local repository are extracted right where they are
+        final Path cachedZip = getLocalFile(release).orElse(cacheDirectory.resolve(release.getFilename()));
+
+        // take over a background download of this release, if any, instead of racing it for the same file
+        prefetcher.cancel(release.getId());
 
         // TODO: Properly validate cache and handle exceptions
         if (Files.notExists(cachedZip)) {
-            download(release, cachedZip, listener);
+            download(release, cachedZip, listener, 0);
         }
 
         if (!listener.isCancelled()) {
             final Path extractDir = getInstallDirectory(release.getId());
             FileUtils.extractZipTo(cachedZip, extractDir);
-            Platform.runLater(() -> installedGames.add(release.getId()));
+            updates.execute(() -> installedGames.add(release.getId()));
             logger.info("Finished installing package: {}", release.getId());
         }
     }
 
     /**
+     * Download the given release into the cache in the background, so that a later {@link #install} only needs to
+     * extract it. Does nothing if the release is already installed or cached.
+     *
+     * @param release           the game release to be downloaded
+     * @param maxBytesPerSecond the bandwidth limit for the download, or 0 for no limit
+     * @param diskBudget        the maximum size of the cache directory in bytes
+     */
+    public void prefetch(GameRelease release, long maxBytesPerSecond, long diskBudget) {
+        if (!installedGames.contains(release.getId()) && getLocalFile(release).isEmpty()) {
+            prefetcher.prefetch(release, cacheDirectory.resolve(release.getFilename()), maxBytesPerSecond, diskBudget);
+        }
+    }
+
+    private static Optional<Path> getLocalFile(GameRelease release) {
+        if (release.getUrl() == null || !"file".equals(release.getUrl().getProtocol())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Paths.get(release.getUrl().toURI()));
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            logger.warn("Invalid local release location '{}'", release.getUrl(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Get the given release from the peer cache, if any, or download it from upstream otherwise. Also used for
+     * prefetching, so that background downloads take the same path.
+     *
+     * @param maxBytesPerSecond the bandwidth limit for the download from upstream, or 0 for no limit
      * @deprecated Use {@link DownloadUtils#download(RemoteResource, Path, ProgressListener)} instead.
      */
     @Deprecated
-    private void download(GameRelease release, Path targetLocation, ProgressListener listener)
+    private void download(GameRelease release, Path targetLocation, ProgressListener listener, long maxBytesPerSecond)
             throws DownloadException, IOException, InterruptedException {
-        DownloadUtils downloader = new DownloadUtils();
+        if (peerCache != null && peerCache.fetch(release, targetLocation, listener)) {
+            return;
+        }
+        DownloadUtils downloader = new DownloadUtils(maxBytesPerSecond);
         try {
             downloader.download(release, targetLocation, listener).get();
         } catch (ExecutionException e) {
@@ -99,10 +173,32 @@ public class GameManager {
                 .map(Path::toFile)
                 .forEach(File::delete);
 
-        Platform.runLater(() -> installedGames.remove(game));
+        updates.execute(() -> installedGames.remove(game));
         logger.info("Finished removing package: {}", game);
     }
 
+    /**
+     * Check that the given game is installed completely: its game jar and engine version can be found, and all its jars
+     * can be opened.
+     *
+     * @param game the game release to be checked
+     * @throws IOException describing the first problem found
+     */
+    public void verify(GameIdentifier game) throws IOException {
+        getInstallation(game).verify();
+    }
+
+    /**
+     * Stop prefetching, and stop sharing the download cache with other launchers on the local network.
+     */
+    @Override
+    public void close() {
+        prefetcher.close();
+        if (peerCache != null) {
+            peerCache.close();
+        }
+    }
+
     /**
      * Retrieve the set of installed games as observable set.
      *
@@ -116,6 +212,13 @@ public class GameManager {
         return installDirectory.resolve(id.getProfile().name()).resolve(id.getBuild().name()).resolve(id.getDisplayVersion());
     }
 
+    /**
+     * The time the given game was installed, approximated by the modification time of its installation directory.
+     */
+    public Date getInstallationDate(GameIdentifier id) {
+        return new Date(getInstallDirectory(id).toFile().lastModified());
+    }
+
     public GameInstallation getInstallation(GameIdentifier id) throws FileNotFoundException {
         return GameInstallation.getExisting(getInstallDirectory(id));
     }
@@ -125,20 +228,26 @@ public class GameManager {
      */
     private void scanInstallationDir() {
         Set<GameIdentifier> localGames;
+        try {
+            localGames = Timings.time(Timings.Kind.SCAN, installDirectory.toString(), this::findInstalledGames);
+        } catch (IOException e) {
+            logger.warn("Error while scanning installation directory {}:", installDirectory, e);
+            return;
+        }
+        updates.execute(() -> installedGames.addAll(localGames));
+    }
+
+    private Set<GameIdentifier> findInstalledGames() throws IOException {
         try (var directories = Files.walk(installDirectory, 3)) {
             var gameDirectories = directories
                     .filter(Files::isDirectory)
                     // Skip the intermediate directories.
                     .filter(d -> installDirectory.relativize(d).getNameCount() == 3);
-            localGames = gameDirectories
+            return gameDirectories
                     .map(GameInstallation::new)
                     .map(GameInstallation::getInfo)
                     .filter(Objects::nonNull)
                     .collect(Collectors.toUnmodifiableSet());
-        } catch (IOException e) {
-            logger.warn("Error while scanning installation directory {}:", installDirectory, e);
-            return;
         }
-        Platform.runLater(() -> installedGames.addAll(localGames));
     }
 }
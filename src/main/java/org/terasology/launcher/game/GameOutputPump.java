@@ -0,0 +1,180 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.util.SpscRingBuffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Moves the output of the game process to the launcher without ever making the game wait.
+ * <p>
+ * The calling thread only reads the raw bytes from the process, writes them unchanged to the game output log, and
+ * splits them into lines that it puts into a bounded ring buffer. A second thread takes the lines from the buffer and
+ * hands them to the launcher log. If the game is faster than the launcher log, lines are left out of the launcher log
+ * according to the {@link OutputOverflow} policy, instead of growing the memory of the launcher or filling the pipe of
+ * the process, which would stall the game.
+ * <p>
+ * Until the game has started, each line is also decoded and tested for the start of the game on the calling thread.
+ */
+final class GameOutputPump {
+
+    static final int CAPACITY = 1024;
+
+    /**
+     * Longer lines are cut off in the launcher log, but not in the game output log.
+     */
+    static final int MAX_LINE_LENGTH = 16 * 1024;
+
+    /**
+     * With {@link OutputOverflow#SAMPLE}, only one of this many lines is passed on once the buffer is half full.
+     */
+    static final int SAMPLE_RATE = 10;
+
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final Logger logger = LoggerFactory.getLogger(GameOutputPump.class);
+
+    private final SpscRingBuffer<byte[]> lines = new SpscRingBuffer<>(CAPACITY);
+    private final Predicate<String> startup;
+    private final Consumer<String> sink;
+    private final OutputOverflow overflow;
+    private final OutputStream log;
+    private final Charset charset = Charset.defaultCharset();
+
+    private final byte[] line = new byte[MAX_LINE_LENGTH];
+    private int lineLength;
+    private boolean started;
+    private boolean logFailed;
+    private long sampled;
+    private long skipped;
+
+    private volatile boolean done;
+    private volatile Thread consumer;
+
+    /**
+     * @param startup  tests the lines until the game has started, i.e., until it returns true for the first time
+     * @param sink     takes the lines for the launcher log, on a thread of its own
+     * @param overflow what to do if the sink does not keep up
+     * @param log      takes the raw output of the game, if not null
+     */
+    GameOutputPump(Predicate<String> startup, Consumer<String> sink, OutputOverflow overflow, OutputStream log) {
+        this.startup = startup;
+        this.sink = sink;
+        this.overflow = overflow;
+        this.log = log;
+    }
+
+    /**
+     * Pump the given output of the process until it ends, and until all lines were passed on.
+     */
+    void pump(InputStream output) throws IOException, InterruptedException {
+        final Thread thread = new Thread(this::drain, "GameOutput");
+        thread.setDaemon(true);
+        consumer = thread;
+        thread.start();
+        try {
+            final byte[] chunk = new byte[CHUNK_SIZE];
+            int length;
+            while ((length = output.read(chunk)) != -1) {
+                writeLog(chunk, length);
+                split(chunk, length);
+            }
+            if (lineLength > 0) {
+                endLine();
+            }
+        } finally {
+            done = true;
+            LockSupport.unpark(thread);
+            thread.join();
+            if (skipped > 0) {
+                logger.warn("Left {} lines of game output out of the launcher log.", skipped);
+            }
+        }
+    }
+
+    /**
+     * The number of lines left out of the launcher log.
+     */
+    long getSkipped() {
+        return skipped;
+    }
+
+    private void writeLog(byte[] chunk, int length) {
+        if (log == null || logFailed) {
+            return;
+        }
+        try {
+            log.write(chunk, 0, length);
+            log.flush();
+        } catch (IOException e) {
+            logger.warn("Could not write the game output log, continuing without it.", e);
+            logFailed = true;
+        }
+    }
+
+    private void split(byte[] chunk, int length) {
+        for (int i = 0; i < length; i++) {
+            final byte b = chunk[i];
+            if (b == '\n') {
+                endLine();
+            } else if (lineLength < MAX_LINE_LENGTH) {
+                line[lineLength++] = b;
+            }
+        }
+    }
+
+    private void endLine() {
+        int length = lineLength;
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        lineLength = 0;
+        if (!started) {
+            // only decoded here until the game has started, the sink decodes the lines it takes
+            started = startup.test(new String(line, 0, length, charset));
+        }
+        offer(Arrays.copyOf(line, length));
+    }
+
+    private void offer(byte[] bytes) {
+        final boolean crowded = lines.size() >= lines.capacity() / 2;
+        if (overflow == OutputOverflow.SAMPLE && crowded && sampled++ % SAMPLE_RATE != 0) {
+            skipped++;
+            return;
+        }
+        if (lines.offer(bytes)) {
+            LockSupport.unpark(consumer);
+        } else {
+            skipped++;
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            final byte[] bytes = lines.poll();
+            if (bytes != null) {
+                sink.accept(new String(bytes, charset));
+            } else if (done) {
+                // the producer is done, so nothing can be added after this check
+                if (lines.isEmpty()) {
+                    return;
+                }
+            } else {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+        }
+    }
+}
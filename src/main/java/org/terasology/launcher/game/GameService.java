@@ -4,158 +4,360 @@
 package org.terasology.launcher.game;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
-import javafx.concurrent.Service;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.concurrent.Worker;
+import javafx.concurrent.WorkerStateEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.terasology.launcher.jre.JreManager;
+import org.terasology.launcher.jre.JvmProfile;
+import org.terasology.launcher.jre.JvmTuning;
 import org.terasology.launcher.platform.UnsupportedPlatformException;
 import org.terasology.launcher.settings.Settings;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
-import static com.google.common.base.Verify.verifyNotNull;
+import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
- * This service starts and monitors the game process.
+ * This service starts and monitors game processes, each as a {@link GameInstance}.
  * <p>
- * Its {@linkplain #GameService() constructor} requires no arguments. Use {@link #start(GameInstallation, Settings)} to
- * start the game process; the zero-argument form of {@code start()} will not have enough information.
+ * Use {@link #start(GameInstallation, Settings)} to start a game, or
+ * {@link #start(GameInstallation, Settings, LaunchMode)} to start it as a dedicated server. It runs in a
+ * {@link RunGameTask} of its own, which is provided by the instance as a {@link Worker}.
  * <p>
- * The Boolean value of this service is true when it believes the game process has started <em>successfully.</em>
- * There will be some time between when this service is started and when that value is set. It can be observed on
- * {@link #valueProperty()} or retrieved as {@link #getValue()}.
+ * The Boolean value of a task is true when it believes the game process has started <em>successfully.</em>
+ * There will be some time between when the task is started and when that value is set. It can be observed on
+ * {@link Worker#valueProperty()} or retrieved as {@link Worker#getValue()}.
  * <p>
- * The {@link Worker} interface of this Service provides a proxy to its current {@link RunGameTask}.
  * Many of the methods the Worker interface defines are not used by this task type. In particular, the
  * {@link Worker#progressProperty() progress} and {@link Worker#workDoneProperty() workDone} properties have no
  * information for you that reflect the state of the game process.
  * <p>
- * This service will be in {@link State#RUNNING RUNNING} state as long as the game process is live. It enters
- * {@link State#SUCCEEDED SUCCEEDED} after the game process exits with no error code, or {@link State#FAILED FAILED} if
- * the game failed to start or it terminates with an error. Whether it succeeded or failed, the service will then
- * reset to {@link State#READY READY} to be started again.
+ * A task will be in {@link Worker.State#RUNNING RUNNING} state as long as the game process is live. It enters
+ * {@link Worker.State#SUCCEEDED SUCCEEDED} after the game process exits with no error code, or
+ * {@link Worker.State#FAILED FAILED} if the game failed to start or it terminates with an error.
  * <p>
- * This service {@linkplain #cancel() does not support cancellation}.
+ * Several games can run at the same time, e.g., a server and its clients. The first game uses the game data directory
+ * of the settings. Games started while another game uses that directory get a directory of their own below it,
+ * {@code instances/<id>}, so that they do not share saves, configuration, and logs. Each game writes its complete
+ * output to {@code logs/game-output.log} in its data directory. Dedicated servers do the same with the server data
+ * directory of the settings, so they never share data with clients.
+ * <p>
+ * Games that crash get a crash report with their last output next to their output log. Depending on the
+ * {@link RestartPolicy} of the settings, they are also started again, see {@link CrashSupervisor}; their task keeps
+ * running meanwhile.
+ * <p>
+ * The startup of each game is timed, see {@link LaunchTimings}, and kept in the {@link LaunchHistory} of its
+ * installation, if a {@linkplain #setCacheDirectory(Path) cache directory} was given.
+ * <p>
+ * The tasks do not support cancellation. We do not terminate a running game process, and we don't want to lose our
+ * thread keeping track of the process while it's still live.
  * <ul>
  *   <li>For details on how the arguments to the process are constructed, see the source for {@link GameStarter}.
  *   <li>For details on how output from the game process is treated, see {@link RunGameTask}.
  * </ul>
  */
-public class GameService extends Service<Boolean> {
+public class GameService {
     private static final Logger logger = LoggerFactory.getLogger(GameService.class);
 
-    private GameInstallation gamePath;
-    private Settings settings;
+    /**
+     * The complete output of the last games, next to the logs the game writes itself.
+     */
+    private static final Path OUTPUT_LOG = Paths.get("logs", "game-output.log");
+
+    /**
+     * The directory, below the game data directory, with the data directories of the games that run side by side.
+     */
+    private static final Path INSTANCES = Paths.get("instances");
+
+    /**
+     * The directory, below the game data directory, used by dedicated servers unless the settings name another one.
+     */
+    private static final Path SERVER = Paths.get("server");
+
+    /**
+     * The directory, below the cache directory of the launcher, with the launch histories of all installations.
+     */
+    private static final Path LAUNCH_HISTORIES = Paths.get("launch-timings");
+
+    /**
+     * The number of instances kept after their game has exited.
+     */
+    static final int MAX_FINISHED = 10;
+
+    private final LaunchPlanCache launchPlans = new LaunchPlanCache();
+    private final PageCacheWarmer warmer = new PageCacheWarmer();
+    private final ObservableList<GameInstance> instances = FXCollections.observableArrayList();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+    private final ExecutorService executor;
+    private final Map<Path, LaunchHistory> launchHistories = new ConcurrentHashMap<>();
+    private JreManager jreManager = JreManager.ofCurrentRuntime();
+    private volatile Path launchHistoryDirectory;
 
     public GameService() {
-        setExecutor(Executors.newSingleThreadExecutor(
+        executor = Executors.newCachedThreadPool(
                 new ThreadFactoryBuilder()
                         .setNameFormat("GameService-%d")
                         .setDaemon(true)
                         .setUncaughtExceptionHandler(this::exceptionHandler)
                         .build()
-        ));
+        );
     }
 
     /**
-     * Start a new game process with these settings.
+     * Start a new game process with these settings, on the JavaFX application thread.
      *
      * @param gameInstallation the directory under which we will find libs/Terasology.jar, also used as the process's
-     *                     working directory
-     * @param settings     supplies other settings relevant to configuring a process
+     *                         working directory
+     * @param settings         supplies other settings relevant to configuring a process
+     * @return the new instance, which is also added to the {@linkplain #getInstances() instances}
+     * @throws RuntimeException when required files in the game directory are missing or inaccessible
      */
-    @SuppressWarnings("checkstyle:HiddenField")
-    public void start(GameInstallation gameInstallation, Settings settings) {
-        this.gamePath = gameInstallation;
-        this.settings = settings;
-
-        start();
+    public GameInstance start(GameInstallation gameInstallation, Settings settings) {
+        return start(gameInstallation, settings, LaunchMode.CLIENT);
     }
 
     /**
-     * Use {@link #start(GameInstallation, Settings)} instead.
+     * Start a new game process with these settings in the given mode, on the JavaFX application thread.
      * <p>
-     * It is an error to call this method before providing the configuration.
+     * Dedicated servers use the server data directory, JVM profile, and parameters of the settings instead of the
+     * ones for clients.
+     *
+     * @param gameInstallation the directory under which we will find libs/Terasology.jar, also used as the process's
+     *                         working directory
+     * @param settings         supplies other settings relevant to configuring a process
+     * @param mode             whether to start the game for playing, or as a dedicated server
+     * @return the new instance, which is also added to the {@linkplain #getInstances() instances}
+     * @throws RuntimeException when required files in the game directory are missing or inaccessible
      */
-    @Override
-    public void start() {
-        super.start();
+    public GameInstance start(GameInstallation gameInstallation, Settings settings, LaunchMode mode) {
+        checkNotNull(gameInstallation);
+        checkNotNull(settings);
+        checkNotNull(mode);
+
+        final int id = nextId.getAndIncrement();
+        final Path gameDataDirectory = getGameDataDirectory(instances, getSharedDataDirectory(settings, mode), id);
+        final ResourceMonitor resourceMonitor = new ResourceMonitor();
+        final RunGameTask task = createTask(gameInstallation, settings, mode, gameDataDirectory, resourceMonitor);
+        final GameInstance instance =
+                new GameInstance(id, gameInstallation, mode, gameDataDirectory, task, resourceMonitor);
+        // "Uncaught" exceptions from javafx's Task are actually caught and kept in a property,
+        // so if we want them logged we have to explicitly dig them out.
+        task.addEventHandler(WorkerStateEvent.WORKER_STATE_FAILED, event -> {
+            if (task.getException() != null) {
+                exceptionHandler(Thread.currentThread(), task.getException());
+            }
+        });
+
+        removeFinished();
+        instances.add(instance);
+        logger.info("Starting game {} as {} with data directory {}", id, mode, gameDataDirectory);
+        executor.submit(task);
+        return instance;
     }
 
     /**
-     * Cancellation is unsupported. Do not attempt this method.
-     * <p>
-     * Rationale: We do not terminate a running game process, and we don't want to lose our thread keeping track of
-     * the process while it's still live. If we did, our “is a game already running?” logic would fail.
+     * Start a new game process with these settings in the given mode, without watching over it, for running without
+     * JavaFX, see {@link org.terasology.launcher.CommandLine}.
      * <p>
-     * If you are using this with some kind of generic Service Manager that always invokes this method as part of an
-     * orderly shutdown, that could be a good reason to change this from throwing an exception to logging a warning.
-     * Until then, this fails loudly so you won't call this method thinking it does something and then become confused
-     * when nothing happens.
+     * The game is neither restarted when it crashes nor timed, and is not added to the
+     * {@linkplain #getInstances() instances}. Its output is appended to the output log in its data directory.
      *
-     * @throws UnsupportedOperationException always
+     * @return the process of the game
+     * @throws IOException when the process could not be started
+     * @throws RuntimeException when required files in the game directory are missing or inaccessible
      */
-    @Override
-    public boolean cancel() {
-        throw new UnsupportedOperationException("GameService does not cancel.");
+    public Process startDetached(GameInstallation gameInstallation, Settings settings, LaunchMode mode)
+            throws GameVersionNotSupportedException, IOException {
+        checkNotNull(gameInstallation);
+        checkNotNull(settings);
+        checkNotNull(mode);
+
+        final Path gameDataDirectory = getSharedDataDirectory(settings, mode);
+        final Path outputLog = gameDataDirectory.resolve(OUTPUT_LOG);
+        Files.createDirectories(outputLog.getParent());
+        final GameStarter starter = createStarter(getPlan(gameInstallation), settings, mode, gameDataDirectory);
+        starter.processBuilder.redirectOutput(ProcessBuilder.Redirect.appendTo(outputLog.toFile()));
+        logger.info("Starting detached game as {} with data directory {}", mode, gameDataDirectory);
+        return starter.call();
     }
 
     /**
-     * Restarting is unsupported. Do not attempt this method.
+     * The games started by this service, oldest first, including the last few that have exited.
      * <p>
-     * See {@link #cancel()} for rationale.
+     * Only changed on the JavaFX application thread.
+     */
+    public ObservableList<GameInstance> getInstances() {
+        return FXCollections.unmodifiableObservableList(instances);
+    }
+
+    /**
+     * Whether any game is still running.
+     */
+    public boolean isRunning() {
+        return instances.stream().anyMatch(GameInstance::isAlive);
+    }
+
+    /**
+     * Choose the runtimes for games from the given ones, instead of only the runtime the launcher runs on. The runtime
+     * of each installation is chosen again whenever the runtimes change, e.g., after one was provisioned.
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    public void setJreManager(JreManager jreManager) {
+        this.jreManager = jreManager;
+        jreManager.addListener(launchPlans::invalidate);
+        launchPlans.invalidate();
+    }
+
+    /**
+     * Keep the startup times of the games below the given cache directory of the launcher.
      */
-    @Override
-    public void restart() {
-        super.restart();
+    public void setCacheDirectory(Path cacheDirectory) {
+        launchHistoryDirectory = cacheDirectory.resolve(LAUNCH_HISTORIES);
+        launchHistories.clear();
     }
 
     /**
-     * Creates a new task to run the game with the current settings.
+     * Forget what is known about the installed games, e.g., after games were installed or removed.
      * <p>
-     * This class's configuration fields <em>must</em> be set before this is called.
+     * Starting a game resolves the engine version, game jar, and runtime of its installation only once, and reuses
+     * them as long as the installation is not modified.
+     */
+    public void invalidateLaunchPlans() {
+        launchPlans.invalidate();
+    }
+
+    /**
+     * Read the jars of the installation in the background, shortly, so that the next start of it does not wait for
+     * the disk. Replaces any warm-up asked for before.
+     */
+    public void warmUp(GameInstallation gameInstallation) {
+        warmer.warmUp(gameInstallation.getPath());
+    }
+
+    /**
+     * Stop warming up, e.g., before an installation is removed.
+     */
+    public void cancelWarmUp() {
+        warmer.cancel();
+    }
+
+    /**
+     * The data directory the first game of the given mode uses.
+     */
+    static Path getSharedDataDirectory(Settings settings, LaunchMode mode) {
+        if (mode == LaunchMode.SERVER) {
+            final Path serverDataDirectory = settings.serverDataDirectory.get();
+            return serverDataDirectory != null ? serverDataDirectory : settings.gameDataDirectory.get().resolve(SERVER);
+        }
+        return settings.gameDataDirectory.get();
+    }
+
+    /**
+     * The given directory if none of the running games uses it, or a directory of its own for the game with the
+     * given id.
+     */
+    static Path getGameDataDirectory(List<GameInstance> instances, Path shared, int id) {
+        final boolean inUse = instances.stream()
+                .anyMatch(instance -> instance.isAlive() && instance.getGameDataDirectory().equals(shared));
+        return inUse ? shared.resolve(INSTANCES).resolve(Integer.toString(id)) : shared;
+    }
+
+    /**
+     * Creates a new task to run the game with the given settings.
      *
-     * @throws com.google.common.base.VerifyException when fields are unset
-     * @throws RuntimeException                       when required files in the game directory are missing or inaccessible
+     * @throws RuntimeException when required files in the game directory are missing or inaccessible
+     */
+    private RunGameTask createTask(GameInstallation gamePath, Settings settings, LaunchMode mode,
+                                   Path gameDataDirectory, ResourceMonitor resourceMonitor)
+            throws GameVersionNotSupportedException {
+        final JvmProfile profile = getProfile(settings, mode);
+        final LaunchPlan plan = getPlan(gamePath);
+        final GameStarter starter = createStarter(plan, settings, mode, gameDataDirectory);
+        final CrashSupervisor supervisor = settings.restartPolicy.get().appliesTo(mode) ? new CrashSupervisor() : null;
+        final LaunchTimer launchTimer = new LaunchTimer(getLaunchHistory(gamePath), mode, profile,
+                plan.getJavaVersion(), starter.isUsingSharedArchive());
+        return new RunGameTask(starter, resourceMonitor, settings.gameOutputOverflow.get(),
+                gameDataDirectory.resolve(OUTPUT_LOG), supervisor, launchTimer);
+    }
+
+    /**
+     * The history shared by all games of the installation, or null if none are kept.
      */
-    @Override
-    protected RunGameTask createTask() throws GameVersionNotSupportedException {
-        verifyNotNull(settings);
+    private LaunchHistory getLaunchHistory(GameInstallation gamePath) {
+        final Path directory = launchHistoryDirectory;
+        if (directory == null) {
+            return null;
+        }
+        return launchHistories.computeIfAbsent(gamePath.getPath(), path -> new LaunchHistory(directory, path));
+    }
 
-        GameStarter starter;
+    /**
+     * @throws RuntimeException when required files in the game directory are missing or inaccessible
+     */
+    private LaunchPlan getPlan(GameInstallation gamePath) throws GameVersionNotSupportedException {
         try {
-            starter = new GameStarter(verifyNotNull(gamePath), settings.gameDataDirectory.get(),
-                    settings.minHeapSize.get(), settings.maxHeapSize.get(),
-                    settings.userJavaParameters.get(),
-                    settings.userGameParameters.get(),
-                    settings.logLevel.get());
+            return launchPlans.get(gamePath, jreManager);
         } catch (IOException | UnsupportedPlatformException e) {
             throw new RuntimeException("Error using this as a game directory: " + gamePath, e);
         }
-        return new RunGameTask(starter);
+    }
+
+    private GameStarter createStarter(LaunchPlan plan, Settings settings, LaunchMode mode, Path gameDataDirectory) {
+        final boolean server = mode == LaunchMode.SERVER;
+        return new GameStarter(plan,
+                gameDataDirectory,
+                settings.minHeapSize.get(), settings.maxHeapSize.get(),
+                getTuningParameters(plan, settings, getProfile(settings, mode)),
+                settings.userJavaParameters.get(),
+                server ? settings.userServerParameters.get() : settings.userGameParameters.get(),
+                settings.logLevel.get(),
+                mode);
+    }
+
+    private static JvmProfile getProfile(Settings settings, LaunchMode mode) {
+        return mode == LaunchMode.SERVER ? settings.serverJvmProfile.get() : settings.jvmProfile.get();
     }
 
     /**
-     * After a task completes, reset to ready for the next.
+     * Forget the oldest instances whose game has exited, keeping the last few.
      */
-    @Override
-    protected void succeeded() {
-        reset();  // Ready to go again!
+    private void removeFinished() {
+        final List<GameInstance> finished = instances.stream()
+                .filter(instance -> !instance.isAlive())
+                .collect(Collectors.toList());
+        if (finished.size() >= MAX_FINISHED) {
+            instances.removeAll(finished.subList(0, finished.size() - MAX_FINISHED + 1));
+        }
     }
 
     /**
-     * Checks to see if the failure left any exceptions behind, then resets to ready.
+     * The options of the given {@link JvmProfile} for the runtime of the plan, leaving out what the user set
+     * explicitly.
      */
-    @Override
-    protected void failed() {
-        // "Uncaught" exceptions from javafx's Task are actually caught and kept in a property,
-        // so if we want them logged we have to explicitly dig them out.
-        var error = getException();
-        if (error != null) {
-            exceptionHandler(Thread.currentThread(), error);
+    private static List<String> getTuningParameters(LaunchPlan plan, Settings settings, JvmProfile profile) {
+        final List<String> explicit = new ArrayList<>(settings.userJavaParameters.get());
+        if (settings.minHeapSize.get().isUsed()) {
+            explicit.add("-Xms" + settings.minHeapSize.get().getSizeParameter());
+        }
+        if (settings.maxHeapSize.get().isUsed()) {
+            explicit.add("-Xmx" + settings.maxHeapSize.get().getSizeParameter());
         }
-        reset();  // Ready to try again!
+        return JvmTuning.getOptions(profile, JvmTuning.Host.current(), plan.getJavaVersion(),
+                explicit);
     }
 
     private void exceptionHandler(Thread thread, Throwable thrown) {
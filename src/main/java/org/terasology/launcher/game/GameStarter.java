@@ -7,13 +7,13 @@ import org.semver4j.Semver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
+import org.terasology.launcher.jre.JreManager;
+import org.terasology.launcher.jre.JvmProfile;
 import org.terasology.launcher.platform.UnsupportedPlatformException;
 import org.terasology.launcher.util.JavaHeapSize;
-import org.terasology.launcher.platform.Platform;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -27,6 +27,7 @@ final class GameStarter implements Callable<Process> {
     private static final Logger logger = LoggerFactory.getLogger(GameStarter.class);
 
     final ProcessBuilder processBuilder;
+    private final GameClassDataSharing classDataSharing;
 
     /**
      * @param gameInstallation      the directory under which we will find {@code libs/Terasology.jar}, also used as the process's
@@ -41,13 +42,30 @@ final class GameStarter implements Callable<Process> {
     GameStarter(GameInstallation gameInstallation, Path gameDataDirectory, JavaHeapSize heapMin, JavaHeapSize heapMax,
                 List<String> javaParams, List<String> gameParams, Level logLevel)
             throws IOException, GameVersionNotSupportedException, UnsupportedPlatformException {
-        Semver engineVersion = gameInstallation.getEngineVersion();
-        var gamePath = gameInstallation.getPath();
+        this(LaunchPlan.resolve(gameInstallation, JreManager.ofCurrentRuntime()), gameDataDirectory, heapMin, heapMax,
+                List.of(), javaParams, gameParams, logLevel, LaunchMode.CLIENT);
+    }
+
+    /**
+     * @param plan              the resolved installation to start, see {@link LaunchPlanCache}
+     * @param gameDataDirectory {@code -homedir}, the directory where Terasology's data files (saves & etc) are kept
+     * @param heapMin           java's {@code -Xms}
+     * @param heapMax           java's {@code -Xmx}
+     * @param tuningParams      arguments for the {@code java} command line chosen by a {@link JvmProfile}
+     * @param javaParams        additional arguments for the {@code java} command line
+     * @param gameParams        additional arguments for the Terasology command line
+     * @param logLevel          the minimum level of log events Terasology will include on its output stream to us
+     * @param mode              whether to start the game with its window, or as a headless dedicated server
+     */
+    GameStarter(LaunchPlan plan, Path gameDataDirectory, JavaHeapSize heapMin, JavaHeapSize heapMax,
+                List<String> tuningParams, List<String> javaParams, List<String> gameParams, Level logLevel,
+                LaunchMode mode) {
+        Semver engineVersion = plan.getEngineVersion();
+        var gamePath = plan.getInstallation();
 
-        final boolean isMac = Platform.getPlatform().isMac();
         final List<String> processParameters = new ArrayList<>();
 
-        processParameters.add(getRuntimePath(engineVersion).toString());
+        processParameters.add(plan.getRuntime().toString());
 
         if (heapMin.isUsed()) {
             processParameters.add("-Xms" + heapMin.getSizeParameter());
@@ -57,23 +75,40 @@ final class GameStarter implements Callable<Process> {
         }
         processParameters.add("-DlogOverrideLevel=" + logLevel.name());
 
-        if (isMac && VersionHistory.LWJGL3.isProvidedBy(engineVersion)) {
+        if (mode == LaunchMode.SERVER) {
+            // no window, so neither LWJGL nor awt need a display
+            processParameters.add("-Djava.awt.headless=true");
+        } else if (plan.isStartOnFirstThread()) {
             processParameters.add("-XstartOnFirstThread");  // lwjgl3 requires this on OS X
             // awt didn't work either, but maybe fixed on newer versions?
             //   https://github.com/LWJGLX/lwjgl3-awt/issues/1
             processParameters.add("-Djava.awt.headless=true");
         }
 
+        // the user's own parameters come last, so that they override the tuning
+        processParameters.addAll(tuningParams);
         processParameters.addAll(javaParams);
 
+        classDataSharing = plan.getClassDataSharingKey()
+                .flatMap(key -> GameClassDataSharing.of(gamePath, key, javaParams))
+                .orElse(null);
+        if (classDataSharing != null) {
+            processParameters.addAll(classDataSharing.getJavaParameters());
+        }
+
         processParameters.add("-jar");
-        processParameters.add(gameInstallation.getGameJarPath().toString());
+        processParameters.add(plan.getGameJar().toString());
 
         // Parameters after this are for the game facade, not the java runtime.
         processParameters.add(homeDirParameter(gameDataDirectory, engineVersion));
+        if (mode == LaunchMode.SERVER) {
+            // a server has no one to show a crash report to, and no window for a splash screen
+            processParameters.add(headlessParameter(engineVersion));
+            processParameters.add(noCrashReportParameter(engineVersion));
+        }
         processParameters.addAll(gameParams);
 
-        if (isMac) {
+        if (mode == LaunchMode.CLIENT && plan.isMac()) {
             // splash screen uses awt, so no awt => no splash
             processParameters.add(noSplashParameter(engineVersion));
         }
@@ -92,23 +127,18 @@ final class GameStarter implements Callable<Process> {
     @Override
     public Process call() throws IOException {
         logger.info("Starting game with: {}", String.join(" ", processBuilder.command()));
-        return processBuilder.start();
+        final Process process = processBuilder.start();
+        if (classDataSharing != null) {
+            process.onExit().thenAccept(exited -> classDataSharing.archived(exited.exitValue()));
+        }
+        return process;
     }
 
     /**
-     * @return the executable {@code java} file to run the game with
+     * Whether the game uses a class data sharing archive, managed by the launcher or configured by the user.
      */
-    Path getRuntimePath(Semver engineVersion) throws GameVersionNotSupportedException {
-        //TODO: Select the right JRE based on VersionHistory#getJavaVersionForEngine. Probably something along the lines
-        //      of the following:
-        //        Semver minJavaVersion = VersionHistory.getJavaVersionForEngine(engineVersion); // may throw GameVersionNotSupportedException
-        //        <Installation> JRE jre = JreManager.getJreFor(platform, minJavaVersion);       // may throw GameVersionNotSupportedException
-        //        return Paths.get(jre.getPath(), "bin", "java");
-        if (VersionHistory.JAVA17.isProvidedBy(engineVersion)) {
-            // throw exception as the version is not supported
-            throw new GameVersionNotSupportedException(engineVersion);
-        }
-        return Paths.get(System.getProperty("java.home"), "bin", "java");
+    boolean isUsingSharedArchive() {
+        return processBuilder.command().stream().anyMatch(param -> param.startsWith("-XX:SharedArchiveFile"));
     }
 
     String homeDirParameter(Path gameDataDirectory, Semver engineVersion) {
@@ -123,6 +153,14 @@ final class GameStarter implements Callable<Process> {
         return terasologyUsesPosixOptions(engineVersion) ? "--no-splash" : "-noSplash";
     }
 
+    String headlessParameter(Semver engineVersion) {
+        return terasologyUsesPosixOptions(engineVersion) ? "--headless" : "-headless";
+    }
+
+    String noCrashReportParameter(Semver engineVersion) {
+        return terasologyUsesPosixOptions(engineVersion) ? "--no-crash-report" : "-noCrashReport";
+    }
+
     boolean terasologyUsesPosixOptions(Semver engineVersion) {
         return VersionHistory.PICOCLI.isProvidedBy(engineVersion);
     }
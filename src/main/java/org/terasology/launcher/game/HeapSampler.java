@@ -0,0 +1,108 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import com.sun.tools.attach.VirtualMachine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.game.ResourceHistory.Metric;
+
+import javax.management.MBeanServerConnection;
+import javax.management.remote.JMXConnector;
+import javax.management.remote.JMXConnectorFactory;
+import javax.management.remote.JMXServiceURL;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryUsage;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Samples the heap and garbage collection of a Java process over JMX.
+ * <p>
+ * The connection is made with the attach API, which starts the local management agent of the game and only works for
+ * processes of the same user. It is not available if the launcher runs on a runtime without the {@code jdk.attach}
+ * module, or if the game was started with {@code -XX:+DisableAttachMechanism}.
+ */
+final class HeapSampler implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeapSampler.class);
+
+    private final JMXConnector connector;
+    private final MemoryMXBean memory;
+    private final List<GarbageCollectorMXBean> collectors;
+
+    private HeapSampler(JMXConnector connector) throws IOException {
+        this.connector = connector;
+        final MBeanServerConnection connection = connector.getMBeanServerConnection();
+        this.memory = ManagementFactory.newPlatformMXBeanProxy(connection, ManagementFactory.MEMORY_MXBEAN_NAME,
+                MemoryMXBean.class);
+        this.collectors = ManagementFactory.getPlatformMXBeans(connection, GarbageCollectorMXBean.class);
+    }
+
+    /**
+     * Connect to the Java process with the given id.
+     *
+     * @return the sampler, or empty if the process cannot be attached to (yet)
+     */
+    static Optional<HeapSampler> attach(long pid) {
+        try {
+            final VirtualMachine vm = VirtualMachine.attach(Long.toString(pid));
+            final String address;
+            try {
+                address = vm.startLocalManagementAgent();
+            } finally {
+                vm.detach();
+            }
+            return Optional.of(new HeapSampler(JMXConnectorFactory.connect(new JMXServiceURL(address))));
+        } catch (LinkageError e) {
+            logger.debug("The attach API is not available, not sampling the heap of the game.");
+            return Optional.empty();
+        } catch (Exception e) { //NOPMD(AvoidCatchingGenericException) the attach API throws several exception types
+            logger.debug("Could not attach to process {}: {}", pid, e.toString());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Whether the attach API is available in this runtime at all.
+     */
+    static boolean isAvailable() {
+        return ModuleLayer.boot().findModule("jdk.attach").isPresent();
+    }
+
+    /**
+     * @throws IOException if the connection was lost, e.g., because the process exited
+     */
+    void sample(ResourceHistory.Sample sample) throws IOException {
+        try {
+            final MemoryUsage heap = memory.getHeapMemoryUsage();
+            sample.set(Metric.HEAP_USED, heap.getUsed());
+            sample.set(Metric.HEAP_COMMITTED, heap.getCommitted());
+            long count = 0;
+            long time = 0;
+            for (GarbageCollectorMXBean collector : collectors) {
+                count += Math.max(0, collector.getCollectionCount());
+                time += Math.max(0, collector.getCollectionTime());
+            }
+            sample.set(Metric.GC_COUNT, count);
+            sample.set(Metric.GC_TIME, time * 1_000_000);
+        } catch (UndeclaredThrowableException e) {
+            // the proxies wrap the checked exceptions of the connection
+            throw new IOException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            connector.close();
+        } catch (IOException e) {
+            logger.debug("Could not close the JMX connection", e);
+        }
+    }
+}
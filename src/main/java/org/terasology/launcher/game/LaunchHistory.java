@@ -0,0 +1,104 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import com.google.common.hash.Hashing;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+
+/**
+ * The {@link LaunchTimings} of the last launches of one game installation.
+ * <p>
+ * They are kept in a directory of the launcher, not inside the installation, so that keeping them does not modify the
+ * installation and make its {@link LaunchPlan} outdated. Only the last {@link #MAX_LAUNCHES} launches are kept.
+ * <p>
+ * Use only one instance per installation, so that the launches of games that run side by side are not lost.
+ */
+public final class LaunchHistory {
+
+    static final int MAX_LAUNCHES = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(LaunchHistory.class);
+
+    private final Path file;
+    private final Gson gson = new Gson();
+
+    /**
+     * @param directory    the directory to keep the timings of all installations in
+     * @param installation the directory of the game installation
+     */
+    public LaunchHistory(Path directory, Path installation) {
+        this.file = directory.resolve(Hashing.sha256()
+                .hashString(installation.toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8) + ".json");
+    }
+
+    /**
+     * The kept launches, oldest first.
+     */
+    public synchronized List<LaunchTimings> list() {
+        try (Reader reader = Files.newBufferedReader(file)) {
+            final List<LaunchTimings> launches =
+                    gson.fromJson(reader, new TypeToken<List<LaunchTimings>>() { }.getType());
+            return launches != null ? launches : List.of();
+        } catch (NoSuchFileException e) {
+            return List.of();
+        } catch (IOException | JsonParseException e) {
+            logger.warn("Could not read the launch timings from '{}', starting over.", file, e);
+            return List.of();
+        }
+    }
+
+    /**
+     * Keep the timings of another launch, forgetting the oldest ones beyond the limit.
+     */
+    synchronized void add(LaunchTimings timings) throws IOException {
+        final List<LaunchTimings> launches = new ArrayList<>(list());
+        launches.add(timings);
+        final List<LaunchTimings> kept = launches.subList(Math.max(0, launches.size() - MAX_LAUNCHES), launches.size());
+        Files.createDirectories(file.getParent());
+        final Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(temp)) {
+                gson.toJson(kept, writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * The median time to ready in milliseconds of the kept launches that were started like the given one, for a
+     * quick comparison of JVM profiles, runtimes, and class data sharing.
+     */
+    public OptionalDouble getMedianTimeToReady(LaunchTimings like) {
+        final long[] times = list().stream()
+                .filter(like::isComparableTo)
+                .flatMap(timings -> timings.getTimeToReady().stream())
+                .mapToLong(Duration::toMillis)
+                .sorted()
+                .toArray();
+        if (times.length == 0) {
+            return OptionalDouble.empty();
+        }
+        final int middle = times.length / 2;
+        return OptionalDouble.of(times.length % 2 == 1 ? times[middle] : (times[middle - 1] + times[middle]) / 2.0);
+    }
+}
@@ -0,0 +1,45 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Points in the startup of a game that the launcher takes the time of, see {@link LaunchTimings}.
+ * <p>
+ * The engine milestones are recognized in the output of the game, so they only show up if its minimum log level
+ * includes {@code INFO}, like {@link RunGameTask#START_MATCH}.
+ */
+public enum LaunchMilestone {
+    /**
+     * The operating system created the game process.
+     */
+    SPAWNED(null),
+    /**
+     * The game printed its first line, i.e., the JVM is up and the game's logging is configured.
+     */
+    FIRST_OUTPUT(null),
+    /**
+     * The engine starts to initialize its subsystems.
+     */
+    ENGINE_INITIALIZING(Pattern.compile("TerasologyEngine.+Initializing Terasology").asPredicate()),
+    /**
+     * The engine is initialized and about to show the main menu, or to host the game for a dedicated server.
+     */
+    READY(RunGameTask.START_MATCH);
+
+    private final Predicate<String> match;
+
+    LaunchMilestone(Predicate<String> match) {
+        this.match = match;
+    }
+
+    /**
+     * Whether the given line of game output marks this milestone; always false for milestones not shown in the output.
+     */
+    boolean matches(String line) {
+        return match != null && match.test(line);
+    }
+}
@@ -0,0 +1,21 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+/**
+ * How to run a game installation.
+ */
+public enum LaunchMode {
+    /**
+     * The game with its window, for playing.
+     */
+    CLIENT,
+    /**
+     * A dedicated server without window, sound, or splash screen, from the same installation as the clients.
+     * <p>
+     * It keeps its own data directory, parameters, and JVM profile, see
+     * {@link org.terasology.launcher.settings.Settings#serverDataDirectory}.
+     */
+    SERVER
+}
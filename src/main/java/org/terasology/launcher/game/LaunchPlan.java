@@ -0,0 +1,163 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import com.google.common.base.MoreObjects;
+import org.semver4j.Semver;
+import org.terasology.launcher.jre.Jre;
+import org.terasology.launcher.jre.JreManager;
+import org.terasology.launcher.platform.Platform;
+import org.terasology.launcher.platform.UnsupportedPlatformException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+/**
+ * Everything about a game installation that {@link GameStarter} needs to probe the file system for: the engine
+ * version, the game jar, the runtime to use, the flags derived from them, and the key of the class data sharing
+ * archive.
+ * <p>
+ * A plan remembers the modification times of the installation directory and the directory of the game jar at the
+ * time it was resolved, and is {@linkplain #isCurrent() current} as long as they do not change.
+ *
+ * @see LaunchPlanCache
+ */
+final class LaunchPlan {
+
+    private final Path installation;
+    private final Semver engineVersion;
+    private final Path gameJar;
+    private final Path runtime;
+    private final int javaVersion;
+    private final boolean mac;
+    private final String classDataSharingKey;
+    private final FileTime installationModified;
+    private final FileTime libModified;
+
+    LaunchPlan(Path installation, Semver engineVersion, Path gameJar, Path runtime, int javaVersion, boolean mac,
+               String classDataSharingKey, FileTime installationModified, FileTime libModified) {
+        this.installation = installation;
+        this.engineVersion = engineVersion;
+        this.gameJar = gameJar;
+        this.runtime = runtime;
+        this.javaVersion = javaVersion;
+        this.mac = mac;
+        this.classDataSharingKey = classDataSharingKey;
+        this.installationModified = installationModified;
+        this.libModified = libModified;
+    }
+
+    /**
+     * Probe the installation for a new plan.
+     *
+     * @param jreManager the runtimes to choose from
+     * @throws IOException                      if the engine or game jar could not be found
+     * @throws GameVersionNotSupportedException if there is no runtime for the engine version
+     */
+    static LaunchPlan resolve(GameInstallation gameInstallation, JreManager jreManager)
+            throws IOException, UnsupportedPlatformException {
+        final Path installation = gameInstallation.getPath();
+        // take the modification times first, so that changes while probing make the plan outdated
+        final FileTime installationModified = getLastModifiedTime(installation);
+        final Semver engineVersion = gameInstallation.getEngineVersion();
+        final Path gameJar = gameInstallation.getGameJarPath();
+        final FileTime libModified = getLastModifiedTime(gameJar.getParent());
+        final Jre jre = selectRuntime(jreManager, engineVersion);
+        final String classDataSharingKey =
+                GameClassDataSharing.keyFor(gameJar, jre.getJavaExecutable()).orElse(null);
+        return new LaunchPlan(installation, engineVersion, gameJar, jre.getJavaExecutable(),
+                jre.getVersion().getMajor(), Platform.getPlatform().isMac(), classDataSharingKey,
+                installationModified, libModified);
+    }
+
+    /**
+     * @return the executable {@code java} file to run the given engine version with
+     * @throws GameVersionNotSupportedException if there is no runtime for the engine version
+     */
+    static Path getRuntimePath(JreManager jreManager, Semver engineVersion) throws GameVersionNotSupportedException {
+        return selectRuntime(jreManager, engineVersion).getJavaExecutable();
+    }
+
+    private static Jre selectRuntime(JreManager jreManager, Semver engineVersion) {
+        final Semver javaVersion = VersionHistory.getJavaVersionForEngine(engineVersion);
+        return jreManager.getJreFor(javaVersion)
+                .orElseThrow(() -> new GameVersionNotSupportedException(engineVersion,
+                        "No Java " + javaVersion.getMajor() + " runtime found"));
+    }
+
+    /**
+     * Whether the installation is unchanged since this plan was resolved, and the runtime is still there.
+     */
+    boolean isCurrent() {
+        return installationModified != null && libModified != null && Files.isRegularFile(runtime)
+                && installationModified.equals(getLastModifiedTime(installation))
+                && libModified.equals(getLastModifiedTime(gameJar.getParent()));
+    }
+
+    Path getInstallation() {
+        return installation;
+    }
+
+    Semver getEngineVersion() {
+        return engineVersion;
+    }
+
+    Path getGameJar() {
+        return gameJar;
+    }
+
+    /**
+     * The executable {@code java} file to run the game with.
+     */
+    Path getRuntime() {
+        return runtime;
+    }
+
+    /**
+     * The major Java version of the {@linkplain #getRuntime() runtime}.
+     */
+    int getJavaVersion() {
+        return javaVersion;
+    }
+
+    boolean isMac() {
+        return mac;
+    }
+
+    /**
+     * The key of the class data sharing archive for the installation and runtime, if the runtime supports one.
+     */
+    Optional<String> getClassDataSharingKey() {
+        return Optional.ofNullable(classDataSharingKey);
+    }
+
+    /**
+     * Whether the game needs to run on the first thread, as LWJGL 3 requires on macOS.
+     */
+    boolean isStartOnFirstThread() {
+        return mac && VersionHistory.LWJGL3.isProvidedBy(engineVersion);
+    }
+
+    private static FileTime getLastModifiedTime(Path path) {
+        try {
+            return path != null ? Files.getLastModifiedTime(path) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("installation", installation)
+                .add("engineVersion", engineVersion)
+                .add("gameJar", gameJar)
+                .add("runtime", runtime)
+                .add("javaVersion", javaVersion)
+                .toString();
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.jre.JreManager;
+import org.terasology.launcher.platform.UnsupportedPlatformException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@link LaunchPlan} of each installation, so that starting the same game again does not probe the
+ * installation again.
+ * <p>
+ * A plan is resolved again if its installation was modified, or after the cache was {@linkplain #invalidate()
+ * invalidated} because the installed games or runtimes changed.
+ */
+class LaunchPlanCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(LaunchPlanCache.class);
+
+    private final Map<Path, LaunchPlan> plans = new ConcurrentHashMap<>();
+
+    /**
+     * The plan for the given installation, resolved if there is no current one.
+     *
+     * @param jreManager the runtimes to choose from when resolving the plan
+     * @throws IOException                      if the engine or game jar could not be found
+     * @throws GameVersionNotSupportedException if there is no runtime for the engine version
+     */
+    LaunchPlan get(GameInstallation installation, JreManager jreManager)
+            throws IOException, UnsupportedPlatformException {
+        final LaunchPlan cached = plans.get(installation.getPath());
+        if (cached != null && cached.isCurrent()) {
+            logger.debug("Using cached launch plan {}", cached);
+            return cached;
+        }
+        final LaunchPlan plan = LaunchPlan.resolve(installation, jreManager);
+        plans.put(installation.getPath(), plan);
+        logger.debug("Resolved launch plan {}", plan);
+        return plan;
+    }
+
+    /**
+     * Forget all plans, e.g., when games were installed or removed.
+     */
+    void invalidate() {
+        plans.clear();
+    }
+}
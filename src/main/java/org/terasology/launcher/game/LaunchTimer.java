@@ -0,0 +1,139 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.jre.JvmProfile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+/**
+ * Takes the times of the {@link LaunchMilestone milestones} of each launch of a game, and keeps them in the
+ * {@link LaunchHistory} of its installation.
+ * <p>
+ * All methods but {@link #getLast()} are called by the thread running the game, see {@link RunGameTask}.
+ */
+final class LaunchTimer {
+    private static final Logger logger = LoggerFactory.getLogger(LaunchTimer.class);
+
+    /**
+     * Stop looking for milestones after this many lines, if the game does not say it is ready.
+     */
+    static final int MAX_STARTUP_LINES = 10_000;
+
+    private final LaunchHistory history;
+    private final LaunchMode mode;
+    private final JvmProfile profile;
+    private final int javaVersion;
+    private final boolean sharedArchive;
+
+    private final Map<LaunchMilestone, Duration> milestones = new EnumMap<>(LaunchMilestone.class);
+    private Instant time;
+    private long start;
+    private int lines;
+    private boolean finished;
+    private volatile LaunchTimings last;
+
+    /**
+     * @param history       where to keep the timings, if not null
+     * @param mode          how the game is started
+     * @param profile       the JVM profile the game is started with
+     * @param javaVersion   the major version of the runtime of the game
+     * @param sharedArchive whether the game uses a class data sharing archive
+     */
+    LaunchTimer(LaunchHistory history, LaunchMode mode, JvmProfile profile, int javaVersion, boolean sharedArchive) {
+        this.history = history;
+        this.mode = mode;
+        this.profile = profile;
+        this.javaVersion = javaVersion;
+        this.sharedArchive = sharedArchive;
+    }
+
+    /**
+     * Start timing a new launch, right before the process is created.
+     */
+    void spawning() {
+        milestones.clear();
+        lines = 0;
+        finished = false;
+        time = Instant.now();
+        start = System.nanoTime();
+    }
+
+    /**
+     * The process was created.
+     */
+    void spawned() {
+        reached(LaunchMilestone.SPAWNED);
+    }
+
+    /**
+     * Look for milestones in a line of output of the game.
+     *
+     * @return whether the launch is complete, so that no further lines need to be checked
+     */
+    boolean output(String line) {
+        if (time == null || finished) {
+            return true;
+        }
+        if (lines++ == 0) {
+            reached(LaunchMilestone.FIRST_OUTPUT);
+        }
+        for (LaunchMilestone milestone : LaunchMilestone.values()) {
+            if (!milestones.containsKey(milestone) && milestone.matches(line)) {
+                reached(milestone);
+            }
+        }
+        if (milestones.containsKey(LaunchMilestone.READY) || lines >= MAX_STARTUP_LINES) {
+            finish();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * The process exited; keeps the timings of a launch that never said it was ready.
+     */
+    void exited() {
+        if (time != null && !finished) {
+            finish();
+        }
+    }
+
+    /**
+     * The timings of the last complete launch, or null if there is none yet.
+     */
+    LaunchTimings getLast() {
+        return last;
+    }
+
+    private void reached(LaunchMilestone milestone) {
+        milestones.put(milestone, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void finish() {
+        final LaunchTimings timings = new LaunchTimings(time, mode, profile, javaVersion, sharedArchive, milestones);
+        finished = true;
+        last = timings;
+        if (history == null) {
+            return;
+        }
+        try {
+            history.add(timings);
+            final OptionalDouble median = history.getMedianTimeToReady(timings);
+            logger.info("Game launch took {} ms to spawn, {} ms to ready; median to ready for this setup is {} ms.",
+                    timings.get(LaunchMilestone.SPAWNED).map(Duration::toMillis).orElse(-1L),
+                    timings.getTimeToReady().map(Duration::toMillis).orElse(-1L),
+                    median.isPresent() ? Math.round(median.getAsDouble()) : -1L);
+        } catch (IOException e) {
+            logger.warn("Could not keep the launch timings.", e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import com.google.common.base.MoreObjects;
+import org.terasology.launcher.jre.JvmProfile;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * How long one launch of a game took to reach its {@link LaunchMilestone milestones}, together with what it was
+ * started with, so that launches with different JVM profiles, runtimes, and class data sharing can be compared.
+ * <p>
+ * The times are measured from when the launcher asked the operating system for the process.
+ */
+public final class LaunchTimings {
+
+    private final long time;
+    private final LaunchMode mode;
+    private final JvmProfile profile;
+    private final int javaVersion;
+    private final boolean sharedArchive;
+    private final Map<LaunchMilestone, Long> milestones;
+
+    LaunchTimings(Instant time, LaunchMode mode, JvmProfile profile, int javaVersion, boolean sharedArchive,
+                  Map<LaunchMilestone, Duration> milestones) {
+        this.time = time.toEpochMilli();
+        this.mode = mode;
+        this.profile = profile;
+        this.javaVersion = javaVersion;
+        this.sharedArchive = sharedArchive;
+        this.milestones = new EnumMap<>(LaunchMilestone.class);
+        milestones.forEach((milestone, duration) -> this.milestones.put(milestone, duration.toMillis()));
+    }
+
+    /**
+     * When the launch started.
+     */
+    public Instant getTime() {
+        return Instant.ofEpochMilli(time);
+    }
+
+    public LaunchMode getMode() {
+        return mode;
+    }
+
+    public JvmProfile getProfile() {
+        return profile;
+    }
+
+    /**
+     * The major version of the runtime the game ran on.
+     */
+    public int getJavaVersion() {
+        return javaVersion;
+    }
+
+    /**
+     * Whether the game used a class data sharing archive, see {@link GameClassDataSharing}.
+     */
+    public boolean isSharedArchive() {
+        return sharedArchive;
+    }
+
+    /**
+     * The time from the start of the launch to the given milestone, if it was reached and recognized.
+     */
+    public Optional<Duration> get(LaunchMilestone milestone) {
+        return Optional.ofNullable(milestones.get(milestone)).map(Duration::ofMillis);
+    }
+
+    /**
+     * The time it took the game to become ready, if it said so.
+     */
+    public Optional<Duration> getTimeToReady() {
+        return get(LaunchMilestone.READY);
+    }
+
+    /**
+     * Whether the other launch was started the same way, so that their times can be compared.
+     */
+    public boolean isComparableTo(LaunchTimings other) {
+        return mode == other.mode && profile == other.profile && javaVersion == other.javaVersion
+                && sharedArchive == other.sharedArchive;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final LaunchTimings that = (LaunchTimings) o;
+        return time == that.time && isComparableTo(that) && Objects.equals(milestones, that.milestones);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(time, mode, profile, javaVersion, sharedArchive, milestones);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("time", getTime())
+                .add("mode", mode)
+                .add("profile", profile != null ? profile.name() : null)
+                .add("javaVersion", javaVersion)
+                .add("sharedArchive", sharedArchive)
+                .add("milestones", milestones)
+                .toString();
+    }
+}
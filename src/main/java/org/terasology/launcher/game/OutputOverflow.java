@@ -0,0 +1,21 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+/**
+ * What to do with the output of the game when it prints lines faster than the launcher log takes them.
+ * <p>
+ * Either way, the complete output is still written to the game output log file, see {@link GameOutputPump}.
+ */
+public enum OutputOverflow {
+    /**
+     * Pass all lines on while there is room, and skip the lines that do not fit.
+     */
+    DROP,
+    /**
+     * Pass only every few lines on once the buffer fills up, so that the launcher log keeps showing some of what
+     * is going on instead of nothing at all.
+     */
+    SAMPLE
+}
@@ -0,0 +1,108 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Keeps the last bytes of the output of a game for its crash report, and passes all of them on to the game output
+ * log.
+ * <p>
+ * Not thread-safe, it is only written to by the thread pumping the output of the game.
+ */
+class OutputTail extends OutputStream {
+    private static final Logger logger = LoggerFactory.getLogger(OutputTail.class);
+
+    private final byte[] buffer;
+    private OutputStream log;
+    private int end;
+    private boolean full;
+
+    /**
+     * @param capacity the number of bytes to keep
+     * @param log      takes all output, if not null
+     */
+    OutputTail(int capacity, OutputStream log) {
+        this.buffer = new byte[capacity];
+        this.log = log;
+    }
+
+    @Override
+    public void write(int b) {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        keep(b, off, len);
+        if (log != null) {
+            try {
+                log.write(b, off, len);
+            } catch (IOException e) {
+                // the crash report still wants the output
+                logger.warn("Could not write the game output log, continuing without it.", e);
+                closeLog();
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (log != null) {
+            log.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        closeLog();
+    }
+
+    /**
+     * The bytes kept, oldest first.
+     */
+    byte[] toByteArray() {
+        if (!full) {
+            final byte[] bytes = new byte[end];
+            System.arraycopy(buffer, 0, bytes, 0, end);
+            return bytes;
+        }
+        final byte[] bytes = new byte[buffer.length];
+        System.arraycopy(buffer, end, bytes, 0, buffer.length - end);
+        System.arraycopy(buffer, 0, bytes, buffer.length - end, end);
+        return bytes;
+    }
+
+    private void keep(byte[] b, int off, int len) {
+        if (len >= buffer.length) {
+            System.arraycopy(b, off + len - buffer.length, buffer, 0, buffer.length);
+            end = 0;
+            full = true;
+            return;
+        }
+        final int first = Math.min(len, buffer.length - end);
+        System.arraycopy(b, off, buffer, end, first);
+        System.arraycopy(b, off + first, buffer, 0, len - first);
+        if (end + len >= buffer.length) {
+            full = true;
+        }
+        end = (end + len) % buffer.length;
+    }
+
+    private void closeLog() {
+        if (log == null) {
+            return;
+        }
+        try {
+            log.close();
+        } catch (IOException e) {
+            logger.warn("Could not close the game output log.", e);
+        }
+        log = null;
+    }
+}
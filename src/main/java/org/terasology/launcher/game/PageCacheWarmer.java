@@ -0,0 +1,200 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the jars of a game installation in the background, so that they are in the page cache of the operating system
+ * when the game starts. Cold starts after a reboot are otherwise dominated by reading the jars from disk.
+ * <p>
+ * Warming up runs on a single low-priority thread, a little while after it was asked for, so that quickly changing the
+ * selected game or starting the launcher does not cause a burst of reads. Only one installation is warmed up at a time,
+ * and at most as many bytes as half of the free memory, so that it does not push other programs out of memory.
+ * <p>
+ * The files are read sequentially rather than mapped, as mapped files cannot be deleted on Windows until the mapping is
+ * garbage collected, and the installation might be removed right after.
+ */
+final class PageCacheWarmer {
+
+    static final Duration DELAY = Duration.ofSeconds(5);
+    static final int CHUNK_SIZE = 1024 * 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(PageCacheWarmer.class);
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("PageCacheWarmer-%d")
+                    .setDaemon(true)
+                    .setPriority(Thread.MIN_PRIORITY)
+                    .build());
+
+    private final Duration delay;
+    private Job job;
+
+    PageCacheWarmer() {
+        this(DELAY);
+    }
+
+    /**
+     * @param delay how long to wait before warming up
+     */
+    PageCacheWarmer(Duration delay) {
+        this.delay = delay;
+    }
+
+    /**
+     * Warm up the given installation after the delay, instead of the one asked for before, if any.
+     */
+    synchronized void warmUp(Path installation) {
+        cancel();
+        final Job next = new Job();
+        next.future = executor.schedule(() -> warm(next, installation), delay.toMillis(), TimeUnit.MILLISECONDS);
+        job = next;
+    }
+
+    /**
+     * Stop warming up, and wait until no file is open anymore, e.g., before an installation is removed.
+     */
+    synchronized void cancel() {
+        if (job == null) {
+            return;
+        }
+        job.future.cancel(false);
+        if (job.cancel()) {
+            try {
+                job.done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        job = null;
+    }
+
+    private static void warm(Job job, Path installation) {
+        if (!job.start()) {
+            return;
+        }
+        try {
+            run(job, installation, getBudget());
+        } catch (IOException e) {
+            logger.debug("Could not warm up '{}'.", installation, e);
+        } finally {
+            job.done.countDown();
+        }
+    }
+
+    /**
+     * Read the jars of the installation, the libraries first, up to the given number of bytes.
+     *
+     * @return the number of bytes read
+     */
+    static long warmUp(Path installation, long budget) throws IOException {
+        return run(new Job(), installation, budget);
+    }
+
+    /**
+     * The jars of an installation in the order they are needed: the engine and its libraries, then the modules.
+     */
+    static List<Path> findJars(Path installation) throws IOException {
+        try (Stream<Path> files = Files.walk(installation)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .filter(Files::isRegularFile)
+                    .sorted(Comparator.comparing((Path file) -> !isLibrary(installation.relativize(file)))
+                            .thenComparing(Comparator.naturalOrder()))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static boolean isLibrary(Path relative) {
+        for (Path name : relative) {
+            if (name.toString().equals("libs") || name.toString().equals("lib")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long run(Job job, Path installation, long budget) throws IOException {
+        final long start = System.nanoTime();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+        long read = 0;
+        int count = 0;
+        for (Path jar : findJars(installation)) {
+            if (job.cancelled || read + Files.size(jar) > budget) {
+                break;
+            }
+            read += read(job, jar, buffer);
+            count++;
+        }
+        logger.info("Warmed up {} jars ({} MiB) of '{}' in {} ms.", count, read / CHUNK_SIZE, installation,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return read;
+    }
+
+    private static long read(Job job, Path jar, ByteBuffer buffer) throws IOException {
+        long read = 0;
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            int n;
+            while (!job.cancelled && (n = channel.read(buffer.clear())) >= 0) {
+                read += n;
+            }
+        }
+        return read;
+    }
+
+    /**
+     * Half of the free memory of the computer, as the page cache only keeps what fits.
+     */
+    private static long getBudget() {
+        final java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getFreeMemorySize() / 2;
+        }
+        return Runtime.getRuntime().maxMemory();
+    }
+
+    private static final class Job {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private volatile boolean cancelled;
+        private volatile ScheduledFuture<?> future;
+        private boolean started;
+
+        /**
+         * @return whether to warm up, false if the job was cancelled before
+         */
+        synchronized boolean start() {
+            started = !cancelled;
+            return started;
+        }
+
+        /**
+         * @return whether warming up has started, so that it must be waited for
+         */
+        synchronized boolean cancel() {
+            cancelled = true;
+            return started;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.game.ResourceHistory.Metric;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Samples what the operating system knows about a process: its CPU time from {@link ProcessHandle.Info}, and on
+ * Linux, its resident set size and thread count from {@code /proc/<pid>/status}.
+ */
+class ProcessSampler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessSampler.class);
+
+    private static final long KB = 1024;
+
+    private final ProcessHandle process;
+    private final Path status;
+
+    ProcessSampler(ProcessHandle process) {
+        this.process = process;
+        final Path procStatus = Paths.get("/proc", Long.toString(process.pid()), "status");
+        this.status = Files.isReadable(procStatus) ? procStatus : null;
+    }
+
+    void sample(ResourceHistory.Sample sample) {
+        process.info().totalCpuDuration()
+                .map(Duration::toNanos)
+                .ifPresent(cpu -> sample.set(Metric.CPU_TIME, cpu));
+        if (status != null) {
+            try {
+                parseStatus(Files.readAllLines(status, StandardCharsets.UTF_8), sample);
+            } catch (IOException e) {
+                // the process has probably just exited
+                logger.debug("Could not read {}", status, e);
+            }
+        }
+    }
+
+    /**
+     * Reads the memory and threads from the lines of a {@code /proc/<pid>/status} file.
+     */
+    static void parseStatus(List<String> lines, ResourceHistory.Sample sample) {
+        for (String line : lines) {
+            if (line.startsWith("VmRSS:")) {
+                // e.g., "VmRSS:	  123456 kB"
+                final long rss = parseNumber(line);
+                sample.set(Metric.RSS, rss == ResourceHistory.UNKNOWN ? rss : rss * KB);
+            } else if (line.startsWith("Threads:")) {
+                sample.set(Metric.THREADS, parseNumber(line));
+            }
+        }
+    }
+
+    private static long parseNumber(String line) {
+        final String[] fields = line.substring(line.indexOf(':') + 1).trim().split("\\s+");
+        try {
+            return Long.parseLong(fields[0]);
+        } catch (NumberFormatException e) {
+            return ResourceHistory.UNKNOWN;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.remote.DownloadException;
+import org.terasology.launcher.remote.DownloadUtils;
+import org.terasology.launcher.tasks.ProgressListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Downloads game releases into the download cache in the background, before the user asks for them.
+ * <p>
+ * Prefetching runs on a single low-priority thread with a limited bandwidth, and stays within a disk budget for the
+ * whole cache directory. A prefetch in progress gives way as soon as the same release is installed: the installation
+ * then resumes the partial download at full speed.
+ * <p>
+ * Releases are fetched the same way as for an installation, i.e., from other launchers on the local network first if
+ * sharing is enabled. Partial downloads that have not been touched for {@link #STALE_PART_AGE}, e.g., because the
+ * launcher was closed while prefetching, are removed when the prefetcher is created.
+ */
+final class ReleasePrefetcher {
+
+    static final Duration STALE_PART_AGE = Duration.ofDays(1);
+
+    private static final Logger logger = LoggerFactory.getLogger(ReleasePrefetcher.class);
+    private static final String PART_SUFFIX = ".part";
+
+    private final Path cacheDirectory;
+    private final Download download;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("ReleasePrefetcher-%d")
+                    .setDaemon(true)
+                    .setPriority(Thread.MIN_PRIORITY)
+                    .build());
+    private final Map<GameIdentifier, Job> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * @param cacheDirectory the download cache to fill
+     * @param download       how to download a release into the cache
+     */
+    ReleasePrefetcher(Path cacheDirectory, Download download) {
+        this.cacheDirectory = cacheDirectory;
+        this.download = download;
+        executor.execute(this::removeStaleParts);
+    }
+
+    /**
+     * Schedule the download of {@code release} unless it is already cached or being prefetched.
+     *
+     * @param maxBytesPerSecond the bandwidth limit for the download, or 0 for no limit
+     * @param diskBudget        the maximum size of the cache directory in bytes, including the downloaded release
+     */
+    void prefetch(GameRelease release, Path target, long maxBytesPerSecond, long diskBudget) {
+        if (Files.exists(target)) {
+            return;
+        }
+        jobs.computeIfAbsent(release.getId(), id -> {
+            final Job job = new Job();
+            job.future = executor.submit(() -> run(job, release, target, maxBytesPerSecond, diskBudget));
+            return job;
+        });
+    }
+
+    /**
+     * Stop prefetching the given release, and wait for the download to let go of the partial file.
+     * <p>
+     * The partial file is kept, as the release is about to be installed, which resumes the download.
+     */
+    void cancel(GameIdentifier id) throws InterruptedException {
+        final Job job = jobs.get(id);
+        if (job == null) {
+            return;
+        }
+        job.cancelled = true;
+        try {
+            job.future.get();
+        } catch (ExecutionException | CancellationException e) {
+            logger.debug("Prefetching of {} ended abnormally.", id, e);
+        }
+    }
+
+    private void run(Job job, GameRelease release, Path target, long maxBytesPerSecond, long diskBudget) {
+        try {
+            if (job.cancelled || Files.exists(target)) {
+                return;
+            }
+            final long size = new DownloadUtils(maxBytesPerSecond).fetchContentLength(release.getUrl(), job);
+            final long used = cacheSize();
+            if (size <= 0 || used + size > diskBudget) {
+                logger.info("Not prefetching {}: {} bytes would exceed the cache budget ({} of {} bytes in use).",
+                        release.getId(), size, used, diskBudget);
+                return;
+            }
+
+            logger.info("Prefetching {} in the background.", release.getId());
+            download.run(release, target, job, maxBytesPerSecond);
+            if (!job.cancelled) {
+                logger.info("Prefetched {}.", release.getId());
+            }
+        } catch (DownloadException | IOException e) {
+            logger.warn("Prefetching {} failed.", release.getId(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            jobs.remove(release.getId());
+        }
+    }
+
+    /**
+     * Stop the prefetch in progress, if any. Its partial file is resumed by a later prefetch or installation.
+     */
+    void close() {
+        jobs.values().forEach(job -> job.cancelled = true);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Remove partial downloads which have not been resumed for {@link #STALE_PART_AGE}.
+     */
+    void removeStaleParts() {
+        final FileTime threshold = FileTime.from(Instant.now().minus(STALE_PART_AGE));
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path part : (Iterable<Path>) files::iterator) {
+                if (part.getFileName().toString().endsWith(PART_SUFFIX)
+                        && Files.getLastModifiedTime(part).compareTo(threshold) < 0) {
+                    logger.info("Removing stale partial download '{}'.", part);
+                    Files.deleteIfExists(part);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Could not remove stale partial downloads from '{}'.", cacheDirectory, e);
+        }
+    }
+
+    private long cacheSize() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDirectory)) {
+            return files.filter(Files::isRegularFile)
+                    .mapToLong(file -> file.toFile().length())
+                    .sum();
+        }
+    }
+
+    /**
+     * Downloads a release to the given file, the same way as {@link GameManager} does for installations.
+     */
+    interface Download {
+        void run(GameRelease release, Path target, ProgressListener listener, long maxBytesPerSecond)
+                throws IOException, DownloadException, InterruptedException;
+    }
+
+    private static final class Job implements ProgressListener {
+        private volatile boolean cancelled;
+        private volatile Future<?> future;
+
+        @Override
+        public void update() {
+        }
+
+        @Override
+        public void update(int progress) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import java.util.Arrays;
+
+/**
+ * The most recent resource samples of a game process, kept in a fixed-size ring buffer of primitive values.
+ * <p>
+ * Written by the sampling thread of the {@link ResourceMonitor} and read by the UI, so all access is synchronized.
+ * Values that could not be sampled are {@link #UNKNOWN}.
+ */
+public final class ResourceHistory {
+
+    public static final long UNKNOWN = -1;
+
+    /**
+     * The values of each sample.
+     */
+    public enum Metric {
+        /**
+         * When the sample was taken, in milliseconds since the epoch.
+         */
+        TIME,
+        /**
+         * Resident set size of the process, in bytes.
+         */
+        RSS,
+        /**
+         * CPU time the process used so far, in nanoseconds.
+         */
+        CPU_TIME,
+        THREADS,
+        /**
+         * Used Java heap, in bytes.
+         */
+        HEAP_USED,
+        /**
+         * Java heap reserved from the operating system, in bytes.
+         */
+        HEAP_COMMITTED,
+        /**
+         * Garbage collections so far, for all collectors.
+         */
+        GC_COUNT,
+        /**
+         * Time spent in garbage collection so far, for all collectors, in nanoseconds.
+         */
+        GC_TIME
+    }
+
+    private static final int METRICS = Metric.values().length;
+
+    private final long[][] values;
+    private final int capacity;
+    private int next;
+    private int size;
+
+    /**
+     * @param capacity how many samples to keep
+     */
+    public ResourceHistory(int capacity) {
+        this.capacity = capacity;
+        this.values = new long[METRICS][capacity];
+    }
+
+    /**
+     * Add a sample, dropping the oldest one if the history is full.
+     */
+    synchronized void add(Sample sample) {
+        for (int metric = 0; metric < METRICS; metric++) {
+            values[metric][next] = sample.values[metric];
+        }
+        next = (next + 1) % capacity;
+        size = Math.min(size + 1, capacity);
+    }
+
+    synchronized void clear() {
+        next = 0;
+        size = 0;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * The value of a sample, the oldest one being at index 0.
+     */
+    public synchronized long get(Metric metric, int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return values[metric.ordinal()][(next - size + index + capacity) % capacity];
+    }
+
+    /**
+     * The value of the most recent sample, or {@link #UNKNOWN} if there is none.
+     */
+    public synchronized long latest(Metric metric) {
+        return size == 0 ? UNKNOWN : get(metric, size - 1);
+    }
+
+    /**
+     * The values of all samples, oldest first.
+     */
+    public synchronized long[] toArray(Metric metric) {
+        final long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = get(metric, i);
+        }
+        return result;
+    }
+
+    /**
+     * The values of all samples for each of the given metrics, oldest first, taken at once so that all arrays have the
+     * same length even while samples are added.
+     */
+    public synchronized long[][] toArrays(Metric... metrics) {
+        final long[][] result = new long[metrics.length][];
+        for (int i = 0; i < metrics.length; i++) {
+            result[i] = toArray(metrics[i]);
+        }
+        return result;
+    }
+
+    /**
+     * How much of a nanosecond counter, e.g., {@link Metric#CPU_TIME} or {@link Metric#GC_TIME}, was used per
+     * nanosecond of wall clock time over the last samples.
+     *
+     * @param samples how many samples to look back
+     * @return the share of time, e.g., 0.5 for half of the time, or {@link Double#NaN} if not known
+     */
+    public synchronized double rate(Metric metric, int samples) {
+        if (size < 2) {
+            return Double.NaN;
+        }
+        final int from = Math.max(0, size - 1 - samples);
+        final long value = latest(metric) - get(metric, from);
+        final long millis = latest(Metric.TIME) - get(Metric.TIME, from);
+        if (latest(metric) == UNKNOWN || get(metric, from) == UNKNOWN || millis <= 0) {
+            return Double.NaN;
+        }
+        return value / (millis * 1_000_000d);
+    }
+
+    /**
+     * The values of one sample while it is taken.
+     */
+    static final class Sample {
+        private final long[] values = new long[METRICS];
+
+        Sample() {
+            Arrays.fill(values, UNKNOWN);
+        }
+
+        void set(Metric metric, long value) {
+            values[metric.ordinal()] = value;
+        }
+
+        long get(Metric metric) {
+            return values[metric.ordinal()];
+        }
+
+        void clear() {
+            Arrays.fill(values, UNKNOWN);
+        }
+    }
+}
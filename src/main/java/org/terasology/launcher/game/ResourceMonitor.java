@@ -0,0 +1,147 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.game.ResourceHistory.Metric;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically samples the memory, CPU time, threads, heap, and garbage collection of the running game process into a
+ * {@link ResourceHistory}, so that players can see how their settings work out without external tools.
+ * <p>
+ * The heap and garbage collection are only known if the launcher can attach to the game, see {@link HeapSampler}.
+ */
+public class ResourceMonitor {
+
+    static final Duration INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * Five minutes of samples.
+     */
+    static final int CAPACITY = 300;
+
+    /**
+     * The attach mechanism of a starting JVM may not be ready yet, so attaching is tried a few times.
+     */
+    private static final int ATTACH_ATTEMPTS = 5;
+    private static final int ATTACH_EVERY = 5;
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceMonitor.class);
+
+    /**
+     * Shared by the monitors of all games, sampling is quick.
+     */
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("ResourceMonitor-%d")
+                    .setDaemon(true)
+                    .build());
+
+    /**
+     * Attaching may block for seconds, so it does not hold up the sampling of other games.
+     */
+    private static final ExecutorService ATTACHER = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("ResourceMonitor-attach-%d")
+                    .setDaemon(true)
+                    .build());
+
+    private final ResourceHistory history = new ResourceHistory(CAPACITY);
+    private final ResourceHistory.Sample current = new ResourceHistory.Sample();
+
+    private ScheduledFuture<?> sampling;
+    private ProcessSampler processSampler;
+    private HeapSampler heapSampler;
+    private boolean attaching;
+    private long pid;
+    private int ticks;
+    private int attachAttempts;
+
+    public ResourceHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Start sampling the given process, forgetting the samples of the previous one.
+     */
+    synchronized void start(ProcessHandle process) {
+        stop();
+        history.clear();
+        pid = process.pid();
+        processSampler = new ProcessSampler(process);
+        ticks = 0;
+        attaching = false;
+        attachAttempts = HeapSampler.isAvailable() ? 0 : ATTACH_ATTEMPTS;
+        sampling = EXECUTOR.scheduleAtFixedRate(this::sample, 0, INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        logger.debug("Monitoring resources of process {}", pid);
+    }
+
+    /**
+     * Stop sampling, keeping the samples taken so far.
+     */
+    synchronized void stop() {
+        if (sampling != null) {
+            sampling.cancel(false);
+            sampling = null;
+        }
+        closeHeapSampler();
+    }
+
+    private synchronized void sample() {
+        if (sampling == null) {
+            return;
+        }
+        current.clear();
+        current.set(Metric.TIME, System.currentTimeMillis());
+        processSampler.sample(current);
+        if (heapSampler == null && !attaching && attachAttempts < ATTACH_ATTEMPTS && ticks % ATTACH_EVERY == 0) {
+            attachAttempts++;
+            attaching = true;
+            final ScheduledFuture<?> forSampling = sampling;
+            final long target = pid;
+            ATTACHER.execute(() -> attached(forSampling, HeapSampler.attach(target).orElse(null)));
+        }
+        if (heapSampler != null) {
+            try {
+                heapSampler.sample(current);
+            } catch (IOException e) {
+                logger.debug("Lost the JMX connection to process {}", pid, e);
+                closeHeapSampler();
+            }
+        }
+        history.add(current);
+        ticks++;
+    }
+
+    /**
+     * Use the heap sampler from now on, unless the monitor was stopped or restarted while attaching.
+     */
+    private synchronized void attached(ScheduledFuture<?> forSampling, HeapSampler sampler) {
+        if (sampling != forSampling) {
+            if (sampler != null) {
+                sampler.close();
+            }
+            return;
+        }
+        attaching = false;
+        heapSampler = sampler;
+    }
+
+    private void closeHeapSampler() {
+        if (heapSampler != null) {
+            heapSampler.close();
+            heapSampler = null;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.terasology.launcher.util.I18N;
+
+/**
+ * Which games to start again when their process crashes, see {@link CrashSupervisor} for when and how often.
+ */
+public enum RestartPolicy {
+
+    /**
+     * Leave crashed games alone.
+     */
+    NEVER("restartPolicy_never"),
+    /**
+     * Restart crashed dedicated servers, so that they recover unattended.
+     */
+    SERVERS("restartPolicy_servers"),
+    /**
+     * Restart all crashed games, clients as well as dedicated servers.
+     */
+    ALL("restartPolicy_all");
+
+    private final String labelKey;
+
+    RestartPolicy(String labelKey) {
+        this.labelKey = labelKey;
+    }
+
+    public String getLabelKey() {
+        return labelKey;
+    }
+
+    /**
+     * Whether games started in the given mode are restarted after crashes.
+     */
+    public boolean appliesTo(LaunchMode mode) {
+        return this == ALL || this == SERVERS && mode == LaunchMode.SERVER;
+    }
+
+    @Override
+    public final String toString() {
+        return I18N.getLabel(labelKey);
+    }
+}
@@ -9,11 +9,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
 import org.terasology.launcher.ui.FxTimer;
+import org.terasology.launcher.util.RotatingFileOutputStream;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -56,9 +59,25 @@ class RunGameTask extends Task<Boolean> {
      */
     static final Duration SURVIVAL_THRESHOLD = Duration.ofSeconds(10);
 
+    /**
+     * The game output log is moved aside after this many bytes, keeping a few old ones.
+     */
+    static final long OUTPUT_LOG_SIZE = 10 * 1024 * 1024;
+    static final int OUTPUT_LOG_BACKUPS = 3;
+
+    /**
+     * The number of bytes of the last output of a crashed game kept in its crash report.
+     */
+    static final int CRASH_OUTPUT_SIZE = 64 * 1024;
+
     private static final Logger logger = LoggerFactory.getLogger(RunGameTask.class);
 
     protected final Callable<Process> starter;
+    private final ResourceMonitor resourceMonitor;
+    private final OutputOverflow outputOverflow;
+    private final Path outputLog;
+    private final CrashSupervisor supervisor;
+    private final LaunchTimer launchTimer;
 
     /**
      * Indicates whether we have set the {@link Task#updateValue value} of this Task yet.
@@ -66,7 +85,14 @@ class RunGameTask extends Task<Boolean> {
      * The value is stored in a {@link javafx.beans.property.SimpleObjectProperty property} we can't directly
      * access from this task's thread, so it remembers it here.
      */
-    private boolean valueSet;
+    private volatile boolean valueSet;
+
+    private volatile Process gameProcess;
+
+    /**
+     * The last output of the current process, for its crash report.
+     */
+    private OutputTail outputTail;
 
     private FxTimer successTimer;
 
@@ -74,16 +100,39 @@ class RunGameTask extends Task<Boolean> {
      * @param starter called as soon as the Task starts to start a new process
      */
     RunGameTask(Callable<Process> starter) {
+        this(starter, null, OutputOverflow.DROP, null, null, null);
+    }
+
+    /**
+     * @param starter         called as soon as the Task starts to start a new process
+     * @param resourceMonitor samples the resources of the process while it runs, if not null
+     * @param outputOverflow  what to do with output lines the launcher log does not keep up with
+     * @param outputLog       the file to write the complete output of the process to, if not null; crash reports
+     *                        are written next to it
+     * @param supervisor      decides whether to start the process again after it crashed, if not null
+     * @param launchTimer     takes the time of the startup of each process, if not null
+     */
+    RunGameTask(Callable<Process> starter, ResourceMonitor resourceMonitor, OutputOverflow outputOverflow,
+                Path outputLog, CrashSupervisor supervisor, LaunchTimer launchTimer) {
         this.starter = starter;
+        this.resourceMonitor = resourceMonitor;
+        this.outputOverflow = outputOverflow;
+        this.outputLog = outputLog;
+        this.supervisor = supervisor;
+        this.launchTimer = launchTimer;
     }
 
     /**
      * Starts the process, returns when it's done.
+     * <p>
+     * If the process crashes, it is started again as long as the {@link CrashSupervisor} allows, and the task keeps
+     * running. Each crash gets a crash report with the last output of the process. A process that quits too soon
+     * without an error code was closed by the player, which is not a crash.
      *
      * @return true when the process exits with no error code
      * @throws GameStartError       if the process failed to start at all
-     * @throws GameExitError        if the process terminates with an error code
-     * @throws GameExitError        if the process quit before {@link #SURVIVAL_THRESHOLD}
+     * @throws GameExitError        if the process terminates with an error code, and is not restarted
+     * @throws GameExitTooSoon      if the process quit before {@link #SURVIVAL_THRESHOLD}, and is not restarted
      * @throws InterruptedException if this thread was interrupted while waiting for something —
      *                              doesn't come up as much as you might expect, because waiting on a {@code read} call
      *                              of the process's output <em>can not be interrupted</em> (Java's rule, not ours)
@@ -92,14 +141,31 @@ class RunGameTask extends Task<Boolean> {
     protected Boolean call() throws GameStartError, GameExitError, InterruptedException, GameExitTooSoon {
         verifyNotNull(this.starter);
         verify(!this.isDone());
-        Process process;
-        try {
-            process = this.starter.call();
-        } catch (Exception e) {
-            throw new GameStartError(e);
+        while (true) {
+            Process process;
+            try {
+                if (launchTimer != null) {
+                    launchTimer.spawning();
+                }
+                process = this.starter.call();
+                if (launchTimer != null) {
+                    launchTimer.spawned();
+                }
+            } catch (Exception e) {
+                throw new GameStartError(e);
+            }
+            try {
+                monitorProcess(process);
+                return true;
+            } catch (GameExitError e) {
+                final Optional<Duration> delay = handleCrash(e);
+                if (delay.isEmpty()) {
+                    throw e;
+                }
+                updateMessage("Game crashed, restarting in " + delay.get().toSeconds() + " s");
+                Thread.sleep(delay.get().toMillis());
+            }
         }
-        monitorProcess(process);
-        return true;
     }
 
     /**
@@ -109,16 +175,29 @@ class RunGameTask extends Task<Boolean> {
      */
     void monitorProcess(Process process) throws InterruptedException, GameExitError, GameExitTooSoon {
         checkNotNull(process);
+        gameProcess = process;
         logger.debug("Game process is {}", process);
         updateMessage("Game running as process " + process.pid());
 
         startTimer();
+        if (resourceMonitor != null) {
+            resourceMonitor.start(process.toHandle());
+        }
 
         // log each line of process output
-        try (var gameOutput = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
-            gameOutput.lines().forEachOrdered(this::handleOutputLine);
+        outputTail = new OutputTail(CRASH_OUTPUT_SIZE, openOutputLog());
+        try (var gameOutput = process.getInputStream(); var log = outputTail) {
+            new GameOutputPump(this::handleStartupLine, this::handleOutputLine, outputOverflow, log)
+                    .pump(gameOutput);
         } catch (IOException e) {
             logger.error("Exception reading process output.", e);
+        } finally {
+            if (resourceMonitor != null) {
+                resourceMonitor.stop();
+            }
+            if (launchTimer != null) {
+                launchTimer.exited();
+            }
         }
 
         try {
@@ -131,6 +210,8 @@ class RunGameTask extends Task<Boolean> {
                 updateMessage("Process complete.");
             } else {
                 updateMessage("Process exited with code " + exitValue);
+                // a restarted process gets a timer of its own
+                removeTimer();
                 throw new GameExitError(exitValue);
             }
         } catch (InterruptedException e) {
@@ -147,16 +228,83 @@ class RunGameTask extends Task<Boolean> {
     }
 
     /**
-     * Called with each line of the process's output.
+     * The process of the game, or null if it was not started yet.
+     */
+    Process getProcess() {
+        return gameProcess;
+    }
+
+    /**
+     * The startup times of the last process that has become ready or exited, or null if there is none or they are not
+     * taken.
+     */
+    LaunchTimings getLaunchTimings() {
+        return launchTimer != null ? launchTimer.getLast() : null;
+    }
+
+    /**
+     * Write the crash report, and ask the supervisor whether to restart.
+     *
+     * @return the delay before restarting the process, or empty to give up
+     */
+    private Optional<Duration> handleCrash(GameExitError crash) {
+        final Instant now = Instant.now();
+        final Optional<Duration> delay = supervisor != null ? supervisor.crashed(now, crash.exitValue)
+                : Optional.empty();
+        if (delay.isPresent()) {
+            logger.warn("Game crashed with {}, restarting in {} (restart {}).", crash, delay.get(),
+                    supervisor.getRestarts());
+        }
+        if (outputLog != null && outputTail != null) {
+            final String summary = String.format("Game crashed at %s with %s, %s.", now, crash,
+                    delay.map(d -> "restarting in " + d + " (restart " + supervisor.getRestarts() + ")")
+                            .orElse("not restarting"));
+            try {
+                final Path report = CrashReports.write(outputLog.getParent(), now, summary,
+                        outputTail.toByteArray());
+                logger.info("Wrote crash report {}", report);
+            } catch (IOException e) {
+                logger.warn("Could not write the crash report.", e);
+            }
+        }
+        return delay;
+    }
+
+    private OutputStream openOutputLog() {
+        if (outputLog == null) {
+            return null;
+        }
+        try {
+            return new RotatingFileOutputStream(outputLog, OUTPUT_LOG_SIZE, OUTPUT_LOG_BACKUPS);
+        } catch (IOException e) {
+            logger.warn("Could not create the game output log {}", outputLog, e);
+            return null;
+        }
+    }
+
+    /**
+     * Called with the lines of the process's output until the game has started.
+     *
+     * @param line a line of output, decoded to String, with trailing newline stripped
+     * @return whether the game has started, so that no further lines need to be checked
+     */
+    protected boolean handleStartupLine(String line) {
+        // a restarted process is timed again, though the game has been declared started before
+        final boolean timed = launchTimer == null || launchTimer.output(line);
+        if (!valueSet && START_MATCH.test(line)) {
+            declareSurvival();
+        }
+        return valueSet && timed;
+    }
+
+    /**
+     * Called with each line of the process's output that the launcher log keeps up with, on a thread of its own.
      * <p>
      * Expect the Process has {@linkplain ProcessBuilder#redirectErrorStream() merged output and error streams}.
      *
      * @param line a line of output, decoded to String, with trailing newline stripped
      */
     protected void handleOutputLine(String line) {
-        if ((!valueSet) && START_MATCH.test(line)) {
-            declareSurvival();
-        }
         logger.info("Game output: {}", line);
     }
 
@@ -234,5 +382,9 @@ class RunGameTask extends Task<Boolean> {
      * The process only lasted a brief time.
      */
     public static class GameExitTooSoon extends RunGameError {
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this).toString();
+        }
     }
 }
@@ -0,0 +1,170 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.jre;
+
+import com.google.common.base.MoreObjects;
+import org.semver4j.Semver;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * A Java runtime installed on this computer, described by the {@code release} file in its home directory.
+ * <p>
+ * Instances are serialized to the runtime cache of {@link JreManager}, hence the plain fields.
+ */
+public final class Jre {
+
+    static final String RELEASE_FILE = "release";
+
+    /**
+     * Dynamic class data sharing archives are supported since Java 13.
+     */
+    private static final int DYNAMIC_ARCHIVE_VERSION = 13;
+
+    /**
+     * ZGC and Shenandoah are production ready since Java 15, and G1 got a lot faster up to then.
+     */
+    private static final int MODERN_GC_VERSION = 15;
+
+    private String home;
+    private String version;
+    private String implementor;
+    private boolean defaultArchive;
+    private boolean managed;
+    private long releaseModified;
+
+    Jre(Path home, String version, String implementor, boolean defaultArchive, boolean managed, long releaseModified) {
+        this.home = home.toString();
+        this.version = version;
+        this.implementor = implementor;
+        this.defaultArchive = defaultArchive;
+        this.managed = managed;
+        this.releaseModified = releaseModified;
+    }
+
+    /**
+     * Read the runtime installed in the given directory.
+     *
+     * @param home    the Java home directory, containing {@code bin/java} and the {@code release} file
+     * @param managed whether the runtime was provisioned by the launcher
+     * @return the runtime, or empty if there is no runtime with a known version
+     */
+    static Optional<Jre> read(Path home, boolean managed) throws IOException {
+        final Path releaseFile = home.resolve(RELEASE_FILE);
+        if (!Files.isRegularFile(releaseFile) || !Files.isRegularFile(getJavaExecutable(home))) {
+            return Optional.empty();
+        }
+        final Properties release = new Properties();
+        try (Reader reader = Files.newBufferedReader(releaseFile, StandardCharsets.UTF_8)) {
+            release.load(reader);
+        }
+        final String version = unquote(release.getProperty("JAVA_VERSION"));
+        if (version == null || parseVersion(version) == null) {
+            return Optional.empty();
+        }
+        final boolean defaultArchive = Files.isRegularFile(home.resolve("lib").resolve("server").resolve("classes.jsa"))
+                || Files.isRegularFile(home.resolve("bin").resolve("server").resolve("classes.jsa"));
+        return Optional.of(new Jre(home, version, unquote(release.getProperty("IMPLEMENTOR")), defaultArchive, managed,
+                Files.getLastModifiedTime(releaseFile).toMillis()));
+    }
+
+    /**
+     * The runtime the launcher itself is running on.
+     */
+    static Optional<Jre> current() {
+        try {
+            return read(Paths.get(System.getProperty("java.home")), false);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Parse a Java version, including the old {@code 1.8.0_292} scheme.
+     */
+    static Semver parseVersion(String version) {
+        return Semver.coerce(version.startsWith("1.") ? version.substring(2) : version);
+    }
+
+    private static String unquote(String value) {
+        return value == null ? null : value.replace("\"", "").trim();
+    }
+
+    private static Path getJavaExecutable(Path home) {
+        final Path java = home.resolve("bin").resolve("java");
+        final Path javaExe = home.resolve("bin").resolve("java.exe");
+        return Files.exists(javaExe) ? javaExe : java;
+    }
+
+    public Path getHome() {
+        return Paths.get(home);
+    }
+
+    /**
+     * The {@code java} executable of this runtime.
+     */
+    public Path getJavaExecutable() {
+        return getJavaExecutable(getHome());
+    }
+
+    public Semver getVersion() {
+        return parseVersion(version);
+    }
+
+    public Optional<String> getImplementor() {
+        return Optional.ofNullable(implementor);
+    }
+
+    /**
+     * Whether this runtime ships a default class data sharing archive for the JDK classes.
+     */
+    public boolean hasDefaultArchive() {
+        return defaultArchive;
+    }
+
+    public boolean supportsDynamicArchive() {
+        return getVersion().getMajor() >= DYNAMIC_ARCHIVE_VERSION;
+    }
+
+    public boolean hasModernGc() {
+        return getVersion().getMajor() >= MODERN_GC_VERSION;
+    }
+
+    /**
+     * Whether the launcher provisioned this runtime, rather than finding it on the system.
+     */
+    public boolean isManaged() {
+        return managed;
+    }
+
+    /**
+     * Whether this is still the runtime that was read, i.e., it was neither removed nor updated in place.
+     */
+    boolean isUnchanged() {
+        final Path releaseFile = getHome().resolve(RELEASE_FILE);
+        try {
+            return Files.isRegularFile(releaseFile)
+                    && Files.getLastModifiedTime(releaseFile).toMillis() == releaseModified;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("home", home)
+                .add("version", version)
+                .add("implementor", implementor)
+                .add("managed", managed)
+                .toString();
+    }
+}
@@ -0,0 +1,338 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.jre;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import org.semver4j.Semver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.platform.Platform;
+import org.terasology.launcher.util.FileUtils;
+import org.terasology.launcher.util.LauncherManagedDirectory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the Java runtimes installed on this computer, and selects the best one to run a game with.
+ * <p>
+ * Runtimes are searched for in the usual installation directories of the platform, in {@code JAVA_HOME}, and in the
+ * directory of runtimes {@linkplain #provision(Path) provisioned} by the launcher. What is known about each runtime is
+ * cached in a file, and only read again if its {@code release} file changed.
+ * <p>
+ * Of all runtimes new enough for a game, the one closest to the required Java version is preferred, as it is the
+ * least likely to break the game, e.g., old engines relying on the security manager. Among runtimes of the same
+ * Java version, the one with the most startup and runtime features is used, i.e., a default class data sharing
+ * archive, support for dynamic archives, and a modern garbage collector, and the newest update of it.
+ */
+public class JreManager {
+
+    static final String CACHE_FILE = "runtimes.json";
+
+    private static final Logger logger = LoggerFactory.getLogger(JreManager.class);
+
+    private final List<Path> searchDirectories;
+    private final Path runtimesDirectory;
+    private final Path cacheFile;
+    private final Gson gson = new Gson();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile List<Jre> runtimes;
+
+    /**
+     * @param searchDirectories directories containing Java homes, e.g., {@code /usr/lib/jvm}
+     * @param runtimesDirectory the directory for runtimes provisioned by the launcher
+     * @param cacheFile         the file to cache what is known about the runtimes in
+     */
+    JreManager(List<Path> searchDirectories, Path runtimesDirectory, Path cacheFile) {
+        this.searchDirectories = searchDirectories;
+        this.runtimesDirectory = runtimesDirectory;
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * A manager for the runtimes of this computer, keeping provisioned runtimes in the launcher directory.
+     */
+    public static JreManager create(Platform platform, Path launcherDirectory, Path cacheDirectory) {
+        return new JreManager(getSearchDirectories(platform),
+                LauncherManagedDirectory.RUNTIMES.getDirectoryPath(launcherDirectory),
+                cacheDirectory.resolve(CACHE_FILE));
+    }
+
+    /**
+     * A manager which only knows the runtime the launcher itself runs on.
+     */
+    public static JreManager ofCurrentRuntime() {
+        return of(Jre.current().map(List::of).orElse(List.of()));
+    }
+
+    static JreManager of(List<Jre> runtimes) {
+        final JreManager manager = new JreManager(List.of(), null, null);
+        manager.runtimes = List.copyOf(runtimes);
+        return manager;
+    }
+
+    /**
+     * Get notified whenever the runtimes were searched for again, e.g., after a runtime was provisioned, so that
+     * choices made based on the previous runtimes can be made again.
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * All runtimes found, searching for them if that was not done yet.
+     */
+    public List<Jre> getRuntimes() {
+        if (runtimes == null) {
+            discover();
+        }
+        return runtimes;
+    }
+
+    /**
+     * Search for installed runtimes.
+     *
+     * @return all runtimes found
+     */
+    public synchronized List<Jre> discover() {
+        final Map<Path, Jre> cached = readCache().stream()
+                .filter(Jre::isUnchanged)
+                .collect(Collectors.toMap(Jre::getHome, jre -> jre, (a, b) -> a));
+
+        final Map<Path, Jre> found = new LinkedHashMap<>();
+        for (Path home : getCandidateHomes()) {
+            final Path key = home.toAbsolutePath().normalize();
+            if (found.containsKey(key)) {
+                continue;
+            }
+            final Jre jre = cached.get(key);
+            if (jre != null) {
+                found.put(key, jre);
+            } else {
+                readRuntime(key, isProvisioned(key)).ifPresent(read -> found.put(key, read));
+            }
+        }
+
+        runtimes = List.copyOf(found.values());
+        writeCache(runtimes);
+        logger.info("Found {} Java runtimes: {}", runtimes.size(), runtimes);
+        listeners.forEach(Runnable::run);
+        return runtimes;
+    }
+
+    /**
+     * The best runtime to run a game requiring the given Java version with.
+     *
+     * @param minJavaVersion the Java version the game requires at least
+     */
+    public Optional<Jre> getJreFor(Semver minJavaVersion) {
+        return select(getRuntimes(), minJavaVersion);
+    }
+
+    static Optional<Jre> select(List<Jre> candidates, Semver minJavaVersion) {
+        final int required = minJavaVersion.getMajor();
+        return candidates.stream()
+                .filter(jre -> jre.getVersion().getMajor() >= required)
+                .max(Comparator.<Jre>comparingInt(jre -> required - jre.getVersion().getMajor())
+                        .thenComparingInt(JreManager::featureScore)
+                        .thenComparing(Jre::getVersion));
+    }
+
+    private static int featureScore(Jre jre) {
+        int score = 0;
+        if (jre.hasDefaultArchive()) {
+            score++;
+        }
+        if (jre.supportsDynamicArchive()) {
+            score++;
+        }
+        if (jre.hasModernGc()) {
+            score++;
+        }
+        return score;
+    }
+
+    /**
+     * Install a runtime from a local zip archive, e.g., a JRE downloaded by the user, into the directory of
+     * provisioned runtimes.
+     *
+     * @param archive a zip archive containing a Java home, possibly in a subdirectory
+     * @return the installed runtime
+     * @throws IOException if the archive could not be extracted, or does not contain a runtime
+     */
+    public synchronized Jre provision(Path archive) throws IOException {
+        if (runtimesDirectory == null) {
+            throw new IOException("No directory to provision runtimes in");
+        }
+        FileUtils.ensureWritableDir(runtimesDirectory);
+        final String name = archive.getFileName().toString().replaceFirst("\\.zip$", "");
+        final Path target = runtimesDirectory.resolve(name);
+        if (Files.exists(target)) {
+            FileUtils.delete(target);
+        }
+        if (!FileUtils.extractZipTo(archive, target)) {
+            throw new IOException("Could not extract runtime archive " + archive);
+        }
+        final Optional<Path> home = findHome(target);
+        if (home.isEmpty()) {
+            FileUtils.delete(target);
+            throw new IOException("No Java runtime found in " + archive);
+        }
+        makeExecutable(home.get());
+        final Jre jre = Jre.read(home.get(), true).orElseThrow(() -> new IOException("Unknown runtime in " + archive));
+        logger.info("Provisioned Java runtime {}", jre);
+        discover();
+        return jre;
+    }
+
+    private Set<Path> getCandidateHomes() {
+        final Set<Path> homes = new LinkedHashSet<>();
+        homes.add(Paths.get(System.getProperty("java.home")));
+        final String javaHome = System.getenv("JAVA_HOME");
+        if (javaHome != null && !javaHome.isBlank()) {
+            homes.add(Paths.get(javaHome));
+        }
+        final List<Path> directories = new ArrayList<>(searchDirectories);
+        if (runtimesDirectory != null) {
+            directories.add(runtimesDirectory);
+        }
+        for (Path directory : directories) {
+            if (!Files.isDirectory(directory)) {
+                continue;
+            }
+            try (Stream<Path> children = Files.list(directory)) {
+                children.filter(Files::isDirectory)
+                        .map(JreManager::findHome)
+                        .flatMap(Optional::stream)
+                        .forEach(homes::add);
+            } catch (IOException e) {
+                logger.debug("Cannot search for Java runtimes in '{}'", directory, e);
+            }
+        }
+        return homes;
+    }
+
+    /**
+     * The Java home in the given directory, which is the directory itself, or a {@code Contents/Home} directory on
+     * macOS, or a single subdirectory of an extracted archive.
+     */
+    static Optional<Path> findHome(Path directory) {
+        for (Path candidate : List.of(directory, directory.resolve("Contents").resolve("Home"))) {
+            if (Files.isRegularFile(candidate.resolve(Jre.RELEASE_FILE))) {
+                return Optional.of(candidate);
+            }
+        }
+        try (Stream<Path> children = Files.list(directory)) {
+            final List<Path> subdirectories = children.filter(Files::isDirectory).collect(Collectors.toList());
+            if (subdirectories.size() == 1 && !subdirectories.get(0).getFileName().toString().equals("Contents")) {
+                return findHome(subdirectories.get(0));
+            }
+        } catch (IOException e) {
+            logger.debug("Cannot search for a Java runtime in '{}'", directory, e);
+        }
+        return Optional.empty();
+    }
+
+    private boolean isProvisioned(Path home) {
+        return runtimesDirectory != null && home.startsWith(runtimesDirectory.toAbsolutePath().normalize());
+    }
+
+    private static Optional<Jre> readRuntime(Path home, boolean managed) {
+        try {
+            return Jre.read(home, managed);
+        } catch (IOException e) {
+            logger.debug("Cannot read Java runtime in '{}'", home, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Zip archives do not keep file permissions, so the executables of an extracted runtime need to be marked again.
+     */
+    private static void makeExecutable(Path home) throws IOException {
+        final List<Path> executables = new ArrayList<>();
+        try (Stream<Path> bin = Files.list(home.resolve("bin"))) {
+            bin.filter(Files::isRegularFile).forEach(executables::add);
+        }
+        final Path spawnHelper = home.resolve("lib").resolve("jspawnhelper");
+        if (Files.isRegularFile(spawnHelper)) {
+            executables.add(spawnHelper);
+        }
+        for (Path executable : executables) {
+            if (!executable.toFile().setExecutable(true)) {
+                logger.warn("Could not make '{}' executable", executable);
+            }
+        }
+    }
+
+    private List<Jre> readCache() {
+        if (cacheFile == null || !Files.isRegularFile(cacheFile)) {
+            return List.of();
+        }
+        try (Reader reader = Files.newBufferedReader(cacheFile)) {
+            final List<Jre> cached = gson.fromJson(reader, new TypeToken<List<Jre>>() { }.getType());
+            return cached != null ? cached : List.of();
+        } catch (IOException | JsonParseException e) {
+            logger.debug("Ignoring unreadable runtime cache '{}'", cacheFile, e);
+            return List.of();
+        }
+    }
+
+    private void writeCache(List<Jre> jres) {
+        if (cacheFile == null) {
+            return;
+        }
+        try (Writer writer = Files.newBufferedWriter(cacheFile)) {
+            gson.toJson(jres, writer);
+        } catch (IOException e) {
+            logger.warn("Could not cache the Java runtimes in '{}'", cacheFile, e);
+        }
+    }
+
+    /**
+     * The directories the usual installers and tools put Java runtimes in.
+     */
+    static List<Path> getSearchDirectories(Platform platform) {
+        final Path userHome = Paths.get(System.getProperty("user.home"));
+        final List<Path> directories = new ArrayList<>();
+        if (platform.isWindows()) {
+            Stream.of(System.getenv("ProgramFiles"), System.getenv("ProgramW6432"))
+                    .filter(programFiles -> programFiles != null && !programFiles.isBlank())
+                    .map(Paths::get)
+                    .distinct()
+                    .forEach(programFiles -> Stream.of("Java", "Eclipse Adoptium", "BellSoft", "Zulu", "Microsoft",
+                                    "Amazon Corretto")
+                            .map(programFiles::resolve)
+                            .forEach(directories::add));
+        } else if (platform.isMac()) {
+            directories.add(Paths.get("/Library/Java/JavaVirtualMachines"));
+            directories.add(userHome.resolve("Library").resolve("Java").resolve("JavaVirtualMachines"));
+        } else {
+            directories.add(Paths.get("/usr/lib/jvm"));
+            directories.add(Paths.get("/usr/java"));
+            directories.add(Paths.get("/opt/java"));
+        }
+        directories.add(userHome.resolve(".sdkman").resolve("candidates").resolve("java"));
+        directories.add(userHome.resolve(".jdks"));
+        return directories;
+    }
+}
@@ -0,0 +1,49 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.jre;
+
+import org.terasology.launcher.util.I18N;
+
+/**
+ * Named sets of JVM options for the game process, see {@link JvmTuning} for what each of them chooses.
+ */
+public enum JvmProfile {
+
+    /**
+     * No automatic tuning, only the memory settings and Java parameters chosen by the user.
+     */
+    MANUAL("jvmProfile_manual"),
+    /**
+     * Short garbage collection pauses, for smooth frame rates, at the cost of more memory and CPU.
+     */
+    LOW_LATENCY("jvmProfile_lowLatency"),
+    /**
+     * A small heap and few threads, for computers with little memory.
+     */
+    LOW_MEMORY("jvmProfile_lowMemory"),
+    /**
+     * A large heap and all cores, for the most work done, e.g., when generating large worlds or hosting a server.
+     */
+    THROUGHPUT("jvmProfile_throughput"),
+    /**
+     * A large, fixed heap for dedicated servers, which run for a long time and should not pause noticeably for any
+     * of their players.
+     */
+    SERVER("jvmProfile_server");
+
+    private final String labelKey;
+
+    JvmProfile(String labelKey) {
+        this.labelKey = labelKey;
+    }
+
+    public String getLabelKey() {
+        return labelKey;
+    }
+
+    @Override
+    public final String toString() {
+        return I18N.getLabel(labelKey);
+    }
+}
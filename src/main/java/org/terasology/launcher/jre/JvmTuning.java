@@ -0,0 +1,193 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.jre;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Chooses JVM options for a {@link JvmProfile}, based on the memory and cores of the computer and the Java version of
+ * the runtime the game runs on.
+ * <p>
+ * Options the user chose explicitly always win: no heap size is chosen if the user set one, and no garbage collector
+ * if the user selected one, as the JVM refuses to start with more than one.
+ */
+public final class JvmTuning {
+
+    private static final long MB = 1024L * 1024L;
+    private static final long GB = 1024L * MB;
+
+    /**
+     * ZGC is production ready since Java 15, and has a generational mode since Java 21, which is the default since
+     * Java 23 and the only mode since Java 24, where the option to enable it is obsolete.
+     * <p>
+     * Unlike ZGC, Shenandoah is not part of every build of the JDK, e.g., not of Oracle's, and the JVM refuses to start
+     * with it where it is missing, so it is never chosen.
+     */
+    private static final int ZGC_VERSION = 15;
+    private static final int GENERATIONAL_ZGC_VERSION = 21;
+    private static final int GENERATIONAL_ZGC_DEFAULT_VERSION = 23;
+
+    /**
+     * ZGC supports string deduplication since Java 18.
+     */
+    private static final int ZGC_STRING_DEDUPLICATION_VERSION = 18;
+
+    private JvmTuning() {
+    }
+
+    /**
+     * The options for the given profile.
+     *
+     * @param profile         the profile to tune for
+     * @param host            the computer the game runs on
+     * @param javaVersion     the major Java version of the runtime the game runs on
+     * @param explicitOptions the options chosen by the user, including the heap sizes
+     */
+    public static List<String> getOptions(JvmProfile profile, Host host, int javaVersion,
+                                          List<String> explicitOptions) {
+        final List<String> options = new ArrayList<>();
+        if (profile == JvmProfile.MANUAL) {
+            return options;
+        }
+        final boolean explicitHeap = explicitOptions.stream()
+                .anyMatch(option -> option.startsWith("-Xmx") || option.startsWith("-Xms"));
+        final boolean explicitGc = explicitOptions.stream()
+                .anyMatch(option -> option.startsWith("-XX:+Use") && option.endsWith("GC"));
+
+        switch (profile) {
+            case LOW_LATENCY:
+                if (!explicitHeap) {
+                    // a fixed size heap is never resized, which would cause extra pauses
+                    final long heap = clamp(host.getTotalMemory() / 4, GB, 8 * GB);
+                    options.add("-Xms" + toSize(heap));
+                    options.add("-Xmx" + toSize(heap));
+                }
+                if (!explicitGc) {
+                    if (javaVersion >= ZGC_VERSION) {
+                        options.add("-XX:+UseZGC");
+                        if (javaVersion >= GENERATIONAL_ZGC_VERSION && javaVersion < GENERATIONAL_ZGC_DEFAULT_VERSION) {
+                            options.add("-XX:+ZGenerational");
+                        }
+                        if (javaVersion >= ZGC_STRING_DEDUPLICATION_VERSION) {
+                            options.add("-XX:+UseStringDeduplication");
+                        }
+                    } else {
+                        options.add("-XX:+UseG1GC");
+                        options.add("-XX:MaxGCPauseMillis=10");
+                        options.add("-XX:+UseStringDeduplication");
+                    }
+                }
+                addLargePages(host, options);
+                break;
+            case LOW_MEMORY:
+                if (!explicitHeap) {
+                    options.add("-Xms256m");
+                    options.add("-Xmx" + toSize(clamp(host.getTotalMemory() / 8, 768 * MB, 2 * GB)));
+                }
+                if (!explicitGc) {
+                    options.add("-XX:+UseG1GC");
+                    options.add("-XX:+UseStringDeduplication");
+                }
+                // fewer GC and compiler threads, each of which needs memory
+                options.add("-XX:ActiveProcessorCount=" + Math.max(2, host.getProcessors() / 2));
+                break;
+            case THROUGHPUT:
+                if (!explicitHeap) {
+                    final long heap = clamp(host.getTotalMemory() / 2, 2 * GB, 16 * GB);
+                    options.add("-Xms" + toSize(heap / 2));
+                    options.add("-Xmx" + toSize(heap));
+                }
+                if (!explicitGc) {
+                    options.add("-XX:+UseG1GC");
+                    options.add("-XX:+ParallelRefProcEnabled");
+                }
+                options.add("-XX:ActiveProcessorCount=" + host.getProcessors());
+                addLargePages(host, options);
+                break;
+            case SERVER:
+                if (!explicitHeap) {
+                    // a fixed size heap, touched up front, so that the server never stalls growing it under load
+                    final long heap = clamp(host.getTotalMemory() / 2, GB, 16 * GB);
+                    options.add("-Xms" + toSize(heap));
+                    options.add("-Xmx" + toSize(heap));
+                    options.add("-XX:+AlwaysPreTouch");
+                }
+                if (!explicitGc) {
+                    options.add("-XX:+UseG1GC");
+                    options.add("-XX:MaxGCPauseMillis=50");
+                    options.add("-XX:+ParallelRefProcEnabled");
+                    options.add("-XX:+UseStringDeduplication");
+                }
+                // a server that ran out of memory is in an unknown state, better exit so that it can be restarted
+                options.add("-XX:+ExitOnOutOfMemoryError");
+                addLargePages(host, options);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown profile " + profile);
+        }
+        return options;
+    }
+
+    /**
+     * Transparent huge pages need no setup by the user, unlike explicit large pages, and are only available on Linux.
+     */
+    private static void addLargePages(Host host, List<String> options) {
+        if (host.isLinux()) {
+            options.add("-XX:+UseTransparentHugePages");
+        }
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    /**
+     * The size in megabytes, rounded down to a multiple of 256 MB.
+     */
+    static String toSize(long bytes) {
+        return String.format(Locale.ROOT, "%dm", Math.max(256, bytes / MB / 256 * 256));
+    }
+
+    /**
+     * The resources of a computer relevant for tuning.
+     */
+    public static final class Host {
+        private final long totalMemory;
+        private final int processors;
+        private final boolean linux;
+
+        public Host(long totalMemory, int processors, boolean linux) {
+            this.totalMemory = totalMemory;
+            this.processors = processors;
+            this.linux = linux;
+        }
+
+        /**
+         * The computer the launcher runs on.
+         */
+        public static Host current() {
+            final java.lang.management.OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+            final long totalMemory = os instanceof com.sun.management.OperatingSystemMXBean
+                    ? ((com.sun.management.OperatingSystemMXBean) os).getTotalMemorySize()
+                    : Runtime.getRuntime().maxMemory() * 4;
+            return new Host(totalMemory, Runtime.getRuntime().availableProcessors(),
+                    System.getProperty("os.name").toLowerCase(Locale.ROOT).startsWith("linux"));
+        }
+
+        public long getTotalMemory() {
+            return totalMemory;
+        }
+
+        public int getProcessors() {
+            return processors;
+        }
+
+        public boolean isLinux() {
+            return linux;
+        }
+    }
+}
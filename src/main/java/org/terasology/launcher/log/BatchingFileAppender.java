@@ -0,0 +1,117 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.rolling.RollingFileAppender;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link RollingFileAppender} that collects events in its buffer and writes them to the file in batches, instead
+ * of flushing the {@link FileAppender file} after each event.
+ * <p>
+ * The buffer is flushed when it is full, when the last flush is longer ago than the
+ * {@linkplain #setFlushInterval(long) flush interval}, and right away for events of the
+ * {@linkplain #setFlushLevel(String) flush level} or more severe, so that warnings and errors are on disk in case
+ * the launcher crashes. A background thread checks the flush interval as well, so that events logged right before
+ * the launcher goes idle do not stay in the buffer.
+ */
+public class BatchingFileAppender extends RollingFileAppender<ILoggingEvent> {
+
+    private long flushInterval = 1000;
+    private Level flushLevel = Level.WARN;
+    private long lastFlush;
+    private ScheduledExecutorService flusher;
+
+    public BatchingFileAppender() {
+        setImmediateFlush(false);
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        if (isStarted() && flushInterval > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("log-flush-%d")
+                    .setDaemon(true)
+                    .build());
+            flusher.scheduleWithFixedDelay(this::flushIfDue, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+            flusher = null;
+        }
+        super.stop();
+    }
+
+    @Override
+    protected void writeOut(ILoggingEvent event) throws IOException {
+        super.writeOut(event);
+        lock.lock();
+        try {
+            final long now = System.currentTimeMillis();
+            if (event.getLevel().isGreaterOrEqual(flushLevel) || now - lastFlush >= flushInterval) {
+                flush(now);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flushIfDue() {
+        lock.lock();
+        try {
+            final long now = System.currentTimeMillis();
+            if (now - lastFlush >= flushInterval) {
+                flush(now);
+            }
+        } catch (IOException e) {
+            addError("Could not flush " + getFile(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush(long now) throws IOException {
+        final OutputStream out = getOutputStream();
+        if (out != null) {
+            out.flush();
+        }
+        lastFlush = now;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    /**
+     * @param flushInterval the time in milliseconds after which the buffer is flushed, at the latest
+     */
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public String getFlushLevel() {
+        return flushLevel.toString();
+    }
+
+    /**
+     * @param flushLevel the least severe level that is flushed right away, e.g., {@code WARN}
+     */
+    public void setFlushLevel(String flushLevel) {
+        this.flushLevel = Level.toLevel(flushLevel, Level.WARN);
+    }
+}
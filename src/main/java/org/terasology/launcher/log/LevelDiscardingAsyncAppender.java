@@ -0,0 +1,46 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.log;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+/**
+ * An {@link AsyncAppender} that chooses which events to discard when its queue is filling up by a configurable
+ * level, instead of always discarding everything up to INFO.
+ * <p>
+ * With the default {@link Level#DEBUG}, TRACE and DEBUG events are discarded once less than the
+ * {@linkplain #setDiscardingThreshold(int) discarding threshold} of the queue is left, while INFO events, which
+ * include the output of the game, are only lost if the queue is completely full and
+ * {@linkplain #setNeverBlock(boolean) never blocking} is enabled.
+ * <p>
+ * Configured in {@code logback.xml}:
+ * <pre>{@code
+ * <appender name="ASYNC_FILE" class="org.terasology.launcher.log.LevelDiscardingAsyncAppender">
+ *     <discardLevel>DEBUG</discardLevel>
+ *     <appender-ref ref="FILE"/>
+ * </appender>
+ * }</pre>
+ */
+public class LevelDiscardingAsyncAppender extends AsyncAppender {
+
+    private Level discardLevel = Level.DEBUG;
+
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        return discardLevel.isGreaterOrEqual(event.getLevel());
+    }
+
+    public String getDiscardLevel() {
+        return discardLevel.toString();
+    }
+
+    /**
+     * @param discardLevel the most severe level to discard when the queue is filling up, e.g., {@code DEBUG}
+     */
+    public void setDiscardLevel(String discardLevel) {
+        this.discardLevel = Level.toLevel(discardLevel, Level.DEBUG);
+    }
+}
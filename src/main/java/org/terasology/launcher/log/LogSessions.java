@@ -0,0 +1,316 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.log;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The log files of the launcher, grouped by session, i.e., by run of the launcher.
+ * <p>
+ * Each session logs to files named after the session, {@code launcher-<start>.log} while it runs, and the files
+ * rolled over by Logback next to it, e.g., {@code launcher-<start>.2026-10-19.0.log.gz}. The sessions are listed in
+ * the index {@value #INDEX}, newest first, so that recent sessions can be found without scanning the directory.
+ * <p>
+ * Logback compresses the files it rolls over and caps their size per session. Across sessions, the files are kept
+ * small by {@link #maintain(Session, long, int)}, which compresses the files left over from earlier sessions and
+ * deletes the oldest sessions beyond the given budget.
+ */
+public final class LogSessions {
+
+    static final String INDEX = "sessions.json";
+    static final String PREFIX = "launcher-";
+    static final String LOG_SUFFIX = ".log";
+    static final String GZIP_SUFFIX = ".gz";
+
+    private static final DateTimeFormatter ID_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneId.systemDefault());
+
+    private final Path directory;
+    private final Gson gson = new Gson();
+
+    public LogSessions(Path directory) {
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Start a new session and add it to the index.
+     *
+     * @param start the time the session starts
+     * @return the new session
+     */
+    public synchronized Session begin(Instant start) throws IOException {
+        final List<Session> sessions = new ArrayList<>(readIndex());
+        final String baseId = PREFIX + ID_FORMATTER.format(start);
+        String id = baseId;
+        for (int i = 1; contains(sessions, id) || Files.exists(directory.resolve(id + LOG_SUFFIX)); i++) {
+            id = baseId + "-" + i;
+        }
+        final Session session = new Session(id, start.toEpochMilli(), ProcessHandle.current().pid());
+        sessions.add(0, session);
+        writeIndex(sessions);
+        return session;
+    }
+
+    /**
+     * The sessions in the index, newest first.
+     */
+    public synchronized List<Session> list() {
+        return readIndex();
+    }
+
+    /**
+     * The base path of the log files of the given session, without any suffix.
+     */
+    public Path getBasePath(Session session) {
+        return directory.resolve(session.getId());
+    }
+
+    /**
+     * The log files of the given session, oldest first.
+     */
+    public List<Path> getFiles(Session session) throws IOException {
+        final String id = session.getId();
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> belongsTo(file, id))
+                    .sorted(Comparator.comparing(LogSessions::lastModified).thenComparing(Path::toString))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Read the last lines logged in the given session, decompressing the files as needed.
+     *
+     * @param session  the session to read
+     * @param maxLines the number of lines to read at most
+     * @return the lines, oldest first
+     */
+    public List<String> readTail(Session session, int maxLines) throws IOException {
+        final Deque<String> lines = new ArrayDeque<>(maxLines);
+        for (Path file : getFiles(session)) {
+            try (InputStream in = open(file);
+                 BufferedReader reader = new BufferedReader(new InputStreamReader(in, Charset.defaultCharset()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (lines.size() == maxLines) {
+                        lines.removeFirst();
+                    }
+                    lines.addLast(line);
+                }
+            } catch (NoSuchFileException e) {
+                // rolled over or deleted in the meantime
+            }
+        }
+        return new ArrayList<>(lines);
+    }
+
+    /**
+     * Compress the files left over from earlier sessions, then delete the oldest sessions as long as there are more
+     * than {@code maxSessions}, or their files take more than {@code totalSizeCap} bytes. The current session, and
+     * the sessions of other launchers that are still running, are left alone.
+     */
+    public synchronized void maintain(Session current, long totalSizeCap, int maxSessions) throws IOException {
+        final List<Session> sessions = readIndex();
+        for (Session session : sessions) {
+            if (!isActive(session, current)) {
+                for (Path file : getFiles(session)) {
+                    if (file.getFileName().toString().endsWith(LOG_SUFFIX)) {
+                        compress(file);
+                    }
+                }
+            }
+        }
+
+        final List<Session> kept = new ArrayList<>();
+        long totalSize = 0;
+        boolean full = false;
+        for (Session session : sessions) {
+            final List<Path> files = getFiles(session);
+            final long size = size(files);
+            full = full || kept.size() >= maxSessions || totalSize + size > totalSizeCap;
+            if (!full || isActive(session, current)) {
+                kept.add(session);
+                totalSize += size;
+            } else {
+                for (Path file : files) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        // drop the sessions without any files, except the active ones, which may not have logged yet
+        kept.removeIf(session -> !isActive(session, current) && isEmpty(session));
+        writeIndex(kept);
+    }
+
+    static void compress(Path file) throws IOException {
+        final Path compressed = file.resolveSibling(file.getFileName() + GZIP_SUFFIX);
+        final Path temp = file.resolveSibling(compressed.getFileName() + ".tmp");
+        final FileTime modified = Files.getLastModifiedTime(file);
+        try (InputStream in = Files.newInputStream(file);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+            in.transferTo(out);
+        }
+        // keep the time, the files of a session are sorted by it
+        Files.setLastModifiedTime(temp, modified);
+        Files.move(temp, compressed, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.delete(file);
+    }
+
+    private static InputStream open(Path file) throws IOException {
+        final InputStream in = Files.newInputStream(file);
+        if (!file.getFileName().toString().endsWith(GZIP_SUFFIX)) {
+            return in;
+        }
+        try {
+            return new GZIPInputStream(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    private static boolean isActive(Session session, Session current) {
+        return session.equals(current) || session.getPid() != ProcessHandle.current().pid()
+                && ProcessHandle.of(session.getPid()).map(ProcessHandle::isAlive).orElse(false);
+    }
+
+    private boolean isEmpty(Session session) {
+        try {
+            return getFiles(session).isEmpty();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean belongsTo(Path file, String id) {
+        final String name = file.getFileName().toString();
+        return name.startsWith(id + ".") && (name.endsWith(LOG_SUFFIX) || name.endsWith(LOG_SUFFIX + GZIP_SUFFIX));
+    }
+
+    private static boolean contains(List<Session> sessions, String id) {
+        return sessions.stream().anyMatch(session -> session.getId().equals(id));
+    }
+
+    private static long size(List<Path> files) {
+        long size = 0;
+        for (Path file : files) {
+            try {
+                size += Files.size(file);
+            } catch (IOException e) {
+                // deleted in the meantime
+            }
+        }
+        return size;
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private List<Session> readIndex() {
+        try (Reader reader = Files.newBufferedReader(directory.resolve(INDEX))) {
+            final List<Session> sessions = gson.fromJson(reader, new TypeToken<List<Session>>() { }.getType());
+            return sessions != null ? sessions : List.of();
+        } catch (IOException | JsonParseException e) {
+            // missing or broken, start over
+            return List.of();
+        }
+    }
+
+    private void writeIndex(List<Session> sessions) throws IOException {
+        final Path index = directory.resolve(INDEX);
+        final Path temp = directory.resolve(INDEX + ".tmp");
+        try (Writer writer = Files.newBufferedWriter(temp)) {
+            gson.toJson(sessions, writer);
+        }
+        Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * A run of the launcher, as listed in the index.
+     */
+    public static final class Session {
+        private final String id;
+        private final long start;
+        private final long pid;
+
+        Session(String id, long start, long pid) {
+            this.id = id;
+            this.start = start;
+            this.pid = pid;
+        }
+
+        /**
+         * The name of the log files of the session, without any suffix.
+         */
+        public String getId() {
+            return id;
+        }
+
+        public Instant getStart() {
+            return Instant.ofEpochMilli(start);
+        }
+
+        public long getPid() {
+            return pid;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return id.equals(((Session) o).id);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id);
+        }
+
+        @Override
+        public String toString() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.log;
+
+import ch.qos.logback.core.PropertyDefinerBase;
+import ch.qos.logback.core.util.FileSize;
+import org.terasology.launcher.platform.Platform;
+import org.terasology.launcher.platform.UnsupportedPlatformException;
+import org.terasology.launcher.util.LauncherDirectoryUtils;
+import org.terasology.launcher.util.LauncherManagedDirectory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+
+/**
+ * Define the base path of the log files of this session, without any suffix, for use in Logback properties.
+ * <p>
+ * The log files go to the {@link LauncherManagedDirectory#LOGS logs directory} of the launcher, or to a directory in
+ * the temporary directory of the system if that cannot be used. Starting a session also compresses the log files of
+ * earlier sessions and deletes the oldest ones beyond the {@linkplain #setTotalSizeCap(FileSize) total size cap}, in
+ * the background.
+ */
+public class SessionLogPropertyDefiner extends PropertyDefinerBase {
+
+    private static SessionLogPropertyDefiner instance;
+
+    private LogSessions sessions;
+    private LogSessions.Session session;
+
+    private FileSize totalSizeCap = FileSize.valueOf("200MB");
+    private int maxSessions = 20;
+
+    private boolean failed;
+
+    /**
+     * Default constructor (necessary) - called by Logback.
+     */
+    public SessionLogPropertyDefiner() {
+        if (instance != null) {
+            throw new IllegalStateException("This class must not be instantiated twice");
+        }
+
+        instance = this;    //NOPMD(AssignmentToNonFinalStatic)
+    }
+
+    /**
+     * @return the instance created by Logback, or null if the log files are not managed, e.g., during development
+     */
+    public static SessionLogPropertyDefiner getInstance() {
+        return instance;
+    }
+
+    @Override
+    public String getPropertyValue() {
+
+        // Don't try again, if it failed before
+        if (failed) {
+            return null;
+        }
+
+        if (session == null) {
+            try {
+                sessions = new LogSessions(getLogDirectory());
+                session = sessions.begin(Instant.now());
+                // not to standard output, which the command line mode keeps for its results
+                System.err.println("Using log file " + sessions.getBasePath(session) + LogSessions.LOG_SUFFIX);
+            } catch (IOException e) {
+                failed = true;
+                addError("Could not start a log session", e);
+                return null;
+            }
+            startMaintenance();
+        }
+
+        return sessions.getBasePath(session).toString();
+    }
+
+    /**
+     * @return the log sessions, or null if there are none
+     */
+    public LogSessions getSessions() {
+        return sessions;
+    }
+
+    /**
+     * @return the current session, or null if there is none
+     */
+    public LogSessions.Session getSession() {
+        return session;
+    }
+
+    public FileSize getTotalSizeCap() {
+        return totalSizeCap;
+    }
+
+    /**
+     * @param totalSizeCap the size the log files of all sessions may take together, e.g., {@code 200MB}
+     */
+    public void setTotalSizeCap(FileSize totalSizeCap) {
+        this.totalSizeCap = totalSizeCap;
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    /**
+     * @param maxSessions the number of sessions to keep the log files of
+     */
+    public void setMaxSessions(int maxSessions) {
+        this.maxSessions = maxSessions;
+    }
+
+    private Path getLogDirectory() throws IOException {
+        Path directory;
+        try {
+            final Path launcherDirectory = LauncherDirectoryUtils.getApplicationDirectory(Platform.getPlatform(),
+                    LauncherDirectoryUtils.LAUNCHER_APPLICATION_DIR_NAME);
+            directory = Files.createDirectories(LauncherManagedDirectory.LOGS.getDirectoryPath(launcherDirectory));
+        } catch (UnsupportedPlatformException | IOException e) {
+            addWarn("Could not use the logs directory of the launcher, using the temporary directory instead", e);
+            directory = Files.createDirectories(Paths.get(System.getProperty("java.io.tmpdir"),
+                    LauncherDirectoryUtils.LAUNCHER_APPLICATION_DIR_NAME + "-logs"));
+        }
+        return directory;
+    }
+
+    private void startMaintenance() {
+        final Thread thread = new Thread(() -> {
+            try {
+                sessions.maintain(session, totalSizeCap.getSize(), maxSessions);
+            } catch (IOException e) {
+                addWarn("Could not clean up the log files of earlier sessions", e);
+            }
+        }, "LogMaintenance");
+        thread.setDaemon(true);
+        thread.start();
+    }
+}
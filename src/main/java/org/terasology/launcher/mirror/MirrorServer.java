@@ -0,0 +1,323 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.mirror;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import okhttp3.Cache;
+import okhttp3.OkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.platform.Platform;
+import org.terasology.launcher.platform.UnsupportedPlatformException;
+import org.terasology.launcher.remote.DownloadUtils;
+import org.terasology.launcher.remote.FileResponses;
+import org.terasology.launcher.repositories.CombinedRepository;
+import org.terasology.launcher.repositories.Mirror;
+import org.terasology.launcher.repositories.ReleaseRepository;
+import org.terasology.launcher.tasks.ProgressListener;
+import org.terasology.launcher.util.FileUtils;
+import org.terasology.launcher.util.LauncherDirectoryUtils;
+import org.terasology.launcher.util.LauncherManagedDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Headless mode of the launcher, acting as caching proxy and mirror for the releases of all upstream repositories.
+ * <p>
+ * The mirror serves the release catalog at {@code /releases.json}, and the artifacts at {@code /artifacts/<filename>}.
+ * Artifacts are downloaded from upstream into the cache directory on first request and served from there afterwards,
+ * with support for range requests. Point launchers to the mirror by setting {@code releaseMirror} in their settings.
+ * <p>
+ * This is a main class of its own, started with the {@code -mirror} scripts, as the Java launcher starts JavaFX, which
+ * needs a display, before it runs the main method of a JavaFX application like the launcher itself.
+ */
+public final class MirrorServer implements Closeable {
+
+    public static final int DEFAULT_PORT = 28772;
+
+    static final String PORT_OPTION = "--port=";
+
+    private static final Logger logger = LoggerFactory.getLogger(MirrorServer.class);
+
+    private static final String USAGE = "Usage: [" + PORT_OPTION + "<port>]";
+    private static final int EXIT_FAILED = 1;
+    private static final int EXIT_USAGE = 2;
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofMinutes(15);
+    private static final int SERVER_THREADS = 16;
+
+    private final Supplier<ReleaseRepository> upstream;
+    private final Path cacheDirectory;
+    private final InetSocketAddress address;
+    private final DownloadUtils downloader = new DownloadUtils();
+    private final Gson gson = new Gson();
+
+    private final Map<String, CompletableFuture<Path>> downloads = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("MirrorServer-refresh-%d")
+                    .setDaemon(true)
+                    .build());
+    private final ExecutorService downloadExecutor = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("MirrorServer-download-%d")
+                    .setDaemon(true)
+                    .build());
+
+    private volatile Map<String, GameRelease> releases = Map.of();
+    private HttpServer server;
+
+    /**
+     * @param upstream       creates a repository with the current releases on each catalog refresh
+     * @param cacheDirectory the directory to keep downloaded artifacts in
+     * @param address        the address to listen on
+     */
+    public MirrorServer(Supplier<ReleaseRepository> upstream, Path cacheDirectory, InetSocketAddress address) {
+        this.upstream = upstream;
+        this.cacheDirectory = cacheDirectory;
+        this.address = address;
+    }
+
+    /**
+     * Run the mirror until the process is stopped.
+     * <p>
+     * Usage: {@code [--port=<port>]}
+     */
+    public static void main(String[] args) {
+        final int port;
+        try {
+            port = parsePort(Arrays.asList(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(EXIT_USAGE);
+            return;
+        }
+        try {
+            runHeadless(port);
+        } catch (IOException | UnsupportedPlatformException e) {
+            logger.error("The release mirror could not be started!", e);
+            System.exit(EXIT_FAILED);
+        }
+    }
+
+    /**
+     * The port given on the command line, or {@link #DEFAULT_PORT} if there is none.
+     *
+     * @throws IllegalArgumentException for unknown arguments or invalid ports
+     */
+    static int parsePort(List<String> arguments) {
+        int port = DEFAULT_PORT;
+        for (String argument : arguments) {
+            if (!argument.startsWith(PORT_OPTION)) {
+                throw new IllegalArgumentException("Unknown argument: " + argument);
+            }
+            final String value = argument.substring(PORT_OPTION.length());
+            try {
+                port = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Not a port: " + value, e);
+            }
+            if (port < 0 || port > 0xFFFF) {
+                throw new IllegalArgumentException("Not a port: " + value);
+            }
+        }
+        return port;
+    }
+
+    /**
+     * Run the mirror in the foreground, serving the download cache of this launcher installation.
+     *
+     * @param port the port to listen on
+     */
+    public static MirrorServer runHeadless(int port) throws IOException, UnsupportedPlatformException {
+        final Path launcherDirectory = LauncherDirectoryUtils.getApplicationDirectory(
+                Platform.getPlatform(), LauncherDirectoryUtils.LAUNCHER_APPLICATION_DIR_NAME);
+        final Path cacheDirectory = LauncherManagedDirectory.CACHE.getDirectoryPath(launcherDirectory);
+        FileUtils.ensureWritableDir(cacheDirectory);
+
+        final var client = new OkHttpClient.Builder()
+                .cache(new Cache(cacheDirectory.toFile(), 10L * 1024L * 1024L /*10 MiB*/))
+                .callTimeout(10, TimeUnit.SECONDS)
+                .build();
+
+        final MirrorServer mirror =
+                new MirrorServer(() -> new CombinedRepository(client), cacheDirectory, new InetSocketAddress(port));
+        mirror.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(mirror::close, "MirrorServer-shutdown"));
+        return mirror;
+    }
+
+    /**
+     * Fetch the catalog from upstream, and start serving it.
+     */
+    public synchronized void start() throws IOException {
+        refresh();
+
+        server = HttpServer.create(address, 0);
+        server.createContext("/" + Mirror.CATALOG_PATH, this::serveCatalog);
+        server.createContext("/" + Mirror.ARTIFACT_PATH, this::serveArtifact);
+        server.setExecutor(Executors.newFixedThreadPool(SERVER_THREADS, new ThreadFactoryBuilder()
+                .setNameFormat("MirrorServer-http-%d")
+                .build()));
+        server.start();
+
+        scheduler.scheduleWithFixedDelay(this::refresh,
+                REFRESH_INTERVAL.toMillis(), REFRESH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+        logger.info("Mirroring {} releases at http://{}:{}/", releases.size(),
+                server.getAddress().getHostString(), server.getAddress().getPort());
+    }
+
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    @Override
+    public synchronized void close() {
+        scheduler.shutdownNow();
+        downloadExecutor.shutdownNow();
+        if (server != null) {
+            server.stop(0);
+            ((ExecutorService) server.getExecutor()).shutdownNow();
+        }
+    }
+
+    /**
+     * Fetch the catalog from upstream. Failures are logged and keep the previous catalog, so that the scheduled
+     * refresh keeps running.
+     */
+    void refresh() {
+        try {
+            final List<GameRelease> fetched = upstream.get().fetchReleases();
+            if (fetched.isEmpty() && !releases.isEmpty()) {
+                // most likely upstream is not reachable, keep serving what we know
+                logger.warn("Received no releases from upstream, keeping the previous catalog.");
+                return;
+            }
+            releases = fetched.stream()
+                    .collect(Collectors.toMap(GameRelease::getFilename, Function.identity(), (a, b) -> a));
+            logger.info("Refreshed release catalog: {} releases.", releases.size());
+        } catch (RuntimeException e) {
+            logger.warn("Could not refresh the release catalog, keeping the previous one.", e);
+        }
+    }
+
+    private void serveCatalog(HttpExchange exchange) throws IOException {
+        try {
+            final Mirror.Catalog catalog = new Mirror.Catalog();
+            catalog.releases = releases.values().stream()
+                    .map(MirrorServer::toCatalogEntry)
+                    .toArray(Mirror.Release[]::new);
+            final byte[] body = gson.toJson(catalog).getBytes(StandardCharsets.UTF_8);
+
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void serveArtifact(HttpExchange exchange) throws IOException {
+        try {
+            final String name = exchange.getRequestURI().getPath().substring(Mirror.ARTIFACT_PATH.length() + 1);
+            final GameRelease release = releases.get(name);
+            if (release == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            final Path file = cacheDirectory.resolve(name);
+            if (!Files.isRegularFile(file)) {
+                try {
+                    fetchFromUpstream(release).get();
+                } catch (ExecutionException e) {
+                    logger.warn("Could not fetch '{}' from upstream.", name, e.getCause());
+                    exchange.sendResponseHeaders(502, -1);
+                    return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    exchange.sendResponseHeaders(503, -1);
+                    return;
+                }
+            }
+            logger.debug("Serving '{}' to '{}'.", name, exchange.getRemoteAddress());
+            FileResponses.send(exchange, file, "application/zip");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Download the release into the cache directory. Concurrent requests for the same release share one download.
+     */
+    private CompletableFuture<Path> fetchFromUpstream(GameRelease release) {
+        return downloads.computeIfAbsent(release.getFilename(), name -> CompletableFuture.supplyAsync(() -> {
+            try {
+                logger.info("Fetching {} from upstream.", release.getId());
+                return downloader.download(release, cacheDirectory.resolve(name), new NoProgress()).get();
+            } catch (IOException | ExecutionException e) {
+                throw new CompletionException(e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } finally {
+                downloads.remove(name);
+            }
+        }, downloadExecutor));
+    }
+
+    private static Mirror.Release toCatalogEntry(GameRelease release) {
+        final Mirror.Release entry = new Mirror.Release();
+        entry.profile = release.getId().getProfile();
+        entry.build = release.getId().getBuild();
+        entry.version = release.getId().getDisplayVersion();
+        entry.path = Mirror.ARTIFACT_PATH + release.getFilename();
+        entry.checksum = release.getChecksum();
+        entry.changelog = release.getChangelog();
+        entry.timestamp = release.getTimestamp().getTime();
+        return entry;
+    }
+
+    private static final class NoProgress implements ProgressListener {
+        @Override
+        public void update() {
+        }
+
+        @Override
+        public void update(int progress) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    }
+}
@@ -23,11 +23,20 @@ public class GameRelease implements RemoteResource<GameIdentifier> {
     final GameIdentifier id;
     final ReleaseMetadata releaseMetadata;
     final URL url;
+    final String checksum;
 
     public GameRelease(GameIdentifier id, URL url, ReleaseMetadata releaseMetadata) {
+        this(id, url, releaseMetadata, null);
+    }
+
+    /**
+     * @param checksum the MD5 checksum of the artifact as lower-case hex string, or {@code null} if unknown
+     */
+    public GameRelease(GameIdentifier id, URL url, ReleaseMetadata releaseMetadata, String checksum) {
         this.id = id;
         this.url = url;
         this.releaseMetadata = releaseMetadata;
+        this.checksum = checksum;
     }
 
     public GameIdentifier getId() {
@@ -51,6 +60,11 @@ public class GameRelease implements RemoteResource<GameIdentifier> {
         return id;
     }
 
+    @Override
+    public String getChecksum() {
+        return checksum;
+    }
+
     /**
      * The changelog associated with the game release
      */
@@ -7,22 +7,27 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.launcher.tasks.ProgressListener;
 
-import javax.net.ssl.HttpsURLConnection;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.file.Files;
+import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 public final class DownloadUtils {
 
@@ -31,33 +36,77 @@ public final class DownloadUtils {
     private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(30);
     private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofMinutes(5);
 
-    private final Duration connectTimeout; //TODO: use instead of default
-    private final Duration readTimeout; //TODO: use instead of default
+    private static final int HTTP_RANGE_NOT_SATISFIABLE = 416;
+    private static final long CANCEL_POLL_INTERVAL_MILLIS = 250;
+
+    private final Duration connectTimeout;
+    private final Duration readTimeout;
+    private final RetryPolicy retryPolicy;
+    private final long maxBytesPerSecond;
+    private final HttpClient client;
 
     public DownloadUtils() {
         this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT);
     }
 
     public DownloadUtils(Duration connectTimeout, Duration readTimeout) {
+        this(connectTimeout, readTimeout, RetryPolicy.DEFAULT);
+    }
+
+    public DownloadUtils(Duration connectTimeout, Duration readTimeout, RetryPolicy retryPolicy) {
+        this(connectTimeout, readTimeout, retryPolicy, 0);
+    }
+
+    /**
+     * Create a downloader which does not take up more than the given bandwidth, e.g., for background downloads.
+     *
+     * @param maxBytesPerSecond the maximum average transfer rate, or 0 for no limit
+     */
+    public DownloadUtils(long maxBytesPerSecond) {
+        this(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT, RetryPolicy.DEFAULT, maxBytesPerSecond);
+    }
+
+    /**
+     * @param connectTimeout    the time to wait for a connection to the server to be established
+     * @param readTimeout       the budget of a single request until the response headers have been received, and the
+     *                          longest time to wait for more data of the body after that
+     * @param retryPolicy       how often and when to retry requests that failed with an I/O error
+     * @param maxBytesPerSecond the maximum average transfer rate, or 0 for no limit
+     */
+    public DownloadUtils(Duration connectTimeout, Duration readTimeout, RetryPolicy retryPolicy, long maxBytesPerSecond) {
         this.connectTimeout = connectTimeout;
         this.readTimeout = readTimeout;
+        this.retryPolicy = retryPolicy;
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.client = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build();
     }
 
+    /**
+     * Download the given resource to {@code path}.
+     * <p>
+     * The data is first written to a {@code .part} file next to {@code path}. If the connection breaks, the download
+     * is resumed from the last byte written according to the {@link RetryPolicy} of this instance. A {@code .part} file
+     * left over from an earlier run is resumed as well, so that the user does not have to start from scratch.
+     */
     public <T> CompletableFuture<Path> download(RemoteResource<T> resource, Path path, ProgressListener listener)
             throws DownloadException, IOException, InterruptedException {
         final URL downloadUrl = resource.getUrl();
 
-        final long contentLength = DownloadUtils.getContentLength(downloadUrl);
+        final long contentLength = fetchContentLength(downloadUrl, listener);
         final long availableSpace = path.getParent().toFile().getUsableSpace();
 
-        if (availableSpace >= contentLength) {
-            final Path cacheZipPart = path.resolveSibling(path.getFileName().toString() + ".part");
-            Files.deleteIfExists(cacheZipPart);
-            try {
-                DownloadUtils.downloadToFile(downloadUrl, cacheZipPart, listener).get();
-            } catch (ExecutionException e) {
-                throw new DownloadException("Exception while downloading " + downloadUrl, e.getCause());
-            }
+        final Path cacheZipPart = path.resolveSibling(path.getFileName().toString() + ".part");
+        if (Files.exists(cacheZipPart) && (contentLength <= 0 || Files.size(cacheZipPart) > contentLength)) {
+            // we cannot tell whether the partial file belongs to the current artifact
+            Files.delete(cacheZipPart);
+        }
+        final long alreadyDownloaded = Files.exists(cacheZipPart) ? Files.size(cacheZipPart) : 0L;
+
+        if (availableSpace >= contentLength - alreadyDownloaded) {
+            downloadWithRetries(downloadUrl, cacheZipPart, contentLength, listener);
 
             if (!listener.isCancelled()) {
                 Files.move(cacheZipPart, path, StandardCopyOption.ATOMIC_MOVE);
@@ -72,6 +121,163 @@ public final class DownloadUtils {
         return CompletableFuture.supplyAsync(() -> path);
     }
 
+    /**
+     * The size of the given resource in bytes as announced by the server, or -1 if it is unknown.
+     * <p>
+     * The {@code HEAD} request is retried according to the {@link RetryPolicy} of this instance.
+     */
+    public long fetchContentLength(URL downloadUrl, ProgressListener listener)
+            throws DownloadException, InterruptedException {
+        return withRetries(downloadUrl, "HEAD request", listener, () -> requestContentLength(downloadUrl));
+    }
+
+    private void downloadWithRetries(URL downloadUrl, Path file, long contentLength, ProgressListener listener)
+            throws DownloadException, InterruptedException {
+        withRetries(downloadUrl, "Download", listener, () -> {
+            final long offset = Files.exists(file) ? Files.size(file) : 0L;
+            downloadRange(downloadUrl, file, offset, contentLength, listener);
+            return file;
+        });
+    }
+
+    /**
+     * Run the given request, and run it again after I/O errors according to the {@link RetryPolicy} of this instance.
+     *
+     * @param what a short description of the request for the log
+     */
+    private <T> T withRetries(URL url, String what, ProgressListener listener, Request<T> request)
+            throws DownloadException, InterruptedException {
+        final long deadline = System.nanoTime() + retryPolicy.getTotalBudget().toNanos();
+        int failedAttempts = 0;
+        while (true) {
+            try {
+                final T result = request.run();
+                if (failedAttempts > 0) {
+                    logger.info("{} of '{}' succeeded after {} retries.", what, url, failedAttempts);
+                }
+                return result;
+            } catch (IOException e) {
+                failedAttempts++;
+                final Duration backoff = retryPolicy.backoff(failedAttempts);
+                final boolean outOfBudget = System.nanoTime() + backoff.toNanos() > deadline;
+                if (listener.isCancelled() || !retryPolicy.allowsRetry(failedAttempts) || outOfBudget) {
+                    throw new DownloadException(
+                            what + " failed after " + failedAttempts + " attempt(s)! URL=" + url, e);
+                }
+                logger.warn("{} of '{}' failed: {}. Retrying in {} ms (attempt {} of {}).", what, url,
+                        e.getMessage(), backoff.toMillis(), failedAttempts + 1, retryPolicy.getMaxAttempts());
+                sleepUnlessCancelled(backoff, listener);
+            }
+        }
+    }
+
+    /**
+     * A single attempt of a request, failing with an {@link IOException} for all errors worth retrying.
+     */
+    private interface Request<T> {
+        T run() throws IOException, InterruptedException;
+    }
+
+    private long requestContentLength(URL downloadUrl) throws IOException {
+        final URLConnection connection = downloadUrl.openConnection();
+        connection.setConnectTimeout((int) connectTimeout.toMillis());
+        connection.setReadTimeout((int) readTimeout.toMillis());
+        if (connection instanceof HttpURLConnection) {
+            final HttpURLConnection http = (HttpURLConnection) connection;
+            http.setRequestMethod("HEAD");
+            try {
+                if (http.getResponseCode() >= HttpURLConnection.HTTP_INTERNAL_ERROR) {
+                    throw new IOException("Server error " + http.getResponseCode());
+                }
+                return http.getContentLengthLong();
+            } finally {
+                http.disconnect();
+            }
+        }
+        return connection.getContentLengthLong();
+    }
+
+    /**
+     * Request the resource starting at {@code offset} and write it to {@code file}.
+     * <p>
+     * Servers that do not support range requests answer with the full content, in which case the file is truncated
+     * and written from the start.
+     *
+     * @throws IOException       for all errors worth retrying, i.e., connection problems, server errors, or an
+     *                           incomplete transfer
+     * @throws DownloadException for errors that will not go away by trying again
+     */
+    private void downloadRange(URL downloadUrl, Path file, long offset, long contentLength, ProgressListener listener)
+            throws IOException, InterruptedException {
+        final HttpRequest.Builder request = HttpRequest.newBuilder(toUri(downloadUrl)).timeout(readTimeout);
+        if (offset > 0) {
+            request.header("Range", "bytes=" + offset + "-");
+        }
+        final HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+
+        final int status = response.statusCode();
+        final boolean resume;
+        if (status == HttpURLConnection.HTTP_PARTIAL) {
+            logger.debug("Resuming download of '{}' at byte {}.", file, offset);
+            resume = true;
+        } else if (status == HttpURLConnection.HTTP_OK) {
+            resume = false;
+        } else {
+            response.body().close();
+            if (status == HTTP_RANGE_NOT_SATISFIABLE) {
+                if (offset == contentLength) {
+                    return;
+                }
+                Files.deleteIfExists(file);
+                throw new IOException("Server rejected range request at byte " + offset);
+            } else if (status >= HttpURLConnection.HTTP_INTERNAL_ERROR) {
+                throw new IOException("Server error " + status);
+            }
+            throw new DownloadException("Unexpected response " + status + " for URL " + downloadUrl);
+        }
+
+        logger.debug("Download file '{}' ({}; {}) from URL '{}'.", file, contentLength,
+                response.headers().firstValue("content-type"), downloadUrl);
+
+        final OpenOption[] options = resume
+                ? new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.APPEND}
+                : new OpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE};
+        final InputStream stream = new IdleTimeoutInputStream(response.body(), readTimeout);
+        final InputStream body = maxBytesPerSecond > 0 ? new ThrottledInputStream(stream, maxBytesPerSecond) : stream;
+        try (InputStream in = new BufferedInputStream(body);
+             OutputStream out = new BufferedOutputStream(Files.newOutputStream(file, options))) {
+            downloadToFile(listener, contentLength, resume ? offset : 0L, in, out);
+        }
+
+        if (!listener.isCancelled()) {
+            final long size = Files.size(file);
+            if (contentLength > 0 && size > contentLength) {
+                Files.delete(file);
+                throw new IOException("Downloaded more than expected! " + size + " > " + contentLength);
+            } else if (contentLength > 0 && size < contentLength) {
+                throw new IOException("Connection closed early! " + size + " < " + contentLength);
+            }
+            listener.update(100);
+        }
+    }
+
+    private static void sleepUnlessCancelled(Duration duration, ProgressListener listener) throws InterruptedException {
+        final long end = System.nanoTime() + duration.toNanos();
+        long remaining = duration.toMillis();
+        while (remaining > 0 && !listener.isCancelled()) {
+            Thread.sleep(Math.min(remaining, CANCEL_POLL_INTERVAL_MILLIS));
+            remaining = TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime());
+        }
+    }
+
+    private static URI toUri(URL url) throws DownloadException {
+        try {
+            return url.toURI();
+        } catch (URISyntaxException e) {
+            throw new DownloadException("Error in URL: " + url, e);
+        }
+    }
+
     /**
      * @deprecated Use {@link #download(RemoteResource, Path, ProgressListener)} instead;
      */
@@ -88,7 +294,7 @@ public final class DownloadUtils {
 
             try (BufferedInputStream in = new BufferedInputStream(response.body());
                  BufferedOutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
-                downloadToFile(listener, contentLength, in, out);
+                downloadToFile(listener, contentLength, 0L, in, out);
             } catch (IOException e) {
                 throw new DownloadException("Could not download file from URL! URL=" + downloadURL + ", file=" + file, e);
             }
@@ -106,13 +312,13 @@ public final class DownloadUtils {
         });
     }
 
+    /**
+     * @deprecated Use {@link #fetchContentLength(URL, ProgressListener)} instead, which retries failed requests.
+     */
     @Deprecated
     public static long getContentLength(URL downloadURL) throws DownloadException {
-        HttpsURLConnection connection = null;
         try {
-            connection = (HttpsURLConnection) downloadURL.openConnection();
-            connection.setRequestMethod("HEAD");
-            return connection.getContentLengthLong();
+            return new DownloadUtils().requestContentLength(downloadURL);
         } catch (IOException e) {
             throw new DownloadException("Could not send HEAD request to HTTP-URL! URL=" + downloadURL, e);
         }
@@ -133,11 +339,11 @@ public final class DownloadUtils {
         return client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
     }
 
-    private static void downloadToFile(ProgressListener listener, long contentLength, BufferedInputStream in,
-                                       BufferedOutputStream out) throws IOException {
+    private static void downloadToFile(ProgressListener listener, long contentLength, long offset, InputStream in,
+                                       OutputStream out) throws IOException {
         final byte[] buffer = new byte[2048];
         final float sizeFactor = 100f / contentLength;
-        long writtenBytes = 0;
+        long writtenBytes = offset;
         int n;
         if (!listener.isCancelled()) {
             while ((n = in.read(buffer)) != -1) { //NOPMD(AssignmentInOperand)
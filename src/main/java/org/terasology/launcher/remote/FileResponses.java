@@ -0,0 +1,121 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.remote;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Sends files as response to HTTP requests handled by the JDK's built-in {@link com.sun.net.httpserver.HttpServer}.
+ * <p>
+ * Supports {@code HEAD} requests and a single byte range per request ({@code Range: bytes=<first>-[<last>]} or
+ * {@code Range: bytes=-<suffix>}), which is what {@link DownloadUtils} needs to resume downloads. Requests for multiple
+ * ranges are answered with the complete file.
+ */
+public final class FileResponses {
+
+    private static final String RANGE_PREFIX = "bytes=";
+
+    private FileResponses() {
+    }
+
+    /**
+     * Answer the exchange with the content of {@code file}, or the requested part of it.
+     * <p>
+     * The exchange is not closed by this method.
+     */
+    public static void send(HttpExchange exchange, Path file, String contentType) throws IOException {
+        final long size = Files.size(file);
+        final Headers headers = exchange.getResponseHeaders();
+        headers.set("Content-Type", contentType);
+        headers.set("Accept-Ranges", "bytes");
+
+        long first = 0;
+        long last = size - 1;
+        int status = 200;
+        final long[] range = parseRange(exchange.getRequestHeaders().getFirst("Range"), size);
+        if (range != null) {
+            if (range.length == 0) {
+                headers.set("Content-Range", "bytes */" + size);
+                exchange.sendResponseHeaders(416, -1);
+                return;
+            }
+            first = range[0];
+            last = range[1];
+            status = 206;
+            headers.set("Content-Range", "bytes " + first + "-" + last + "/" + size);
+        }
+        final long length = last - first + 1;
+
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            // the server does not set the content length for HEAD requests by itself
+            headers.set("Content-Length", Long.toString(length));
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        // a length of 0 would mean "chunked" to the server
+        exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+        try (FileChannel channel = FileChannel.open(file);
+             InputStream in = Channels.newInputStream(channel.position(first));
+             OutputStream out = exchange.getResponseBody()) {
+            copy(in, out, length);
+        }
+    }
+
+    /**
+     * Parse the value of a {@code Range} header.
+     *
+     * @return {@code null} if the whole file should be sent, an empty array if the range cannot be satisfied, or the
+     *         first and last byte (inclusive) of the range
+     */
+    static long[] parseRange(String header, long size) {
+        if (header == null || !header.startsWith(RANGE_PREFIX) || header.contains(",")) {
+            return null;
+        }
+        final String spec = header.substring(RANGE_PREFIX.length()).trim();
+        final int dash = spec.indexOf('-');
+        try {
+            final long first;
+            final long last;
+            if (dash == 0) {
+                final long suffix = Long.parseLong(spec.substring(1));
+                first = Math.max(0, size - suffix);
+                last = size - 1;
+            } else if (dash > 0) {
+                first = Long.parseLong(spec.substring(0, dash));
+                last = dash == spec.length() - 1 ? size - 1 : Math.min(size - 1, Long.parseLong(spec.substring(dash + 1)));
+            } else {
+                return null;
+            }
+            if (first >= size || first > last) {
+                return new long[0];
+            }
+            return new long[]{first, last};
+        } catch (NumberFormatException e) {
+            // syntactically invalid ranges are to be ignored
+            return null;
+        }
+    }
+
+    private static void copy(InputStream in, OutputStream out, long length) throws IOException {
+        final byte[] buffer = new byte[64 * 1024];
+        long remaining = length;
+        while (remaining > 0) {
+            final int n = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (n < 0) {
+                break;
+            }
+            out.write(buffer, 0, n);
+            remaining -= n;
+        }
+    }
+}
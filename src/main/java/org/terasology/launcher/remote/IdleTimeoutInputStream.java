@@ -0,0 +1,100 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.remote;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Input stream that is closed by a watchdog when no data arrived for a given time, so that a read blocked on a stalled
+ * connection fails with a {@link SocketTimeoutException} instead of waiting forever.
+ * <p>
+ * The HTTP client only bounds the time until the response headers arrive, the body may stall afterwards.
+ */
+class IdleTimeoutInputStream extends FilterInputStream {
+
+    private static final ScheduledExecutorService WATCHDOG = Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                    .setNameFormat("IdleTimeoutInputStream-watchdog-%d")
+                    .setDaemon(true)
+                    .build());
+
+    private final long timeoutNanos;
+    private final ScheduledFuture<?> check;
+    private volatile long lastActivity;
+    private volatile boolean timedOut;
+
+    IdleTimeoutInputStream(InputStream in, Duration timeout) {
+        super(in);
+        this.timeoutNanos = timeout.toNanos();
+        this.lastActivity = System.nanoTime();
+        // check several times per timeout, so that a stall is noticed not much later than the timeout
+        final long period = Math.max(1, timeout.toMillis() / 4);
+        this.check = WATCHDOG.scheduleWithFixedDelay(this::closeIfIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int read() throws IOException {
+        try {
+            final int b = super.read();
+            return checked(b);
+        } catch (IOException e) {
+            throw timedOut ? timeout(e) : e;
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        try {
+            final int n = super.read(b, off, len);
+            return checked(n);
+        } catch (IOException e) {
+            throw timedOut ? timeout(e) : e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        check.cancel(false);
+        super.close();
+    }
+
+    private int checked(int result) throws SocketTimeoutException {
+        if (timedOut) {
+            throw timeout(null);
+        }
+        lastActivity = System.nanoTime();
+        return result;
+    }
+
+    private SocketTimeoutException timeout(IOException cause) {
+        final SocketTimeoutException e = new SocketTimeoutException(
+                "No data received for " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+        if (cause != null) {
+            e.initCause(cause);
+        }
+        return e;
+    }
+
+    private void closeIfIdle() {
+        if (timedOut || System.nanoTime() - lastActivity < timeoutNanos) {
+            return;
+        }
+        timedOut = true;
+        try {
+            in.close();
+        } catch (IOException e) {
+            // the blocked read fails with the timeout either way
+        }
+    }
+}
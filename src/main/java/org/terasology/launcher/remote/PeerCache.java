@@ -0,0 +1,422 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.remote;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.tasks.ProgressListener;
+import org.terasology.launcher.util.FileUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.MulticastSocket;
+import java.net.NetworkInterface;
+import java.net.StandardSocketOptions;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Shares the download cache with other launchers on the local network.
+ * <p>
+ * Every launcher with the peer cache enabled periodically announces the zip files in its cache directory, together with
+ * their MD5 checksums, to a multicast group, and serves these files over HTTP. Before downloading a release from the
+ * internet, the launcher asks the peers that announced a file with the same name and checksum. The file received from a
+ * peer is only accepted if its checksum matches the one published by the upstream repository, so releases without a
+ * known checksum are never fetched from peers.
+ */
+public final class PeerCache implements Closeable {
+
+    public static final InetSocketAddress DEFAULT_GROUP = new InetSocketAddress("239.255.77.77", 28771);
+
+    private static final Logger logger = LoggerFactory.getLogger(PeerCache.class);
+
+    private static final Duration DEFAULT_ANNOUNCE_INTERVAL = Duration.ofSeconds(10);
+    /**
+     * Peers that have not been heard of for this many announce intervals are considered gone.
+     */
+    private static final int PEER_TIMEOUT_INTERVALS = 3;
+    private static final int MAX_DATAGRAM_SIZE = 64 * 1024;
+
+    private static final String ARTIFACT_PATH = "/artifacts/";
+    /**
+     * Suffix of files fetched from a peer whose checksum was not checked yet.
+     */
+    private static final String UNVERIFIED_SUFFIX = ".peer";
+    private static final Pattern ARTIFACT_NAME = Pattern.compile("[\\w.+-]+\\.zip");
+
+    private final String id = UUID.randomUUID().toString();
+    private final Gson gson = new Gson();
+    private final DownloadUtils downloader =
+            new DownloadUtils(Duration.ofSeconds(2), Duration.ofSeconds(10), RetryPolicy.NONE);
+
+    private final Path cacheDirectory;
+    private final InetSocketAddress group;
+    private final NetworkInterface networkInterface;
+    private final Duration announceInterval;
+    private final InetSocketAddress httpAddress;
+
+    private final Map<String, Peer> peers = new ConcurrentHashMap<>();
+    private final Object peersChanged = new Object();
+    private final Map<Path, Checksum> checksums = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor = Executors.newScheduledThreadPool(2,
+            new ThreadFactoryBuilder()
+                    .setNameFormat("PeerCache-%d")
+                    .setDaemon(true)
+                    .build());
+
+    private MulticastSocket socket;
+    private HttpServer server;
+
+    /**
+     * Create a peer cache sharing the given cache directory on all network interfaces.
+     */
+    public PeerCache(Path cacheDirectory) {
+        this(cacheDirectory, DEFAULT_GROUP, null, DEFAULT_ANNOUNCE_INTERVAL, new InetSocketAddress(0));
+    }
+
+    /**
+     * @param group            the multicast group to announce to and listen on
+     * @param networkInterface the interface to use for multicast, or {@code null} for the system default
+     * @param announceInterval the time between two announcements of the cache content
+     * @param httpAddress      the address to serve the cache directory on
+     */
+    PeerCache(Path cacheDirectory, InetSocketAddress group, NetworkInterface networkInterface,
+              Duration announceInterval, InetSocketAddress httpAddress) {
+        this.cacheDirectory = cacheDirectory;
+        this.group = group;
+        this.networkInterface = networkInterface;
+        this.announceInterval = announceInterval;
+        this.httpAddress = httpAddress;
+    }
+
+    /**
+     * Start serving the cache directory, announcing its content, and listening for other peers.
+     *
+     * @throws IOException if the HTTP server or the multicast socket cannot be set up
+     */
+    public synchronized void start() throws IOException {
+        server = HttpServer.create(httpAddress, 0);
+        server.createContext(ARTIFACT_PATH, this::serveArtifact);
+        server.setExecutor(Executors.newFixedThreadPool(2, new ThreadFactoryBuilder()
+                .setNameFormat("PeerCache-http-%d")
+                .setDaemon(true)
+                .build()));
+        // the server's dispatcher thread inherits the daemon flag from the thread starting it, so it does not keep the
+        // launcher alive after the main window is closed
+        try {
+            executor.submit(server::start).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while starting the peer cache server", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Could not start the peer cache server", e.getCause());
+        }
+
+        socket = new MulticastSocket(group.getPort());
+        socket.setOption(StandardSocketOptions.IP_MULTICAST_LOOP, true);
+        if (networkInterface != null) {
+            socket.setNetworkInterface(networkInterface);
+        }
+        socket.joinGroup(group, networkInterface);
+
+        executor.execute(this::receiveAnnouncements);
+        executor.scheduleWithFixedDelay(this::announce, 0, announceInterval.toMillis(), TimeUnit.MILLISECONDS);
+        logger.info("Sharing download cache with peers on port {}.", server.getAddress().getPort());
+    }
+
+    /**
+     * Try to fetch the given resource from a peer on the local network.
+     * <p>
+     * The file is downloaded next to the target first, and only moved to the target once its checksum matches, so
+     * that a file at the target can always be trusted.
+     *
+     * @param resource the resource to fetch; must provide a checksum
+     * @param target   where to put the file
+     * @param listener the object which is to be informed about download progress
+     * @return {@code true} if the file was received and verified, or if the download was cancelled
+     */
+    public boolean fetch(RemoteResource<?> resource, Path target, ProgressListener listener) throws InterruptedException {
+        final String checksum = resource.getChecksum();
+        if (checksum == null) {
+            return false;
+        }
+        final Path unverified = target.resolveSibling(target.getFileName() + UNVERIFIED_SUFFIX);
+        final Path part = unverified.resolveSibling(unverified.getFileName() + ".part");
+        for (URL url : findPeers(resource.getFilename(), checksum)) {
+            try {
+                // never resume data of another peer
+                Files.deleteIfExists(unverified);
+                Files.deleteIfExists(part);
+                downloader.download(new PeerResource<>(url, resource), unverified, listener).get();
+                if (listener.isCancelled()) {
+                    discard(part);
+                    return true;
+                }
+                if (checksum.equalsIgnoreCase(FileUtils.md5Hex(unverified))) {
+                    Files.move(unverified, target, StandardCopyOption.ATOMIC_MOVE);
+                    logger.info("Fetched {} from peer '{}'.", resource.getInfo(), url);
+                    return true;
+                }
+                logger.warn("Checksum mismatch for {} from peer '{}', discarding it.", resource.getInfo(), url);
+                Files.deleteIfExists(unverified);
+            } catch (DownloadException | IOException | ExecutionException e) {
+                logger.info("Could not fetch {} from peer '{}': {}", resource.getInfo(), url, e.getMessage());
+                discard(unverified, part);
+            }
+        }
+        return false;
+    }
+
+    private static void discard(Path... files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete '{}'.", file, e);
+            }
+        }
+    }
+
+    /**
+     * The URLs of all peers currently offering a file with the given name and checksum.
+     */
+    List<URL> findPeers(String filename, String checksum) {
+        final long expired = System.nanoTime() - announceInterval.toNanos() * PEER_TIMEOUT_INTERVALS;
+        peers.values().removeIf(peer -> peer.lastSeen < expired);
+
+        final List<URL> urls = new ArrayList<>();
+        for (Peer peer : peers.values()) {
+            if (checksum.equalsIgnoreCase(peer.artifacts.get(filename))) {
+                try {
+                    urls.add(new URL("http", peer.address.getHostAddress(), peer.port, ARTIFACT_PATH + filename));
+                } catch (MalformedURLException e) {
+                    logger.debug("Invalid peer address '{}'.", peer.address, e);
+                }
+            }
+        }
+        Collections.shuffle(urls);
+        return urls;
+    }
+
+    /**
+     * Wait until a peer offers a file with the given name and checksum, or the timeout has passed.
+     *
+     * @return the URLs of the peers offering the file, empty after the timeout
+     */
+    List<URL> awaitPeers(String filename, String checksum, Duration timeout) throws InterruptedException {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (peersChanged) {
+            List<URL> urls = findPeers(filename, checksum);
+            long remaining = deadline - System.nanoTime();
+            while (urls.isEmpty() && remaining > 0) {
+                TimeUnit.NANOSECONDS.timedWait(peersChanged, remaining);
+                urls = findPeers(filename, checksum);
+                remaining = deadline - System.nanoTime();
+            }
+            return urls;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        executor.shutdownNow();
+        if (socket != null) {
+            socket.close();
+        }
+        if (server != null) {
+            server.stop(0);
+            ((ExecutorService) server.getExecutor()).shutdownNow();
+        }
+    }
+
+    private void announce() {
+        try {
+            final Announcement announcement = new Announcement();
+            announcement.id = id;
+            announcement.port = server.getAddress().getPort();
+            announcement.artifacts = scanCache();
+
+            final byte[] data = gson.toJson(announcement).getBytes(StandardCharsets.UTF_8);
+            if (data.length > MAX_DATAGRAM_SIZE) {
+                logger.warn("Too many cached files to announce to peers.");
+                return;
+            }
+            socket.send(new DatagramPacket(data, data.length, group));
+        } catch (IOException e) {
+            logger.warn("Could not announce the download cache to peers.", e);
+        }
+    }
+
+    private void receiveAnnouncements() {
+        final byte[] buffer = new byte[MAX_DATAGRAM_SIZE];
+        while (!socket.isClosed()) {
+            final DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+                final Announcement announcement = gson.fromJson(
+                        new String(packet.getData(), packet.getOffset(), packet.getLength(), StandardCharsets.UTF_8),
+                        Announcement.class);
+                if (announcement != null && announcement.id != null && !id.equals(announcement.id)
+                        && announcement.artifacts != null) {
+                    peers.put(announcement.id,
+                            new Peer(packet.getAddress(), announcement.port, announcement.artifacts, System.nanoTime()));
+                    synchronized (peersChanged) {
+                        peersChanged.notifyAll();
+                    }
+                }
+            } catch (JsonParseException e) {
+                logger.debug("Ignoring malformed announcement from '{}'.", packet.getAddress(), e);
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    logger.warn("Could not receive announcements from peers.", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect the zip files in the cache directory with their checksums.
+     * <p>
+     * Checksums are only recomputed for files that changed since the last scan.
+     */
+    private Map<String, String> scanCache() throws IOException {
+        final Map<String, String> artifacts = new HashMap<>();
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.filter(this::isArtifact).collect(Collectors.toList())) {
+                final long size = Files.size(file);
+                final long modified = Files.getLastModifiedTime(file).toMillis();
+                final Checksum cached = checksums.get(file);
+                if (cached != null && cached.size == size && cached.modified == modified) {
+                    artifacts.put(file.getFileName().toString(), cached.md5);
+                } else {
+                    final String md5 = FileUtils.md5Hex(file);
+                    checksums.put(file, new Checksum(size, modified, md5));
+                    artifacts.put(file.getFileName().toString(), md5);
+                }
+            }
+        }
+        checksums.keySet().removeIf(Files::notExists);
+        return artifacts;
+    }
+
+    private boolean isArtifact(Path file) {
+        return ARTIFACT_NAME.matcher(file.getFileName().toString()).matches() && Files.isRegularFile(file);
+    }
+
+    private void serveArtifact(HttpExchange exchange) throws IOException {
+        try {
+            final String name = exchange.getRequestURI().getPath().substring(ARTIFACT_PATH.length());
+            final Optional<Path> file = Optional.of(name)
+                    .filter(n -> ARTIFACT_NAME.matcher(n).matches())
+                    .map(cacheDirectory::resolve)
+                    .filter(this::isArtifact);
+            if (file.isEmpty()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            logger.debug("Serving '{}' to peer '{}'.", name, exchange.getRemoteAddress());
+            FileResponses.send(exchange, file.get(), "application/zip");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * The message peers send to the multicast group.
+     */
+    static class Announcement {
+        String id;
+        int port;
+        Map<String, String> artifacts;
+    }
+
+    private static final class Peer {
+        final InetAddress address;
+        final int port;
+        final Map<String, String> artifacts;
+        final long lastSeen;
+
+        Peer(InetAddress address, int port, Map<String, String> artifacts, long lastSeen) {
+            this.address = address;
+            this.port = port;
+            this.artifacts = artifacts;
+            this.lastSeen = lastSeen;
+        }
+    }
+
+    private static final class Checksum {
+        final long size;
+        final long modified;
+        final String md5;
+
+        Checksum(long size, long modified, String md5) {
+            this.size = size;
+            this.modified = modified;
+            this.md5 = md5;
+        }
+    }
+
+    /**
+     * The given resource, but located at a peer.
+     */
+    private static final class PeerResource<T> implements RemoteResource<T> {
+        private final URL url;
+        private final RemoteResource<T> resource;
+
+        PeerResource(URL url, RemoteResource<T> resource) {
+            this.url = url;
+            this.resource = resource;
+        }
+
+        @Override
+        public URL getUrl() {
+            return url;
+        }
+
+        @Override
+        public String getFilename() {
+            return resource.getFilename();
+        }
+
+        @Override
+        public T getInfo() {
+            return resource.getInfo();
+        }
+
+        @Override
+        public String getChecksum() {
+            return resource.getChecksum();
+        }
+    }
+}
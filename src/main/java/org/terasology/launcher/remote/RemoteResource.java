@@ -13,5 +13,12 @@ public interface RemoteResource<T> {
 
     T getInfo();
 
-    //TODO: String getChecksum();
+    /**
+     * The MD5 checksum of the resource as lower-case hex string, if the source provides one.
+     *
+     * @return the checksum, or {@code null} if unknown
+     */
+    default String getChecksum() {
+        return null;
+    }
 }
@@ -0,0 +1,97 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.remote;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Describes how often and how fast a failed download is attempted again.
+ * <p>
+ * The delay between two attempts grows exponentially from {@code initialBackoff} up to {@code maxBackoff}. To avoid
+ * many launchers hammering a server in lock-step, the actual delay is drawn at random from the upper half of that
+ * window ("jitter"). Retrying stops as soon as either {@code maxAttempts} is reached or the next attempt would start
+ * after the {@code totalBudget} for the whole download has been used up.
+ * <p>
+ * The budget for a single request is not part of this policy, it is configured on {@link DownloadUtils} directly.
+ */
+public final class RetryPolicy {
+
+    public static final RetryPolicy DEFAULT =
+            new RetryPolicy(6, Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofMinutes(30));
+
+    /**
+     * Give up on the first error.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration totalBudget;
+
+    /**
+     * @param maxAttempts    the maximum number of attempts, including the first one
+     * @param initialBackoff the (maximum) delay before the first retry
+     * @param maxBackoff     the upper bound for the delay between two attempts
+     * @param totalBudget    the time after which no new attempt is started, measured from the start of the download
+     */
+    public RetryPolicy(int maxAttempts, Duration initialBackoff, Duration maxBackoff, Duration totalBudget) {
+        Preconditions.checkArgument(maxAttempts > 0, "At least one attempt is required.");
+        Preconditions.checkArgument(initialBackoff.compareTo(maxBackoff) <= 0, "Initial backoff exceeds max backoff.");
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.totalBudget = totalBudget;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getTotalBudget() {
+        return totalBudget;
+    }
+
+    /**
+     * Whether another attempt may be made after {@code failedAttempts} attempts have failed.
+     */
+    public boolean allowsRetry(int failedAttempts) {
+        return failedAttempts < maxAttempts;
+    }
+
+    /**
+     * The delay to wait before the next attempt after {@code failedAttempts} attempts have failed.
+     */
+    public Duration backoff(int failedAttempts) {
+        return backoff(failedAttempts, ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * The delay to wait before the next attempt, with the jitter derived from {@code random}.
+     *
+     * @param failedAttempts the number of failed attempts so far (at least 1)
+     * @param random         a value in {@code [0, 1)} selecting the actual delay from the jitter window
+     */
+    Duration backoff(int failedAttempts, double random) {
+        // cap the exponent to not overflow for absurdly high attempt counts
+        final int exponent = Math.min(Math.max(failedAttempts - 1, 0), 30);
+        final long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << exponent);
+        final long floor = ceiling / 2;
+        return Duration.ofMillis(floor + (long) ((ceiling - floor) * random));
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("maxAttempts", maxAttempts)
+                .add("initialBackoff", initialBackoff)
+                .add("maxBackoff", maxBackoff)
+                .add("totalBudget", totalBudget)
+                .toString();
+    }
+}
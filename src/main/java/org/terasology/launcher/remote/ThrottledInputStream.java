@@ -0,0 +1,63 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.remote;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Input stream that delays reads such that the average transfer rate stays below a given limit.
+ */
+class ThrottledInputStream extends FilterInputStream {
+
+    /**
+     * Upper bound for a single read, so that the rate is enforced at a reasonably fine granularity.
+     */
+    private static final int MAX_CHUNK = 8 * 1024;
+
+    private final long maxBytesPerSecond;
+    private final long start;
+    private long bytesRead;
+
+    ThrottledInputStream(InputStream in, long maxBytesPerSecond) {
+        super(in);
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.start = System.nanoTime();
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b >= 0) {
+            throttle(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        final int n = super.read(b, off, Math.min(len, MAX_CHUNK));
+        if (n > 0) {
+            throttle(n);
+        }
+        return n;
+    }
+
+    private void throttle(int n) throws InterruptedIOException {
+        bytesRead += n;
+        final long expectedNanos = TimeUnit.SECONDS.toNanos(bytesRead) / maxBytesPerSecond;
+        final long aheadNanos = expectedNanos - (System.nanoTime() - start);
+        if (aheadNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while throttling download");
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@ import okhttp3.OkHttpClient;
 import org.terasology.launcher.model.Build;
 import org.terasology.launcher.model.GameRelease;
 import org.terasology.launcher.model.Profile;
+import org.terasology.launcher.util.Timings;
 
 import java.util.List;
 import java.util.Set;
@@ -38,11 +39,16 @@ public class CombinedRepository implements ReleaseRepository {
 
     private Set<GameRelease> fetchReleases(final Set<ReleaseRepository> repositories) {
         return repositories.parallelStream()
-                .map(ReleaseRepository::fetchReleases)
+                .map(CombinedRepository::fetchTimed)
                 .flatMap(List::stream)
                 .collect(Collectors.toSet());
     }
 
+    private static List<GameRelease> fetchTimed(ReleaseRepository repository) {
+        return Timings.time(Timings.Kind.PHASE, "fetch " + repository.getClass().getSimpleName(),
+                repository::fetchReleases);
+    }
+
     public Set<GameRelease> getReleases() {
         return releases;
     }
@@ -17,6 +17,7 @@ public final class Jenkins {
         public String number;
         public Result result;
         public Artifact[] artifacts;
+        public Fingerprint[] fingerprint;
         public String url;
         public ChangeSet changeSet;
         public long timestamp;
@@ -31,6 +32,14 @@ public final class Jenkins {
         public String relativePath;
     }
 
+    /**
+     * Jenkins records the MD5 checksum of every artifact archived with fingerprinting enabled.
+     */
+    public static class Fingerprint {
+        public String fileName;
+        public String hash;
+    }
+
     public static class ChangeSet {
         public Change[] items;
     }
@@ -127,5 +127,19 @@ class JenkinsClient {
         return null;
     }
 
+    /**
+     * The MD5 checksum Jenkins recorded for the first artifact matching {@code regex}, if fingerprinting is enabled.
+     */
+    String getArtifactChecksum(Jenkins.Build build, String regex) {
+        if (build.fingerprint == null) {
+            return null;
+        }
+        return Arrays.stream(build.fingerprint)
+                .filter(fingerprint -> fingerprint.fileName != null && fingerprint.fileName.matches(regex))
+                .map(fingerprint -> fingerprint.hash)
+                .findFirst()
+                .orElse(null);
+    }
+
     static final class PropertiesRequest { }
 }
@@ -42,6 +42,7 @@ class JenkinsRepository implements ReleaseRepository {
             + "timestamp,"
             + "result,"
             + "artifacts[fileName,relativePath],"
+            + "fingerprint[fileName,hash],"
             + "url]";
 
     private static final String TERASOLOGY_ZIP_PATTERN = "Terasology.*zip";
@@ -93,7 +94,8 @@ class JenkinsRepository implements ReleaseRepository {
             //      we probably need to encode the engine version explicitly in the GameIdentifier (instead of just the display version)
 
             if (url != null && id.isPresent()) {
-                return Optional.of(new GameRelease(id.get(), url, metadata));
+                final String checksum = client.getArtifactChecksum(jenkinsBuildInfo, TERASOLOGY_ZIP_PATTERN);
+                return Optional.of(new GameRelease(id.get(), url, metadata, checksum));
             } else {
                 logger.debug("Skipping build without game artifact or version identifier: '{}'", jenkinsBuildInfo.url);
             }
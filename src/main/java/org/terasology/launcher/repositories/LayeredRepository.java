@@ -0,0 +1,51 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.repositories;
+
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.model.GameRelease;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Repository which asks all of the given repositories for their releases on every fetch.
+ * <p>
+ * If several repositories provide a release with the same identifier, the one from the repository that comes first
+ * wins. This allows, e.g., to prefer the zip from a {@link LocalRepository} over downloading the same release.
+ * <p>
+ * Closing it closes all closeable layers.
+ */
+public class LayeredRepository implements ReleaseRepository, Closeable {
+
+    private final List<ReleaseRepository> layers;
+
+    public LayeredRepository(List<ReleaseRepository> layers) {
+        this.layers = List.copyOf(layers);
+    }
+
+    @Override
+    public List<GameRelease> fetchReleases() {
+        final Map<GameIdentifier, GameRelease> releases = new LinkedHashMap<>();
+        for (ReleaseRepository layer : layers) {
+            for (GameRelease release : layer.fetchReleases()) {
+                releases.putIfAbsent(release.getId(), release);
+            }
+        }
+        return new ArrayList<>(releases.values());
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (ReleaseRepository layer : layers) {
+            if (layer instanceof Closeable) {
+                ((Closeable) layer).close();
+            }
+        }
+    }
+}
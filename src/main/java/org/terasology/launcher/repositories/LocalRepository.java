@@ -0,0 +1,330 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.repositories;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.model.Build;
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.model.Profile;
+import org.terasology.launcher.model.ReleaseMetadata;
+import org.terasology.launcher.util.Timings;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.MalformedURLException;
+import java.time.Duration;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Repository adapter for game releases in a local directory, e.g., on a network share or a USB stick.
+ * <p>
+ * The directory can be organized in one of two ways:
+ * <ul>
+ *     <li>With an index file {@code releases.json} in the same format as served by a launcher in mirror mode. Artifact
+ *     paths in the index are relative to the directory.</li>
+ *     <li>Without index, as plain collection of zip files named like {@link GameRelease#getFilename()}, e.g.,
+ *     {@code terasology-omega-5.3.0-stable.zip}. Each zip can have a {@code .json} file next to it with the same
+ *     fields as an index entry, e.g., to provide changelog, timestamp, or checksum. Without it, the modification time
+ *     of the zip is used as release timestamp.</li>
+ * </ul>
+ * The directory is scanned completely only once, see {@link #scan()}. Afterwards, a background thread picks up changes
+ * from a {@link WatchService} and looks at the affected files again once they did not change for a while, so that zips
+ * that are still being copied are not read half-way. With an index, only changes to the index or the zips it lists
+ * cause it to be read again.
+ * <p>
+ * Releases point to their zip with a {@code file:} URL, and are installed without copying them to the download cache.
+ */
+public class LocalRepository implements ReleaseRepository, Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalRepository.class);
+
+    private static final Pattern ZIP_NAME = Pattern.compile("terasology-(omega|engine)-(.+)-(stable|nightly)\\.zip");
+    private static final String METADATA_SUFFIX = ".json";
+    private static final Duration QUIET_PERIOD = Duration.ofMillis(500);
+    private static final long UNKNOWN_SIZE = -2;
+    private static final long MISSING = -1;
+
+    private final Path directory;
+    private final Path index;
+    private final Duration quietPeriod;
+    private final Gson gson = new Gson();
+
+    private final Map<Path, GameRelease> releases = new HashMap<>();
+    private final Set<Path> indexed = new HashSet<>();
+    private WatchService watcher;
+    private boolean scanned;
+
+    public LocalRepository(Path directory) {
+        this(directory, QUIET_PERIOD);
+    }
+
+    LocalRepository(Path directory, Duration quietPeriod) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.index = this.directory.resolve(Mirror.CATALOG_PATH);
+        this.quietPeriod = quietPeriod;
+    }
+
+    /**
+     * Scan the directory completely and start watching it for changes, unless that happened already.
+     * <p>
+     * This blocks on file system access, which may be slow for network shares, so call it off the JavaFX thread before
+     * the first {@link #fetchReleases()}.
+     */
+    public synchronized void scan() {
+        if (scanned) {
+            return;
+        }
+        scanned = true;
+        // register before scanning, so that no change in between is missed
+        watch();
+        scanAll();
+    }
+
+    @Override
+    public synchronized List<GameRelease> fetchReleases() {
+        if (!scanned) {
+            scan();
+        } else if (watcher == null) {
+            scanAll();
+        }
+        return new ArrayList<>(releases.values());
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    private void watch() {
+        try {
+            watcher = directory.getFileSystem().newWatchService();
+            directory.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            logger.warn("Cannot watch '{}' for changes, it will be scanned completely every time.", directory, e);
+            watcher = null;
+            return;
+        }
+        final WatchService service = watcher;
+        new ThreadFactoryBuilder()
+                .setNameFormat("LocalRepository-watcher-%d")
+                .setDaemon(true)
+                .build()
+                .newThread(() -> processChanges(service))
+                .start();
+    }
+
+    /**
+     * Collect changed files until nothing changed for the quiet period, then look at those whose size stayed the same
+     * since the previous quiet period. Runs until the watch service is closed.
+     */
+    private void processChanges(WatchService service) {
+        final Map<Path, Long> pending = new HashMap<>();
+        boolean overflow = false;
+        try {
+            while (true) {
+                final WatchKey key = pending.isEmpty() && !overflow
+                        ? service.take()
+                        : service.poll(quietPeriod.toMillis(), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            overflow = true;
+                        } else {
+                            pending.putIfAbsent(directory.resolve((Path) event.context()), UNKNOWN_SIZE);
+                        }
+                    }
+                    if (!key.reset()) {
+                        logger.warn("'{}' is no longer accessible.", directory);
+                        synchronized (this) {
+                            releases.clear();
+                        }
+                        return;
+                    }
+                    continue;
+                }
+                final Set<Path> settled = settle(pending);
+                if (overflow) {
+                    overflow = false;
+                    pending.clear();
+                    synchronized (this) {
+                        scanAll();
+                    }
+                } else if (!settled.isEmpty()) {
+                    synchronized (this) {
+                        update(settled);
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            logger.debug("Stopped watching '{}'", directory);
+        }
+    }
+
+    /**
+     * Remove the files whose size did not change since they were looked at last from the pending ones.
+     *
+     * @return the removed files
+     */
+    private static Set<Path> settle(Map<Path, Long> pending) {
+        final Set<Path> settled = new HashSet<>();
+        for (Iterator<Map.Entry<Path, Long>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+            final Map.Entry<Path, Long> entry = it.next();
+            long size;
+            try {
+                size = Files.exists(entry.getKey()) ? Files.size(entry.getKey()) : MISSING;
+            } catch (IOException e) {
+                size = MISSING;
+            }
+            if (size == entry.getValue()) {
+                settled.add(entry.getKey());
+                it.remove();
+            } else {
+                entry.setValue(size);
+            }
+        }
+        return settled;
+    }
+
+    private void update(Set<Path> changed) {
+        if (changed.contains(index) || Files.exists(index) && changed.stream().anyMatch(indexed::contains)) {
+            scanAll();
+        } else if (!Files.exists(index)) {
+            changed.forEach(this::rescan);
+        }
+    }
+
+    private void scanAll() {
+        Timings.time(Timings.Kind.SCAN, directory.toString(), this::readAll);
+    }
+
+    private void readAll() {
+        releases.clear();
+        indexed.clear();
+        if (Files.exists(index)) {
+            readIndex();
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(this::rescan);
+        } catch (IOException e) {
+            logger.warn("Failed to list releases in '{}'", directory, e);
+        }
+        logger.debug("Found {} releases in '{}'", releases.size(), directory);
+    }
+
+    private void readIndex() {
+        final Mirror.Catalog catalog = readJson(index, Mirror.Catalog.class);
+        if (catalog == null || catalog.releases == null) {
+            return;
+        }
+        for (Mirror.Release entry : catalog.releases) {
+            if (entry.path == null) {
+                continue;
+            }
+            final Path zip = directory.resolve(entry.path).normalize();
+            indexed.add(zip);
+            if (zip.startsWith(directory) && Files.isRegularFile(zip)) {
+                toRelease(zip, entry).ifPresent(release -> releases.put(zip, release));
+            } else {
+                logger.debug("Skipping missing release '{}' from index '{}'", entry.path, index);
+            }
+        }
+    }
+
+    /**
+     * Update the release for the given file, which is either a zip or its metadata.
+     */
+    private void rescan(Path file) {
+        final String name = file.getFileName().toString();
+        final Path zip = name.endsWith(METADATA_SUFFIX)
+                ? file.resolveSibling(name.substring(0, name.length() - METADATA_SUFFIX.length()))
+                : file;
+        final Matcher matcher = ZIP_NAME.matcher(zip.getFileName().toString());
+        if (!matcher.matches()) {
+            return;
+        }
+        releases.remove(zip);
+        if (!Files.isRegularFile(zip)) {
+            return;
+        }
+
+        final Path metadataFile = zip.resolveSibling(zip.getFileName() + METADATA_SUFFIX);
+        final Mirror.Release entry = Optional.ofNullable(readJson(metadataFile, Mirror.Release.class))
+                .orElseGet(Mirror.Release::new);
+        entry.profile = Objects.requireNonNullElse(entry.profile,
+                Profile.valueOf(matcher.group(1).toUpperCase(Locale.ROOT)));
+        entry.version = Objects.requireNonNullElse(entry.version, matcher.group(2));
+        entry.build = Objects.requireNonNullElse(entry.build, Build.valueOf(matcher.group(3).toUpperCase(Locale.ROOT)));
+        if (entry.timestamp == 0) {
+            entry.timestamp = zip.toFile().lastModified();
+        }
+        toRelease(zip, entry).ifPresent(release -> releases.put(zip, release));
+    }
+
+    private Optional<GameRelease> toRelease(Path zip, Mirror.Release entry) {
+        if (entry.profile == null || entry.build == null || entry.version == null) {
+            logger.debug("Skipping release '{}' with incomplete metadata", zip);
+            return Optional.empty();
+        }
+        try {
+            final GameIdentifier id = new GameIdentifier(entry.version, entry.build, entry.profile);
+            final ReleaseMetadata metadata =
+                    new ReleaseMetadata(Objects.requireNonNullElse(entry.changelog, ""), new Date(entry.timestamp));
+            return Optional.of(new GameRelease(id, zip.toUri().toURL(), metadata, entry.checksum));
+        } catch (MalformedURLException e) {
+            logger.debug("Invalid path '{}'", zip, e);
+            return Optional.empty();
+        }
+    }
+
+    private <T> T readJson(Path file, Class<T> type) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(file)) {
+            return gson.fromJson(reader, type);
+        } catch (IOException | JsonParseException e) {
+            logger.warn("Failed to read '{}'", file, e);
+            return null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return releases.values().stream()
+                .map(GameRelease::getFilename)
+                .collect(Collectors.joining(", ", "LocalRepository[" + directory + ": ", "]"));
+    }
+}
@@ -0,0 +1,48 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.repositories;
+
+import org.terasology.launcher.model.Build;
+import org.terasology.launcher.model.Profile;
+
+/**
+ * Data model of the release catalog served by a launcher in mirror mode.
+ *
+ * Instances of this class will be created by JSON parsers (e.g., GSON) and are usually not instantiated by hand.
+ */
+public final class Mirror {
+
+    /**
+     * The location of the catalog relative to the base URL of the mirror.
+     */
+    public static final String CATALOG_PATH = "releases.json";
+
+    /**
+     * The location of the artifacts relative to the base URL of the mirror.
+     */
+    public static final String ARTIFACT_PATH = "artifacts/";
+
+    private Mirror() {
+    }
+
+    public static class Catalog {
+        public Release[] releases;
+    }
+
+    public static class Release {
+        public Profile profile;
+        public Build build;
+        public String version;
+        /**
+         * The location of the artifact, relative to the catalog.
+         */
+        public String path;
+        /**
+         * MD5 checksum of the artifact, if known.
+         */
+        public String checksum;
+        public String changelog;
+        public long timestamp;
+    }
+}
@@ -0,0 +1,105 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.repositories;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.model.ReleaseMetadata;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Repository adapter for a launcher running in mirror mode, e.g., on a machine in the local network.
+ * <p>
+ * The mirror serves the combined catalog of all upstream repositories, and the artifacts themselves. Artifact URLs in
+ * the catalog are relative, and resolved against the URL of the mirror.
+ * <p>
+ * Like {@link CombinedRepository}, the catalog is fetched once when the repository is created, i.e., in the background
+ * while the launcher starts, and {@link #fetchReleases()} only returns that result. It is called on the JavaFX
+ * application thread, which must not wait for a slow or unreachable mirror.
+ */
+public class MirrorRepository implements ReleaseRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(MirrorRepository.class);
+
+    private final OkHttpClient client;
+    private final Gson gson = new Gson();
+    private final URL catalogUrl;
+    private final List<GameRelease> releases;
+
+    /**
+     * Create a repository for the given mirror, and immediately fetch its catalog.
+     *
+     * @param httpClient the HTTP client to be used for remote requests
+     * @param mirrorUrl  the base URL of the mirror, e.g., {@code http://mirror.local:28772/}
+     */
+    public MirrorRepository(OkHttpClient httpClient, URL mirrorUrl) throws MalformedURLException {
+        this.client = httpClient;
+        this.catalogUrl = new URL(mirrorUrl, Mirror.CATALOG_PATH);
+        this.releases = List.copyOf(fetchCatalog());
+    }
+
+    @Override
+    public List<GameRelease> fetchReleases() {
+        return releases;
+    }
+
+    private List<GameRelease> fetchCatalog() {
+        logger.debug("fetching releases from '{}'", catalogUrl);
+
+        final var request = new Request.Builder().url(catalogUrl).build();
+        try (var response = client.newCall(request).execute()) {
+            if (!response.isSuccessful()) {
+                logger.warn("Failed to read from URL '{}' with status code {}.", catalogUrl, response.code());
+                return Collections.emptyList();
+            }
+            final Mirror.Catalog catalog = gson.fromJson(response.body().charStream(), Mirror.Catalog.class);
+            if (catalog == null || catalog.releases == null) {
+                logger.warn("Empty release catalog at '{}'", catalogUrl);
+                return Collections.emptyList();
+            }
+            return Arrays.stream(catalog.releases)
+                    .map(this::computeReleaseFrom)
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.toList());
+        } catch (JsonSyntaxException | JsonIOException e) {
+            logger.warn("Failed to read JSON from '{}'", catalogUrl, e);
+        } catch (IOException e) {
+            logger.warn("Failed to read from URL '{}'\n\t{}", catalogUrl, e.getMessage());
+        }
+        return Collections.emptyList();
+    }
+
+    private Optional<GameRelease> computeReleaseFrom(Mirror.Release release) {
+        if (release.profile == null || release.build == null || release.version == null || release.path == null) {
+            logger.debug("Skipping incomplete release entry '{}'", release.path);
+            return Optional.empty();
+        }
+        try {
+            final GameIdentifier id = new GameIdentifier(release.version, release.build, release.profile);
+            final ReleaseMetadata metadata =
+                    new ReleaseMetadata(Objects.requireNonNullElse(release.changelog, ""), new Date(release.timestamp));
+            return Optional.of(new GameRelease(id, new URL(catalogUrl, release.path), metadata, release.checksum));
+        } catch (MalformedURLException e) {
+            logger.debug("Invalid artifact URL '{}'", release.path, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -11,16 +11,24 @@ import com.google.gson.JsonParseException;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ListProperty;
+import javafx.beans.property.LongProperty;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleLongProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import org.hildan.fxgson.FxGson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
+import org.terasology.launcher.control.ControlServer;
+import org.terasology.launcher.game.OutputOverflow;
+import org.terasology.launcher.game.RestartPolicy;
+import org.terasology.launcher.jre.JvmProfile;
 import org.terasology.launcher.model.GameIdentifier;
 import org.terasology.launcher.util.I18N;
 import org.terasology.launcher.util.JavaHeapSize;
@@ -30,6 +38,7 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -55,33 +64,129 @@ public final class  Settings {
     public final ObjectProperty<JavaHeapSize> maxHeapSize;
     public final ObjectProperty<JavaHeapSize> minHeapSize;
 
+    /**
+     * JVM options chosen for the game process in addition to the ones above, see
+     * {@link org.terasology.launcher.jre.JvmTuning}.
+     */
+    public final ObjectProperty<JvmProfile> jvmProfile;
+    /**
+     * The profile used instead of {@link #jvmProfile} for dedicated servers.
+     */
+    public final ObjectProperty<JvmProfile> serverJvmProfile;
+
     public final ObjectProperty<Level> logLevel;
 
+    /**
+     * What to do with game output lines that the launcher log does not keep up with. Not shown in the settings
+     * dialog, as the complete output is kept in the game output log anyway.
+     */
+    public final ObjectProperty<OutputOverflow> gameOutputOverflow;
+
     public final ObjectProperty<Path> gameDirectory;
     public final ObjectProperty<Path> gameDataDirectory;
+    /**
+     * The data directory of dedicated servers, or {@code null} to use {@code server} below the game data directory.
+     * Servers never share the data directory of clients, see {@link org.terasology.launcher.game.LaunchMode#SERVER}.
+     */
+    public final ObjectProperty<Path> serverDataDirectory;
 
     public final BooleanProperty keepDownloadedFiles;
     public final BooleanProperty showPreReleases;
     public final BooleanProperty closeLauncherAfterGameStart;
 
+    /**
+     * Allow starting games while others are still running, e.g., a server and its clients. Each further game gets a
+     * data directory of its own, see {@link org.terasology.launcher.game.GameService}.
+     */
+    public final BooleanProperty concurrentGames;
+
+    /**
+     * Read the jars of the selected game in the background, so that it starts faster after a reboot.
+     */
+    public final BooleanProperty warmUpGames;
+
+    /**
+     * Serve the HTTP API for other programs on this computer, see {@link ControlServer}.
+     */
+    public final BooleanProperty controlApi;
+    /**
+     * The port of the control API on the loopback interface.
+     */
+    public final IntegerProperty controlApiPort;
+
+    /**
+     * Which games to start again when they crash, see {@link org.terasology.launcher.game.GameService}.
+     */
+    public final ObjectProperty<RestartPolicy> restartPolicy;
+
+    /**
+     * Download the newest nightly build in the background as soon as it shows up.
+     */
+    public final BooleanProperty prefetchNightlyBuilds;
+    /**
+     * Bandwidth limit for background downloads in KiB/s, or 0 for no limit.
+     */
+    public final LongProperty prefetchBandwidthLimit;
+    /**
+     * Maximum size of the download cache in MiB that background downloads may fill up.
+     */
+    public final LongProperty cacheDiskBudget;
+
+    /**
+     * Share downloaded releases with other launchers on the local network, and try to get releases from them first.
+     */
+    public final BooleanProperty shareDownloadsOnLan;
+
+    /**
+     * Base URL of a launcher running in mirror mode to get all releases from, or {@code null} to use the upstream
+     * repositories directly.
+     */
+    public final ObjectProperty<URL> releaseMirror;
+    /**
+     * Directory with game release zips to offer in addition to the online releases, e.g., for offline installations.
+     * See {@link org.terasology.launcher.repositories.LocalRepository} for the expected layout.
+     */
+    public final ObjectProperty<Path> localReleaseDirectory;
+
     public final ObjectProperty<GameIdentifier> lastPlayedGameVersion;
 
     public final ListProperty<String> userJavaParameters;
     public final ListProperty<String> userGameParameters;
+    /**
+     * Additional arguments for the Terasology command line of dedicated servers, e.g., {@code --server-port=25778},
+     * used instead of {@link #userGameParameters}.
+     */
+    public final ListProperty<String> userServerParameters;
 
     Settings() {
         locale = new SimpleObjectProperty<>(I18N.getCurrentLocale());
         maxHeapSize = new SimpleObjectProperty<>(JavaHeapSize.NOT_USED);
         minHeapSize = new SimpleObjectProperty<>(JavaHeapSize.NOT_USED);
+        jvmProfile = new SimpleObjectProperty<>(JvmProfile.MANUAL);
+        serverJvmProfile = new SimpleObjectProperty<>(JvmProfile.SERVER);
         logLevel = new SimpleObjectProperty<>(Level.INFO);
+        gameOutputOverflow = new SimpleObjectProperty<>(OutputOverflow.SAMPLE);
         gameDirectory = new SimpleObjectProperty<>();
         gameDataDirectory = new SimpleObjectProperty<>();
+        serverDataDirectory = new SimpleObjectProperty<>();
         keepDownloadedFiles = new SimpleBooleanProperty(false);
         showPreReleases = new SimpleBooleanProperty(false);
         closeLauncherAfterGameStart = new SimpleBooleanProperty(true);
+        concurrentGames = new SimpleBooleanProperty(false);
+        warmUpGames = new SimpleBooleanProperty(false);
+        controlApi = new SimpleBooleanProperty(false);
+        controlApiPort = new SimpleIntegerProperty(ControlServer.DEFAULT_PORT);
+        restartPolicy = new SimpleObjectProperty<>(RestartPolicy.NEVER);
+        prefetchNightlyBuilds = new SimpleBooleanProperty(false);
+        prefetchBandwidthLimit = new SimpleLongProperty(1024);
+        cacheDiskBudget = new SimpleLongProperty(2048);
+        shareDownloadsOnLan = new SimpleBooleanProperty(false);
+        releaseMirror = new SimpleObjectProperty<>();
+        localReleaseDirectory = new SimpleObjectProperty<>();
         lastPlayedGameVersion = new SimpleObjectProperty<>();
         userJavaParameters = new SimpleListProperty<>(FXCollections.observableArrayList("-XX:MaxGCPauseMillis=20"));
         userGameParameters = new SimpleListProperty<>(FXCollections.observableArrayList());
+        userServerParameters = new SimpleListProperty<>(FXCollections.observableArrayList());
     }
 
     static Settings fromLegacy(LauncherSettings legacyLauncherSettings) {
@@ -0,0 +1,159 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.tasks;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.util.Timings;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * Runs named phases of work concurrently, each one as soon as all phases it depends on are done, and keeps track of
+ * how long each phase took.
+ * <p>
+ * If a phase fails, all phases depending on it fail with the same exception without being run. Each phase is also
+ * measured with {@link Timings}.
+ * <p>
+ * Phases may create resources, e.g., servers, which are {@linkplain #cancel() closed} when the graph is given up on.
+ */
+public class TaskGraph {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskGraph.class);
+
+    private final Executor executor;
+    private final long start = System.nanoTime();
+    private final Map<String, Duration> timings = new LinkedHashMap<>();
+    private final List<AutoCloseable> resources = new ArrayList<>();
+    private boolean cancelled;
+
+    /**
+     * @param executor the executor to run the phases on, needs enough threads for all independent phases
+     */
+    public TaskGraph(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Schedule a phase to run after the given phases are done.
+     *
+     * @param name         the name of the phase, for logging
+     * @param phase        the work to do
+     * @param dependencies the phases to wait for
+     * @return the result of the phase
+     */
+    public <T> CompletableFuture<T> add(String name, Phase<T> phase, CompletableFuture<?>... dependencies) {
+        return CompletableFuture.allOf(dependencies).thenApplyAsync(ignored -> run(name, phase), executor);
+    }
+
+    /**
+     * Give up on the graph, e.g., after a phase failed: phases that did not start yet are not run anymore, and the
+     * results of the phases that are {@link AutoCloseable} are closed, also of those that finish later.
+     */
+    public void cancel() {
+        final List<AutoCloseable> toClose;
+        synchronized (this) {
+            cancelled = true;
+            toClose = new ArrayList<>(resources);
+            resources.clear();
+        }
+        toClose.forEach(TaskGraph::close);
+    }
+
+    /**
+     * Wait for the given phase, and unwrap the exception it failed with, if any.
+     *
+     * @throws Exception the exception thrown by the phase or one of its dependencies
+     */
+    public static <T> T await(CompletableFuture<T> phase) throws Exception {
+        try {
+            return phase.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * The durations of all finished phases, in the order they finished.
+     */
+    public synchronized Map<String, Duration> getTimings() {
+        return new LinkedHashMap<>(timings);
+    }
+
+    /**
+     * The time passed since this graph was created.
+     */
+    public Duration getElapsed() {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    public void logTimings() {
+        final Map<String, Duration> finished = getTimings();
+        logger.info("Finished {} phases in {} ms: {}", finished.size(), getElapsed().toMillis(),
+                finished.entrySet().stream()
+                        .map(phase -> phase.getKey() + "=" + phase.getValue().toMillis() + "ms")
+                        .collect(Collectors.joining(", ")));
+    }
+
+    private <T> T run(String name, Phase<T> phase) {
+        synchronized (this) {
+            if (cancelled) {
+                throw new CancellationException("Phase '" + name + "' was cancelled");
+            }
+        }
+        final Timings.Timer timer = Timings.start(Timings.Kind.PHASE, name);
+        try {
+            final T result = phase.run();
+            keep(result);
+            return result;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        } finally {
+            timer.close();
+            final Duration duration = timer.getElapsed();
+            synchronized (this) {
+                timings.put(name, duration);
+            }
+            logger.debug("Phase '{}' took {} ms", name, duration.toMillis());
+        }
+    }
+
+    private void keep(Object result) {
+        if (!(result instanceof AutoCloseable)) {
+            return;
+        }
+        synchronized (this) {
+            if (!cancelled) {
+                resources.add((AutoCloseable) result);
+                return;
+            }
+        }
+        close((AutoCloseable) result);
+    }
+
+    private static void close(AutoCloseable resource) {
+        try {
+            resource.close();
+        } catch (Exception e) { //NOPMD(AvoidCatchingGenericException) AutoCloseable throws Exception
+            logger.warn("Could not close '{}'.", resource, e);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Phase<T> {
+        T run() throws Exception;
+    }
+}
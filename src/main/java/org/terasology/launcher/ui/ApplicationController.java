@@ -3,6 +3,7 @@
 
 package org.terasology.launcher.ui;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Sets;
 import javafx.animation.Transition;
 import javafx.beans.binding.Bindings;
@@ -11,11 +12,12 @@ import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.Property;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.value.ObservableValue;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableSet;
-import javafx.concurrent.WorkerStateEvent;
+import javafx.collections.SetChangeListener;
+import javafx.concurrent.Task;
+import javafx.concurrent.Worker;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
@@ -25,6 +27,7 @@ import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.ComboBox;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.ProgressBar;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
@@ -35,32 +38,41 @@ import javafx.stage.StageStyle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.launcher.LauncherConfiguration;
+import org.terasology.launcher.control.ControlServer;
+import org.terasology.launcher.game.GameInstance;
 import org.terasology.launcher.game.GameManager;
 import org.terasology.launcher.game.GameService;
 import org.terasology.launcher.game.GameVersionNotSupportedException;
 import org.terasology.launcher.game.GameInstallation;
+import org.terasology.launcher.game.LaunchMode;
+import org.terasology.launcher.jre.JreManager;
 import org.terasology.launcher.model.Build;
 import org.terasology.launcher.model.GameIdentifier;
 import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.model.LauncherVersion;
 import org.terasology.launcher.model.Profile;
 import org.terasology.launcher.model.ReleaseMetadata;
 import org.terasology.launcher.repositories.ReleaseRepository;
 import org.terasology.launcher.settings.Settings;
 import org.terasology.launcher.tasks.DeleteTask;
 import org.terasology.launcher.tasks.DownloadTask;
+import org.terasology.launcher.updater.LauncherRelease;
+import org.terasology.launcher.updater.LauncherUpdater;
 import org.terasology.launcher.util.HostServices;
 import org.terasology.launcher.util.I18N;
 
+import java.io.Closeable;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Date;
 import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -79,6 +91,7 @@ public class ApplicationController {
     private final GameService gameService;
     private final ExecutorService executor = Executors.newSingleThreadExecutor();
     private DownloadTask downloadTask;
+    private ControlServer controlServer;
 
     private Stage stage;
 
@@ -103,6 +116,8 @@ public class ApplicationController {
     @FXML
     private Button startButton;
     @FXML
+    private MenuItem startServerItem;
+    @FXML
     private Button downloadButton;
     @FXML
     private Button cancelDownloadButton;
@@ -118,6 +133,10 @@ public class ApplicationController {
     @FXML
     private ChangelogViewController changelogViewController;
     @FXML
+    private GamesViewController gamesViewController;
+    @FXML
+    private ResourceViewController resourceViewController;
+    @FXML
     private FooterController footerController;
 
     @FXML
@@ -126,12 +145,14 @@ public class ApplicationController {
     private Tab aboutTab;
     @FXML
     private Tab logTab;
+    @FXML
+    private Tab gamesTab;
+    @FXML
+    private Tab resourceTab;
 
     public ApplicationController() {
         warning = new SimpleObjectProperty<>(Optional.empty());
         gameService = new GameService();
-        gameService.setOnFailed(this::handleRunFailed);
-        gameService.valueProperty().addListener(this::handleRunStarted);
 
         config = new SimpleObjectProperty<>();
 
@@ -165,12 +186,20 @@ public class ApplicationController {
         // this happens after the FXML elements have been initialized, but before managers and other dependencies have
         // been "injected" to this controller
         footerController.bind(warning);
+        gamesViewController.setInstances(gameService.getInstances());
+        // show the resources of the game selected in the games view
+        gamesViewController.selectedInstanceProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue != null) {
+                resourceViewController.setHistory(newValue.getResourceMonitor().getHistory());
+            }
+        });
         initComboBoxes();
         initButtons();
         setLabelStrings();
 
         cancelDownloadButton.setTooltip(I18N.createTooltip(I18N.labelBinding("launcher_cancelDownload")));
         startButton.setTooltip(I18N.createTooltip(I18N.labelBinding("launcher_start")));
+        startServerItem.textProperty().bind(I18N.labelBinding("launcher_startServer"));
         downloadButton.setTooltip(I18N.createTooltip(I18N.labelBinding("launcher_download")));
         deleteButton.setTooltip(I18N.createTooltip(I18N.labelBinding("launcher_delete")));
         settingsButton.setTooltip(I18N.createTooltip(I18N.labelBinding("launcher_settings")));
@@ -219,24 +248,14 @@ public class ApplicationController {
             } else {
                 ReleaseRepository repository = config.getValue().getReleaseRepository();
                 Set<GameRelease> onlineReleases = Sets.newHashSet(repository.fetchReleases());
-                // Create dummy game release objects from locally installed games.
-                // We need this in case of running the launcher in "offline" mode
-                // and the list of game releases fetched via the repository manager
-                // is empty, but there are still games installed locally.
-                //
-                // However, we only want to add these dummy releases if they are 
-                // not listed in the online releases. Thus, filtering out everything
-                // with a GameIdentifier that is already part of the releases fetched
-                // from online sources.
-                //
-                //TODO: This is a weird place to create these dummy releases.
-                //      Move this code somewhere else, and make sure that we 
-                //      have all the necessary information stored locally, like
-                //      the timestamp or the changelog.
+                // Create dummy game release objects from locally installed games that are not provided by any
+                // repository. We need this in case of running the launcher in "offline" mode without a local
+                // release directory (see `LocalRepository`), but there are still games installed locally.
+                // Without changelog, the installation date is the best guess for the release timestamp.
                 Set<GameIdentifier> onlineIds = onlineReleases.stream().map(GameRelease::getId).collect(Collectors.toSet());
                 Stream<GameRelease> localGames = installedGames.stream()
                     .filter(id -> !onlineIds.contains(id))
-                    .map(id -> new GameRelease(id, null, new ReleaseMetadata("", new Date())));
+                    .map(id -> new GameRelease(id, null, new ReleaseMetadata("", gameManager.getInstallationDate(id))));
 
                 Stream<GameRelease> allReleases = Stream.concat(onlineReleases.stream(), localGames);
 
@@ -276,6 +295,9 @@ public class ApplicationController {
             gameReleaseComboBox.getSelectionModel().select(now);
         }); 
 
+        // a new nightly build may have shown up, get it into the download cache before the user asks for it
+        releases.addListener((obs, old, now) -> prefetchNewestNightly(now));
+
         gameReleaseComboBox.itemsProperty().bind(releases);
         gameReleaseComboBox.buttonCellProperty()
                 .bind(Bindings.createObjectBinding(() -> new GameReleaseCell(installedGames, true), installedGames));
@@ -286,6 +308,8 @@ public class ApplicationController {
         //TODO: instead of imperatively updating the changelog view its value should be bound via property, too
         selectedRelease.addListener(
                 (observable, oldValue, newValue) -> changelogViewController.update(newValue != null ? newValue.getChangelog() : ""));
+        // the selected game is likely the next one to start, get its jars from disk before the user asks for it
+        selectedRelease.addListener((obs, old, now) -> warmUp(now));
     }
 
     /**
@@ -321,6 +345,8 @@ public class ApplicationController {
         changelogTab.textProperty().bind(I18N.labelBinding("tab_changelog"));
         aboutTab.textProperty().bind(I18N.labelBinding("tab_about"));
         logTab.textProperty().bind(I18N.labelBinding("tab_log"));
+        gamesTab.textProperty().bind(I18N.labelBinding("tab_games"));
+        resourceTab.textProperty().bind(I18N.labelBinding("tab_resources"));
     }
 
     @SuppressWarnings("checkstyle:HiddenField")
@@ -332,14 +358,45 @@ public class ApplicationController {
         this.showPreReleases.bind(launcherSettings.showPreReleases);
 
         this.gameManager = configuration.getGameManager();
+        gameService.setJreManager(configuration.getJreManager());
+        gameService.setCacheDirectory(gameManager.getCacheDirectory());
 
         this.stage = stage;
 
         // bind the application controller's view of the installed games to that of the game manager. that way, we also
         // get notified if the installed games are changed from a different thread (DeleteTask or DownloadTask).
         Bindings.bindContent(installedGames, gameManager.getInstalledGames());
+        gameManager.getInstalledGames().addListener(
+                (SetChangeListener<GameIdentifier>) change -> gameService.invalidateLaunchPlans());
+        prefetchNewestNightly(gameReleaseComboBox.getItems());
+        warmUp(selectedRelease.getValue());
+        launcherSettings.controlApi.addListener((obs, old, now) -> updateControlServer());
+        updateControlServer();
 
         footerController.setHostServices(hostServices);
+        checkForLauncherUpdates();
+    }
+
+    /**
+     * Check for a newer launcher in the background, and point to it in the footer if there is one.
+     */
+    private void checkForLauncherUpdates() {
+        final LauncherUpdater updater = new LauncherUpdater(LauncherVersion.getInstance(),
+                launcherDirectory.resolve(LauncherUpdater.CACHE_FILE));
+        final Task<Optional<LauncherRelease>> updateCheck = new Task<>() {
+            @Override
+            protected Optional<LauncherRelease> call() {
+                return updater.updateAvailable();
+            }
+        };
+        updateCheck.setOnSucceeded(event -> updateCheck.getValue().ifPresent(release -> {
+            logger.info("Launcher update available: {}", release.getTagName());
+            footerController.showLauncherUpdate(updater, release);
+        }));
+
+        final Thread thread = new Thread(updateCheck, "Launcher update check");
+        thread.setDaemon(true);
+        thread.start();
     }
 
     @FXML
@@ -394,7 +451,19 @@ public class ApplicationController {
 
     @FXML
     protected void startGameAction() {
-        if (gameService.isRunning()) {
+        startGame(LaunchMode.CLIENT);
+    }
+
+    /**
+     * Start the selected game as a dedicated server, from the context menu of the start button.
+     */
+    @FXML
+    protected void startServerAction() {
+        startGame(LaunchMode.SERVER);
+    }
+
+    private void startGame(LaunchMode mode) {
+        if (gameService.isRunning() && !launcherSettings.concurrentGames.get()) {
             logger.debug("The game can not be started because another game is already running.");
             Dialogs.showInfo(stage, I18N.getLabel("message_information_gameRunning"));
             return;
@@ -410,21 +479,70 @@ public class ApplicationController {
             Dialogs.showError(stage, I18N.getMessage("message_error_installationNotFound", release));
             return;
         }
+        final GameInstance instance;
         try {
-            gameService.start(gameInstallation, launcherSettings);
+            instance = gameService.start(gameInstallation, launcherSettings, mode);
         } catch (GameVersionNotSupportedException e) {
-            Dialogs.showError(stage, e.getMessage());
+            offerRuntime(e, mode);
+            return;
         }
+        instance.getWorker().valueProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue != null && newValue) {
+                handleRunStarted(instance);
+            }
+        });
+        instance.getWorker().stateProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue == Worker.State.FAILED) {
+                handleRunFailed(instance);
+            }
+        });
+        gamesViewController.select(instance);
     }
 
-    private void handleRunStarted(ObservableValue<? extends Boolean> o, Boolean oldValue, Boolean newValue) {
-        if (newValue == null || !newValue) {
+    /**
+     * There is no runtime for the game, so offer to provision one from an archive the user downloaded, and start the
+     * game once it is there.
+     */
+    private void offerRuntime(GameVersionNotSupportedException notSupported, LaunchMode mode) {
+        final JreManager jreManager = config.getValue().getJreManager();
+        final Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setContentText(I18N.getMessage("confirmProvisionRuntime", notSupported.getMessage()));
+        alert.setTitle(I18N.getLabel("message_provisionRuntime_title"));
+        alert.initOwner(stage);
+
+        final Optional<Path> archive = alert.showAndWait()
+                .filter(response -> response == ButtonType.OK)
+                .map(response -> Dialogs.chooseFile(stage, I18N.getLabel("message_provisionRuntime_title"),
+                        I18N.getLabel("message_provisionRuntime_archives"), "*.zip"));
+        if (archive.isEmpty()) {
             return;
         }
+        final Task<Void> provisionTask = new Task<>() {
+            @Override
+            protected Void call() throws IOException {
+                // invalidates the launch plans through the runtime listener of the game service
+                jreManager.provision(archive.get());
+                return null;
+            }
+        };
+        provisionTask.setOnSucceeded(event -> startGame(mode));
+        provisionTask.setOnFailed(event -> {
+            logger.warn("Could not provision a runtime from '{}'", archive.get(), provisionTask.getException());
+            Dialogs.showError(stage, I18N.getMessage("message_error_provisionRuntime", archive.get(),
+                    provisionTask.getException().getMessage()));
+        });
+        executor.submit(provisionTask);
+    }
 
-        logger.debug("Game has started successfully.");
+    private void handleRunStarted(GameInstance instance) {
+        logger.debug("Game {} has started successfully.", instance.getId());
 
-        launcherSettings.lastPlayedGameVersion.set(selectedRelease.getValue().getId());
+        if (instance.getMode() == LaunchMode.SERVER) {
+            // keep the launcher around to start the clients of the server
+            return;
+        }
+
+        launcherSettings.lastPlayedGameVersion.set(instance.getInstallation().getInfo());
 
         if (launcherSettings.closeLauncherAfterGameStart.get()) {
             if (downloadTask == null) {
@@ -436,7 +554,9 @@ public class ApplicationController {
         }
     }
 
-    void handleRunFailed(WorkerStateEvent event) {
+    void handleRunFailed(GameInstance instance) {
+        logger.debug("Game {} failed.", instance.getId());
+
         TabPane tabPane = (TabPane) stage.getScene().lookup("#contentTabPane");
         if (tabPane != null) {
             var tab = tabPane.lookup("#logTab");
@@ -490,6 +610,7 @@ public class ApplicationController {
                     // triggering a game deletion implies the player doesn't want to play this game anymore. hence, we
                     // unset `lastPlayedGameVersion` setting independent of deletion success
                     launcherSettings.lastPlayedGameVersion.set(null);
+                    gameService.cancelWarmUp();
                     final DeleteTask deleteTask = new DeleteTask(gameManager, id);
                     executor.submit(deleteTask);
                 });
@@ -511,11 +632,88 @@ public class ApplicationController {
             downloadTask.cancel(true);
         }
         executor.shutdownNow();
+        if (controlServer != null) {
+            controlServer.close();
+        }
+        if (gameManager != null) {
+            gameManager.close();
+        }
+        if (config.getValue() != null && config.getValue().getReleaseRepository() instanceof Closeable) {
+            try {
+                ((Closeable) config.getValue().getReleaseRepository()).close();
+            } catch (IOException e) {
+                logger.warn("Could not close the release repository", e);
+            }
+        }
 
         logger.debug("Closing the launcher ...");
         stage.close();
     }
 
+    /**
+     * Start downloading the newest nightly build among the given releases in the background, if the user opted in.
+     *
+     * @param releases the releases currently offered to the user, newest first
+     */
+    private void prefetchNewestNightly(List<GameRelease> releases) {
+        if (gameManager == null || !launcherSettings.prefetchNightlyBuilds.get()) {
+            return;
+        }
+        releases.stream()
+                .filter(release -> release.getId().getBuild() == Build.NIGHTLY)
+                // skip the placeholders for games that are only installed locally
+                .filter(release -> release.getUrl() != null)
+                .findFirst()
+                .ifPresent(release -> gameManager.prefetch(release,
+                        launcherSettings.prefetchBandwidthLimit.get() * 1024,
+                        launcherSettings.cacheDiskBudget.get() * MB));
+    }
+
+    /**
+     * Read the jars of the given release in the background if it is installed and the user opted in, so that starting
+     * it does not wait for the disk.
+     */
+    private void warmUp(GameRelease release) {
+        if (gameManager == null || !launcherSettings.warmUpGames.get()
+                || release == null || !installedGames.contains(release.getId())) {
+            return;
+        }
+        try {
+            gameService.warmUp(gameManager.getInstallation(release.getId()));
+        } catch (FileNotFoundException e) {
+            logger.debug("Not warming up {}, it is not installed.", release, e);
+        }
+    }
+
+    /**
+     * Start or stop the HTTP API for other programs on this computer, following the user's choice.
+     * <p>
+     * The release catalog is fetched at most once a minute for the API, as dashboards may ask for it a lot more often.
+     */
+    private void updateControlServer() {
+        if (launcherSettings.controlApi.get() == (controlServer != null)) {
+            return;
+        }
+        if (controlServer != null) {
+            controlServer.close();
+            controlServer = null;
+            return;
+        }
+        final ReleaseRepository repository = config.getValue().getReleaseRepository();
+        final Supplier<List<GameRelease>> releases = repository == null
+                ? List::of
+                : Suppliers.memoizeWithExpiration(repository::fetchReleases, 1, TimeUnit.MINUTES);
+        final ControlServer server = new ControlServer(gameManager, gameService, launcherSettings, releases,
+                launcherDirectory, launcherSettings.controlApiPort.get());
+        try {
+            server.start();
+            controlServer = server;
+        } catch (IOException e) {
+            logger.warn("Could not start the control API on port {}.", launcherSettings.controlApiPort.get(), e);
+            server.close();
+        }
+    }
+
     private static int compareReleases(GameRelease o1, GameRelease o2) {
         int compareProfile = o1.getId().getProfile().compareTo(o2.getId().getProfile());
         if (compareProfile != 0) {
@@ -7,6 +7,7 @@ import javafx.application.Platform;
 import javafx.concurrent.Task;
 import javafx.scene.control.Alert;
 import javafx.stage.DirectoryChooser;
+import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -102,6 +103,21 @@ public final class Dialogs {
         return selected;
     }
 
+    /**
+     * Let the user choose a file with one of the given extensions, e.g., {@code *.zip}.
+     *
+     * @return the chosen file, or null if the user cancelled
+     */
+    public static Path chooseFile(Stage owner, final String title, final String description,
+                                  final String... extensions) {
+        return runOnEventThread(() -> {
+            final FileChooser fileChooser = new FileChooser();
+            fileChooser.setTitle(title);
+            fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter(description, extensions));
+            return Optional.ofNullable(fileChooser.showOpenDialog(owner)).map(File::toPath).orElse(null);
+        });
+    }
+
     private static boolean deleteProposedDirectoryIfUnused(Path proposed, Path selected) throws IOException {
         return selected != null
                 && !Files.isSameFile(proposed, selected)
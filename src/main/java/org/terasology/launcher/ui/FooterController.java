@@ -20,21 +20,29 @@ import javafx.util.Duration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.launcher.model.LauncherVersion;
+import org.terasology.launcher.updater.LauncherRelease;
+import org.terasology.launcher.updater.LauncherUpdater;
 import org.terasology.launcher.util.HostServices;
 import org.terasology.launcher.util.I18N;
 
+import java.net.URI;
 import java.util.Optional;
 
 public class FooterController {
 
     private static final Logger logger = LoggerFactory.getLogger(FooterController.class);
+    private static final URI DOWNLOAD_PAGE = URI.create("https://terasology.org/downloads/");
 
     @FXML
     private Button warningButton;
     @FXML
     private Label versionInfo;
+    @FXML
+    private Button updateButton;
 
     private HostServices hostServices;
+    private LauncherUpdater updater;
+    private LauncherRelease launcherUpdate;
     private final Property<Optional<Warning>> warningProperty;
 
     public FooterController() {
@@ -149,6 +157,25 @@ public class FooterController {
         //contentTabPane.getSelectionModel().select(2);
     }
 
+    /**
+     * Point the user to a newer launcher release. Must be called on the JavaFX application thread.
+     */
+    void showLauncherUpdate(LauncherUpdater launcherUpdater, LauncherRelease release) {
+        this.updater = launcherUpdater;
+        this.launcherUpdate = release;
+        updateButton.textProperty().bind(
+                Bindings.concat(I18N.labelBinding("launcher_updateAvailable"), " ", release.getTagName()));
+        updateButton.setManaged(true);
+        updateButton.setVisible(true);
+    }
+
+    @FXML
+    protected void openLauncherUpdate() {
+        if (updater.showUpdateDialog(updateButton.getScene().getWindow(), launcherUpdate)) {
+            hostServices.tryOpenUri(DOWNLOAD_PAGE);
+        }
+    }
+
     void bind(ReadOnlyProperty<Optional<Warning>> property) {
         this.warningProperty.bind(property);
     }
@@ -0,0 +1,117 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.ui;
+
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.beans.property.ReadOnlyStringWrapper;
+import javafx.collections.ObservableList;
+import javafx.concurrent.Worker;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import org.terasology.launcher.game.GameInstance;
+import org.terasology.launcher.game.LaunchMode;
+import org.terasology.launcher.game.LaunchTimings;
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.util.I18N;
+
+/**
+ * Lists the games started by the launcher with their state, see {@link org.terasology.launcher.game.GameService}.
+ */
+public class GamesViewController {
+
+    @FXML
+    private TableView<GameInstance> gamesTable;
+    @FXML
+    private TableColumn<GameInstance, Integer> idColumn;
+    @FXML
+    private TableColumn<GameInstance, String> gameColumn;
+    @FXML
+    private TableColumn<GameInstance, String> modeColumn;
+    @FXML
+    private TableColumn<GameInstance, String> processColumn;
+    @FXML
+    private TableColumn<GameInstance, String> stateColumn;
+    @FXML
+    private TableColumn<GameInstance, String> readyColumn;
+    @FXML
+    private TableColumn<GameInstance, String> directoryColumn;
+
+    @FXML
+    public void initialize() {
+        idColumn.textProperty().bind(I18N.labelBinding("games_id"));
+        gameColumn.textProperty().bind(I18N.labelBinding("games_game"));
+        modeColumn.textProperty().bind(I18N.labelBinding("games_mode"));
+        processColumn.textProperty().bind(I18N.labelBinding("games_process"));
+        stateColumn.textProperty().bind(I18N.labelBinding("games_state"));
+        readyColumn.textProperty().bind(I18N.labelBinding("games_ready"));
+        directoryColumn.textProperty().bind(I18N.labelBinding("games_directory"));
+        final Label placeholder = new Label();
+        placeholder.textProperty().bind(I18N.labelBinding("games_none"));
+        gamesTable.setPlaceholder(placeholder);
+
+        idColumn.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(cell.getValue().getId()));
+        gameColumn.setCellValueFactory(cell -> {
+            final GameIdentifier game = cell.getValue().getInstallation().getInfo();
+            return new ReadOnlyStringWrapper(game != null ? game.getDisplayVersion() : "");
+        });
+        modeColumn.setCellValueFactory(cell -> {
+            final boolean server = cell.getValue().getMode() == LaunchMode.SERVER;
+            return new ReadOnlyStringWrapper(I18N.getLabel(server ? "games_mode_server" : "games_mode_client"));
+        });
+        processColumn.setCellValueFactory(cell -> {
+            final GameInstance instance = cell.getValue();
+            // the process is known by the time the task reports it
+            return Bindings.createStringBinding(
+                    () -> instance.getProcess().map(process -> Long.toString(process.pid())).orElse("–"),
+                    instance.getWorker().messageProperty());
+        });
+        stateColumn.setCellValueFactory(cell -> {
+            final Worker<Boolean> worker = cell.getValue().getWorker();
+            return Bindings.createStringBinding(() -> I18N.getLabel(getStateLabel(worker)),
+                    worker.stateProperty(), worker.valueProperty());
+        });
+        readyColumn.setCellValueFactory(cell -> {
+            final GameInstance instance = cell.getValue();
+            final Worker<Boolean> worker = instance.getWorker();
+            // the times are known once the game is ready or has exited
+            return Bindings.createStringBinding(() -> instance.getLaunchTimings()
+                            .flatMap(LaunchTimings::getTimeToReady)
+                            .map(time -> String.format("%.1f s", time.toMillis() / 1000.0))
+                            .orElse("–"),
+                    worker.valueProperty(), worker.stateProperty());
+        });
+        directoryColumn.setCellValueFactory(
+                cell -> new ReadOnlyStringWrapper(cell.getValue().getGameDataDirectory().toString()));
+    }
+
+    void setInstances(ObservableList<GameInstance> instances) {
+        gamesTable.setItems(instances);
+    }
+
+    void select(GameInstance instance) {
+        gamesTable.getSelectionModel().select(instance);
+    }
+
+    ReadOnlyObjectProperty<GameInstance> selectedInstanceProperty() {
+        return gamesTable.getSelectionModel().selectedItemProperty();
+    }
+
+    private static String getStateLabel(Worker<Boolean> worker) {
+        switch (worker.getState()) {
+            case RUNNING:
+                return Boolean.TRUE.equals(worker.getValue()) ? "games_state_running" : "games_state_starting";
+            case SUCCEEDED:
+                return "games_state_exited";
+            case FAILED:
+            case CANCELLED:
+                return "games_state_failed";
+            default:
+                return "games_state_starting";
+        }
+    }
+}
@@ -3,80 +3,304 @@
 
 package org.terasology.launcher.ui;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.pattern.RootCauseFirstThrowableProxyConverter;
 import ch.qos.logback.classic.pattern.ThrowableHandlingConverter;
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import ch.qos.logback.core.AppenderBase;
-import javafx.concurrent.ScheduledService;
-import javafx.concurrent.Task;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
 import javafx.fxml.FXML;
-import javafx.scene.control.TextArea;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ComboBox;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
 import javafx.scene.text.Font;
 import javafx.util.Duration;
+import javafx.util.StringConverter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.terasology.launcher.log.LogSessions;
+import org.terasology.launcher.log.SessionLogPropertyDefiner;
+import org.terasology.launcher.util.I18N;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class LogViewController extends AppenderBase<ILoggingEvent> {
+/**
+ * Shows the log of the launcher, including the output of the game.
+ * <p>
+ * Events are formatted once on the thread that logs them and handed to the JavaFX thread through a lock-free queue.
+ * The view keeps the most recent {@link #CAPACITY} entries, and only the visible ones have a cell, so long game
+ * sessions do not slow the launcher down. Events that arrive faster than the view takes them are left out.
+ * <p>
+ * The logs of earlier sessions can be shown as well, with the last {@link #CAPACITY} lines read from their files.
+ */
+public class LogViewController extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    /**
+     * The number of entries kept in the view, and the number of events waiting for the view at most.
+     */
+    static final int CAPACITY = 10_000;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+    private static final DateTimeFormatter SESSION_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+    private static final Duration REFRESH_INTERVAL = Duration.millis(250);
+    private static final List<Level> LEVELS = List.of(Level.ALL, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR);
+
+    private static final Logger logger = LoggerFactory.getLogger(LogViewController.class);
 
-    private final StringBuffer buffer;
     private final ThrowableHandlingConverter throwableConverter;
+    private final Queue<Entry> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
 
+    private final ObservableList<Entry> entries = FXCollections.observableArrayList();
+    private FilteredList<Entry> visibleEntries = new FilteredList<>(entries);
+
+    @FXML
+    private ListView<Entry> logList;
+    @FXML
+    private ComboBox<LogSessions.Session> sessionBox;
+    @FXML
+    private ComboBox<Level> levelBox;
+    @FXML
+    private TextField searchField;
     @FXML
-    private TextArea logArea;
+    private CheckBox followBox;
 
     public LogViewController() {
-        buffer = new StringBuffer();
         throwableConverter = new RootCauseFirstThrowableProxyConverter();
+    }
+
+    @FXML
+    public void initialize() {
+        final Font font = Font.font("monospaced");
+        logList.setItems(visibleEntries);
+        logList.setCellFactory(list -> new ListCell<>() {
+            @Override
+            protected void updateItem(Entry entry, boolean empty) {
+                super.updateItem(entry, empty);
+                setFont(font);
+                setText(empty || entry == null ? null : entry.text);
+            }
+        });
+
+        initSessions();
 
-        ScheduledService<Void> schedule = new ScheduledService<Void>() {
+        levelBox.getItems().setAll(LEVELS);
+        levelBox.setConverter(new StringConverter<>() {
             @Override
-            protected Task<Void> createTask() {
-                return new Task<Void>() {
-                    @Override
-                    protected Void call() throws Exception {
-                        logArea.appendText(buffer.toString());
-                        //TODO figure out whether this is thread-safe (I suspect it's not)
-                        buffer.delete(0, buffer.length());
-                        return null;
-                    }
-                };
+            public String toString(Level level) {
+                return level == null ? "" : I18N.getLabel("logLevel_" + level.toString().toLowerCase(Locale.ROOT));
             }
-        };
-        schedule.setPeriod(Duration.seconds(2));
-        schedule.start();
+
+            @Override
+            public Level fromString(String string) {
+                return null;
+            }
+        });
+        levelBox.getSelectionModel().select(Level.ALL);
+        levelBox.valueProperty().addListener((observable, oldValue, newValue) -> updateFilter());
+        searchField.textProperty().addListener((observable, oldValue, newValue) -> updateFilter());
+        searchField.promptTextProperty().bind(I18N.labelBinding("log_search"));
+        followBox.textProperty().bind(I18N.labelBinding("log_follow"));
+        followBox.setSelected(true);
+
+        final Timeline refresh = new Timeline(new KeyFrame(REFRESH_INTERVAL, event -> drain()));
+        refresh.setCycleCount(Animation.INDEFINITE);
+        refresh.play();
     }
 
-    @FXML
-    public void initialize() {
-        logArea.setEditable(false);
-        logArea.setFont(Font.font("monospaced"));
+    private void initSessions() {
+        final SessionLogPropertyDefiner definer = SessionLogPropertyDefiner.getInstance();
+        if (definer == null || definer.getSessions() == null) {
+            // the log files are not managed, e.g., during development
+            sessionBox.setVisible(false);
+            sessionBox.setManaged(false);
+            return;
+        }
+        final LogSessions sessions = definer.getSessions();
+        final LogSessions.Session current = definer.getSession();
+        sessionBox.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(LogSessions.Session session) {
+                if (session == null) {
+                    return "";
+                }
+                return session.equals(current)
+                        ? I18N.getLabel("log_currentSession") : SESSION_FORMATTER.format(session.getStart());
+            }
+
+            @Override
+            public LogSessions.Session fromString(String string) {
+                return null;
+            }
+        });
+        sessionBox.getItems().setAll(sessions.list());
+        sessionBox.getSelectionModel().select(current);
+        sessionBox.valueProperty().addListener((observable, oldValue, newValue) -> {
+            if (newValue == null || newValue.equals(current)) {
+                show(entries);
+            } else {
+                load(sessions, newValue);
+            }
+        });
     }
 
-    private LocalDateTime timestampFromEvent(ILoggingEvent loggingEvent) {
-        return new Date(loggingEvent.getTimeStamp())
-                .toInstant()
-                .atZone(ZoneId.systemDefault())
-                .toLocalDateTime();
+    /**
+     * Read the log of an earlier session in the background, and show it once it is read.
+     */
+    private void load(LogSessions sessions, LogSessions.Session session) {
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return sessions.readTail(session, CAPACITY);
+            } catch (IOException e) {
+                logger.warn("Could not read the log of session '{}'", session, e);
+                return List.<String>of();
+            }
+        }).thenAccept(lines -> {
+            final List<Entry> sessionEntries = parse(lines);
+            Platform.runLater(() -> {
+                // another session may have been chosen in the meantime
+                if (session.equals(sessionBox.getValue())) {
+                    show(FXCollections.observableArrayList(sessionEntries));
+                }
+            });
+        });
+    }
+
+    private void show(ObservableList<Entry> source) {
+        visibleEntries = new FilteredList<>(source);
+        updateFilter();
+        logList.setItems(visibleEntries);
+        if (!visibleEntries.isEmpty()) {
+            logList.scrollTo(visibleEntries.size() - 1);
+        }
+    }
+
+    /**
+     * Turn the lines of a log file into entries, taking the level from the line, or from the line before for the
+     * lines of a stack trace.
+     */
+    static List<Entry> parse(List<String> lines) {
+        final List<Entry> parsed = new ArrayList<>(lines.size());
+        Level level = Level.INFO;
+        for (String line : lines) {
+            // %d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n
+            final int threadEnd = line.indexOf("] ");
+            if (threadEnd > 0) {
+                final int levelEnd = line.indexOf(' ', threadEnd + 2);
+                if (levelEnd > 0) {
+                    level = Level.toLevel(line.substring(threadEnd + 2, levelEnd), level);
+                }
+            }
+            parsed.add(new Entry(level, line));
+        }
+        return parsed;
     }
 
+    /**
+     * Called by Logback on the thread that logs the event.
+     */
     @Override
     protected void append(ILoggingEvent loggingEvent) {
-        final String message = loggingEvent.getFormattedMessage();
-        final LocalDateTime timestamp = timestampFromEvent(loggingEvent);
+        if (pendingCount.incrementAndGet() > CAPACITY) {
+            pendingCount.decrementAndGet();
+            dropped.incrementAndGet();
+            return;
+        }
+        pending.add(new Entry(loggingEvent.getLevel(), format(loggingEvent)));
+    }
+
+    private String format(ILoggingEvent loggingEvent) {
+        final LocalTime timestamp = Instant.ofEpochMilli(loggingEvent.getTimeStamp())
+                .atZone(ZoneId.systemDefault())
+                .toLocalTime();
+        final StringBuilder text = new StringBuilder(64)
+                .append(DATE_FORMATTER.format(timestamp))
+                .append(" | ")
+                .append(String.format("%-5s", loggingEvent.getLevel()))
+                .append(" | ")
+                .append(loggingEvent.getFormattedMessage());
+        if (loggingEvent.getThrowableProxy() != null) {
+            text.append('\n').append(throwableConverter.convert(loggingEvent).stripTrailing());
+        }
+        return text.toString();
+    }
 
-        buffer.append(String.format("%s | %-5s | ", DATE_FORMATTER.format(timestamp), loggingEvent.getLevel()));
-        buffer.append(message);
-        buffer.append("\n");
+    /**
+     * Move the pending events to the view, on the JavaFX thread.
+     */
+    private void drain() {
+        final List<Entry> batch = new ArrayList<>();
+        Entry entry;
+        while ((entry = pending.poll()) != null) {
+            batch.add(entry);
+        }
+        final long skipped = dropped.getAndSet(0);
+        if (skipped > 0) {
+            batch.add(new Entry(Level.WARN, "… " + skipped + " log events left out …"));
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        pendingCount.addAndGet(-(batch.size() - (skipped > 0 ? 1 : 0)));
+
+        final int excess = entries.size() + batch.size() - CAPACITY;
+        if (excess >= entries.size()) {
+            entries.setAll(batch.subList(batch.size() - CAPACITY, batch.size()));
+        } else {
+            if (excess > 0) {
+                entries.remove(0, excess);
+            }
+            entries.addAll(batch);
+        }
+        if (followBox.isSelected() && visibleEntries.getSource() == entries && !visibleEntries.isEmpty()) {
+            logList.scrollTo(visibleEntries.size() - 1);
+        }
+    }
+
+    private void updateFilter() {
+        final Level level = levelBox.getValue() != null ? levelBox.getValue() : Level.ALL;
+        final String search = searchField.getText() == null ? "" : searchField.getText().toLowerCase(Locale.ROOT);
+        visibleEntries.setPredicate(entry -> entry.level.isGreaterOrEqual(level)
+                && (search.isEmpty() || entry.text.toLowerCase(Locale.ROOT).contains(search)));
+    }
+
+    /**
+     * A formatted log event.
+     */
+    static final class Entry {
+        final Level level;
+        final String text;
+
+        Entry(Level level, String text) {
+            this.level = level;
+            this.text = text;
+        }
 
-        var error = loggingEvent.getThrowableProxy();
-        if (error != null) {
-            var s = throwableConverter.convert(loggingEvent);
-            buffer.append(s);
+        @Override
+        public String toString() {
+            return text;
         }
     }
 }
@@ -0,0 +1,136 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.ui;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.fxml.FXML;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.Label;
+import javafx.util.Duration;
+import org.terasology.launcher.game.ResourceHistory;
+import org.terasology.launcher.game.ResourceHistory.Metric;
+import org.terasology.launcher.util.I18N;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Shows the resources used by the game process as a live graph, see
+ * {@link org.terasology.launcher.game.ResourceMonitor}.
+ */
+public class ResourceViewController {
+
+    private static final double MB = 1024d * 1024d;
+
+    /**
+     * Rates like the CPU usage are averaged over this many samples.
+     */
+    private static final int RATE_SAMPLES = 5;
+
+    @FXML
+    private LineChart<Number, Number> memoryChart;
+    @FXML
+    private NumberAxis timeAxis;
+    @FXML
+    private NumberAxis memoryAxis;
+    @FXML
+    private Label cpuLabel;
+    @FXML
+    private Label cpuValue;
+    @FXML
+    private Label threadsLabel;
+    @FXML
+    private Label threadsValue;
+    @FXML
+    private Label gcLabel;
+    @FXML
+    private Label gcValue;
+
+    private final XYChart.Series<Number, Number> rss = new XYChart.Series<>();
+    private final XYChart.Series<Number, Number> heapCommitted = new XYChart.Series<>();
+    private final XYChart.Series<Number, Number> heapUsed = new XYChart.Series<>();
+
+    private ResourceHistory history;
+    private long shownTime = ResourceHistory.UNKNOWN;
+
+    @FXML
+    public void initialize() {
+        memoryChart.setAnimated(false);
+        memoryChart.setCreateSymbols(false);
+        memoryChart.getData().setAll(List.of(rss, heapCommitted, heapUsed));
+
+        rss.nameProperty().bind(I18N.labelBinding("resources_rss"));
+        heapCommitted.nameProperty().bind(I18N.labelBinding("resources_heapCommitted"));
+        heapUsed.nameProperty().bind(I18N.labelBinding("resources_heapUsed"));
+        timeAxis.labelProperty().bind(I18N.labelBinding("resources_time"));
+        memoryAxis.labelProperty().bind(I18N.labelBinding("resources_memory"));
+        cpuLabel.textProperty().bind(I18N.labelBinding("resources_cpu"));
+        threadsLabel.textProperty().bind(I18N.labelBinding("resources_threads"));
+        gcLabel.textProperty().bind(I18N.labelBinding("resources_gc"));
+
+        final Timeline refresh = new Timeline(new KeyFrame(Duration.seconds(1), event -> update()));
+        refresh.setCycleCount(Animation.INDEFINITE);
+        refresh.play();
+    }
+
+    /**
+     * Show the samples of the given history from now on.
+     */
+    @SuppressWarnings("checkstyle:HiddenField")
+    void setHistory(ResourceHistory history) {
+        this.history = history;
+        shownTime = ResourceHistory.UNKNOWN;
+        rss.getData().clear();
+        heapCommitted.getData().clear();
+        heapUsed.getData().clear();
+        cpuValue.setText("–");
+        threadsValue.setText("–");
+        gcValue.setText("–");
+        timeAxis.setLowerBound(-history.capacity());
+        update();
+    }
+
+    private void update() {
+        if (history == null || history.latest(Metric.TIME) == shownTime) {
+            return;
+        }
+        shownTime = history.latest(Metric.TIME);
+
+        final long[][] values = history.toArrays(Metric.TIME, Metric.RSS, Metric.HEAP_COMMITTED, Metric.HEAP_USED);
+        rss.getData().setAll(toPoints(values[0], values[1]));
+        heapCommitted.getData().setAll(toPoints(values[0], values[2]));
+        heapUsed.getData().setAll(toPoints(values[0], values[3]));
+
+        final double cpu = history.rate(Metric.CPU_TIME, RATE_SAMPLES);
+        cpuValue.setText(Double.isNaN(cpu) ? "–" : String.format(Locale.ROOT, "%.0f %%", cpu * 100));
+        final long threads = history.latest(Metric.THREADS);
+        threadsValue.setText(threads == ResourceHistory.UNKNOWN ? "–" : Long.toString(threads));
+        // a high share of time spent in garbage collection means the heap is too small
+        final double gc = history.rate(Metric.GC_TIME, RATE_SAMPLES);
+        final long collections = history.latest(Metric.GC_COUNT);
+        gcValue.setText(Double.isNaN(gc) ? "–"
+                : String.format(Locale.ROOT, "%.1f %% (%d)", gc * 100, collections));
+    }
+
+    /**
+     * The known values in megabytes, by seconds before the latest sample.
+     */
+    private static ObservableList<XYChart.Data<Number, Number>> toPoints(long[] times, long[] values) {
+        final List<XYChart.Data<Number, Number>> points = new ArrayList<>(values.length);
+        final long latest = times.length > 0 ? times[times.length - 1] : 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != ResourceHistory.UNKNOWN) {
+                points.add(new XYChart.Data<>((times[i] - latest) / 1000d, values[i] / MB));
+            }
+        }
+        return FXCollections.observableList(points);
+    }
+}
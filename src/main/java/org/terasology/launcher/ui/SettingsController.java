@@ -5,6 +5,7 @@ package org.terasology.launcher.ui;
 
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
+import javafx.beans.property.LongProperty;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -21,6 +22,8 @@ import javafx.stage.Stage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.event.Level;
+import org.terasology.launcher.game.RestartPolicy;
+import org.terasology.launcher.jre.JvmProfile;
 import org.terasology.launcher.settings.Settings;
 import org.terasology.launcher.util.I18N;
 import org.terasology.launcher.util.JavaHeapSize;
@@ -66,8 +69,14 @@ public class SettingsController {
     @FXML
     private Label gameParametersLabel;
     @FXML
+    private Label serverParametersLabel;
+    @FXML
+    private Label jvmProfileLabel;
+    @FXML
     private Label logLevelLabel;
     @FXML
+    private Label restartPolicyLabel;
+    @FXML
     private Label launcherSettingsTitle;
     @FXML
     private Label chooseLanguageLabel;
@@ -78,6 +87,24 @@ public class SettingsController {
     @FXML
     private CheckBox saveDownloadedFilesBox;
     @FXML
+    private CheckBox prefetchNightlyBuildsBox;
+    @FXML
+    private Label prefetchBandwidthLimitLabel;
+    @FXML
+    private TextField prefetchBandwidthLimitField;
+    @FXML
+    private Label cacheDiskBudgetLabel;
+    @FXML
+    private TextField cacheDiskBudgetField;
+    @FXML
+    private CheckBox shareDownloadsOnLanBox;
+    @FXML
+    private CheckBox concurrentGamesBox;
+    @FXML
+    private CheckBox warmUpGamesBox;
+    @FXML
+    private CheckBox controlApiBox;
+    @FXML
     private Label launcherDirectoryLabel;
     @FXML
     private Button launcherDirectoryOpenButton;
@@ -104,8 +131,14 @@ public class SettingsController {
     @FXML
     private TextField userGameParametersField;
     @FXML
+    private TextField userServerParametersField;
+    @FXML
+    private ComboBox<JvmProfile> jvmProfileBox;
+    @FXML
     private ComboBox<Level> logLevelBox;
     @FXML
+    private ComboBox<RestartPolicy> restartPolicyBox;
+    @FXML
     private TitledPane advancedOptionsPane;
     @FXML
     private Label otherSettingsLabel;
@@ -131,6 +164,12 @@ public class SettingsController {
         launcherSettings.maxHeapSize.set(maxHeapSizeBox.getSelectionModel().getSelectedItem());
         launcherSettings.minHeapSize.set(initialHeapSizeBox.getSelectionModel().getSelectedItem());
 
+        // save JVM tuning profile
+        launcherSettings.jvmProfile.set(jvmProfileBox.getSelectionModel().getSelectedItem());
+
+        // save restart policy
+        launcherSettings.restartPolicy.set(restartPolicyBox.getSelectionModel().getSelectedItem());
+
         // save log level settings
         launcherSettings.logLevel.set(logLevelBox.getSelectionModel().getSelectedItem());
 
@@ -146,6 +185,25 @@ public class SettingsController {
         // save saveDownloadedFiles
         launcherSettings.keepDownloadedFiles.set(saveDownloadedFilesBox.isSelected());
 
+        // save prefetchNightlyBuilds
+        launcherSettings.prefetchNightlyBuilds.set(prefetchNightlyBuildsBox.isSelected());
+
+        // save prefetch limits
+        saveLimit(prefetchBandwidthLimitField, launcherSettings.prefetchBandwidthLimit);
+        saveLimit(cacheDiskBudgetField, launcherSettings.cacheDiskBudget);
+
+        // save shareDownloadsOnLan
+        launcherSettings.shareDownloadsOnLan.set(shareDownloadsOnLanBox.isSelected());
+
+        // save concurrentGames
+        launcherSettings.concurrentGames.set(concurrentGamesBox.isSelected());
+
+        // save warmUpGames
+        launcherSettings.warmUpGames.set(warmUpGamesBox.isSelected());
+
+        // save controlApi
+        launcherSettings.controlApi.set(controlApiBox.isSelected());
+
         //save userParameters (java & game), if textfield is empty then set to defaults
         if (userJavaParametersField.getText().isEmpty()) {
             logger.debug("Reapplying default Java parameters: {}", Settings.getDefault().userJavaParameters);
@@ -161,6 +219,12 @@ public class SettingsController {
             logger.debug("User defined game parameters: {}", userGameParametersField.getText());
             launcherSettings.userGameParameters.setAll(asParameterList(userGameParametersField.getText()));
         }
+        if (userServerParametersField.getText().isEmpty()) {
+            launcherSettings.userServerParameters.setAll(Settings.getDefault().userServerParameters);
+        } else {
+            logger.debug("User defined server parameters: {}", userServerParametersField.getText());
+            launcherSettings.userServerParameters.setAll(asParameterList(userServerParametersField.getText()));
+        }
 
         // store changed settings
         try {
@@ -222,6 +286,10 @@ public class SettingsController {
         populateCloseLauncherAfterGameStart();
         populateSaveDownloadedFiles();
         populateShowPreReleases();
+        populatePrefetchNightlyBuilds();
+        populateShareDownloadsOnLan();
+        populateJvmProfile();
+        populateRestartPolicy();
         populateLogLevel();
 
         gameDirectory = newLauncherSettings.gameDirectory.get();
@@ -251,9 +319,13 @@ public class SettingsController {
 
         userJavaParametersField.promptTextProperty().bind(I18N.labelBinding("settings_game_javaParsPrompt"));
         userGameParametersField.promptTextProperty().bind(I18N.labelBinding("settings_game_gameParsPrompt"));
+        userServerParametersField.promptTextProperty().bind(I18N.labelBinding("settings_game_serverParsPrompt"));
 
         javaParametersLabel.textProperty().bind(I18N.labelBinding("settings_game_javaParameters"));
         gameParametersLabel.textProperty().bind(I18N.labelBinding("settings_game_gameParameters"));
+        serverParametersLabel.textProperty().bind(I18N.labelBinding("settings_game_serverParameters"));
+        jvmProfileLabel.textProperty().bind(I18N.labelBinding("settings_game_jvmProfile"));
+        restartPolicyLabel.textProperty().bind(I18N.labelBinding("settings_game_restartPolicy"));
         logLevelLabel.textProperty().bind(I18N.labelBinding("settings_game_logLevel"));
 
         // Launcher settings
@@ -263,6 +335,13 @@ public class SettingsController {
         closeAfterStartBox.textProperty().bind(I18N.labelBinding("settings_launcher_closeLauncherAfterGameStart"));
         saveDownloadedFilesBox.textProperty().bind(I18N.labelBinding("settings_launcher_saveDownloadedFiles"));
         showPreReleasesBox.textProperty().bind(I18N.labelBinding("settings_launcher_showPreReleases"));
+        prefetchNightlyBuildsBox.textProperty().bind(I18N.labelBinding("settings_launcher_prefetchNightlyBuilds"));
+        prefetchBandwidthLimitLabel.textProperty().bind(I18N.labelBinding("settings_launcher_prefetchBandwidthLimit"));
+        cacheDiskBudgetLabel.textProperty().bind(I18N.labelBinding("settings_launcher_cacheDiskBudget"));
+        shareDownloadsOnLanBox.textProperty().bind(I18N.labelBinding("settings_launcher_shareDownloadsOnLan"));
+        concurrentGamesBox.textProperty().bind(I18N.labelBinding("settings_launcher_concurrentGames"));
+        warmUpGamesBox.textProperty().bind(I18N.labelBinding("settings_launcher_warmUpGames"));
+        controlApiBox.textProperty().bind(I18N.labelBinding("settings_launcher_controlApi"));
         launcherDirectoryLabel.textProperty().bind(I18N.labelBinding("settings_launcher_launcherDirectory"));
         launcherDirectoryOpenButton.textProperty().bind(I18N.labelBinding("settings_launcher_launcherDirectory_open"));
         saveSettingsButton.textProperty().bind(I18N.labelBinding("settings_save"));
@@ -325,10 +404,56 @@ public class SettingsController {
         showPreReleasesBox.setSelected(launcherSettings.showPreReleases.get());
     }
 
+    private void populatePrefetchNightlyBuilds() {
+        prefetchNightlyBuildsBox.setSelected(launcherSettings.prefetchNightlyBuilds.get());
+        // nightly builds are only prefetched if they are shown
+        prefetchNightlyBuildsBox.disableProperty().bind(showPreReleasesBox.selectedProperty().not());
+
+        prefetchBandwidthLimitField.setText(String.valueOf(launcherSettings.prefetchBandwidthLimit.get()));
+        cacheDiskBudgetField.setText(String.valueOf(launcherSettings.cacheDiskBudget.get()));
+        // the limits only apply to prefetching
+        prefetchBandwidthLimitField.disableProperty().bind(prefetchNightlyBuildsBox.disabledProperty()
+                .or(prefetchNightlyBuildsBox.selectedProperty().not()));
+        cacheDiskBudgetField.disableProperty().bind(prefetchBandwidthLimitField.disableProperty());
+    }
+
+    /**
+     * Store the non-negative number entered in {@code field}, or keep the current value if the input is invalid.
+     */
+    private static void saveLimit(TextField field, LongProperty setting) {
+        try {
+            final long value = Long.parseLong(field.getText().trim());
+            if (value >= 0) {
+                setting.set(value);
+                return;
+            }
+        } catch (NumberFormatException e) {
+            logger.debug("Not a number: '{}'", field.getText(), e);
+        }
+        logger.warn("Ignoring invalid limit '{}', keeping {}.", field.getText(), setting.get());
+    }
+
+    private void populateShareDownloadsOnLan() {
+        shareDownloadsOnLanBox.setSelected(launcherSettings.shareDownloadsOnLan.get());
+        concurrentGamesBox.setSelected(launcherSettings.concurrentGames.get());
+        warmUpGamesBox.setSelected(launcherSettings.warmUpGames.get());
+        controlApiBox.setSelected(launcherSettings.controlApi.get());
+    }
+
     private void populateSaveDownloadedFiles() {
         saveDownloadedFilesBox.setSelected(launcherSettings.keepDownloadedFiles.get());
     }
 
+    private void populateJvmProfile() {
+        jvmProfileBox.getItems().setAll(JvmProfile.values());
+        jvmProfileBox.getSelectionModel().select(launcherSettings.jvmProfile.get());
+    }
+
+    private void populateRestartPolicy() {
+        restartPolicyBox.getItems().setAll(RestartPolicy.values());
+        restartPolicyBox.getSelectionModel().select(launcherSettings.restartPolicy.get());
+    }
+
     private void populateLogLevel() {
         logLevelBox.getItems().clear();
         for (Level level : Level.values()) {
@@ -363,6 +488,9 @@ public class SettingsController {
         if (!launcherSettings.userGameParameters.get().isEmpty()) {
             userGameParametersField.setText(String.join(" ", launcherSettings.userGameParameters.get()));
         }
+        if (!launcherSettings.userServerParameters.get().isEmpty()) {
+            userServerParametersField.setText(String.join(" ", launcherSettings.userServerParameters.get()));
+        }
     }
 
     private List<String> asParameterList(String text) {
@@ -0,0 +1,42 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.updater;
+
+import org.semver4j.Semver;
+
+/**
+ * The latest launcher release as seen by the last update check, as stored in the update check cache.
+ */
+public final class LauncherRelease {
+
+    private String tagName;
+    private String changelog;
+    /**
+     * The time of the update check, in milliseconds since the epoch.
+     */
+    private long checkedAt;
+
+    LauncherRelease(String tagName, String changelog, long checkedAt) {
+        this.tagName = tagName;
+        this.changelog = changelog;
+        this.checkedAt = checkedAt;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public String getChangelog() {
+        return changelog;
+    }
+
+    long getCheckedAt() {
+        return checkedAt;
+    }
+
+    //TODO: catch invalid semver and return Try<..> or Option<..> instead
+    public Semver getVersion() {
+        return new Semver(tagName.replaceAll("^v(.*)$", "$1"));
+    }
+}
@@ -3,14 +3,15 @@
 
 package org.terasology.launcher.updater;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
 import org.semver4j.Semver;
-import javafx.application.Platform;
 import javafx.scene.Parent;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.TextArea;
 import javafx.stage.Modality;
-import javafx.stage.Stage;
+import javafx.stage.Window;
 import org.kohsuke.github.GHRelease;
 import org.kohsuke.github.GHRepository;
 import org.kohsuke.github.GitHub;
@@ -20,64 +21,116 @@ import org.terasology.launcher.model.LauncherVersion;
 import org.terasology.launcher.util.I18N;
 
 import java.io.IOException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.FutureTask;
-
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Checks GitHub for new launcher releases.
+ * <p>
+ * The result of the check is cached in a file, so that the launcher asks GitHub at most once per {@link #CACHE_TTL}
+ * and starts without network round trips most of the time.
+ */
 public final class LauncherUpdater {
 
+    public static final String CACHE_FILE = "launcher-update.json";
+    static final Duration CACHE_TTL = Duration.ofHours(12);
+
     private static final Logger logger = LoggerFactory.getLogger(LauncherUpdater.class);
 
     private final Semver currentVersion;
+    private final Path cacheFile;
+    private final Supplier<LauncherRelease> latestRelease;
+    private final Gson gson = new Gson();
 
-    public LauncherUpdater(LauncherVersion currentVersionInfo) {
-        //TODO: might not be valid semver, thus can be null
-        currentVersion = currentVersionInfo.getSemver();
+    /**
+     * @param currentVersionInfo the version of the running launcher
+     * @param cacheFile          the file to cache the result of the update check in
+     */
+    public LauncherUpdater(LauncherVersion currentVersionInfo, Path cacheFile) {
+        this(currentVersionInfo.getSemver(), cacheFile, LauncherUpdater::fetchLatestRelease);
     }
 
-    //TODO: catch invalid semver and return Try<..> or Option<..> instead
-    private Semver versionOf(GHRelease release) {
-        return new Semver(release.getTagName().replaceAll("^v(.*)$", "$1"));
+    LauncherUpdater(Semver currentVersion, Path cacheFile, Supplier<LauncherRelease> latestRelease) {
+        //TODO: might not be valid semver, thus can be null
+        this.currentVersion = currentVersion;
+        this.cacheFile = cacheFile;
+        this.latestRelease = latestRelease;
     }
 
     /**
      * This method indicates if a new launcher version is available.
      * <br>
-     * Compares the current launcher version number to the upstream version number if an internet connection is available.
+     * Compares the current launcher version number to the upstream version number. The upstream version is taken from
+     * the cache if it is recent enough, otherwise it is fetched if an internet connection is available.
+     * <br>
+     * This method does network I/O and should not be called on the JavaFX application thread.
      *
-     * @return a {@link GHRelease} if an update is available, null otherwise
+     * @return the latest launcher release if it is newer than the running launcher
      */
-    //TODO: return Option<GitHubRelease>
-    public GHRelease updateAvailable() {
+    public Optional<LauncherRelease> updateAvailable() {
         //TODO: only check of both version are defined and valid semver?
+        return readCache()
+                .filter(cached -> System.currentTimeMillis() - cached.getCheckedAt() < CACHE_TTL.toMillis())
+                .or(() -> Optional.ofNullable(latestRelease.get()).map(this::writeCache))
+                .filter(latest -> latest.getVersion().isGreaterThan(currentVersion));
+    }
+
+    private static LauncherRelease fetchLatestRelease() {
         try {
             final GitHub github = GitHub.connectAnonymously();
             final GHRepository repository = github.getRepository("MovingBlocks/TerasologyLauncher");
-            final GHRelease latestRelease = repository.getLatestRelease();
-            final Semver latestVersion = versionOf(latestRelease);
-
-            if (latestVersion.isGreaterThan(currentVersion)) {
-                return latestRelease;
-            }
+            final GHRelease release = repository.getLatestRelease();
+            return new LauncherRelease(release.getTagName(), release.getBody(), System.currentTimeMillis());
         } catch (IOException e) {
             logger.warn("Update check failed: {}", e.getMessage());
+            return null;
         }
-        return null;
     }
 
-    public boolean showUpdateDialog(Stage parentStage, final GHRelease release) {
-        FutureTask<Boolean> dialog = getUpdateDialog(parentStage, release);
+    private Optional<LauncherRelease> readCache() {
+        if (!Files.isRegularFile(cacheFile)) {
+            return Optional.empty();
+        }
+        try (Reader reader = Files.newBufferedReader(cacheFile)) {
+            return Optional.ofNullable(gson.fromJson(reader, LauncherRelease.class))
+                    .filter(cached -> cached.getTagName() != null);
+        } catch (IOException | JsonParseException e) {
+            logger.debug("Ignoring unreadable update check cache '{}'", cacheFile, e);
+            return Optional.empty();
+        }
+    }
 
-        Platform.runLater(dialog);
-        boolean result = false;
+    private LauncherRelease writeCache(LauncherRelease release) {
+        try (Writer writer = Files.newBufferedWriter(cacheFile)) {
+            gson.toJson(release, writer);
+        } catch (IOException e) {
+            logger.warn("Could not cache the update check result in '{}'", cacheFile, e);
+        }
+        return release;
+    }
+
+    /**
+     * Ask the user whether to update the launcher. Must be called on the JavaFX application thread.
+     *
+     * @return true if the user wants to update
+     */
+    public boolean showUpdateDialog(Window owner, final LauncherRelease release) {
         try {
-            result = dialog.get();
-        } catch (InterruptedException | ExecutionException e) {
+            return createUpdateDialog(owner, release).showAndWait()
+                    .filter(response -> response == ButtonType.YES)
+                    .isPresent();
+        } catch (IOException e) {
             logger.error("Uh oh, something went wrong with the update dialog!", e);
+            return false;
         }
-        return result;
     }
 
-    private FutureTask<Boolean> getUpdateDialog(Stage parentStage, GHRelease release) {
+    private Alert createUpdateDialog(Window owner, LauncherRelease release) throws IOException {
         final String infoText = "  " +
                 I18N.getLabel("message_update_current") +
                 "  " +
@@ -86,26 +139,21 @@ public final class LauncherUpdater {
                 "  " +
                 I18N.getLabel("message_update_latest") +
                 "  " +
-                versionOf(release).getVersion() +
+                release.getVersion().getVersion() +
                 "  ";
 
-        return new FutureTask<>(() -> {
-            Parent root = I18N.getFXMLLoader("update_dialog").load();
-            ((TextArea) root.lookup("#infoTextArea")).setText(infoText);
-            ((TextArea) root.lookup("#changelogTextArea")).setText(release.getBody());
-
-            final Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
-            alert.setTitle(I18N.getLabel("message_update_launcher_title"));
-            alert.setHeaderText(I18N.getLabel("message_update_launcher"));
-            alert.getDialogPane().setContent(root);
-            alert.initOwner(parentStage);
-            alert.getButtonTypes().setAll(ButtonType.YES, ButtonType.NO);
-            alert.initModality(Modality.APPLICATION_MODAL);
-            alert.setResizable(true);
-
-            return alert.showAndWait()
-                    .filter(response -> response == ButtonType.YES)
-                    .isPresent();
-        });
+        Parent root = I18N.getFXMLLoader("update_dialog").load();
+        ((TextArea) root.lookup("#infoTextArea")).setText(infoText);
+        ((TextArea) root.lookup("#changelogTextArea")).setText(release.getChangelog());
+
+        final Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setTitle(I18N.getLabel("message_update_launcher_title"));
+        alert.setHeaderText(I18N.getLabel("message_update_launcher"));
+        alert.getDialogPane().setContent(root);
+        alert.initOwner(owner);
+        alert.getButtonTypes().setAll(ButtonType.YES, ButtonType.NO);
+        alert.initModality(Modality.APPLICATION_MODAL);
+        alert.setResizable(true);
+        return alert;
     }
 }
@@ -3,6 +3,7 @@
 
 package org.terasology.launcher.util;
 
+import com.google.common.io.BaseEncoding;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.terasology.launcher.util.visitor.ArchiveCopyVisitor;
@@ -10,10 +11,13 @@ import org.terasology.launcher.util.visitor.DeleteFileVisitor;
 import org.terasology.launcher.util.visitor.LocalCopyVisitor;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.stream.Stream;
 
 public final class FileUtils {
@@ -150,6 +154,30 @@ public final class FileUtils {
                 && Files.isReadable(path);
     }
 
+    /**
+     * Computes the MD5 checksum of the given file, e.g., to compare it with the fingerprint recorded by Jenkins.
+     *
+     * @param file the file to compute the checksum for
+     * @return the checksum as lower-case hex string
+     * @throws IOException if the file cannot be read
+     */
+    public static String md5Hex(final Path file) throws IOException {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 is supported by every Java platform", e);
+        }
+        final byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int n;
+            while ((n = in.read(buffer)) != -1) { //NOPMD(AssignmentInOperand)
+                digest.update(buffer, 0, n);
+            }
+        }
+        return BaseEncoding.base16().lowerCase().encode(digest.digest());
+    }
+
     /**
      * Checks if the given path exists, is a directory and can be read and written by the program.
      *
@@ -17,7 +17,9 @@ public enum LauncherManagedDirectory {
     TEMP(FileUtils::ensureEmptyDir, FileUtils::ensureWritableDir),
     CACHE(FileUtils::ensureWritableDir),
     DOWNLOAD(FileUtils::ensureWritableDir),
-    GAMES(FileUtils::ensureWritableDir);
+    GAMES(FileUtils::ensureWritableDir),
+    RUNTIMES(FileUtils::ensureWritableDir),
+    LOGS(FileUtils::ensureWritableDir);
 
     private final DirectoryCreator[] creators;
     private final String errorLabel;
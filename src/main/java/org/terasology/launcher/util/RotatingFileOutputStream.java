@@ -0,0 +1,93 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Writes to a file, and moves it aside once it grows too large, keeping a limited number of old files.
+ * <p>
+ * The old files get numbered suffixes, {@code game.log.1} being the most recent one. An existing non-empty file is
+ * moved aside when the stream is opened, so that each stream starts with an empty file.
+ */
+public class RotatingFileOutputStream extends OutputStream {
+
+    private final Path file;
+    private final long maxSize;
+    private final int backups;
+
+    private OutputStream out;
+    private long size;
+
+    /**
+     * @param file    the file to write to
+     * @param maxSize the size in bytes after which the file is moved aside
+     * @param backups how many old files to keep
+     */
+    public RotatingFileOutputStream(Path file, long maxSize, int backups) throws IOException {
+        this.file = file;
+        this.maxSize = maxSize;
+        this.backups = backups;
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        if (Files.exists(file) && Files.size(file) > 0) {
+            rotate();
+        }
+        out = Files.newOutputStream(file);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        rotateIfFull(1);
+        out.write(b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        rotateIfFull(len);
+        out.write(b, off, len);
+        size += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    static Path backup(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    private void rotateIfFull(int length) throws IOException {
+        if (size > 0 && size + length > maxSize) {
+            out.close();
+            rotate();
+            out = Files.newOutputStream(file);
+            size = 0;
+        }
+    }
+
+    private void rotate() throws IOException {
+        if (backups < 1) {
+            Files.delete(file);
+            return;
+        }
+        Files.deleteIfExists(backup(file, backups));
+        for (int index = backups - 1; index >= 1; index--) {
+            if (Files.exists(backup(file, index))) {
+                Files.move(backup(file, index), backup(file, index + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file, backup(file, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+}
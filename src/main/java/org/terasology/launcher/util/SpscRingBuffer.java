@@ -0,0 +1,88 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue for exactly one producer thread and one consumer thread.
+ * <p>
+ * Neither side ever blocks: {@link #offer(Object)} fails if the buffer is full, and {@link #poll()} returns
+ * {@code null} if it is empty. What to do then, e.g., dropping elements or parking the thread, is up to the caller.
+ *
+ * @param <E> the type of the elements
+ */
+public final class SpscRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> elements;
+    private final int mask;
+    /**
+     * The index of the next element to take, only written by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+    /**
+     * The index of the next element to put, only written by the producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity the maximum number of elements, rounded up to a power of two
+     */
+    public SpscRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        final int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.elements = new AtomicReferenceArray<>(Math.max(1, size));
+        this.mask = elements.length() - 1;
+    }
+
+    /**
+     * Add an element, only to be called by the producer thread.
+     *
+     * @return false if the buffer is full
+     */
+    public boolean offer(E element) {
+        final long index = tail.get();
+        if (index - head.get() == elements.length()) {
+            return false;
+        }
+        elements.lazySet((int) index & mask, element);
+        tail.lazySet(index + 1);
+        return true;
+    }
+
+    /**
+     * Take the oldest element, only to be called by the consumer thread.
+     *
+     * @return the element, or {@code null} if the buffer is empty
+     */
+    public E poll() {
+        final long index = head.get();
+        if (index == tail.get()) {
+            return null;
+        }
+        final int slot = (int) index & mask;
+        final E element = elements.get(slot);
+        elements.lazySet(slot, null);
+        head.lazySet(index + 1);
+        return element;
+    }
+
+    /**
+     * The number of elements in the buffer, which may be outdated as soon as it is returned.
+     */
+    public int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return elements.length();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+}
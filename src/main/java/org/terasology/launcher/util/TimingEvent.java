@@ -0,0 +1,31 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a piece of launcher work measured with {@link Timings}.
+ * <p>
+ * Only recorded if a recording is running, e.g., when starting the launcher with
+ * {@code -XX:StartFlightRecording:filename=launcher.jfr}.
+ */
+@Name("org.terasology.launcher.Timing")
+@Label("Launcher Timing")
+@Category({"Terasology", "Launcher"})
+@Description("A startup phase, HTTP call, directory scan, or FXML load of the launcher")
+@StackTrace(false)
+final class TimingEvent extends Event {
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Name")
+    String name;
+}
@@ -0,0 +1,204 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures how long the launcher spends on startup phases, HTTP calls, directory scans, and FXML loads.
+ * <p>
+ * Each measurement is emitted as {@link TimingEvent} to the Flight Recorder, and kept in memory for a
+ * {@linkplain #report() report}. Wrap the measured work:
+ * <pre>{@code
+ * final Set<GameIdentifier> games = Timings.time(Timings.Kind.SCAN, "installed games", () -> scan());
+ * }</pre>
+ */
+public final class Timings {
+
+    public enum Kind {
+        PHASE, HTTP, SCAN, FXML
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(Timings.class);
+
+    /**
+     * Only the first measurements are kept in memory, which is plenty for startup, and keeps long sessions bounded.
+     */
+    private static final int MAX_RECORDS = 1000;
+
+    /**
+     * The value of {@link System#nanoTime()} when the JVM started.
+     */
+    private static final long JVM_START =
+            System.nanoTime() - Duration.ofMillis(ManagementFactory.getRuntimeMXBean().getUptime()).toNanos();
+
+    private static final Queue<Record> RECORDS = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger RECORD_COUNT = new AtomicInteger();
+
+    private Timings() {
+    }
+
+    public static Timer start(Kind kind, String name) {
+        return new Timer(kind, name);
+    }
+
+    /**
+     * Measure the given work.
+     *
+     * @return the result of the work
+     */
+    public static <T, E extends Exception> T time(Kind kind, String name, Measured<T, E> work) throws E {
+        final Timer timer = start(kind, name);
+        try {
+            return work.call();
+        } finally {
+            timer.close();
+        }
+    }
+
+    /**
+     * Measure the given work without a result.
+     */
+    public static <E extends Exception> void time(Kind kind, String name, MeasuredRunnable<E> work) throws E {
+        final Timer timer = start(kind, name);
+        try {
+            work.run();
+        } finally {
+            timer.close();
+        }
+    }
+
+    /**
+     * Record a point in time, e.g., when the main window is shown.
+     */
+    public static void mark(String name) {
+        start(Kind.PHASE, name).close();
+    }
+
+    /**
+     * All measurements so far, ordered by their start time.
+     */
+    public static List<Record> getRecords() {
+        final List<Record> records = new ArrayList<>(RECORDS);
+        records.sort(Comparator.comparing(Record::getStart));
+        return records;
+    }
+
+    /**
+     * A human readable table of all measurements so far, with their start relative to the start of the JVM.
+     */
+    public static String report() {
+        final StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "Launcher timings (JVM uptime %d ms)%n%10s %10s  %-6s %s%n",
+                ManagementFactory.getRuntimeMXBean().getUptime(), "start ms", "took ms", "kind", "name"));
+        for (Record record : getRecords()) {
+            report.append(String.format(Locale.ROOT, "%10d %10d  %-6s %s%n",
+                    record.getStart().toMillis(), record.getDuration().toMillis(), record.getKind(), record.getName()));
+        }
+        if (RECORD_COUNT.get() > MAX_RECORDS) {
+            report.append(String.format(Locale.ROOT, "(%d more not recorded)%n", RECORD_COUNT.get() - MAX_RECORDS));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Print the {@link #report()} when the JVM exits.
+     */
+    public static void reportOnExit() {
+        Runtime.getRuntime().addShutdownHook(
+                new Thread(() -> System.out.print(report()), "Timings-report")); //NOPMD(SystemPrintln)
+    }
+
+    /**
+     * A running measurement. Closing it finishes the measurement.
+     */
+    public static final class Timer implements AutoCloseable {
+        private final Kind kind;
+        private final String name;
+        private final long start = System.nanoTime();
+        private final TimingEvent event = new TimingEvent();
+        private Duration duration;
+
+        private Timer(Kind kind, String name) {
+            this.kind = kind;
+            this.name = name;
+            event.begin();
+        }
+
+        @Override
+        public void close() {
+            duration = Duration.ofNanos(System.nanoTime() - start);
+            if (event.shouldCommit()) {
+                event.kind = kind.name();
+                event.name = name;
+                event.commit();
+            }
+            if (RECORD_COUNT.incrementAndGet() <= MAX_RECORDS) {
+                RECORDS.add(new Record(kind, name, Duration.ofNanos(start - JVM_START), duration));
+            }
+            logger.trace("{} '{}' took {} ms", kind, name, duration.toMillis());
+        }
+
+        /**
+         * The duration of the measurement if it is finished, or the time passed since it started otherwise.
+         */
+        public Duration getElapsed() {
+            return duration != null ? duration : Duration.ofNanos(System.nanoTime() - start);
+        }
+    }
+
+    @FunctionalInterface
+    public interface Measured<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    @FunctionalInterface
+    public interface MeasuredRunnable<E extends Exception> {
+        void run() throws E;
+    }
+
+    public static final class Record {
+        private final Kind kind;
+        private final String name;
+        private final Duration start;
+        private final Duration duration;
+
+        Record(Kind kind, String name, Duration start, Duration duration) {
+            this.kind = kind;
+            this.name = name;
+            this.start = start;
+            this.duration = duration;
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * The start of the measurement, relative to the start of the JVM.
+         */
+        public Duration getStart() {
+            return start;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ClassDataSharing")
+class ClassDataSharingTest {
+
+    @TempDir
+    Path libDirectory;
+
+    private Path classList;
+    private Path archive;
+
+    @BeforeEach
+    void setup() {
+        classList = libDirectory.resolve(ClassDataSharing.CLASS_LIST_FILE);
+        archive = libDirectory.resolve(ClassDataSharing.ARCHIVE_FILE);
+    }
+
+    @Test
+    @DisplayName("should not rebuild without class list")
+    void noClassList() {
+        assertFalse(ClassDataSharing.isStale(classList, archive, true, false));
+    }
+
+    @Test
+    @DisplayName("should rebuild a missing archive")
+    void missingArchive() throws IOException {
+        Files.createFile(classList);
+        assertTrue(ClassDataSharing.isStale(classList, archive, false, false));
+    }
+
+    @Test
+    @DisplayName("should rebuild an archive the JVM could not use")
+    void unusableArchive() throws IOException {
+        Files.createFile(classList);
+        Files.createFile(archive);
+        assertTrue(ClassDataSharing.isStale(classList, archive, true, false));
+    }
+
+    @Test
+    @DisplayName("should keep an archive the JVM uses")
+    void usedArchive() throws IOException {
+        Files.createFile(classList);
+        Files.createFile(archive);
+        assertFalse(ClassDataSharing.isStale(classList, archive, true, true));
+    }
+
+    @Test
+    @DisplayName("should keep an archive that was not requested")
+    void archiveNotRequested() throws IOException {
+        Files.createFile(classList);
+        Files.createFile(archive);
+        assertFalse(ClassDataSharing.isStale(classList, archive, false, false));
+    }
+}
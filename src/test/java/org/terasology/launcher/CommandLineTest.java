@@ -0,0 +1,133 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.launcher.game.GameManager;
+import org.terasology.launcher.model.Build;
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.model.Profile;
+import org.terasology.launcher.model.ReleaseMetadata;
+import org.terasology.launcher.settings.Settings;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CommandLine")
+class CommandLineTest {
+
+    private static final GameIdentifier OLD = new GameIdentifier("5.2.0", Build.STABLE, Profile.OMEGA);
+    private static final GameIdentifier NEW = new GameIdentifier("5.3.0", Build.STABLE, Profile.OMEGA);
+    private static final GameIdentifier NIGHTLY = new GameIdentifier("200", Build.NIGHTLY, Profile.OMEGA);
+
+    @Test
+    @DisplayName("should only take commands it knows")
+    void parsesCommands() {
+        assertTrue(CommandLine.isCommand(List.of("install", "omega:stable")));
+        assertFalse(CommandLine.isCommand(List.of("--mirror")));
+        assertFalse(CommandLine.isCommand(List.of()));
+
+        final CommandLine.Command command =
+                CommandLine.Command.parse(List.of("install", "--json", "--parallel=4", "omega:stable:5.3.0"));
+        assertTrue(command.has(CommandLine.JSON));
+        assertEquals(4, command.getInt(CommandLine.PARALLEL, 1));
+        assertEquals("OMEGA:STABLE:5.3.0", command.selectors.get(0).toString());
+
+        assertThrows(IllegalArgumentException.class, () -> CommandLine.Command.parse(List.of("install")));
+        assertThrows(IllegalArgumentException.class, () -> CommandLine.Command.parse(List.of("list", "--force")));
+        assertThrows(IllegalArgumentException.class, () -> CommandLine.Command.parse(List.of("launch", "omega")));
+        assertThrows(IllegalArgumentException.class, () -> CommandLine.Command.parse(List.of("prune", "--keep=x")));
+    }
+
+    @Test
+    @DisplayName("should select releases by profile, build, and version")
+    void selectsReleases() {
+        final CommandLine.Selector newest = CommandLine.Selector.parse("omega:stable");
+        assertTrue(newest.matches(OLD));
+        assertTrue(newest.matches(NEW));
+        assertFalse(newest.matches(NIGHTLY));
+
+        final CommandLine.Selector version = CommandLine.Selector.parse("OMEGA:STABLE:5.2.0");
+        assertTrue(version.matches(OLD));
+        assertFalse(version.matches(NEW));
+    }
+
+    @Test
+    @DisplayName("should prune all but the newest games of each profile and build, and the last played one")
+    void selectsGamesToPrune() {
+        final GameIdentifier oldest = new GameIdentifier("5.1.0", Build.STABLE, Profile.OMEGA);
+        final Map<GameIdentifier, Long> installed = Map.of(oldest, 1L, OLD, 2L, NEW, 3L, NIGHTLY, 1L);
+
+        assertEquals(Set.of(oldest, OLD), CommandLine.selectToPrune(installed, 1, null));
+        assertEquals(Set.of(OLD), CommandLine.selectToPrune(installed, 1, oldest));
+        assertEquals(Set.of(oldest, OLD, NEW), CommandLine.selectToPrune(installed, 0, NIGHTLY));
+    }
+
+    @Test
+    @DisplayName("should list the available releases as JSON")
+    void listsReleases(@TempDir Path tempDir) throws IOException {
+        final Path cache = Files.createDirectories(tempDir.resolve("cache"));
+        final Path games = Files.createDirectories(tempDir.resolve("games"));
+        final List<GameRelease> releases = List.of(release(OLD, 1), release(NEW, 2));
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final GameManager gameManager = new GameManager(cache, games, Runnable::run);
+        final CommandLine commandLine = new CommandLine(Settings.getDefault(), gameManager,
+                () -> releases, () -> null, new PrintStream(out, true, StandardCharsets.UTF_8));
+
+        assertEquals(CommandLine.OK, commandLine.execute(CommandLine.Command.parse(List.of("list", "--json"))));
+
+        final JsonArray entries = new Gson().fromJson(out.toString(StandardCharsets.UTF_8), JsonArray.class);
+        assertEquals(2, entries.size());
+        final JsonObject newest = entries.get(0).getAsJsonObject();
+        assertEquals("5.3.0", newest.get("version").getAsString());
+        assertEquals("OMEGA", newest.get("profile").getAsString());
+        assertFalse(newest.get("installed").getAsBoolean());
+    }
+
+    @Test
+    @DisplayName("should write nothing but the results to standard output")
+    void keepsStandardOutputForResults(@TempDir Path tempDir) {
+        final PrintStream stdout = System.out;
+        final String userHome = System.getProperty("user.home");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final int exitCode;
+        try {
+            System.setOut(new PrintStream(out, true, StandardCharsets.UTF_8));
+            System.setProperty("user.home", tempDir.toString());
+            exitCode = CommandLine.run(List.of("list", "--json", "--installed"));
+        } finally {
+            System.setOut(stdout);
+            System.setProperty("user.home", userHome);
+        }
+
+        assertEquals(CommandLine.OK, exitCode);
+        assertNotNull(new Gson().fromJson(out.toString(StandardCharsets.UTF_8), JsonArray.class));
+    }
+
+    private static GameRelease release(GameIdentifier id, long timestamp) throws IOException {
+        return new GameRelease(id, new URL("https://example.com/" + id.getDisplayVersion() + ".zip"),
+                new ReleaseMetadata("", new Date(timestamp)));
+    }
+}
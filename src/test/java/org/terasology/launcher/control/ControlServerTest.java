@@ -0,0 +1,171 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.control;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import javafx.application.Platform;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.launcher.game.GameManager;
+import org.terasology.launcher.game.GameService;
+import org.terasology.launcher.model.Build;
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.model.Profile;
+import org.terasology.launcher.model.ReleaseMetadata;
+import org.terasology.launcher.settings.Settings;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(ApplicationExtension.class)
+@DisplayName("ControlServer")
+class ControlServerTest {
+
+    private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final GameIdentifier GAME = new GameIdentifier("5.3.0", Build.STABLE, Profile.OMEGA);
+    private static final String GAME_BODY = "{\"profile\": \"OMEGA\", \"build\": \"STABLE\", \"version\": \"5.3.0\"}";
+
+    @TempDir
+    Path tempDir;
+
+    private final OkHttpClient client = new OkHttpClient();
+    private ControlServer server;
+    private String token;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Path zip = tempDir.resolve("Terasology.zip");
+        try (OutputStream out = Files.newOutputStream(zip); ZipOutputStream zipOut = new ZipOutputStream(out)) {
+            zipOut.putNextEntry(new ZipEntry("libs/Terasology.jar"));
+            zipOut.write(new byte[10]);
+            zipOut.closeEntry();
+        }
+        final List<GameRelease> releases = List.of(new GameRelease(GAME, zip.toUri().toURL(),
+                new ReleaseMetadata("- fixed things", new Date(1_700_000_000_000L))));
+        final GameManager gameManager = new GameManager(Files.createDirectories(tempDir.resolve("cache")),
+                Files.createDirectories(tempDir.resolve("games")), Platform::runLater);
+
+        server = new ControlServer(gameManager, new GameService(), Settings.getDefault(), () -> releases, tempDir, 0);
+        server.start();
+        token = Files.readString(server.getTokenFile());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    @Test
+    @DisplayName("should turn away requests without the token, and remove the token when closed")
+    void requiresToken() throws IOException {
+        try (Response response = client.newCall(new Request.Builder().url(url("releases")).build()).execute()) {
+            assertEquals(401, response.code());
+        }
+        try (Response response = client.newCall(request("releases").header("Authorization", "Bearer x").build())
+                .execute()) {
+            assertEquals(401, response.code());
+        }
+
+        server.close();
+        assertFalse(Files.exists(server.getTokenFile()));
+    }
+
+    @Test
+    @DisplayName("should list the releases, and install, list, and remove a game through jobs")
+    void installsAndRemoves() throws Exception {
+        final JsonObject release = get("releases").get(0).getAsJsonObject();
+        assertEquals("5.3.0", release.get("version").getAsString());
+        assertFalse(release.get("installed").getAsBoolean());
+
+        final JsonObject install = post("install", GAME_BODY, 202);
+        assertEquals("INSTALL", install.get("kind").getAsString());
+        awaitJob(install.get("id").getAsInt());
+
+        final JsonArray games = get("games");
+        assertEquals(1, games.size());
+        assertEquals("OMEGA", games.get(0).getAsJsonObject().get("profile").getAsString());
+        assertTrue(get("releases").get(0).getAsJsonObject().get("installed").getAsBoolean());
+        assertEquals(0, get("instances").size());
+
+        awaitJob(post("remove", GAME_BODY, 202).get("id").getAsInt());
+        assertEquals(0, get("games").size());
+        assertEquals(2, get("jobs").size());
+    }
+
+    @Test
+    @DisplayName("should reject invalid requests")
+    void rejectsInvalidRequests() throws IOException {
+        post("launch", GAME_BODY, 404);
+        post("install", "{\"profile\": \"OMEGA\", \"build\": \"NIGHTLY\"}", 404);
+        post("install", "{\"profile\": \"OMEGA\"}", 400);
+        post("install", "not json", 400);
+        post("reboot", GAME_BODY, 404);
+        try (Response response = client.newCall(request("jobs/42").build()).execute()) {
+            assertEquals(404, response.code());
+        }
+    }
+
+    private void awaitJob(int id) throws Exception {
+        for (int i = 0; i < 100; i++) {
+            try (Response response = client.newCall(request("jobs/" + id).build()).execute()) {
+                final JsonObject job = new Gson().fromJson(response.body().string(), JsonObject.class);
+                final String state = job.get("state").getAsString();
+                if ("SUCCEEDED".equals(state)) {
+                    return;
+                }
+                assertFalse("FAILED".equals(state), () -> job.get("error").getAsString());
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Job " + id + " did not finish");
+    }
+
+    private JsonArray get(String path) throws IOException {
+        try (Response response = client.newCall(request(path).build()).execute()) {
+            assertEquals(200, response.code());
+            return new Gson().fromJson(response.body().string(), JsonArray.class);
+        }
+    }
+
+    private JsonObject post(String path, String body, int status) throws IOException {
+        try (Response response = client.newCall(request(path).post(RequestBody.create(body, JSON)).build())
+                .execute()) {
+            assertEquals(status, response.code());
+            return new Gson().fromJson(response.body().string(), JsonObject.class);
+        }
+    }
+
+    private Request.Builder request(String path) {
+        return new Request.Builder().url(url(path)).header("Authorization", "Bearer " + token);
+    }
+
+    private String url(String path) {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort()
+                + ControlServer.API_PATH + path;
+    }
+}
@@ -0,0 +1,66 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("CrashSupervisor")
+class CrashSupervisorTest {
+
+    private static final Instant START = Instant.parse("2026-10-19T12:00:00Z");
+    private static final int EXIT_CODE_ERROR = 1;
+    private static final int EXIT_CODE_SIGTERM = 128 + 15;
+
+    @Test
+    @DisplayName("should back off exponentially up to the maximum delay")
+    void backsOff() {
+        final CrashSupervisor supervisor = new CrashSupervisor();
+
+        assertEquals(Optional.of(Duration.ofSeconds(2)), supervisor.crashed(START, EXIT_CODE_ERROR));
+        assertEquals(Optional.of(Duration.ofSeconds(4)), supervisor.crashed(START.plusSeconds(10), EXIT_CODE_ERROR));
+        assertEquals(Optional.of(Duration.ofSeconds(8)), supervisor.crashed(START.plusSeconds(20), EXIT_CODE_ERROR));
+        assertEquals(3, supervisor.getRestarts());
+
+        final CrashSupervisor capped = new CrashSupervisor(Duration.ofSeconds(40), CrashSupervisor.MAX_DELAY,
+                CrashSupervisor.CRASH_LOOP_WINDOW, CrashSupervisor.MAX_CRASHES);
+        capped.crashed(START, EXIT_CODE_ERROR);
+        assertEquals(Optional.of(CrashSupervisor.MAX_DELAY), capped.crashed(START.plusSeconds(1), EXIT_CODE_ERROR));
+    }
+
+    @Test
+    @DisplayName("should give up on a crash loop")
+    void stopsCrashLoop() {
+        final CrashSupervisor supervisor = new CrashSupervisor();
+        for (int i = 0; i < CrashSupervisor.MAX_CRASHES; i++) {
+            assertTrue(supervisor.crashed(START.plusSeconds(i), EXIT_CODE_ERROR).isPresent());
+        }
+
+        assertEquals(Optional.empty(), supervisor.crashed(START.plusSeconds(60), EXIT_CODE_ERROR));
+    }
+
+    @Test
+    @DisplayName("should start over once the game ran for longer than the window")
+    void forgetsOldCrashes() {
+        final CrashSupervisor supervisor = new CrashSupervisor();
+        supervisor.crashed(START, EXIT_CODE_ERROR);
+        supervisor.crashed(START.plusSeconds(10), EXIT_CODE_ERROR);
+
+        final Instant later = START.plus(CrashSupervisor.CRASH_LOOP_WINDOW).plusSeconds(60);
+        assertEquals(Optional.of(CrashSupervisor.INITIAL_DELAY), supervisor.crashed(later, EXIT_CODE_ERROR));
+    }
+
+    @Test
+    @DisplayName("should not restart games stopped on purpose")
+    void respectsStopSignals() {
+        assertEquals(Optional.empty(), new CrashSupervisor().crashed(START, EXIT_CODE_SIGTERM));
+    }
+}
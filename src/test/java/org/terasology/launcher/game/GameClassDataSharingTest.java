@@ -0,0 +1,153 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("GameClassDataSharing")
+class GameClassDataSharingTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path installation;
+    private Path gameJar;
+    private Path runtime;
+    private Path archive;
+
+    @BeforeEach
+    void setup() throws IOException {
+        installation = tempDir.resolve("game");
+        gameJar = installation.resolve("libs").resolve("Terasology.jar");
+        Files.createDirectories(gameJar.getParent());
+        Files.writeString(gameJar, "game");
+        Files.writeString(gameJar.resolveSibling("engine.jar"), "engine");
+
+        runtime = tempDir.resolve("jre").resolve("bin").resolve("java");
+        Files.createDirectories(runtime.getParent());
+        Files.createFile(runtime);
+        writeRelease("17.0.2");
+
+        archive = installation.resolve(GameClassDataSharing.DIRECTORY).resolve(GameClassDataSharing.ARCHIVE_FILE);
+    }
+
+    private void writeRelease(String version) throws IOException {
+        Files.writeString(tempDir.resolve("jre").resolve("release"), "JAVA_VERSION=\"" + version + "\"\n");
+    }
+
+    private GameClassDataSharing newSharing() {
+        return GameClassDataSharing.of(installation, GameClassDataSharing.keyFor(gameJar, runtime).orElseThrow(),
+                List.of()).orElseThrow();
+    }
+
+    /**
+     * The file the game is asked to write the archive to on exit.
+     */
+    private static Path getDumpTarget(List<String> javaParameters) {
+        assertEquals(1, javaParameters.size());
+        final String prefix = "-XX:ArchiveClassesAtExit=";
+        assertTrue(javaParameters.get(0).startsWith(prefix), javaParameters.get(0));
+        return Path.of(javaParameters.get(0).substring(prefix.length()));
+    }
+
+    /**
+     * Simulate a game run that writes the archive on exit.
+     */
+    private void createArchive() throws IOException {
+        final GameClassDataSharing sharing = newSharing();
+        final Path target = getDumpTarget(sharing.getJavaParameters());
+        assertNotEquals(archive, target);
+        Files.writeString(target, "archive");
+        sharing.archived(0);
+        assertFalse(Files.exists(target));
+    }
+
+    @Test
+    @DisplayName("should create the archive on the first start, and use it afterwards")
+    void createsAndUsesArchive() throws IOException {
+        createArchive();
+
+        assertEquals(List.of("-XX:SharedArchiveFile=" + archive), newSharing().getJavaParameters());
+    }
+
+    @Test
+    @DisplayName("should discard the archive if the game did not exit normally")
+    void discardsArchiveOnError() throws IOException {
+        final GameClassDataSharing sharing = newSharing();
+        final Path target = getDumpTarget(sharing.getJavaParameters());
+        Files.writeString(target, "partial");
+        sharing.archived(1);
+
+        assertFalse(Files.exists(target));
+        assertFalse(Files.exists(archive));
+        assertFalse(newSharing().isValid());
+    }
+
+    @Test
+    @DisplayName("should create the archive again if the installation changed")
+    void invalidatedByInstallation() throws IOException {
+        createArchive();
+        Files.setLastModifiedTime(gameJar, FileTime.from(Instant.parse("2020-01-01T00:00:00Z")));
+
+        final GameClassDataSharing sharing = newSharing();
+        assertFalse(sharing.isValid());
+        getDumpTarget(sharing.getJavaParameters());
+        sharing.archived(1);
+    }
+
+    @Test
+    @DisplayName("should let only one of several concurrent instances create the archive")
+    void createdByOneInstance() throws IOException {
+        final GameClassDataSharing first = newSharing();
+        final Path target = getDumpTarget(first.getJavaParameters());
+        final GameClassDataSharing second = newSharing();
+        assertEquals(List.of(), second.getJavaParameters());
+
+        Files.writeString(target, "archive");
+        first.archived(0);
+        second.archived(0);
+
+        assertTrue(newSharing().isValid());
+        assertEquals(List.of("-XX:SharedArchiveFile=" + archive), newSharing().getJavaParameters());
+    }
+
+    @Test
+    @DisplayName("should create the archive again if the runtime changed")
+    void invalidatedByRuntime() throws IOException {
+        createArchive();
+        assertTrue(newSharing().isValid());
+        writeRelease("17.0.3");
+
+        assertFalse(newSharing().isValid());
+    }
+
+    @Test
+    @DisplayName("should not be used with runtimes before Java 13")
+    void unsupportedRuntime() throws IOException {
+        writeRelease("11.0.14");
+
+        assertTrue(GameClassDataSharing.keyFor(gameJar, runtime).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should not be used if the java parameters configure class data sharing")
+    void configuredByUser() {
+        assertTrue(GameClassDataSharing.of(installation, "key", List.of("-Xshare:off")).isEmpty());
+    }
+}
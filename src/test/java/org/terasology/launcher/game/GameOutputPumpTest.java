@@ -0,0 +1,87 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("GameOutputPump")
+class GameOutputPumpTest {
+
+    private static ByteArrayInputStream output(String text) {
+        return new ByteArrayInputStream(text.getBytes(Charset.defaultCharset()));
+    }
+
+    @Test
+    @DisplayName("should pass on all lines and write the raw output to the log")
+    void passesLines() throws IOException, InterruptedException {
+        final String text = "one\r\ntwo\n\nthree";
+        final List<String> lines = new CopyOnWriteArrayList<>();
+        final ByteArrayOutputStream log = new ByteArrayOutputStream();
+
+        new GameOutputPump(line -> false, lines::add, OutputOverflow.DROP, log).pump(output(text));
+
+        assertEquals(List.of("one", "two", "", "three"), lines);
+        assertArrayEquals(text.getBytes(Charset.defaultCharset()), log.toByteArray());
+    }
+
+    @Test
+    @DisplayName("should stop testing lines once the game has started")
+    void stopsMatchingAfterStart() throws IOException, InterruptedException {
+        final List<String> tested = new ArrayList<>();
+
+        new GameOutputPump(line -> tested.add(line) && line.equals("started"), line -> { }, OutputOverflow.DROP, null)
+                .pump(output("loading\nstarted\nplaying\nstill playing\n"));
+
+        assertEquals(List.of("loading", "started"), tested);
+    }
+
+    @Test
+    @DisplayName("should leave lines out instead of waiting for a slow sink")
+    void dropsLinesOfSlowSink() throws IOException, InterruptedException {
+        final StringBuilder text = new StringBuilder();
+        final int count = GameOutputPump.CAPACITY * 4;
+        for (int i = 0; i < count; i++) {
+            text.append("line ").append(i).append('\n');
+        }
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> lines = new CopyOnWriteArrayList<>();
+        final GameOutputPump pump = new GameOutputPump(line -> true, line -> {
+            try {
+                // the sink is stuck until all output was read
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            lines.add(line);
+        }, OutputOverflow.SAMPLE, null);
+
+        final ByteArrayInputStream input = output(text.toString());
+        final Thread releaser = new Thread(() -> {
+            while (input.available() > 0) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        });
+        releaser.start();
+        pump.pump(input);
+
+        assertTrue(pump.getSkipped() > 0);
+        assertEquals(count, lines.size() + pump.getSkipped());
+        assertEquals("line 0", lines.get(0));
+    }
+}
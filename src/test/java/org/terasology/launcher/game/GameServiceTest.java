@@ -0,0 +1,67 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.terasology.launcher.settings.Settings;
+import org.testfx.framework.junit5.ApplicationExtension;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@ExtendWith(ApplicationExtension.class)
+@DisplayName("GameService")
+class GameServiceTest {
+
+    private static final Path SHARED = Path.of("Terasology");
+
+    @Test
+    @DisplayName("should give the first game the shared data directory")
+    void usesSharedDirectory() {
+        assertEquals(SHARED, GameService.getGameDataDirectory(List.of(), SHARED, 1));
+    }
+
+    @Test
+    @DisplayName("should give games a directory of their own while the shared one is in use")
+    void isolatesConcurrentGames() {
+        final GameInstance running = instance(1, SHARED);
+        final GameInstance other = instance(2, SHARED.resolve("instances").resolve("2"));
+
+        assertEquals(SHARED.resolve("instances").resolve("3"),
+                GameService.getGameDataDirectory(List.of(running, other), SHARED, 3));
+    }
+
+    @Test
+    @DisplayName("should reuse the shared data directory once its game has exited")
+    void reusesSharedDirectory() {
+        final GameInstance exited = instance(1, SHARED);
+        exited.getTask().cancel();
+
+        assertEquals(SHARED, GameService.getGameDataDirectory(List.of(exited), SHARED, 2));
+    }
+
+    @Test
+    @DisplayName("should keep dedicated servers apart from the clients")
+    void separatesServers() {
+        final Settings settings = Settings.getDefault();
+        settings.gameDataDirectory.set(SHARED);
+
+        assertEquals(SHARED, GameService.getSharedDataDirectory(settings, LaunchMode.CLIENT));
+        assertEquals(SHARED.resolve("server"), GameService.getSharedDataDirectory(settings, LaunchMode.SERVER));
+
+        settings.serverDataDirectory.set(Path.of("Server"));
+        assertEquals(Path.of("Server"), GameService.getSharedDataDirectory(settings, LaunchMode.SERVER));
+    }
+
+    private static GameInstance instance(int id, Path gameDataDirectory) {
+        final RunGameTask task = new RunGameTask(() -> {
+            throw new UnsupportedOperationException();
+        });
+        return new GameInstance(id, null, LaunchMode.CLIENT, gameDataDirectory, task, new ResourceMonitor());
+    }
+}
@@ -0,0 +1,91 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.semver4j.Semver;
+import org.terasology.launcher.jre.JreManager;
+import org.terasology.launcher.platform.UnsupportedPlatformException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@DisplayName("LaunchPlanCache")
+class LaunchPlanCacheTest {
+
+    @TempDir
+    Path installDirectory;
+
+    private CountingGameInstallation installation;
+    private LaunchPlanCache cache;
+    private final JreManager jreManager = JreManager.ofCurrentRuntime();
+
+    @BeforeEach
+    void setup() throws IOException {
+        Files.createDirectories(installDirectory.resolve("libs"));
+        installation = new CountingGameInstallation(installDirectory);
+        cache = new LaunchPlanCache();
+    }
+
+    @Test
+    @DisplayName("should probe an installation only once")
+    void probesOnce() throws IOException, UnsupportedPlatformException {
+        final LaunchPlan plan = cache.get(installation, jreManager);
+
+        assertSame(plan, cache.get(installation, jreManager));
+        assertEquals(1, installation.probes);
+        assertEquals(installDirectory.resolve("libs").resolve("Terasology.jar"), plan.getGameJar());
+        assertEquals(new Semver("5.3.0"), plan.getEngineVersion());
+    }
+
+    @Test
+    @DisplayName("should probe again if the installation was modified")
+    void probesModifiedInstallation() throws IOException, UnsupportedPlatformException {
+        final LaunchPlan plan = cache.get(installation, jreManager);
+        Files.setLastModifiedTime(installDirectory.resolve("libs"),
+                FileTime.from(Instant.parse("2020-01-01T00:00:00Z")));
+
+        assertNotSame(plan, cache.get(installation, jreManager));
+        assertEquals(2, installation.probes);
+    }
+
+    @Test
+    @DisplayName("should probe again after being invalidated")
+    void probesAfterInvalidation() throws IOException, UnsupportedPlatformException {
+        final LaunchPlan plan = cache.get(installation, jreManager);
+        cache.invalidate();
+
+        assertNotSame(plan, cache.get(installation, jreManager));
+        assertEquals(2, installation.probes);
+    }
+
+    private static class CountingGameInstallation extends GameInstallation {
+        int probes;
+
+        CountingGameInstallation(Path installDirectory) {
+            super(installDirectory);
+        }
+
+        @Override
+        Semver getEngineVersion() {
+            probes++;
+            return new Semver("5.3.0");
+        }
+
+        @Override
+        Path getGameJarPath() {
+            return getPath().resolve("libs").resolve("Terasology.jar");
+        }
+    }
+}
@@ -0,0 +1,84 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.launcher.jre.JvmProfile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LaunchTimer")
+class LaunchTimerTest {
+
+    private static final Instant START = Instant.parse("2026-10-19T12:00:00Z");
+
+    @Test
+    @DisplayName("should take the time of the milestones in the game output")
+    void recordsMilestones(@TempDir Path tempDir) {
+        final LaunchHistory history = new LaunchHistory(tempDir, tempDir.resolve("game"));
+        final LaunchTimer timer = new LaunchTimer(history, LaunchMode.CLIENT, JvmProfile.LOW_LATENCY, 17, true);
+
+        timer.spawning();
+        timer.spawned();
+        assertFalse(timer.output("INFO  o.t.engine.core.TerasologyEngine - Initializing Terasology..."));
+        assertTrue(timer.output("INFO  o.t.engine.core.TerasologyEngine - Initialization completed"));
+        assertTrue(timer.output("more output"));
+
+        final LaunchTimings timings = timer.getLast();
+        for (LaunchMilestone milestone : LaunchMilestone.values()) {
+            assertTrue(timings.get(milestone).isPresent(), milestone::name);
+        }
+        assertEquals(List.of(timings), history.list());
+        assertFalse(Files.exists(tempDir.resolve("game")));
+        assertEquals(List.of(timings), new LaunchHistory(tempDir, tempDir.resolve("game")).list());
+    }
+
+    @Test
+    @DisplayName("should keep launches that never said they were ready")
+    void recordsExitBeforeReady(@TempDir Path tempDir) {
+        final LaunchTimer timer = new LaunchTimer(new LaunchHistory(tempDir, tempDir.resolve("game")),
+                LaunchMode.SERVER, JvmProfile.SERVER, 17, false);
+
+        timer.spawning();
+        timer.spawned();
+        timer.output("Exception in thread \"main\"");
+        timer.exited();
+
+        assertTrue(timer.getLast().get(LaunchMilestone.FIRST_OUTPUT).isPresent());
+        assertTrue(timer.getLast().getTimeToReady().isEmpty());
+    }
+
+    @Test
+    @DisplayName("should compare only launches started the same way")
+    void comparesLikeLaunches(@TempDir Path tempDir) throws IOException {
+        final LaunchHistory history = new LaunchHistory(tempDir, tempDir.resolve("game"));
+        history.add(timings(JvmProfile.MANUAL, false, 9000));
+        history.add(timings(JvmProfile.MANUAL, true, 4000));
+        history.add(timings(JvmProfile.MANUAL, true, 6000));
+        history.add(timings(JvmProfile.MANUAL, true, 8000));
+        history.add(timings(JvmProfile.MANUAL, true, 10000));
+
+        assertEquals(OptionalDouble.of(7000), history.getMedianTimeToReady(timings(JvmProfile.MANUAL, true, 0)));
+        assertEquals(OptionalDouble.of(9000), history.getMedianTimeToReady(timings(JvmProfile.MANUAL, false, 0)));
+        assertEquals(OptionalDouble.empty(), history.getMedianTimeToReady(timings(JvmProfile.THROUGHPUT, true, 0)));
+    }
+
+    private static LaunchTimings timings(JvmProfile profile, boolean sharedArchive, long ready) {
+        return new LaunchTimings(START, LaunchMode.CLIENT, profile, 17, sharedArchive,
+                Map.of(LaunchMilestone.READY, Duration.ofMillis(ready)));
+    }
+}
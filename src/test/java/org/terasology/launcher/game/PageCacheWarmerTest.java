@@ -0,0 +1,101 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DisplayName("PageCacheWarmer")
+class PageCacheWarmerTest {
+
+    @Test
+    @DisplayName("should read the libraries before the modules, and skip other files")
+    void findsJars(@TempDir Path tempDir) throws IOException {
+        final Path module = jar(tempDir.resolve("modules/Core.jar"), 10);
+        final Path engine = jar(tempDir.resolve("libs/engine.jar"), 10);
+        final Path library = jar(tempDir.resolve("libs/gson.jar"), 10);
+        jar(tempDir.resolve("game.cds"), 10);
+
+        assertEquals(List.of(engine, library, module), PageCacheWarmer.findJars(tempDir));
+    }
+
+    @Test
+    @DisplayName("should stop reading before the budget is exceeded")
+    void keepsToBudget(@TempDir Path tempDir) throws IOException {
+        jar(tempDir.resolve("libs/a.jar"), 3 * PageCacheWarmer.CHUNK_SIZE / 2);
+        jar(tempDir.resolve("libs/b.jar"), 1000);
+        jar(tempDir.resolve("modules/c.jar"), 1000);
+
+        assertEquals(3 * PageCacheWarmer.CHUNK_SIZE / 2 + 2000, PageCacheWarmer.warmUp(tempDir, Long.MAX_VALUE));
+        assertEquals(3 * PageCacheWarmer.CHUNK_SIZE / 2 + 1000,
+                PageCacheWarmer.warmUp(tempDir, 3 * PageCacheWarmer.CHUNK_SIZE / 2 + 1500));
+        assertEquals(0, PageCacheWarmer.warmUp(tempDir, 1000));
+    }
+
+    @Test
+    @DisplayName("should not start warming up once cancelled")
+    void cancels(@TempDir Path tempDir) throws IOException {
+        jar(tempDir.resolve("libs/a.jar"), 1000);
+        final PageCacheWarmer warmer = new PageCacheWarmer();
+
+        warmer.warmUp(tempDir);
+        warmer.cancel();
+        warmer.cancel();
+
+        Files.delete(tempDir.resolve("libs/a.jar"));
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    @DisplayName("should wait for warming up to stop when cancelled")
+    void waitsForCancel(@TempDir Path tempDir) throws IOException, InterruptedException {
+        final Path jar = jar(tempDir.resolve("libs/a.jar"), 8 * PageCacheWarmer.CHUNK_SIZE);
+        final PageCacheWarmer warmer = new PageCacheWarmer(Duration.ZERO);
+
+        for (int i = 0; i < 20; i++) {
+            warmer.warmUp(tempDir);
+            if (i % 2 == 0) {
+                // give it a chance to open the jar
+                Thread.sleep(1);
+            }
+            warmer.cancel();
+            assertFalse(isOpen(jar), "still open after attempt " + i);
+        }
+    }
+
+    /**
+     * Whether this process has the given file open, from the file descriptors listed by Linux.
+     */
+    private static boolean isOpen(Path file) throws IOException {
+        try (Stream<Path> descriptors = Files.list(Paths.get("/proc/self/fd"))) {
+            return descriptors.anyMatch(descriptor -> {
+                try {
+                    return Files.readSymbolicLink(descriptor).equals(file);
+                } catch (IOException e) {
+                    // closed meanwhile, e.g., the descriptor of the listing itself
+                    return false;
+                }
+            });
+        }
+    }
+
+    private static Path jar(Path file, int size) throws IOException {
+        Files.createDirectories(file.getParent());
+        return Files.write(file, new byte[size]);
+    }
+}
@@ -0,0 +1,40 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ReleasePrefetcher")
+class ReleasePrefetcherTest {
+
+    @Test
+    @DisplayName("should remove partial downloads that have not been resumed for a while")
+    void removesStaleParts(@TempDir Path tempDir) throws IOException {
+        final Path stale = Files.write(tempDir.resolve("old.zip.part"), new byte[10]);
+        Files.setLastModifiedTime(stale,
+                FileTime.from(Instant.now().minus(ReleasePrefetcher.STALE_PART_AGE).minus(Duration.ofHours(1))));
+        final Path recent = Files.write(tempDir.resolve("new.zip.part"), new byte[10]);
+        final Path complete = Files.write(tempDir.resolve("old.zip"), new byte[10]);
+        Files.setLastModifiedTime(complete, Files.getLastModifiedTime(stale));
+
+        new ReleasePrefetcher(tempDir, (release, target, listener, maxBytesPerSecond) -> {
+        }).removeStaleParts();
+
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(recent));
+        assertTrue(Files.exists(complete));
+    }
+}
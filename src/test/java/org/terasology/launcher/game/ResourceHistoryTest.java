@@ -0,0 +1,70 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.game;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.terasology.launcher.game.ResourceHistory.Metric;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("ResourceHistory")
+class ResourceHistoryTest {
+
+    private static void add(ResourceHistory history, long time, long cpu) {
+        final ResourceHistory.Sample sample = new ResourceHistory.Sample();
+        sample.set(Metric.TIME, time);
+        sample.set(Metric.CPU_TIME, cpu);
+        history.add(sample);
+    }
+
+    @Test
+    @DisplayName("should keep only the most recent samples")
+    void dropsOldestSamples() {
+        final ResourceHistory history = new ResourceHistory(3);
+        for (long time = 1; time <= 5; time++) {
+            add(history, time, 0);
+        }
+
+        assertEquals(3, history.size());
+        assertArrayEquals(new long[]{3, 4, 5}, history.toArray(Metric.TIME));
+        final long[][] values = history.toArrays(Metric.TIME, Metric.CPU_TIME);
+        assertArrayEquals(new long[]{3, 4, 5}, values[0]);
+        assertArrayEquals(new long[]{0, 0, 0}, values[1]);
+        assertEquals(5, history.latest(Metric.TIME));
+        assertEquals(ResourceHistory.UNKNOWN, history.latest(Metric.RSS));
+    }
+
+    @Test
+    @DisplayName("should compute the share of time used")
+    void computesRates() {
+        final ResourceHistory history = new ResourceHistory(10);
+        assertTrue(Double.isNaN(history.rate(Metric.CPU_TIME, 5)));
+
+        // half a core for two seconds, then a full core for one second
+        add(history, 1000, 0);
+        add(history, 3000, 1_000_000_000L);
+        add(history, 4000, 2_000_000_000L);
+
+        assertEquals(1.0, history.rate(Metric.CPU_TIME, 1), 0.001);
+        assertEquals(2.0 / 3, history.rate(Metric.CPU_TIME, 5), 0.001);
+        assertTrue(Double.isNaN(history.rate(Metric.GC_TIME, 5)));
+    }
+
+    @Test
+    @DisplayName("should read memory and threads of a Linux process")
+    void parsesProcStatus() {
+        final ResourceHistory.Sample sample = new ResourceHistory.Sample();
+
+        ProcessSampler.parseStatus(List.of("Name:\tjava", "VmRSS:\t  2048 kB", "Threads:\t42"), sample);
+
+        assertEquals(2048 * 1024, sample.get(Metric.RSS));
+        assertEquals(42, sample.get(Metric.THREADS));
+        assertEquals(ResourceHistory.UNKNOWN, sample.get(Metric.HEAP_USED));
+    }
+}
@@ -19,7 +19,7 @@ class StubGameInstallation extends GameInstallation {
 
     @Override
     Semver getEngineVersion() {
-        return new Semver("0.0.1");
+        return new Semver("5.3.0");
     }
 
     @Override
@@ -5,10 +5,13 @@ package org.terasology.launcher.game;
 import org.semver4j.Semver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.slf4j.event.Level;
+import org.terasology.launcher.jre.JreManager;
+import org.terasology.launcher.jre.TestRuntimes;
 import org.terasology.launcher.platform.UnsupportedPlatformException;
 import org.terasology.launcher.util.JavaHeapSize;
 
@@ -21,11 +24,13 @@ import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.terasology.launcher.Matchers.hasItemsFrom;
 
 public class TestGameStarter {
@@ -67,13 +72,12 @@ public class TestGameStarter {
     }
 
     @Test
-    public void testJre() throws IOException, UnsupportedPlatformException {
+    public void testJre() {
         Semver engineVersion = new Semver("5.0.0");
-        GameStarter task = newStarter();
-        // This is the sort of test where the code under test and the expectation are just copies
-        // of the same source. But since there's a plan to separate the launcher runtime from the
-        // game runtime, the runtime location seemed like a good thing to specify in its own test.
-        assertTrue(task.getRuntimePath(engineVersion).startsWith(Path.of(System.getProperty("java.home"))));
+        // Without other runtimes known, the game runs on the launcher's runtime. Runtime selection is specified in
+        // JreManagerTest.
+        assertTrue(LaunchPlan.getRuntimePath(JreManager.ofCurrentRuntime(), engineVersion)
+                .startsWith(Path.of(System.getProperty("java.home"))));
     }
 
     static Stream<Arguments> provideJarPaths() {
@@ -101,16 +105,45 @@ public class TestGameStarter {
     }
 
     @Test
-    public void testSupportedJava11() throws IOException, UnsupportedPlatformException {
+    public void testBuildServerProcess() {
+        // on macOS, where a client would need the first thread and no splash screen
+        LaunchPlan plan = new LaunchPlan(gamePath, new Semver("5.3.0"), gamePath.resolve("libs/Terasology.jar"),
+                Path.of("java"), 11, true, null, null, null);
+        GameStarter starter = new GameStarter(plan, gameDataPath, JavaHeapSize.NOT_USED, JavaHeapSize.NOT_USED,
+                List.of(), javaParams, List.of("--server-port=25778"), LOG_LEVEL, LaunchMode.SERVER);
+        List<String> command = starter.processBuilder.command();
+
+        assertThat(command, hasItemsFrom(List.of("-Djava.awt.headless=true", "--headless", "--no-crash-report",
+                "--server-port=25778")));
+        assertThat(command, not(hasItem("-XstartOnFirstThread")));
+        assertThat(command, not(hasItem("--no-splash")));
+    }
+
+    @Test
+    public void testSupportedJava11() {
         Semver engineVersion = new Semver("5.3.0");
-        GameStarter task = newStarter();
-        assertDoesNotThrow(() -> task.getRuntimePath(engineVersion));
+        assertDoesNotThrow(() -> LaunchPlan.getRuntimePath(JreManager.ofCurrentRuntime(), engineVersion));
     }
 
     @Test
-    public void testUnsupportedJava17() throws IOException, UnsupportedPlatformException {
+    public void testSupportedJava17() {
+        assumeTrue(Runtime.version().feature() >= 17);
         Semver engineVersion = new Semver("6.0.0");
-        GameStarter task = newStarter();
-        assertThrows(GameVersionNotSupportedException.class, () -> task.getRuntimePath(engineVersion));
+        assertDoesNotThrow(() -> LaunchPlan.getRuntimePath(JreManager.ofCurrentRuntime(), engineVersion));
+    }
+
+    @Test
+    public void testUnsupportedJava17(@TempDir Path tempDir) throws IOException {
+        JreManager java11Only = TestRuntimes.knowingOnly(tempDir.resolve("java-11"), "11.0.14");
+        assertDoesNotThrow(() -> LaunchPlan.getRuntimePath(java11Only, new Semver("5.3.0")));
+        assertThrows(GameVersionNotSupportedException.class,
+                () -> LaunchPlan.getRuntimePath(java11Only, new Semver("6.0.0")));
+    }
+
+    @Test
+    public void testUnsupportedJava7() {
+        Semver engineVersion = new Semver("0.53.0");
+        assertThrows(GameVersionNotSupportedException.class,
+                () -> LaunchPlan.getRuntimePath(JreManager.ofCurrentRuntime(), engineVersion));
     }
 }
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Timeout;
 import org.junit.jupiter.api.condition.DisabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.spf4j.log.Level;
 import org.spf4j.test.log.LogAssert;
 import org.spf4j.test.log.TestLoggers;
@@ -23,6 +24,9 @@ import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.util.WaitForAsyncUtils;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
@@ -32,6 +36,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -298,6 +303,51 @@ public class TestRunGameTask {
         assertIterableEquals(expectedHistory, actualHistory, renderColumns(actualHistory, expectedHistory));
     }
 
+    @Test
+    public void testRestartAfterCrash(@TempDir Path tempDir) throws IOException {
+        final AtomicInteger starts = new AtomicInteger();
+        final Callable<Process> crashingStarter = () -> {
+            final String output = "run " + starts.incrementAndGet();
+            return new MockProcesses.HappyGameProcess(output) {
+                @Override
+                public int exitValue() {
+                    return EXIT_CODE_ERROR;
+                }
+            };
+        };
+        final var supervisor = new CrashSupervisor(Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1), 2);
+        final var gameTask = new NonTimingGameTask(crashingStarter, tempDir.resolve("game-output.log"), supervisor);
+
+        executor.submit(gameTask);
+
+        var thrown = assertThrows(ExecutionException.class, gameTask::get);
+        assertThat(thrown.getCause(), instanceOf(RunGameTask.GameExitError.class));
+        assertEquals(3, starts.get());
+        assertEquals(2, supervisor.getRestarts());
+
+        final List<Path> reports = CrashReports.list(tempDir);
+        assertEquals(3, reports.size());
+        assertThat(Files.readString(reports.get(2)), allOf(containsString("not restarting"), containsString("run 3")));
+    }
+
+    @Test
+    public void testFastCleanExitIsNotRestarted(@TempDir Path tempDir) throws IOException {
+        final AtomicInteger starts = new AtomicInteger();
+        final Callable<Process> quittingStarter = () ->
+                new MockProcesses.HappyGameProcess("run " + starts.incrementAndGet());
+        final var supervisor = new CrashSupervisor(Duration.ZERO, Duration.ZERO, Duration.ofMinutes(1), 2);
+        final var gameTask = new RunGameTask(quittingStarter, null, OutputOverflow.DROP,
+                tempDir.resolve("game-output.log"), supervisor, null);
+
+        executor.submit(gameTask);
+
+        var thrown = assertThrows(ExecutionException.class, gameTask::get);
+        assertThat(thrown.getCause(), instanceOf(RunGameTask.GameExitTooSoon.class));
+        assertEquals(1, starts.get());
+        assertEquals(0, supervisor.getRestarts());
+        assertThat(CrashReports.list(tempDir), empty());
+    }
+
     public static <T> Supplier<String> renderColumns(Iterable<T> actualIterable, Iterable<T> expectedIterable) {
         return () -> {
             var outputs = new StringBuilder(256);
@@ -363,6 +413,10 @@ public class TestRunGameTask {
             super(starter);
         }
 
+        NonTimingGameTask(final Callable<Process> starter, final Path outputLog, final CrashSupervisor supervisor) {
+            super(starter, null, OutputOverflow.DROP, outputLog, supervisor, null);
+        }
+
         @Override
         protected void startTimer() {
             // no timers here.
@@ -0,0 +1,155 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.jre;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.semver4j.Semver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JreManager")
+class JreManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static Path createRuntime(Path home, String version, boolean defaultArchive) throws IOException {
+        return TestRuntimes.create(home, version, defaultArchive);
+    }
+
+    private static Jre read(Path home) throws IOException {
+        return Jre.read(home, false).orElseThrow();
+    }
+
+    private List<Jre> found(JreManager manager) {
+        return manager.discover().stream()
+                .filter(jre -> jre.getHome().startsWith(tempDir))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("should find runtimes in the search directories")
+    void discoversRuntimes() throws IOException {
+        final Path jvms = tempDir.resolve("jvm");
+        createRuntime(jvms.resolve("java-11"), "11.0.14", false);
+        createRuntime(jvms.resolve("jdk-17.jdk").resolve("Contents").resolve("Home"), "17.0.2", true);
+        Files.createDirectories(jvms.resolve("not-a-runtime"));
+
+        final List<Jre> runtimes = found(new JreManager(List.of(jvms), tempDir.resolve("runtimes"), null));
+
+        assertEquals(List.of(new Semver("11.0.14"), new Semver("17.0.2")),
+                runtimes.stream().map(Jre::getVersion).sorted().collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("should prefer the runtime closest to the required version, then the most capable one")
+    void selectsBestRuntime() throws IOException {
+        final Jre java11 = read(createRuntime(tempDir.resolve("11"), "11.0.14", false));
+        final Jre java17 = read(createRuntime(tempDir.resolve("17"), "17.0.2", true));
+        final Jre java17Update = read(createRuntime(tempDir.resolve("17u"), "17.0.9", true));
+        final Jre java21 = read(createRuntime(tempDir.resolve("21"), "21.0.1", true));
+        final List<Jre> runtimes = List.of(java11, java17, java17Update, java21);
+
+        assertEquals(Optional.of(java11), JreManager.select(runtimes, new Semver("11.0.0")));
+        assertEquals(Optional.of(java17Update), JreManager.select(runtimes, new Semver("17.0.0")));
+        assertEquals(Optional.of(java21), JreManager.select(runtimes, new Semver("21.0.0")));
+        assertEquals(Optional.empty(), JreManager.select(runtimes, new Semver("22.0.0")));
+        assertEquals(Optional.of(java11), JreManager.select(List.of(java11), new Semver("11.0.0")));
+    }
+
+    @Test
+    @DisplayName("should not prefer a much newer runtime for its features")
+    void selectsClosestOverNewest() throws IOException {
+        final Jre java11 = read(createRuntime(tempDir.resolve("11"), "11.0.14", false));
+        final Jre java25 = read(createRuntime(tempDir.resolve("25"), "25.0.1", true));
+
+        assertEquals(Optional.of(java11), JreManager.select(List.of(java25, java11), new Semver("11.0.0")));
+        assertEquals(Optional.of(java25), JreManager.select(List.of(java25), new Semver("11.0.0")));
+        assertEquals(Optional.of(java25), JreManager.select(List.of(java11, java25), new Semver("17.0.0")));
+    }
+
+    @Test
+    @DisplayName("should understand the old version scheme")
+    void readsJava8() throws IOException {
+        final Jre java8 = read(createRuntime(tempDir.resolve("8"), "1.8.0_292", false));
+
+        assertEquals(8, java8.getVersion().getMajor());
+        assertFalse(java8.supportsDynamicArchive());
+        assertFalse(java8.hasModernGc());
+    }
+
+    @Test
+    @DisplayName("should cache runtimes until their release file changes")
+    void cachesRuntimes() throws IOException {
+        final Path jvms = tempDir.resolve("jvm");
+        final Path home = createRuntime(jvms.resolve("jdk-17"), "17.0.2", true);
+        final Path cacheFile = tempDir.resolve(JreManager.CACHE_FILE);
+        found(new JreManager(List.of(jvms), null, cacheFile));
+        assertTrue(Files.isRegularFile(cacheFile));
+
+        // an unchanged release file is not read again
+        final FileTime modified = Files.getLastModifiedTime(home.resolve(Jre.RELEASE_FILE));
+        Files.writeString(home.resolve(Jre.RELEASE_FILE), "JAVA_VERSION=\"17.0.3\"\n");
+        Files.setLastModifiedTime(home.resolve(Jre.RELEASE_FILE), modified);
+        assertEquals(new Semver("17.0.2"), found(new JreManager(List.of(jvms), null, cacheFile)).get(0).getVersion());
+
+        Files.setLastModifiedTime(home.resolve(Jre.RELEASE_FILE), FileTime.from(Instant.parse("2020-01-01T00:00:00Z")));
+        assertEquals(new Semver("17.0.3"), found(new JreManager(List.of(jvms), null, cacheFile)).get(0).getVersion());
+    }
+
+    @Test
+    @DisplayName("should provision a runtime from a zip archive, and tell the listeners")
+    void provisionsRuntime() throws IOException {
+        final Path archive = tempDir.resolve("jre-17.0.2.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            zip.putNextEntry(new ZipEntry("jdk-17.0.2-jre/release"));
+            zip.write("JAVA_VERSION=\"17.0.2\"\n".getBytes(StandardCharsets.UTF_8));
+            zip.putNextEntry(new ZipEntry("jdk-17.0.2-jre/bin/java"));
+            zip.write("#!/bin/sh\n".getBytes(StandardCharsets.UTF_8));
+        }
+        final JreManager manager = new JreManager(List.of(), tempDir.resolve("runtimes"), null);
+        final AtomicInteger notifications = new AtomicInteger();
+        manager.addListener(notifications::incrementAndGet);
+
+        final Jre jre = manager.provision(archive);
+
+        assertEquals(1, notifications.get());
+        assertTrue(jre.isManaged());
+        assertEquals(tempDir.resolve("runtimes").resolve("jre-17.0.2").resolve("jdk-17.0.2-jre"), jre.getHome());
+        assertTrue(Files.isExecutable(jre.getJavaExecutable()));
+        assertTrue(manager.getRuntimes().stream().anyMatch(found -> found.getHome().equals(jre.getHome())));
+    }
+
+    @Test
+    @DisplayName("should reject archives without a runtime")
+    void rejectsArchiveWithoutRuntime() throws IOException {
+        final Path archive = tempDir.resolve("empty.zip");
+        try (OutputStream out = Files.newOutputStream(archive); ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("readme.txt"));
+        }
+        final JreManager manager = new JreManager(List.of(), tempDir.resolve("runtimes"), null);
+
+        assertThrows(IOException.class, () -> manager.provision(archive));
+        assertFalse(Files.exists(tempDir.resolve("runtimes").resolve("empty")));
+    }
+}
@@ -0,0 +1,86 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.jre;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("JvmTuning")
+class JvmTuningTest {
+
+    private static final long GB = 1024L * 1024L * 1024L;
+
+    private static final JvmTuning.Host DESKTOP = new JvmTuning.Host(16 * GB, 8, true);
+    private static final JvmTuning.Host LAPTOP = new JvmTuning.Host(4 * GB, 4, false);
+
+    @Test
+    @DisplayName("should not add anything for the manual profile")
+    void manualAddsNothing() {
+        assertEquals(List.of(), JvmTuning.getOptions(JvmProfile.MANUAL, DESKTOP, 17, List.of()));
+    }
+
+    @Test
+    @DisplayName("should use ZGC for low latency where available, generational where that is not the default")
+    void lowLatency() {
+        assertEquals(List.of("-Xms4096m", "-Xmx4096m", "-XX:+UseZGC", "-XX:+UseTransparentHugePages"),
+                JvmTuning.getOptions(JvmProfile.LOW_LATENCY, DESKTOP, 17, List.of()));
+        assertEquals(List.of("-Xms1024m", "-Xmx1024m", "-XX:+UseG1GC", "-XX:MaxGCPauseMillis=10",
+                        "-XX:+UseStringDeduplication"),
+                JvmTuning.getOptions(JvmProfile.LOW_LATENCY, LAPTOP, 11, List.of()));
+        assertTrue(JvmTuning.getOptions(JvmProfile.LOW_LATENCY, DESKTOP, 21, List.of())
+                .containsAll(List.of("-XX:+ZGenerational", "-XX:+UseStringDeduplication")));
+        assertEquals(List.of("-Xms4096m", "-Xmx4096m", "-XX:+UseZGC", "-XX:+UseStringDeduplication",
+                        "-XX:+UseTransparentHugePages"),
+                JvmTuning.getOptions(JvmProfile.LOW_LATENCY, DESKTOP, 25, List.of()));
+    }
+
+    @Test
+    @DisplayName("should limit heap and threads for low memory")
+    void lowMemory() {
+        assertEquals(List.of("-Xms256m", "-Xmx768m", "-XX:+UseG1GC", "-XX:+UseStringDeduplication",
+                        "-XX:ActiveProcessorCount=2"),
+                JvmTuning.getOptions(JvmProfile.LOW_MEMORY, LAPTOP, 11, List.of()));
+    }
+
+    @Test
+    @DisplayName("should use a large heap and all cores for throughput")
+    void throughput() {
+        assertEquals(List.of("-Xms4096m", "-Xmx8192m", "-XX:+UseG1GC", "-XX:+ParallelRefProcEnabled",
+                        "-XX:ActiveProcessorCount=8", "-XX:+UseTransparentHugePages"),
+                JvmTuning.getOptions(JvmProfile.THROUGHPUT, DESKTOP, 17, List.of()));
+    }
+
+    @Test
+    @DisplayName("should use a large fixed heap for servers, and exit when it runs out")
+    void server() {
+        assertEquals(List.of("-Xms8192m", "-Xmx8192m", "-XX:+AlwaysPreTouch", "-XX:+UseG1GC",
+                        "-XX:MaxGCPauseMillis=50", "-XX:+ParallelRefProcEnabled", "-XX:+UseStringDeduplication",
+                        "-XX:+ExitOnOutOfMemoryError", "-XX:+UseTransparentHugePages"),
+                JvmTuning.getOptions(JvmProfile.SERVER, DESKTOP, 17, List.of()));
+    }
+
+    @Test
+    @DisplayName("should leave heap and garbage collector to explicit options")
+    void respectsExplicitOptions() {
+        final List<String> options = JvmTuning.getOptions(JvmProfile.LOW_LATENCY, DESKTOP, 17,
+                List.of("-Xmx2g", "-XX:+UseShenandoahGC"));
+
+        assertFalse(options.stream().anyMatch(option -> option.startsWith("-Xm")));
+        assertFalse(options.contains("-XX:+UseZGC"));
+        assertTrue(options.contains("-XX:+UseTransparentHugePages"));
+    }
+
+    @Test
+    @DisplayName("should round heap sizes to multiples of 256 MB")
+    void roundsSizes() {
+        assertEquals("1280m", JvmTuning.toSize(1500L * 1024 * 1024));
+        assertEquals("256m", JvmTuning.toSize(100L * 1024 * 1024));
+    }
+}
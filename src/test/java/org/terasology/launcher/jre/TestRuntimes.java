@@ -0,0 +1,37 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.jre;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Fake Java runtimes, for tests which must not depend on the runtimes of the computer they run on.
+ */
+public final class TestRuntimes {
+
+    private TestRuntimes() {
+    }
+
+    /**
+     * A manager which only knows a fake runtime of the given Java version, created in the given directory.
+     */
+    public static JreManager knowingOnly(Path home, String javaVersion) throws IOException {
+        return JreManager.of(List.of(Jre.read(create(home, javaVersion, false), false).orElseThrow()));
+    }
+
+    static Path create(Path home, String javaVersion, boolean defaultArchive) throws IOException {
+        Files.createDirectories(home.resolve("bin"));
+        Files.createFile(home.resolve("bin").resolve("java"));
+        Files.writeString(home.resolve(Jre.RELEASE_FILE),
+                "IMPLEMENTOR=\"Test\"\nJAVA_VERSION=\"" + javaVersion + "\"\n");
+        if (defaultArchive) {
+            Files.createDirectories(home.resolve("lib").resolve("server"));
+            Files.createFile(home.resolve("lib").resolve("server").resolve("classes.jsa"));
+        }
+        return home;
+    }
+}
@@ -0,0 +1,83 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.log;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LogSessions")
+class LogSessionsTest {
+
+    private static final Instant START = Instant.parse("2026-10-19T12:00:00Z");
+
+    @Test
+    @DisplayName("should list the sessions newest first, with distinct names")
+    void listsSessions(@TempDir Path tempDir) throws IOException {
+        final LogSessions sessions = new LogSessions(tempDir);
+        final LogSessions.Session first = sessions.begin(START);
+        final LogSessions.Session second = sessions.begin(START);
+
+        assertNotEquals(first.getId(), second.getId());
+        assertEquals(List.of(second, first), new LogSessions(tempDir).list());
+    }
+
+    @Test
+    @DisplayName("should read the last lines of a session across its files")
+    void readsTail(@TempDir Path tempDir) throws IOException {
+        final LogSessions sessions = new LogSessions(tempDir);
+        final LogSessions.Session session = sessions.begin(START);
+        final Path rolled = write(sessions, session, ".2026-10-19.0.log", 1, "a", "b");
+        LogSessions.compress(rolled);
+        write(sessions, session, ".log", 2, "c", "d");
+
+        assertEquals(List.of("b", "c", "d"), sessions.readTail(session, 3));
+    }
+
+    @Test
+    @DisplayName("should compress earlier sessions and delete the oldest beyond the budget")
+    void maintainsSessions(@TempDir Path tempDir) throws IOException {
+        final LogSessions sessions = new LogSessions(tempDir);
+        final LogSessions.Session oldest = sessions.begin(START);
+        write(sessions, oldest, ".log", 1, "oldest");
+        final LogSessions.Session older = sessions.begin(START.plusSeconds(1));
+        write(sessions, older, ".log", 2, "older");
+        final LogSessions.Session current = sessions.begin(START.plusSeconds(2));
+        write(sessions, current, ".log", 3, "current");
+
+        sessions.maintain(current, Long.MAX_VALUE, 2);
+
+        assertEquals(List.of(current, older), sessions.list());
+        assertTrue(sessions.getFiles(oldest).isEmpty());
+        assertEquals(List.of(tempDir.resolve(older.getId() + ".log.gz")), sessions.getFiles(older));
+        assertEquals(List.of("older"), sessions.readTail(older, 10));
+        assertEquals(List.of(tempDir.resolve(current.getId() + ".log")), sessions.getFiles(current));
+
+        sessions.maintain(current, 0, 2);
+
+        assertEquals(List.of(current), sessions.list());
+        assertFalse(Files.exists(tempDir.resolve(older.getId() + ".log.gz")));
+        assertTrue(Files.exists(tempDir.resolve(current.getId() + ".log")));
+    }
+
+    private static Path write(LogSessions sessions, LogSessions.Session session, String suffix, long time,
+                              String... lines) throws IOException {
+        final Path file = Path.of(sessions.getBasePath(session) + suffix);
+        Files.write(file, List.of(lines));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(time * 1000));
+        return file;
+    }
+}
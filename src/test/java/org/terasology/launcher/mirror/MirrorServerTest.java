@@ -0,0 +1,172 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.mirror;
+
+import okhttp3.OkHttpClient;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.launcher.model.Build;
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.model.Profile;
+import org.terasology.launcher.model.ReleaseMetadata;
+import org.terasology.launcher.repositories.MirrorRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("MirrorServer")
+class MirrorServerTest {
+
+    private static final byte[] CONTENT = "0123456789".repeat(100).getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path cacheDirectory;
+
+    private MockWebServer upstream;
+    private MirrorServer mirror;
+    private GameRelease release;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        upstream = new MockWebServer();
+        upstream.start();
+
+        release = new GameRelease(
+                new GameIdentifier("5.4.0+42", Build.NIGHTLY, Profile.OMEGA),
+                upstream.url("/job/42/Terasology.zip").url(),
+                new ReleaseMetadata("- fixed things", new Date(1_700_000_000_000L)),
+                "0123456789abcdef0123456789abcdef");
+        mirror = new MirrorServer(() -> () -> List.of(release), cacheDirectory,
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        mirror.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mirror.close();
+        upstream.shutdown();
+    }
+
+    @Test
+    @DisplayName("should serve the catalog to MirrorRepository")
+    void servesCatalog() throws Exception {
+        final List<GameRelease> releases = new MirrorRepository(new OkHttpClient(), mirrorUrl()).fetchReleases();
+
+        assertEquals(1, releases.size());
+        final GameRelease mirrored = releases.get(0);
+        assertEquals(release.getId(), mirrored.getId());
+        assertEquals(release.getTimestamp(), mirrored.getTimestamp());
+        assertEquals(release.getChangelog(), mirrored.getChangelog());
+        assertEquals(release.getChecksum(), mirrored.getChecksum());
+        assertEquals(new URL(mirrorUrl(), "artifacts/" + release.getFilename()), mirrored.getUrl());
+    }
+
+    @Test
+    @DisplayName("should keep serving the previous catalog if a refresh fails")
+    void survivesFailingRefresh() throws Exception {
+        final AtomicBoolean down = new AtomicBoolean();
+        final MirrorServer flaky = new MirrorServer(() -> {
+            if (down.get()) {
+                throw new IllegalStateException("upstream is down");
+            }
+            return () -> List.of(release);
+        }, cacheDirectory, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        flaky.start();
+        try {
+            down.set(true);
+            flaky.refresh();
+
+            final URL flakyUrl = new URL("http", "127.0.0.1", flaky.getAddress().getPort(), "/");
+            assertEquals(1, new MirrorRepository(new OkHttpClient(), flakyUrl).fetchReleases().size());
+        } finally {
+            flaky.close();
+        }
+    }
+
+    @Test
+    @DisplayName("should only accept valid ports on the command line")
+    void parsesPort() {
+        assertEquals(MirrorServer.DEFAULT_PORT, MirrorServer.parsePort(List.of()));
+        assertEquals(8080, MirrorServer.parsePort(List.of("--port=8080")));
+        assertThrows(IllegalArgumentException.class, () -> MirrorServer.parsePort(List.of("--port=abc")));
+        assertThrows(IllegalArgumentException.class, () -> MirrorServer.parsePort(List.of("--port=70000")));
+        assertThrows(IllegalArgumentException.class, () -> MirrorServer.parsePort(List.of("--mirror")));
+    }
+
+    @Test
+    @DisplayName("should fetch artifacts from upstream only once")
+    void cachesArtifacts() throws Exception {
+        upstream.enqueue(new MockResponse().setHeader("Content-Length", CONTENT.length));
+        upstream.enqueue(new MockResponse().setBody(new Buffer().write(CONTENT)));
+        final URL artifact = new URL(mirrorUrl(), "artifacts/" + release.getFilename());
+
+        assertArrayEquals(CONTENT, read(artifact, null));
+        assertArrayEquals(CONTENT, read(artifact, null));
+        assertEquals(2, upstream.getRequestCount()); // HEAD and GET
+        assertTrue(Files.exists(cacheDirectory.resolve(release.getFilename())));
+    }
+
+    @Test
+    @DisplayName("should serve byte ranges")
+    void servesRanges() throws Exception {
+        Files.write(cacheDirectory.resolve(release.getFilename()), CONTENT);
+        final URL artifact = new URL(mirrorUrl(), "artifacts/" + release.getFilename());
+
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 990, 1000), read(artifact, "bytes=990-"));
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 10, 20), read(artifact, "bytes=10-19"));
+        assertArrayEquals(Arrays.copyOfRange(CONTENT, 995, 1000), read(artifact, "bytes=-5"));
+
+        final HttpURLConnection unsatisfiable = (HttpURLConnection) artifact.openConnection();
+        unsatisfiable.setRequestProperty("Range", "bytes=1000-");
+        assertEquals(416, unsatisfiable.getResponseCode());
+    }
+
+    @Test
+    @DisplayName("should not serve unknown files")
+    void rejectsUnknownFiles() throws Exception {
+        Files.writeString(cacheDirectory.resolve("secret.zip"), "secret");
+
+        final HttpURLConnection connection =
+                (HttpURLConnection) new URL(mirrorUrl(), "artifacts/secret.zip").openConnection();
+        assertEquals(404, connection.getResponseCode());
+    }
+
+    private URL mirrorUrl() throws IOException {
+        return new URL("http", "127.0.0.1", mirror.getAddress().getPort(), "/");
+    }
+
+    private static byte[] read(URL url, String range) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        if (range != null) {
+            connection.setRequestProperty("Range", range);
+        }
+        assertEquals(range == null ? 200 : 206, connection.getResponseCode());
+        try (InputStream in = connection.getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.remote;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import okio.Buffer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.launcher.tasks.ProgressListener;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DownloadUtils")
+@SuppressWarnings("PMD.CloseResource")
+class DownloadUtilsTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz".repeat(100).getBytes(StandardCharsets.US_ASCII);
+    private static final RetryPolicy FAST_RETRIES =
+            new RetryPolicy(3, Duration.ofMillis(1), Duration.ofMillis(5), Duration.ofSeconds(30));
+
+    @TempDir
+    Path tempDir;
+
+    private MockWebServer server;
+    private DownloadUtils downloadUtils;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.start();
+        downloadUtils = new DownloadUtils(Duration.ofSeconds(5), Duration.ofSeconds(5), FAST_RETRIES);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("should resume with a range request after the connection broke")
+    void resumesAfterDisconnect() throws Exception {
+        final AtomicInteger fullRequests = new AtomicInteger();
+        server.setDispatcher(new RangeDispatcher() {
+            @Override
+            MockResponse full() {
+                if (fullRequests.getAndIncrement() > 0) {
+                    return super.full();
+                }
+                // announce the full length, but break the connection after half of it; the body is sent in chunks, so
+                // that the client has received some of it before the connection breaks
+                return new MockResponse()
+                        .setBody(new Buffer().write(Arrays.copyOf(CONTENT, CONTENT.length / 2)))
+                        .setHeader("Content-Length", CONTENT.length)
+                        .throttleBody(CONTENT.length / 4, 50, TimeUnit.MILLISECONDS)
+                        .setSocketPolicy(SocketPolicy.DISCONNECT_AT_END);
+            }
+        });
+
+        final Path target = tempDir.resolve("game.zip");
+        downloadUtils.download(resource(), target, new StubListener()).get();
+
+        assertArrayEquals(CONTENT, Files.readAllBytes(target));
+        assertFalse(Files.exists(tempDir.resolve("game.zip.part")));
+        assertEquals(1, fullRequests.get());
+    }
+
+    @Test
+    @DisplayName("should resume with a range request after the body stalled")
+    void resumesAfterStall() throws Exception {
+        final AtomicInteger fullRequests = new AtomicInteger();
+        server.setDispatcher(new RangeDispatcher() {
+            @Override
+            MockResponse full() {
+                if (fullRequests.getAndIncrement() > 0) {
+                    return super.full();
+                }
+                // send half of the body, then nothing for much longer than the read timeout
+                return super.full().throttleBody(CONTENT.length / 2, 2, TimeUnit.SECONDS);
+            }
+        });
+        final DownloadUtils impatient = new DownloadUtils(Duration.ofSeconds(5), Duration.ofMillis(200), FAST_RETRIES);
+
+        final Path target = tempDir.resolve("game.zip");
+        impatient.download(resource(), target, new StubListener()).get();
+
+        assertArrayEquals(CONTENT, Files.readAllBytes(target));
+        assertEquals(1, fullRequests.get());
+    }
+
+    @Test
+    @DisplayName("should retry the request for the content length")
+    void retriesContentLength() throws Exception {
+        final AtomicInteger headRequests = new AtomicInteger();
+        server.setDispatcher(new RangeDispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                if ("HEAD".equals(request.getMethod()) && headRequests.getAndIncrement() == 0) {
+                    return new MockResponse().setResponseCode(503);
+                }
+                return super.dispatch(request);
+            }
+        });
+
+        assertEquals(CONTENT.length, downloadUtils.fetchContentLength(resource().getUrl(), new StubListener()));
+        assertEquals(2, headRequests.get());
+    }
+
+    @Test
+    @DisplayName("should continue a partial file from an earlier run")
+    void resumesLeftoverPartFile() throws Exception {
+        server.setDispatcher(new RangeDispatcher());
+        Files.write(tempDir.resolve("game.zip.part"), Arrays.copyOf(CONTENT, 1000));
+
+        final Path target = tempDir.resolve("game.zip");
+        downloadUtils.download(resource(), target, new StubListener()).get();
+
+        assertArrayEquals(CONTENT, Files.readAllBytes(target));
+        server.takeRequest(); // HEAD
+        assertEquals("bytes=1000-", server.takeRequest().getHeader("Range"));
+    }
+
+    @Test
+    @DisplayName("should restart from scratch if the server ignores the range")
+    void restartsIfRangeIsIgnored() throws Exception {
+        server.setDispatcher(new RangeDispatcher() {
+            @Override
+            MockResponse partial(long offset) {
+                return full();
+            }
+        });
+        Files.write(tempDir.resolve("game.zip.part"), "garbage".getBytes(StandardCharsets.US_ASCII));
+
+        final Path target = tempDir.resolve("game.zip");
+        downloadUtils.download(resource(), target, new StubListener()).get();
+
+        assertArrayEquals(CONTENT, Files.readAllBytes(target));
+    }
+
+    @Test
+    @DisplayName("should give up after the maximum number of attempts")
+    void givesUpAfterMaxAttempts() {
+        final AtomicInteger attempts = new AtomicInteger();
+        server.setDispatcher(new RangeDispatcher() {
+            @Override
+            MockResponse full() {
+                attempts.incrementAndGet();
+                return new MockResponse().setResponseCode(503);
+            }
+        });
+
+        assertThrows(DownloadException.class,
+                () -> downloadUtils.download(resource(), tempDir.resolve("game.zip"), new StubListener()));
+        assertEquals(FAST_RETRIES.getMaxAttempts(), attempts.get());
+    }
+
+    @Test
+    @DisplayName("should not retry client errors")
+    void doesNotRetryClientErrors() {
+        final AtomicInteger attempts = new AtomicInteger();
+        server.setDispatcher(new RangeDispatcher() {
+            @Override
+            MockResponse full() {
+                attempts.incrementAndGet();
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+
+        assertThrows(DownloadException.class,
+                () -> downloadUtils.download(resource(), tempDir.resolve("game.zip"), new StubListener()));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    @DisplayName("should respect the bandwidth limit")
+    void respectsBandwidthLimit() throws Exception {
+        server.setDispatcher(new RangeDispatcher());
+        final DownloadUtils throttled = new DownloadUtils(Duration.ofSeconds(5), Duration.ofSeconds(5), FAST_RETRIES,
+                CONTENT.length * 4L);
+
+        final long start = System.nanoTime();
+        throttled.download(resource(), tempDir.resolve("game.zip"), new StubListener()).get();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofMillis(200)) >= 0);
+        assertArrayEquals(CONTENT, Files.readAllBytes(tempDir.resolve("game.zip")));
+    }
+
+    @Test
+    @DisplayName("backoff should grow exponentially within the jitter window")
+    void backoffBounds() {
+        final RetryPolicy policy = new RetryPolicy(10, Duration.ofSeconds(1), Duration.ofSeconds(8), Duration.ofMinutes(1));
+
+        assertEquals(Duration.ofMillis(500), policy.backoff(1, 0));
+        assertEquals(Duration.ofMillis(1999), policy.backoff(2, 0.9995));
+        assertEquals(Duration.ofSeconds(2), policy.backoff(3, 0));
+        assertEquals(Duration.ofSeconds(4), policy.backoff(8, 0));
+        assertTrue(policy.backoff(100, 0.9999).compareTo(Duration.ofSeconds(8)) <= 0);
+        assertTrue(policy.allowsRetry(9));
+        assertFalse(policy.allowsRetry(10));
+    }
+
+    private RemoteResource<String> resource() {
+        final URL url = server.url("/game.zip").url();
+        return new RemoteResource<>() {
+            @Override
+            public URL getUrl() {
+                return url;
+            }
+
+            @Override
+            public String getFilename() {
+                return "game.zip";
+            }
+
+            @Override
+            public String getInfo() {
+                return "game";
+            }
+        };
+    }
+
+    /**
+     * Serves {@link #CONTENT}, honouring {@code Range: bytes=<offset>-} headers.
+     */
+    private static class RangeDispatcher extends Dispatcher {
+        @Override
+        public MockResponse dispatch(RecordedRequest request) {
+            if ("HEAD".equals(request.getMethod())) {
+                return new MockResponse().setHeader("Content-Length", CONTENT.length);
+            }
+            final String range = request.getHeader("Range");
+            if (range == null) {
+                return full();
+            }
+            return partial(Long.parseLong(range.substring("bytes=".length(), range.length() - 1)));
+        }
+
+        MockResponse full() {
+            return new MockResponse().setBody(new Buffer().write(CONTENT));
+        }
+
+        MockResponse partial(long offset) {
+            return new MockResponse()
+                    .setResponseCode(206)
+                    .setHeader("Content-Range", "bytes " + offset + "-" + (CONTENT.length - 1) + "/" + CONTENT.length)
+                    .setBody(new Buffer().write(Arrays.copyOfRange(CONTENT, (int) offset, CONTENT.length)));
+        }
+    }
+
+    private static class StubListener implements ProgressListener {
+        @Override
+        public void update() {
+        }
+
+        @Override
+        public void update(int progress) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.remote;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.launcher.tasks.ProgressListener;
+import org.terasology.launcher.util.FileUtils;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("PeerCache")
+class PeerCacheTest {
+
+    private static final String FILENAME = "terasology-omega-5.4.0+42-nightly.zip";
+    private static final byte[] CONTENT = "not really a zip".repeat(1000).getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path seederCache;
+    @TempDir
+    Path leecherCache;
+
+    private PeerCache seeder;
+    private PeerCache leecher;
+    private String checksum;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.write(seederCache.resolve(FILENAME), CONTENT);
+        checksum = FileUtils.md5Hex(seederCache.resolve(FILENAME));
+
+        final int port;
+        try (DatagramSocket probe = new DatagramSocket(0)) {
+            port = probe.getLocalPort();
+        }
+        final InetSocketAddress group = new InetSocketAddress("239.255.77.77", port);
+        final NetworkInterface loopback = NetworkInterface.getByInetAddress(InetAddress.getLoopbackAddress());
+        final InetSocketAddress http = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+
+        // the first announcement goes out right away, and with the long interval no peer expires during a test; the
+        // leecher starts listening first, so that it cannot miss the seeder's first announcement
+        seeder = new PeerCache(seederCache, group, loopback, Duration.ofMinutes(1), http);
+        leecher = new PeerCache(leecherCache, group, loopback, Duration.ofMinutes(1), http);
+        leecher.start();
+        seeder.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        seeder.close();
+        leecher.close();
+    }
+
+    @Test
+    @DisplayName("should fetch a cached file from another launcher")
+    void fetchesFromPeer() throws Exception {
+        awaitPeer(FILENAME, checksum);
+
+        final Path target = leecherCache.resolve(FILENAME);
+        assertTrue(leecher.fetch(resource(checksum), target, new StubListener()));
+        assertArrayEquals(CONTENT, Files.readAllBytes(target));
+    }
+
+    @Test
+    @DisplayName("should not offer files with a different checksum")
+    void ignoresChecksumMismatch() throws Exception {
+        awaitPeer(FILENAME, checksum);
+
+        assertFalse(leecher.fetch(resource("0123456789abcdef0123456789abcdef"), leecherCache.resolve(FILENAME),
+                new StubListener()));
+        assertFalse(Files.exists(leecherCache.resolve(FILENAME)));
+        try (Stream<Path> files = Files.list(leecherCache)) {
+            assertEquals(0, files.count(), "no unverified data is left behind");
+        }
+    }
+
+    @Test
+    @DisplayName("should not fetch from peers without a known checksum")
+    void requiresChecksum() throws Exception {
+        awaitPeer(FILENAME, checksum);
+
+        assertFalse(leecher.fetch(resource(null), leecherCache.resolve(FILENAME), new StubListener()));
+    }
+
+    @Test
+    @DisplayName("should only serve zip files from the cache directory")
+    void servesOnlyArtifacts() throws Exception {
+        Files.writeString(seederCache.resolve("settings.json"), "{}");
+        final List<URL> urls = awaitPeer(FILENAME, checksum);
+
+        final URL other = new URL(urls.get(0), "settings.json");
+        final URL outside = new URL(urls.get(0), "..%2F" + FILENAME);
+        assertEquals(404, ((HttpURLConnection) other.openConnection()).getResponseCode());
+        assertEquals(404, ((HttpURLConnection) outside.openConnection()).getResponseCode());
+    }
+
+    private List<URL> awaitPeer(String filename, String md5) throws InterruptedException {
+        final List<URL> urls = leecher.awaitPeers(filename, md5, Duration.ofSeconds(10));
+        assertFalse(urls.isEmpty(), "peer was not discovered");
+        return urls;
+    }
+
+    private static RemoteResource<String> resource(String md5) {
+        return new RemoteResource<>() {
+            @Override
+            public URL getUrl() {
+                return null;
+            }
+
+            @Override
+            public String getFilename() {
+                return FILENAME;
+            }
+
+            @Override
+            public String getInfo() {
+                return FILENAME;
+            }
+
+            @Override
+            public String getChecksum() {
+                return md5;
+            }
+        };
+    }
+
+    private static class StubListener implements ProgressListener {
+        @Override
+        public void update() {
+        }
+
+        @Override
+        public void update(int progress) {
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.repositories;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.terasology.launcher.model.Build;
+import org.terasology.launcher.model.GameIdentifier;
+import org.terasology.launcher.model.GameRelease;
+import org.terasology.launcher.model.Profile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+@DisplayName("LocalRepository")
+class LocalRepositoryTest {
+
+    private static final GameIdentifier STABLE = new GameIdentifier("5.3.0", Build.STABLE, Profile.OMEGA);
+    private static final GameIdentifier NIGHTLY = new GameIdentifier("5.4.0-SNAPSHOT+42", Build.NIGHTLY, Profile.OMEGA);
+
+    @TempDir
+    Path directory;
+
+    private LocalRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new LocalRepository(directory);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("should derive releases from zip file names")
+    void findsZips() throws IOException {
+        Files.writeString(directory.resolve("terasology-omega-5.3.0-stable.zip"), "zip");
+        Files.writeString(directory.resolve("unrelated.zip"), "zip");
+
+        final List<GameRelease> releases = repository.fetchReleases();
+
+        assertEquals(1, releases.size());
+        final GameRelease release = releases.get(0);
+        assertEquals(STABLE, release.getId());
+        assertEquals("file", release.getUrl().getProtocol());
+        assertEquals(directory.resolve("terasology-omega-5.3.0-stable.zip").toUri().toURL(), release.getUrl());
+        assertEquals("", release.getChangelog());
+    }
+
+    @Test
+    @DisplayName("should read metadata next to the zip")
+    void readsMetadata() throws IOException {
+        Files.writeString(directory.resolve("terasology-omega-5.3.0-stable.zip"), "zip");
+        Files.writeString(directory.resolve("terasology-omega-5.3.0-stable.zip.json"),
+                "{\"changelog\": \"- fixed things\", \"timestamp\": 1700000000000, \"checksum\": \"abc\"}");
+
+        final GameRelease release = repository.fetchReleases().get(0);
+
+        assertEquals("- fixed things", release.getChangelog());
+        assertEquals(1_700_000_000_000L, release.getTimestamp().getTime());
+        assertEquals("abc", release.getChecksum());
+    }
+
+    @Test
+    @DisplayName("should prefer the index file if there is one")
+    void readsIndex() throws IOException {
+        Files.createDirectories(directory.resolve("artifacts"));
+        Files.writeString(directory.resolve("artifacts/nightly.zip"), "zip");
+        Files.writeString(directory.resolve("terasology-omega-5.3.0-stable.zip"), "zip");
+        Files.writeString(directory.resolve(Mirror.CATALOG_PATH), "{\"releases\": ["
+                + "{\"profile\": \"OMEGA\", \"build\": \"NIGHTLY\", \"version\": \"5.4.0-SNAPSHOT+42\","
+                + " \"path\": \"artifacts/nightly.zip\", \"timestamp\": 1700000000000},"
+                + "{\"profile\": \"OMEGA\", \"build\": \"STABLE\", \"version\": \"5.2.0\", \"path\": \"missing.zip\"},"
+                + "{\"profile\": \"OMEGA\", \"build\": \"STABLE\", \"version\": \"1.0.0\", \"path\": \"../outside.zip\"}"
+                + "]}");
+
+        final List<GameRelease> releases = repository.fetchReleases();
+
+        assertEquals(1, releases.size());
+        assertEquals(NIGHTLY, releases.get(0).getId());
+        assertEquals(directory.resolve("artifacts/nightly.zip").toUri().toURL(), releases.get(0).getUrl());
+    }
+
+    @Test
+    @DisplayName("should pick up added and removed zips")
+    void watchesDirectory() throws Exception {
+        Files.writeString(directory.resolve("terasology-omega-5.3.0-stable.zip"), "zip");
+        assertEquals(1, repository.fetchReleases().size());
+
+        Files.writeString(directory.resolve("terasology-omega-5.4.0-SNAPSHOT+42-nightly.zip"), "zip");
+        awaitReleases(releases -> releases.size() == 2);
+
+        Files.delete(directory.resolve("terasology-omega-5.3.0-stable.zip"));
+        final List<GameRelease> releases = awaitReleases(r -> r.size() == 1);
+        assertEquals(NIGHTLY, releases.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("should wait until a zip is no longer being written")
+    void waitsForCompleteZips() throws Exception {
+        repository.close();
+        repository = new LocalRepository(directory, Duration.ofMillis(300));
+        repository.scan();
+
+        try (OutputStream out = Files.newOutputStream(directory.resolve("terasology-omega-5.3.0-stable.zip"))) {
+            for (int i = 0; i < 20; i++) {
+                out.write(new byte[1024]);
+                out.flush();
+                Thread.sleep(50);
+                assertEquals(0, repository.fetchReleases().size());
+            }
+        }
+        assertEquals(STABLE, awaitReleases(releases -> releases.size() == 1).get(0).getId());
+    }
+
+    @Test
+    @DisplayName("should prefer releases from earlier layers")
+    void layersPreferFirst() throws IOException {
+        Files.writeString(directory.resolve("terasology-omega-5.3.0-stable.zip"), "zip");
+        final GameRelease online = new GameRelease(STABLE, new URL("https://example.org/stable.zip"), null);
+
+        final List<GameRelease> releases =
+                new LayeredRepository(List.of(repository, () -> List.of(online))).fetchReleases();
+
+        assertEquals(1, releases.size());
+        assertEquals("file", releases.get(0).getUrl().getProtocol());
+    }
+
+    /**
+     * Some watch service implementations poll the file system, so changes may take a while to show up.
+     */
+    private List<GameRelease> awaitReleases(Predicate<List<GameRelease>> condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            final List<GameRelease> releases = repository.fetchReleases();
+            if (condition.test(releases)) {
+                return releases;
+            }
+            Thread.sleep(100);
+        }
+        fail("Releases did not change as expected: " + repository);
+        return List.of();
+    }
+}
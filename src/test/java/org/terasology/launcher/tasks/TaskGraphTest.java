@@ -0,0 +1,111 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.tasks;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("TaskGraph")
+class TaskGraphTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final TaskGraph graph = new TaskGraph(executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("should run independent phases concurrently")
+    void runsIndependentPhasesConcurrently() throws Exception {
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final CompletableFuture<Integer> root = graph.add("root", () -> 1);
+        final CompletableFuture<Boolean> left = graph.add("left", () -> {
+            bothStarted.countDown();
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        }, root);
+        final CompletableFuture<Boolean> right = graph.add("right", () -> {
+            bothStarted.countDown();
+            return bothStarted.await(5, TimeUnit.SECONDS);
+        }, root);
+        final CompletableFuture<Integer> join =
+                graph.add("join", () -> root.join() + (left.join() && right.join() ? 1 : 0), left, right);
+
+        assertEquals(2, TaskGraph.await(join));
+        assertEquals(4, graph.getTimings().size());
+        assertEquals("root", graph.getTimings().keySet().iterator().next());
+    }
+
+    @Test
+    @DisplayName("should measure each phase")
+    void measuresPhases() throws Exception {
+        final CompletableFuture<Void> slow = graph.add("slow", () -> {
+            Thread.sleep(50);
+            return null;
+        });
+        TaskGraph.await(slow);
+
+        assertTrue(graph.getTimings().get("slow").compareTo(Duration.ofMillis(50)) >= 0);
+        assertTrue(graph.getElapsed().compareTo(graph.getTimings().get("slow")) >= 0);
+    }
+
+    @Test
+    @DisplayName("should not run phases whose dependencies failed")
+    void skipsPhasesAfterFailure() {
+        final AtomicBoolean ran = new AtomicBoolean();
+        final CompletableFuture<Void> failing = graph.add("failing", () -> {
+            throw new IOException("broken");
+        });
+        final CompletableFuture<Void> dependent = graph.add("dependent", () -> {
+            ran.set(true);
+            return null;
+        }, failing);
+
+        final IOException thrown = assertThrows(IOException.class, () -> TaskGraph.await(dependent));
+        assertEquals("broken", thrown.getMessage());
+        assertFalse(ran.get());
+        assertFalse(graph.getTimings().containsKey("dependent"));
+    }
+
+    @Test
+    @DisplayName("should close the results of finished and later finishing phases when cancelled")
+    void closesResultsWhenCancelled() throws Exception {
+        final AtomicBoolean firstClosed = new AtomicBoolean();
+        final AtomicBoolean secondClosed = new AtomicBoolean();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final CompletableFuture<AutoCloseable> first = graph.add("first", () -> () -> firstClosed.set(true));
+        TaskGraph.await(first);
+        final CompletableFuture<AutoCloseable> second = graph.add("second", () -> {
+            started.countDown();
+            cancelled.await(5, TimeUnit.SECONDS);
+            return () -> secondClosed.set(true);
+        });
+        started.await(5, TimeUnit.SECONDS);
+
+        graph.cancel();
+        assertTrue(firstClosed.get());
+        cancelled.countDown();
+        TaskGraph.await(second);
+        assertTrue(secondClosed.get());
+        assertThrows(CancellationException.class, () -> TaskGraph.await(graph.add("third", () -> 3)));
+    }
+}
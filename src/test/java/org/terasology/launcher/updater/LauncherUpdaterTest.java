@@ -0,0 +1,79 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.updater;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.semver4j.Semver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("LauncherUpdater")
+class LauncherUpdaterTest {
+
+    private static final Semver CURRENT = new Semver("4.5.0");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("should ask upstream only once within the cache TTL")
+    void usesFreshCache() {
+        final Path cacheFile = tempDir.resolve(LauncherUpdater.CACHE_FILE);
+        final AtomicInteger fetches = new AtomicInteger();
+        final LauncherUpdater updater = new LauncherUpdater(CURRENT, cacheFile, () -> {
+            fetches.incrementAndGet();
+            return new LauncherRelease("v4.6.0", "- new things", System.currentTimeMillis());
+        });
+
+        final Optional<LauncherRelease> first = updater.updateAvailable();
+        final Optional<LauncherRelease> second = updater.updateAvailable();
+
+        assertTrue(first.isPresent());
+        assertEquals("v4.6.0", second.map(LauncherRelease::getTagName).orElse(null));
+        assertEquals("- new things", second.map(LauncherRelease::getChangelog).orElse(null));
+        assertEquals(1, fetches.get());
+        assertTrue(Files.exists(cacheFile));
+    }
+
+    @Test
+    @DisplayName("should ask upstream again once the cache expired")
+    void refreshesStaleCache() {
+        final Path cacheFile = tempDir.resolve(LauncherUpdater.CACHE_FILE);
+        final long expired = System.currentTimeMillis() - LauncherUpdater.CACHE_TTL.toMillis() - 1;
+        new LauncherUpdater(CURRENT, cacheFile, () -> new LauncherRelease("v4.4.0", "", expired)).updateAvailable();
+
+        final LauncherUpdater updater = new LauncherUpdater(CURRENT, cacheFile,
+                () -> new LauncherRelease("v4.6.0", "", System.currentTimeMillis()));
+
+        assertEquals("v4.6.0", updater.updateAvailable().map(LauncherRelease::getTagName).orElse(null));
+    }
+
+    @Test
+    @DisplayName("should not report releases that are not newer")
+    void ignoresOlderReleases() {
+        final LauncherUpdater updater = new LauncherUpdater(CURRENT, tempDir.resolve(LauncherUpdater.CACHE_FILE),
+                () -> new LauncherRelease("v4.5.0", "", System.currentTimeMillis()));
+
+        assertFalse(updater.updateAvailable().isPresent());
+    }
+
+    @Test
+    @DisplayName("should not cache failed checks")
+    void doesNotCacheFailures() {
+        final Path cacheFile = tempDir.resolve(LauncherUpdater.CACHE_FILE);
+        final LauncherUpdater updater = new LauncherUpdater(CURRENT, cacheFile, () -> null);
+
+        assertFalse(updater.updateAvailable().isPresent());
+        assertFalse(Files.exists(cacheFile));
+    }
+}
@@ -0,0 +1,39 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DisplayName("RotatingFileOutputStream")
+class RotatingFileOutputStreamTest {
+
+    @Test
+    @DisplayName("should move full files aside, keeping the given number of old files")
+    void rotatesFiles(@TempDir Path tempDir) throws IOException {
+        final Path file = tempDir.resolve("game.log");
+        Files.writeString(file, "previous session");
+
+        try (OutputStream out = new RotatingFileOutputStream(file, 10, 2)) {
+            out.write("0123456789".getBytes(StandardCharsets.UTF_8));
+            out.write("abc".getBytes(StandardCharsets.UTF_8));
+            out.write("def".getBytes(StandardCharsets.UTF_8));
+        }
+
+        assertEquals("abcdef", Files.readString(file));
+        assertEquals("0123456789", Files.readString(RotatingFileOutputStream.backup(file, 1)));
+        assertEquals("previous session", Files.readString(RotatingFileOutputStream.backup(file, 2)));
+        assertFalse(Files.exists(RotatingFileOutputStream.backup(file, 3)));
+    }
+}
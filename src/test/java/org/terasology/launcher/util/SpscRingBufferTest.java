@@ -0,0 +1,59 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("SpscRingBuffer")
+class SpscRingBufferTest {
+
+    @Test
+    @DisplayName("should reject elements when full and keep their order across wrap-arounds")
+    void keepsOrder() {
+        final SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertTrue(buffer.offer(i));
+            }
+            assertFalse(buffer.offer(4));
+            for (int i = 0; i < 4; i++) {
+                assertEquals(i, buffer.poll());
+            }
+            assertNull(buffer.poll());
+        }
+    }
+
+    @Test
+    @DisplayName("should pass all elements from one thread to another")
+    void passesElementsBetweenThreads() throws InterruptedException {
+        final SpscRingBuffer<Integer> buffer = new SpscRingBuffer<>(16);
+        final int count = 10_000;
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!buffer.offer(i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        producer.start();
+
+        for (int expected = 0; expected < count; expected++) {
+            Integer element;
+            while ((element = buffer.poll()) == null) {
+                Thread.yield();
+            }
+            assertEquals(expected, element);
+        }
+        producer.join();
+        assertTrue(buffer.isEmpty());
+    }
+}
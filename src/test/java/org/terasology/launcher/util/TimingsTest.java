@@ -0,0 +1,61 @@
+// Copyright 2026 The Terasology Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package org.terasology.launcher.util;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Timings")
+class TimingsTest {
+
+    @Test
+    @DisplayName("should record measurements for the report")
+    void recordsMeasurements() throws InterruptedException {
+        assertEquals("done", Timings.time(Timings.Kind.SCAN, "test scan", () -> {
+            Thread.sleep(20);
+            return "done";
+        }));
+
+        final Timings.Record record = Timings.getRecords().stream()
+                .filter(r -> r.getName().equals("test scan"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(Timings.Kind.SCAN, record.getKind());
+        assertTrue(record.getDuration().compareTo(Duration.ofMillis(20)) >= 0);
+        assertTrue(record.getStart().compareTo(Duration.ZERO) > 0);
+        assertTrue(Timings.report().contains("test scan"));
+    }
+
+    @Test
+    @DisplayName("should emit Flight Recorder events")
+    void emitsEvents(@TempDir Path tempDir) throws Exception {
+        final Path file = tempDir.resolve("timings.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(TimingEvent.class);
+            recording.start();
+            Timings.start(Timings.Kind.HTTP, "https://example.org/").close();
+            recording.stop();
+            recording.dump(file);
+        }
+
+        final List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("org.terasology.launcher.Timing"))
+                .collect(Collectors.toList());
+        assertEquals(1, events.size());
+        assertEquals("HTTP", events.get(0).getString("kind"));
+        assertEquals("https://example.org/", events.get(0).getString("name"));
+    }
+}